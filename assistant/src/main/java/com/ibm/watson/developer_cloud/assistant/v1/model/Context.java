@@ -16,15 +16,14 @@ import java.lang.reflect.Type;
 
 import com.google.gson.reflect.TypeToken;
 import com.ibm.watson.developer_cloud.service.model.DynamicModel;
-import com.ibm.watson.developer_cloud.util.GsonSerializationHelper;
 
 /**
  * State information for the conversation. To maintain state, include the context from the previous response.
  */
 public class Context extends DynamicModel {
-  private Type conversationIdType = new TypeToken<String>() {
+  private static final Type CONVERSATION_ID_TYPE = new TypeToken<String>() {
   }.getType();
-  private Type systemType = new TypeToken<SystemResponse>() {
+  private static final Type SYSTEM_TYPE = new TypeToken<SystemResponse>() {
   }.getType();
 
   /**
@@ -33,7 +32,7 @@ public class Context extends DynamicModel {
    * @return the conversationId
    */
   public String getConversationId() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("conversation_id"), conversationIdType);
+    return getProperty("conversation_id", CONVERSATION_ID_TYPE);
   }
 
   /**
@@ -42,7 +41,7 @@ public class Context extends DynamicModel {
    * @return the system
    */
   public SystemResponse getSystem() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("system"), systemType);
+    return getProperty("system", SYSTEM_TYPE);
   }
 
   /**
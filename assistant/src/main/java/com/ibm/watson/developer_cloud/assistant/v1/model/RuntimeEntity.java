@@ -18,23 +18,22 @@ import java.util.Map;
 
 import com.google.gson.reflect.TypeToken;
 import com.ibm.watson.developer_cloud.service.model.DynamicModel;
-import com.ibm.watson.developer_cloud.util.GsonSerializationHelper;
 
 /**
  * A term from the request that was identified as an entity.
  */
 public class RuntimeEntity extends DynamicModel {
-  private Type entityType = new TypeToken<String>() {
+  private static final Type ENTITY_TYPE = new TypeToken<String>() {
   }.getType();
-  private Type locationType = new TypeToken<List<Long>>() {
+  private static final Type LOCATION_TYPE = new TypeToken<List<Long>>() {
   }.getType();
-  private Type valueType = new TypeToken<String>() {
+  private static final Type VALUE_TYPE = new TypeToken<String>() {
   }.getType();
-  private Type confidenceType = new TypeToken<Double>() {
+  private static final Type CONFIDENCE_TYPE = new TypeToken<Double>() {
   }.getType();
-  private Type metadataType = new TypeToken<Map>() {
+  private static final Type METADATA_TYPE = new TypeToken<Map>() {
   }.getType();
-  private Type groupsType = new TypeToken<List<CaptureGroup>>() {
+  private static final Type GROUPS_TYPE = new TypeToken<List<CaptureGroup>>() {
   }.getType();
 
   /**
@@ -43,7 +42,7 @@ public class RuntimeEntity extends DynamicModel {
    * @return the entity
    */
   public String getEntity() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("entity"), entityType);
+    return getProperty("entity", ENTITY_TYPE);
   }
 
   /**
@@ -52,7 +51,7 @@ public class RuntimeEntity extends DynamicModel {
    * @return the location
    */
   public List<Long> getLocation() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("location"), locationType);
+    return getProperty("location", LOCATION_TYPE);
   }
 
   /**
@@ -61,7 +60,7 @@ public class RuntimeEntity extends DynamicModel {
    * @return the value
    */
   public String getValue() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("value"), valueType);
+    return getProperty("value", VALUE_TYPE);
   }
 
   /**
@@ -70,7 +69,7 @@ public class RuntimeEntity extends DynamicModel {
    * @return the confidence
    */
   public Double getConfidence() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("confidence"), confidenceType);
+    return getProperty("confidence", CONFIDENCE_TYPE);
   }
 
   /**
@@ -79,7 +78,7 @@ public class RuntimeEntity extends DynamicModel {
    * @return the metadata
    */
   public Map getMetadata() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("metadata"), metadataType);
+    return getProperty("metadata", METADATA_TYPE);
   }
 
   /**
@@ -88,7 +87,7 @@ public class RuntimeEntity extends DynamicModel {
    * @return the groups
    */
   public List<CaptureGroup> getGroups() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("groups"), groupsType);
+    return getProperty("groups", GROUPS_TYPE);
   }
 
   /**
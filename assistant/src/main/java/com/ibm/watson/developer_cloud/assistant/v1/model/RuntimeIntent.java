@@ -16,15 +16,14 @@ import java.lang.reflect.Type;
 
 import com.google.gson.reflect.TypeToken;
 import com.ibm.watson.developer_cloud.service.model.DynamicModel;
-import com.ibm.watson.developer_cloud.util.GsonSerializationHelper;
 
 /**
  * An intent identified in the user input.
  */
 public class RuntimeIntent extends DynamicModel {
-  private Type intentType = new TypeToken<String>() {
+  private static final Type INTENT_TYPE = new TypeToken<String>() {
   }.getType();
-  private Type confidenceType = new TypeToken<Double>() {
+  private static final Type CONFIDENCE_TYPE = new TypeToken<Double>() {
   }.getType();
 
   /**
@@ -33,7 +32,7 @@ public class RuntimeIntent extends DynamicModel {
    * @return the intent
    */
   public String getIntent() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("intent"), intentType);
+    return getProperty("intent", INTENT_TYPE);
   }
 
   /**
@@ -42,7 +41,7 @@ public class RuntimeIntent extends DynamicModel {
    * @return the confidence
    */
   public Double getConfidence() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("confidence"), confidenceType);
+    return getProperty("confidence", CONFIDENCE_TYPE);
   }
 
   /**
@@ -12,17 +12,16 @@
  */
 package com.ibm.watson.developer_cloud.assistant.v2;
 
-import com.google.gson.JsonObject;
 import com.ibm.watson.developer_cloud.assistant.v2.model.CreateSessionOptions;
 import com.ibm.watson.developer_cloud.assistant.v2.model.DeleteSessionOptions;
 import com.ibm.watson.developer_cloud.assistant.v2.model.MessageOptions;
 import com.ibm.watson.developer_cloud.assistant.v2.model.MessageResponse;
 import com.ibm.watson.developer_cloud.assistant.v2.model.SessionResponse;
+import com.ibm.watson.developer_cloud.http.JsonRequestBody;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
 import com.ibm.watson.developer_cloud.http.ServiceCall;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.service.security.IamOptions;
-import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.ResponseConverterUtils;
 import com.ibm.watson.developer_cloud.util.Validator;
 
@@ -102,7 +101,7 @@ public class Assistant extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(SessionResponse.class));
+    return createServiceCall("createSession", builder.build(), ResponseConverterUtils.getObject(SessionResponse.class));
   }
 
   /**
@@ -120,7 +119,7 @@ public class Assistant extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteSession", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -140,15 +139,15 @@ public class Assistant extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (messageOptions.input() != null) {
-      contentJson.add("input", GsonSingleton.getGson().toJsonTree(messageOptions.input()));
+      contentJson.add("input", messageOptions.input());
     }
     if (messageOptions.context() != null) {
-      contentJson.add("context", GsonSingleton.getGson().toJsonTree(messageOptions.context()));
+      contentJson.add("context", messageOptions.context());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(MessageResponse.class));
+    builder.body(contentJson.build());
+    return createServiceCall("message", builder.build(), ResponseConverterUtils.getObject(MessageResponse.class));
   }
 
 }
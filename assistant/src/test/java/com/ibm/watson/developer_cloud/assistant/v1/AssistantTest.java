@@ -61,6 +61,8 @@ import java.util.Map;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 /**
  * Unit tests for the {@link Assistant}.
@@ -219,6 +221,30 @@ public class AssistantTest extends WatsonServiceUnitTest {
     assertEquals(serviceResponse, mockResponse);
   }
 
+  /**
+   * Test that the typed properties of a response are converted once and refreshed when the property changes.
+   *
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  @Test
+  public void testMessageResponseTypedProperties() throws IOException {
+    MessageResponse response = loadFixture(FIXTURE, MessageResponse.class);
+
+    Context context = response.getContext();
+    assertNotNull(context);
+    assertSame(context, response.getContext());
+    assertSame(response.getOutput().getText(), response.getOutput().getText());
+
+    Context newContext = new Context();
+    newContext.setConversationId("new_id");
+    response.put("context", newContext);
+    assertSame(newContext, response.getContext());
+    assertEquals("new_id", response.getContext().getConversationId());
+
+    response.remove("context");
+    assertNull(response.getContext());
+  }
+
   /**
    * Negative - Test message with null workspace id.
    *
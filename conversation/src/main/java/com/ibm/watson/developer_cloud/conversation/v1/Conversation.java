@@ -12,7 +12,6 @@
  */
 package com.ibm.watson.developer_cloud.conversation.v1;
 
-import com.google.gson.JsonObject;
 import com.ibm.watson.developer_cloud.conversation.v1.model.Counterexample;
 import com.ibm.watson.developer_cloud.conversation.v1.model.CounterexampleCollection;
 import com.ibm.watson.developer_cloud.conversation.v1.model.CreateCounterexampleOptions;
@@ -81,11 +80,11 @@ import com.ibm.watson.developer_cloud.conversation.v1.model.ValueExport;
 import com.ibm.watson.developer_cloud.conversation.v1.model.Workspace;
 import com.ibm.watson.developer_cloud.conversation.v1.model.WorkspaceCollection;
 import com.ibm.watson.developer_cloud.conversation.v1.model.WorkspaceExport;
+import com.ibm.watson.developer_cloud.http.JsonRequestBody;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
 import com.ibm.watson.developer_cloud.http.ServiceCall;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.service.security.IamOptions;
-import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.ResponseConverterUtils;
 import com.ibm.watson.developer_cloud.util.Validator;
 
@@ -171,27 +170,27 @@ public class Conversation extends WatsonService {
     if (messageOptions.nodesVisitedDetails() != null) {
       builder.query("nodes_visited_details", String.valueOf(messageOptions.nodesVisitedDetails()));
     }
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (messageOptions.input() != null) {
-      contentJson.add("input", GsonSingleton.getGson().toJsonTree(messageOptions.input()));
+      contentJson.add("input", messageOptions.input());
     }
     if (messageOptions.alternateIntents() != null) {
-      contentJson.addProperty("alternate_intents", messageOptions.alternateIntents());
+      contentJson.add("alternate_intents", messageOptions.alternateIntents());
     }
     if (messageOptions.context() != null) {
-      contentJson.add("context", GsonSingleton.getGson().toJsonTree(messageOptions.context()));
+      contentJson.add("context", messageOptions.context());
     }
     if (messageOptions.entities() != null) {
-      contentJson.add("entities", GsonSingleton.getGson().toJsonTree(messageOptions.entities()));
+      contentJson.add("entities", messageOptions.entities());
     }
     if (messageOptions.intents() != null) {
-      contentJson.add("intents", GsonSingleton.getGson().toJsonTree(messageOptions.intents()));
+      contentJson.add("intents", messageOptions.intents());
     }
     if (messageOptions.output() != null) {
-      contentJson.add("output", GsonSingleton.getGson().toJsonTree(messageOptions.output()));
+      contentJson.add("output", messageOptions.output());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(MessageResponse.class));
+    builder.body(contentJson.build());
+    return createServiceCall("message", builder.build(), ResponseConverterUtils.getObject(MessageResponse.class));
   }
 
   /**
@@ -210,41 +209,40 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments));
     builder.query(VERSION, versionDate);
     if (createWorkspaceOptions != null) {
-      final JsonObject contentJson = new JsonObject();
+      final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
       if (createWorkspaceOptions.name() != null) {
-        contentJson.addProperty("name", createWorkspaceOptions.name());
+        contentJson.add("name", createWorkspaceOptions.name());
       }
       if (createWorkspaceOptions.description() != null) {
-        contentJson.addProperty("description", createWorkspaceOptions.description());
+        contentJson.add("description", createWorkspaceOptions.description());
       }
       if (createWorkspaceOptions.language() != null) {
-        contentJson.addProperty("language", createWorkspaceOptions.language());
+        contentJson.add("language", createWorkspaceOptions.language());
       }
       if (createWorkspaceOptions.intents() != null) {
-        contentJson.add("intents", GsonSingleton.getGson().toJsonTree(createWorkspaceOptions.intents()));
+        contentJson.add("intents", createWorkspaceOptions.intents());
       }
       if (createWorkspaceOptions.entities() != null) {
-        contentJson.add("entities", GsonSingleton.getGson().toJsonTree(createWorkspaceOptions.entities()));
+        contentJson.add("entities", createWorkspaceOptions.entities());
       }
       if (createWorkspaceOptions.dialogNodes() != null) {
-        contentJson.add("dialog_nodes", GsonSingleton.getGson().toJsonTree(createWorkspaceOptions.dialogNodes()));
+        contentJson.add("dialog_nodes", createWorkspaceOptions.dialogNodes());
       }
       if (createWorkspaceOptions.counterexamples() != null) {
-        contentJson.add("counterexamples", GsonSingleton.getGson().toJsonTree(createWorkspaceOptions
-            .counterexamples()));
+        contentJson.add("counterexamples", createWorkspaceOptions.counterexamples());
       }
       if (createWorkspaceOptions.metadata() != null) {
-        contentJson.add("metadata", GsonSingleton.getGson().toJsonTree(createWorkspaceOptions.metadata()));
+        contentJson.add("metadata", createWorkspaceOptions.metadata());
       }
       if (createWorkspaceOptions.learningOptOut() != null) {
-        contentJson.addProperty("learning_opt_out", createWorkspaceOptions.learningOptOut());
+        contentJson.add("learning_opt_out", createWorkspaceOptions.learningOptOut());
       }
       if (createWorkspaceOptions.systemSettings() != null) {
-        contentJson.add("system_settings", GsonSingleton.getGson().toJsonTree(createWorkspaceOptions.systemSettings()));
+        contentJson.add("system_settings", createWorkspaceOptions.systemSettings());
       }
-      builder.bodyJson(contentJson);
+      builder.body(contentJson.build());
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Workspace.class));
+    return createServiceCall("createWorkspace", builder.build(), ResponseConverterUtils.getObject(Workspace.class));
   }
 
   /**
@@ -278,7 +276,7 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteWorkspace", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -305,7 +303,7 @@ public class Conversation extends WatsonService {
     if (getWorkspaceOptions.includeAudit() != null) {
       builder.query("include_audit", String.valueOf(getWorkspaceOptions.includeAudit()));
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(WorkspaceExport.class));
+    return createServiceCall("getWorkspace", builder.build(), ResponseConverterUtils.getObject(WorkspaceExport.class));
   }
 
   /**
@@ -339,7 +337,8 @@ public class Conversation extends WatsonService {
         builder.query("include_audit", String.valueOf(listWorkspacesOptions.includeAudit()));
       }
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(WorkspaceCollection.class));
+    return createServiceCall("listWorkspaces", builder.build(),
+        ResponseConverterUtils.getObject(WorkspaceCollection.class));
   }
 
   /**
@@ -376,39 +375,39 @@ public class Conversation extends WatsonService {
     if (updateWorkspaceOptions.append() != null) {
       builder.query("append", String.valueOf(updateWorkspaceOptions.append()));
     }
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (updateWorkspaceOptions.name() != null) {
-      contentJson.addProperty("name", updateWorkspaceOptions.name());
+      contentJson.add("name", updateWorkspaceOptions.name());
     }
     if (updateWorkspaceOptions.description() != null) {
-      contentJson.addProperty("description", updateWorkspaceOptions.description());
+      contentJson.add("description", updateWorkspaceOptions.description());
     }
     if (updateWorkspaceOptions.language() != null) {
-      contentJson.addProperty("language", updateWorkspaceOptions.language());
+      contentJson.add("language", updateWorkspaceOptions.language());
     }
     if (updateWorkspaceOptions.intents() != null) {
-      contentJson.add("intents", GsonSingleton.getGson().toJsonTree(updateWorkspaceOptions.intents()));
+      contentJson.add("intents", updateWorkspaceOptions.intents());
     }
     if (updateWorkspaceOptions.entities() != null) {
-      contentJson.add("entities", GsonSingleton.getGson().toJsonTree(updateWorkspaceOptions.entities()));
+      contentJson.add("entities", updateWorkspaceOptions.entities());
     }
     if (updateWorkspaceOptions.dialogNodes() != null) {
-      contentJson.add("dialog_nodes", GsonSingleton.getGson().toJsonTree(updateWorkspaceOptions.dialogNodes()));
+      contentJson.add("dialog_nodes", updateWorkspaceOptions.dialogNodes());
     }
     if (updateWorkspaceOptions.counterexamples() != null) {
-      contentJson.add("counterexamples", GsonSingleton.getGson().toJsonTree(updateWorkspaceOptions.counterexamples()));
+      contentJson.add("counterexamples", updateWorkspaceOptions.counterexamples());
     }
     if (updateWorkspaceOptions.metadata() != null) {
-      contentJson.add("metadata", GsonSingleton.getGson().toJsonTree(updateWorkspaceOptions.metadata()));
+      contentJson.add("metadata", updateWorkspaceOptions.metadata());
     }
     if (updateWorkspaceOptions.learningOptOut() != null) {
-      contentJson.addProperty("learning_opt_out", updateWorkspaceOptions.learningOptOut());
+      contentJson.add("learning_opt_out", updateWorkspaceOptions.learningOptOut());
     }
     if (updateWorkspaceOptions.systemSettings() != null) {
-      contentJson.add("system_settings", GsonSingleton.getGson().toJsonTree(updateWorkspaceOptions.systemSettings()));
+      contentJson.add("system_settings", updateWorkspaceOptions.systemSettings());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Workspace.class));
+    builder.body(contentJson.build());
+    return createServiceCall("updateWorkspace", builder.build(), ResponseConverterUtils.getObject(Workspace.class));
   }
 
   /**
@@ -428,16 +427,16 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
-    contentJson.addProperty("intent", createIntentOptions.intent());
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
+    contentJson.add("intent", createIntentOptions.intent());
     if (createIntentOptions.description() != null) {
-      contentJson.addProperty("description", createIntentOptions.description());
+      contentJson.add("description", createIntentOptions.description());
     }
     if (createIntentOptions.examples() != null) {
-      contentJson.add("examples", GsonSingleton.getGson().toJsonTree(createIntentOptions.examples()));
+      contentJson.add("examples", createIntentOptions.examples());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Intent.class));
+    builder.body(contentJson.build());
+    return createServiceCall("createIntent", builder.build(), ResponseConverterUtils.getObject(Intent.class));
   }
 
   /**
@@ -457,7 +456,7 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteIntent", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -484,7 +483,7 @@ public class Conversation extends WatsonService {
     if (getIntentOptions.includeAudit() != null) {
       builder.query("include_audit", String.valueOf(getIntentOptions.includeAudit()));
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(IntentExport.class));
+    return createServiceCall("getIntent", builder.build(), ResponseConverterUtils.getObject(IntentExport.class));
   }
 
   /**
@@ -523,7 +522,7 @@ public class Conversation extends WatsonService {
     if (listIntentsOptions.includeAudit() != null) {
       builder.query("include_audit", String.valueOf(listIntentsOptions.includeAudit()));
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(IntentCollection.class));
+    return createServiceCall("listIntents", builder.build(), ResponseConverterUtils.getObject(IntentCollection.class));
   }
 
   /**
@@ -544,18 +543,18 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (updateIntentOptions.newIntent() != null) {
-      contentJson.addProperty("intent", updateIntentOptions.newIntent());
+      contentJson.add("intent", updateIntentOptions.newIntent());
     }
     if (updateIntentOptions.newExamples() != null) {
-      contentJson.add("examples", GsonSingleton.getGson().toJsonTree(updateIntentOptions.newExamples()));
+      contentJson.add("examples", updateIntentOptions.newExamples());
     }
     if (updateIntentOptions.newDescription() != null) {
-      contentJson.addProperty("description", updateIntentOptions.newDescription());
+      contentJson.add("description", updateIntentOptions.newDescription());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Intent.class));
+    builder.body(contentJson.build());
+    return createServiceCall("updateIntent", builder.build(), ResponseConverterUtils.getObject(Intent.class));
   }
 
   /**
@@ -575,13 +574,13 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
-    contentJson.addProperty("text", createExampleOptions.text());
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
+    contentJson.add("text", createExampleOptions.text());
     if (createExampleOptions.mentions() != null) {
-      contentJson.add("mentions", GsonSingleton.getGson().toJsonTree(createExampleOptions.mentions()));
+      contentJson.add("mentions", createExampleOptions.mentions());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Example.class));
+    builder.body(contentJson.build());
+    return createServiceCall("createExample", builder.build(), ResponseConverterUtils.getObject(Example.class));
   }
 
   /**
@@ -602,7 +601,7 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteExample", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -625,7 +624,7 @@ public class Conversation extends WatsonService {
     if (getExampleOptions.includeAudit() != null) {
       builder.query("include_audit", String.valueOf(getExampleOptions.includeAudit()));
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Example.class));
+    return createServiceCall("getExample", builder.build(), ResponseConverterUtils.getObject(Example.class));
   }
 
   /**
@@ -660,7 +659,8 @@ public class Conversation extends WatsonService {
     if (listExamplesOptions.includeAudit() != null) {
       builder.query("include_audit", String.valueOf(listExamplesOptions.includeAudit()));
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(ExampleCollection.class));
+    return createServiceCall("listExamples", builder.build(),
+        ResponseConverterUtils.getObject(ExampleCollection.class));
   }
 
   /**
@@ -681,15 +681,15 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (updateExampleOptions.newText() != null) {
-      contentJson.addProperty("text", updateExampleOptions.newText());
+      contentJson.add("text", updateExampleOptions.newText());
     }
     if (updateExampleOptions.newMentions() != null) {
-      contentJson.add("mentions", GsonSingleton.getGson().toJsonTree(updateExampleOptions.newMentions()));
+      contentJson.add("mentions", updateExampleOptions.newMentions());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Example.class));
+    builder.body(contentJson.build());
+    return createServiceCall("updateExample", builder.build(), ResponseConverterUtils.getObject(Example.class));
   }
 
   /**
@@ -709,10 +709,11 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
-    contentJson.addProperty("text", createCounterexampleOptions.text());
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Counterexample.class));
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
+    contentJson.add("text", createCounterexampleOptions.text());
+    builder.body(contentJson.build());
+    return createServiceCall("createCounterexample", builder.build(),
+        ResponseConverterUtils.getObject(Counterexample.class));
   }
 
   /**
@@ -732,7 +733,7 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteCounterexample", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -755,7 +756,8 @@ public class Conversation extends WatsonService {
     if (getCounterexampleOptions.includeAudit() != null) {
       builder.query("include_audit", String.valueOf(getCounterexampleOptions.includeAudit()));
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Counterexample.class));
+    return createServiceCall("getCounterexample", builder.build(),
+        ResponseConverterUtils.getObject(Counterexample.class));
   }
 
   /**
@@ -791,7 +793,8 @@ public class Conversation extends WatsonService {
     if (listCounterexamplesOptions.includeAudit() != null) {
       builder.query("include_audit", String.valueOf(listCounterexamplesOptions.includeAudit()));
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(CounterexampleCollection.class));
+    return createServiceCall("listCounterexamples", builder.build(),
+        ResponseConverterUtils.getObject(CounterexampleCollection.class));
   }
 
   /**
@@ -811,12 +814,13 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (updateCounterexampleOptions.newText() != null) {
-      contentJson.addProperty("text", updateCounterexampleOptions.newText());
+      contentJson.add("text", updateCounterexampleOptions.newText());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Counterexample.class));
+    builder.body(contentJson.build());
+    return createServiceCall("updateCounterexample", builder.build(),
+        ResponseConverterUtils.getObject(Counterexample.class));
   }
 
   /**
@@ -836,22 +840,22 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
-    contentJson.addProperty("entity", createEntityOptions.entity());
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
+    contentJson.add("entity", createEntityOptions.entity());
     if (createEntityOptions.description() != null) {
-      contentJson.addProperty("description", createEntityOptions.description());
+      contentJson.add("description", createEntityOptions.description());
     }
     if (createEntityOptions.metadata() != null) {
-      contentJson.add("metadata", GsonSingleton.getGson().toJsonTree(createEntityOptions.metadata()));
+      contentJson.add("metadata", createEntityOptions.metadata());
     }
     if (createEntityOptions.values() != null) {
-      contentJson.add("values", GsonSingleton.getGson().toJsonTree(createEntityOptions.values()));
+      contentJson.add("values", createEntityOptions.values());
     }
     if (createEntityOptions.fuzzyMatch() != null) {
-      contentJson.addProperty("fuzzy_match", createEntityOptions.fuzzyMatch());
+      contentJson.add("fuzzy_match", createEntityOptions.fuzzyMatch());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Entity.class));
+    builder.body(contentJson.build());
+    return createServiceCall("createEntity", builder.build(), ResponseConverterUtils.getObject(Entity.class));
   }
 
   /**
@@ -871,7 +875,7 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteEntity", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -898,7 +902,7 @@ public class Conversation extends WatsonService {
     if (getEntityOptions.includeAudit() != null) {
       builder.query("include_audit", String.valueOf(getEntityOptions.includeAudit()));
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(EntityExport.class));
+    return createServiceCall("getEntity", builder.build(), ResponseConverterUtils.getObject(EntityExport.class));
   }
 
   /**
@@ -937,7 +941,7 @@ public class Conversation extends WatsonService {
     if (listEntitiesOptions.includeAudit() != null) {
       builder.query("include_audit", String.valueOf(listEntitiesOptions.includeAudit()));
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(EntityCollection.class));
+    return createServiceCall("listEntities", builder.build(), ResponseConverterUtils.getObject(EntityCollection.class));
   }
 
   /**
@@ -958,24 +962,24 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (updateEntityOptions.newFuzzyMatch() != null) {
-      contentJson.addProperty("fuzzy_match", updateEntityOptions.newFuzzyMatch());
+      contentJson.add("fuzzy_match", updateEntityOptions.newFuzzyMatch());
     }
     if (updateEntityOptions.newEntity() != null) {
-      contentJson.addProperty("entity", updateEntityOptions.newEntity());
+      contentJson.add("entity", updateEntityOptions.newEntity());
     }
     if (updateEntityOptions.newMetadata() != null) {
-      contentJson.add("metadata", GsonSingleton.getGson().toJsonTree(updateEntityOptions.newMetadata()));
+      contentJson.add("metadata", updateEntityOptions.newMetadata());
     }
     if (updateEntityOptions.newValues() != null) {
-      contentJson.add("values", GsonSingleton.getGson().toJsonTree(updateEntityOptions.newValues()));
+      contentJson.add("values", updateEntityOptions.newValues());
     }
     if (updateEntityOptions.newDescription() != null) {
-      contentJson.addProperty("description", updateEntityOptions.newDescription());
+      contentJson.add("description", updateEntityOptions.newDescription());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Entity.class));
+    builder.body(contentJson.build());
+    return createServiceCall("updateEntity", builder.build(), ResponseConverterUtils.getObject(Entity.class));
   }
 
   /**
@@ -1002,7 +1006,8 @@ public class Conversation extends WatsonService {
     if (listMentionsOptions.includeAudit() != null) {
       builder.query("include_audit", String.valueOf(listMentionsOptions.includeAudit()));
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(EntityMentionCollection.class));
+    return createServiceCall("listMentions", builder.build(),
+        ResponseConverterUtils.getObject(EntityMentionCollection.class));
   }
 
   /**
@@ -1022,22 +1027,22 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
-    contentJson.addProperty("value", createValueOptions.value());
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
+    contentJson.add("value", createValueOptions.value());
     if (createValueOptions.metadata() != null) {
-      contentJson.add("metadata", GsonSingleton.getGson().toJsonTree(createValueOptions.metadata()));
+      contentJson.add("metadata", createValueOptions.metadata());
     }
     if (createValueOptions.synonyms() != null) {
-      contentJson.add("synonyms", GsonSingleton.getGson().toJsonTree(createValueOptions.synonyms()));
+      contentJson.add("synonyms", createValueOptions.synonyms());
     }
     if (createValueOptions.patterns() != null) {
-      contentJson.add("patterns", GsonSingleton.getGson().toJsonTree(createValueOptions.patterns()));
+      contentJson.add("patterns", createValueOptions.patterns());
     }
     if (createValueOptions.valueType() != null) {
-      contentJson.addProperty("type", createValueOptions.valueType());
+      contentJson.add("type", createValueOptions.valueType());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Value.class));
+    builder.body(contentJson.build());
+    return createServiceCall("createValue", builder.build(), ResponseConverterUtils.getObject(Value.class));
   }
 
   /**
@@ -1058,7 +1063,7 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteValue", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -1084,7 +1089,7 @@ public class Conversation extends WatsonService {
     if (getValueOptions.includeAudit() != null) {
       builder.query("include_audit", String.valueOf(getValueOptions.includeAudit()));
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(ValueExport.class));
+    return createServiceCall("getValue", builder.build(), ResponseConverterUtils.getObject(ValueExport.class));
   }
 
   /**
@@ -1122,7 +1127,7 @@ public class Conversation extends WatsonService {
     if (listValuesOptions.includeAudit() != null) {
       builder.query("include_audit", String.valueOf(listValuesOptions.includeAudit()));
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(ValueCollection.class));
+    return createServiceCall("listValues", builder.build(), ResponseConverterUtils.getObject(ValueCollection.class));
   }
 
   /**
@@ -1144,24 +1149,24 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (updateValueOptions.newSynonyms() != null) {
-      contentJson.add("synonyms", GsonSingleton.getGson().toJsonTree(updateValueOptions.newSynonyms()));
+      contentJson.add("synonyms", updateValueOptions.newSynonyms());
     }
     if (updateValueOptions.valueType() != null) {
-      contentJson.addProperty("type", updateValueOptions.valueType());
+      contentJson.add("type", updateValueOptions.valueType());
     }
     if (updateValueOptions.newMetadata() != null) {
-      contentJson.add("metadata", GsonSingleton.getGson().toJsonTree(updateValueOptions.newMetadata()));
+      contentJson.add("metadata", updateValueOptions.newMetadata());
     }
     if (updateValueOptions.newPatterns() != null) {
-      contentJson.add("patterns", GsonSingleton.getGson().toJsonTree(updateValueOptions.newPatterns()));
+      contentJson.add("patterns", updateValueOptions.newPatterns());
     }
     if (updateValueOptions.newValue() != null) {
-      contentJson.addProperty("value", updateValueOptions.newValue());
+      contentJson.add("value", updateValueOptions.newValue());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Value.class));
+    builder.body(contentJson.build());
+    return createServiceCall("updateValue", builder.build(), ResponseConverterUtils.getObject(Value.class));
   }
 
   /**
@@ -1182,10 +1187,10 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
-    contentJson.addProperty("synonym", createSynonymOptions.synonym());
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Synonym.class));
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
+    contentJson.add("synonym", createSynonymOptions.synonym());
+    builder.body(contentJson.build());
+    return createServiceCall("createSynonym", builder.build(), ResponseConverterUtils.getObject(Synonym.class));
   }
 
   /**
@@ -1206,7 +1211,7 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteSynonym", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -1230,7 +1235,7 @@ public class Conversation extends WatsonService {
     if (getSynonymOptions.includeAudit() != null) {
       builder.query("include_audit", String.valueOf(getSynonymOptions.includeAudit()));
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Synonym.class));
+    return createServiceCall("getSynonym", builder.build(), ResponseConverterUtils.getObject(Synonym.class));
   }
 
   /**
@@ -1266,7 +1271,8 @@ public class Conversation extends WatsonService {
     if (listSynonymsOptions.includeAudit() != null) {
       builder.query("include_audit", String.valueOf(listSynonymsOptions.includeAudit()));
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(SynonymCollection.class));
+    return createServiceCall("listSynonyms", builder.build(),
+        ResponseConverterUtils.getObject(SynonymCollection.class));
   }
 
   /**
@@ -1287,12 +1293,12 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (updateSynonymOptions.newSynonym() != null) {
-      contentJson.addProperty("synonym", updateSynonymOptions.newSynonym());
+      contentJson.add("synonym", updateSynonymOptions.newSynonym());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Synonym.class));
+    builder.body(contentJson.build());
+    return createServiceCall("updateSynonym", builder.build(), ResponseConverterUtils.getObject(Synonym.class));
   }
 
   /**
@@ -1312,61 +1318,61 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
-    contentJson.addProperty("dialog_node", createDialogNodeOptions.dialogNode());
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
+    contentJson.add("dialog_node", createDialogNodeOptions.dialogNode());
     if (createDialogNodeOptions.description() != null) {
-      contentJson.addProperty("description", createDialogNodeOptions.description());
+      contentJson.add("description", createDialogNodeOptions.description());
     }
     if (createDialogNodeOptions.conditions() != null) {
-      contentJson.addProperty("conditions", createDialogNodeOptions.conditions());
+      contentJson.add("conditions", createDialogNodeOptions.conditions());
     }
     if (createDialogNodeOptions.parent() != null) {
-      contentJson.addProperty("parent", createDialogNodeOptions.parent());
+      contentJson.add("parent", createDialogNodeOptions.parent());
     }
     if (createDialogNodeOptions.previousSibling() != null) {
-      contentJson.addProperty("previous_sibling", createDialogNodeOptions.previousSibling());
+      contentJson.add("previous_sibling", createDialogNodeOptions.previousSibling());
     }
     if (createDialogNodeOptions.output() != null) {
-      contentJson.add("output", GsonSingleton.getGson().toJsonTree(createDialogNodeOptions.output()));
+      contentJson.add("output", createDialogNodeOptions.output());
     }
     if (createDialogNodeOptions.context() != null) {
-      contentJson.add("context", GsonSingleton.getGson().toJsonTree(createDialogNodeOptions.context()));
+      contentJson.add("context", createDialogNodeOptions.context());
     }
     if (createDialogNodeOptions.metadata() != null) {
-      contentJson.add("metadata", GsonSingleton.getGson().toJsonTree(createDialogNodeOptions.metadata()));
+      contentJson.add("metadata", createDialogNodeOptions.metadata());
     }
     if (createDialogNodeOptions.nextStep() != null) {
-      contentJson.add("next_step", GsonSingleton.getGson().toJsonTree(createDialogNodeOptions.nextStep()));
+      contentJson.add("next_step", createDialogNodeOptions.nextStep());
     }
     if (createDialogNodeOptions.actions() != null) {
-      contentJson.add("actions", GsonSingleton.getGson().toJsonTree(createDialogNodeOptions.actions()));
+      contentJson.add("actions", createDialogNodeOptions.actions());
     }
     if (createDialogNodeOptions.title() != null) {
-      contentJson.addProperty("title", createDialogNodeOptions.title());
+      contentJson.add("title", createDialogNodeOptions.title());
     }
     if (createDialogNodeOptions.nodeType() != null) {
-      contentJson.addProperty("type", createDialogNodeOptions.nodeType());
+      contentJson.add("type", createDialogNodeOptions.nodeType());
     }
     if (createDialogNodeOptions.eventName() != null) {
-      contentJson.addProperty("event_name", createDialogNodeOptions.eventName());
+      contentJson.add("event_name", createDialogNodeOptions.eventName());
     }
     if (createDialogNodeOptions.variable() != null) {
-      contentJson.addProperty("variable", createDialogNodeOptions.variable());
+      contentJson.add("variable", createDialogNodeOptions.variable());
     }
     if (createDialogNodeOptions.digressIn() != null) {
-      contentJson.addProperty("digress_in", createDialogNodeOptions.digressIn());
+      contentJson.add("digress_in", createDialogNodeOptions.digressIn());
     }
     if (createDialogNodeOptions.digressOut() != null) {
-      contentJson.addProperty("digress_out", createDialogNodeOptions.digressOut());
+      contentJson.add("digress_out", createDialogNodeOptions.digressOut());
     }
     if (createDialogNodeOptions.digressOutSlots() != null) {
-      contentJson.addProperty("digress_out_slots", createDialogNodeOptions.digressOutSlots());
+      contentJson.add("digress_out_slots", createDialogNodeOptions.digressOutSlots());
     }
     if (createDialogNodeOptions.userLabel() != null) {
-      contentJson.addProperty("user_label", createDialogNodeOptions.userLabel());
+      contentJson.add("user_label", createDialogNodeOptions.userLabel());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(DialogNode.class));
+    builder.body(contentJson.build());
+    return createServiceCall("createDialogNode", builder.build(), ResponseConverterUtils.getObject(DialogNode.class));
   }
 
   /**
@@ -1386,7 +1392,7 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteDialogNode", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -1409,7 +1415,7 @@ public class Conversation extends WatsonService {
     if (getDialogNodeOptions.includeAudit() != null) {
       builder.query("include_audit", String.valueOf(getDialogNodeOptions.includeAudit()));
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(DialogNode.class));
+    return createServiceCall("getDialogNode", builder.build(), ResponseConverterUtils.getObject(DialogNode.class));
   }
 
   /**
@@ -1444,7 +1450,8 @@ public class Conversation extends WatsonService {
     if (listDialogNodesOptions.includeAudit() != null) {
       builder.query("include_audit", String.valueOf(listDialogNodesOptions.includeAudit()));
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(DialogNodeCollection.class));
+    return createServiceCall("listDialogNodes", builder.build(),
+        ResponseConverterUtils.getObject(DialogNodeCollection.class));
   }
 
   /**
@@ -1464,63 +1471,63 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (updateDialogNodeOptions.nodeType() != null) {
-      contentJson.addProperty("type", updateDialogNodeOptions.nodeType());
+      contentJson.add("type", updateDialogNodeOptions.nodeType());
     }
     if (updateDialogNodeOptions.newActions() != null) {
-      contentJson.add("actions", GsonSingleton.getGson().toJsonTree(updateDialogNodeOptions.newActions()));
+      contentJson.add("actions", updateDialogNodeOptions.newActions());
     }
     if (updateDialogNodeOptions.newConditions() != null) {
-      contentJson.addProperty("conditions", updateDialogNodeOptions.newConditions());
+      contentJson.add("conditions", updateDialogNodeOptions.newConditions());
     }
     if (updateDialogNodeOptions.newContext() != null) {
-      contentJson.add("context", GsonSingleton.getGson().toJsonTree(updateDialogNodeOptions.newContext()));
+      contentJson.add("context", updateDialogNodeOptions.newContext());
     }
     if (updateDialogNodeOptions.newPreviousSibling() != null) {
-      contentJson.addProperty("previous_sibling", updateDialogNodeOptions.newPreviousSibling());
+      contentJson.add("previous_sibling", updateDialogNodeOptions.newPreviousSibling());
     }
     if (updateDialogNodeOptions.newVariable() != null) {
-      contentJson.addProperty("variable", updateDialogNodeOptions.newVariable());
+      contentJson.add("variable", updateDialogNodeOptions.newVariable());
     }
     if (updateDialogNodeOptions.newUserLabel() != null) {
-      contentJson.addProperty("user_label", updateDialogNodeOptions.newUserLabel());
+      contentJson.add("user_label", updateDialogNodeOptions.newUserLabel());
     }
     if (updateDialogNodeOptions.newMetadata() != null) {
-      contentJson.add("metadata", GsonSingleton.getGson().toJsonTree(updateDialogNodeOptions.newMetadata()));
+      contentJson.add("metadata", updateDialogNodeOptions.newMetadata());
     }
     if (updateDialogNodeOptions.newTitle() != null) {
-      contentJson.addProperty("title", updateDialogNodeOptions.newTitle());
+      contentJson.add("title", updateDialogNodeOptions.newTitle());
     }
     if (updateDialogNodeOptions.newDescription() != null) {
-      contentJson.addProperty("description", updateDialogNodeOptions.newDescription());
+      contentJson.add("description", updateDialogNodeOptions.newDescription());
     }
     if (updateDialogNodeOptions.newDigressOut() != null) {
-      contentJson.addProperty("digress_out", updateDialogNodeOptions.newDigressOut());
+      contentJson.add("digress_out", updateDialogNodeOptions.newDigressOut());
     }
     if (updateDialogNodeOptions.newEventName() != null) {
-      contentJson.addProperty("event_name", updateDialogNodeOptions.newEventName());
+      contentJson.add("event_name", updateDialogNodeOptions.newEventName());
     }
     if (updateDialogNodeOptions.newDigressOutSlots() != null) {
-      contentJson.addProperty("digress_out_slots", updateDialogNodeOptions.newDigressOutSlots());
+      contentJson.add("digress_out_slots", updateDialogNodeOptions.newDigressOutSlots());
     }
     if (updateDialogNodeOptions.newNextStep() != null) {
-      contentJson.add("next_step", GsonSingleton.getGson().toJsonTree(updateDialogNodeOptions.newNextStep()));
+      contentJson.add("next_step", updateDialogNodeOptions.newNextStep());
     }
     if (updateDialogNodeOptions.newDigressIn() != null) {
-      contentJson.addProperty("digress_in", updateDialogNodeOptions.newDigressIn());
+      contentJson.add("digress_in", updateDialogNodeOptions.newDigressIn());
     }
     if (updateDialogNodeOptions.newOutput() != null) {
-      contentJson.add("output", GsonSingleton.getGson().toJsonTree(updateDialogNodeOptions.newOutput()));
+      contentJson.add("output", updateDialogNodeOptions.newOutput());
     }
     if (updateDialogNodeOptions.newParent() != null) {
-      contentJson.addProperty("parent", updateDialogNodeOptions.newParent());
+      contentJson.add("parent", updateDialogNodeOptions.newParent());
     }
     if (updateDialogNodeOptions.newDialogNode() != null) {
-      contentJson.addProperty("dialog_node", updateDialogNodeOptions.newDialogNode());
+      contentJson.add("dialog_node", updateDialogNodeOptions.newDialogNode());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(DialogNode.class));
+    builder.body(contentJson.build());
+    return createServiceCall("updateDialogNode", builder.build(), ResponseConverterUtils.getObject(DialogNode.class));
   }
 
   /**
@@ -1549,7 +1556,7 @@ public class Conversation extends WatsonService {
     if (listAllLogsOptions.cursor() != null) {
       builder.query("cursor", listAllLogsOptions.cursor());
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(LogCollection.class));
+    return createServiceCall("listAllLogs", builder.build(), ResponseConverterUtils.getObject(LogCollection.class));
   }
 
   /**
@@ -1582,7 +1589,7 @@ public class Conversation extends WatsonService {
     if (listLogsOptions.cursor() != null) {
       builder.query("cursor", listLogsOptions.cursor());
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(LogCollection.class));
+    return createServiceCall("listLogs", builder.build(), ResponseConverterUtils.getObject(LogCollection.class));
   }
 
   /**
@@ -1604,7 +1611,7 @@ public class Conversation extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments));
     builder.query(VERSION, versionDate);
     builder.query("customer_id", deleteUserDataOptions.customerId());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteUserData", builder.build(), ResponseConverterUtils.getVoid());
   }
 
 }
@@ -17,16 +17,15 @@ import java.util.List;
 
 import com.google.gson.reflect.TypeToken;
 import com.ibm.watson.developer_cloud.service.model.DynamicModel;
-import com.ibm.watson.developer_cloud.util.GsonSerializationHelper;
 
 /**
  * The output of the dialog node. For more information about how to specify dialog node output, see the
  * [documentation](https://console.bluemix.net/docs/services/conversation/dialog-overview.html#complex).
  */
 public class DialogNodeOutput extends DynamicModel {
-  private Type genericType = new TypeToken<List<DialogNodeOutputGeneric>>() {
+  private static final Type GENERIC_TYPE = new TypeToken<List<DialogNodeOutputGeneric>>() {
   }.getType();
-  private Type modifiersType = new TypeToken<DialogNodeOutputModifiers>() {
+  private static final Type MODIFIERS_TYPE = new TypeToken<DialogNodeOutputModifiers>() {
   }.getType();
 
   /**
@@ -35,7 +34,7 @@ public class DialogNodeOutput extends DynamicModel {
    * @return the generic
    */
   public List<DialogNodeOutputGeneric> getGeneric() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("generic"), genericType);
+    return getProperty("generic", GENERIC_TYPE);
   }
 
   /**
@@ -44,7 +43,7 @@ public class DialogNodeOutput extends DynamicModel {
    * @return the modifiers
    */
   public DialogNodeOutputModifiers getModifiers() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("modifiers"), modifiersType);
+    return getProperty("modifiers", MODIFIERS_TYPE);
   }
 
   /**
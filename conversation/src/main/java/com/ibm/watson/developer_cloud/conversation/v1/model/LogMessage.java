@@ -16,7 +16,6 @@ import java.lang.reflect.Type;
 
 import com.google.gson.reflect.TypeToken;
 import com.ibm.watson.developer_cloud.service.model.DynamicModel;
-import com.ibm.watson.developer_cloud.util.GsonSerializationHelper;
 
 /**
  * Log message details.
@@ -34,9 +33,9 @@ public class LogMessage extends DynamicModel {
     String WARN = "warn";
   }
 
-  private Type levelType = new TypeToken<String>() {
+  private static final Type LEVEL_TYPE = new TypeToken<String>() {
   }.getType();
-  private Type msgType = new TypeToken<String>() {
+  private static final Type MSG_TYPE = new TypeToken<String>() {
   }.getType();
 
   /**
@@ -45,7 +44,7 @@ public class LogMessage extends DynamicModel {
    * @return the level
    */
   public String getLevel() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("level"), levelType);
+    return getProperty("level", LEVEL_TYPE);
   }
 
   /**
@@ -54,7 +53,7 @@ public class LogMessage extends DynamicModel {
    * @return the msg
    */
   public String getMsg() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("msg"), msgType);
+    return getProperty("msg", MSG_TYPE);
   }
 
   /**
@@ -17,25 +17,24 @@ import java.util.List;
 
 import com.google.gson.reflect.TypeToken;
 import com.ibm.watson.developer_cloud.service.model.DynamicModel;
-import com.ibm.watson.developer_cloud.util.GsonSerializationHelper;
 
 /**
  * A response from the Conversation service.
  */
 public class MessageResponse extends DynamicModel {
-  private Type inputType = new TypeToken<MessageInput>() {
+  private static final Type INPUT_TYPE = new TypeToken<MessageInput>() {
   }.getType();
-  private Type intentsType = new TypeToken<List<RuntimeIntent>>() {
+  private static final Type INTENTS_TYPE = new TypeToken<List<RuntimeIntent>>() {
   }.getType();
-  private Type entitiesType = new TypeToken<List<RuntimeEntity>>() {
+  private static final Type ENTITIES_TYPE = new TypeToken<List<RuntimeEntity>>() {
   }.getType();
-  private Type alternateIntentsType = new TypeToken<Boolean>() {
+  private static final Type ALTERNATE_INTENTS_TYPE = new TypeToken<Boolean>() {
   }.getType();
-  private Type contextType = new TypeToken<Context>() {
+  private static final Type CONTEXT_TYPE = new TypeToken<Context>() {
   }.getType();
-  private Type outputType = new TypeToken<OutputData>() {
+  private static final Type OUTPUT_TYPE = new TypeToken<OutputData>() {
   }.getType();
-  private Type actionsType = new TypeToken<List<DialogNodeAction>>() {
+  private static final Type ACTIONS_TYPE = new TypeToken<List<DialogNodeAction>>() {
   }.getType();
 
   /**
@@ -44,7 +43,7 @@ public class MessageResponse extends DynamicModel {
    * @return the input
    */
   public MessageInput getInput() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("input"), inputType);
+    return getProperty("input", INPUT_TYPE);
   }
 
   /**
@@ -53,7 +52,7 @@ public class MessageResponse extends DynamicModel {
    * @return the intents
    */
   public List<RuntimeIntent> getIntents() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("intents"), intentsType);
+    return getProperty("intents", INTENTS_TYPE);
   }
 
   /**
@@ -62,7 +61,7 @@ public class MessageResponse extends DynamicModel {
    * @return the entities
    */
   public List<RuntimeEntity> getEntities() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("entities"), entitiesType);
+    return getProperty("entities", ENTITIES_TYPE);
   }
 
   /**
@@ -71,7 +70,7 @@ public class MessageResponse extends DynamicModel {
    * @return the alternateIntents
    */
   public Boolean isAlternateIntents() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("alternate_intents"), alternateIntentsType);
+    return getProperty("alternate_intents", ALTERNATE_INTENTS_TYPE);
   }
 
   /**
@@ -80,7 +79,7 @@ public class MessageResponse extends DynamicModel {
    * @return the context
    */
   public Context getContext() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("context"), contextType);
+    return getProperty("context", CONTEXT_TYPE);
   }
 
   /**
@@ -89,7 +88,7 @@ public class MessageResponse extends DynamicModel {
    * @return the output
    */
   public OutputData getOutput() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("output"), outputType);
+    return getProperty("output", OUTPUT_TYPE);
   }
 
   /**
@@ -98,6 +97,6 @@ public class MessageResponse extends DynamicModel {
    * @return the actions
    */
   public List<DialogNodeAction> getActions() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("actions"), actionsType);
+    return getProperty("actions", ACTIONS_TYPE);
   }
 }
@@ -17,22 +17,21 @@ import java.util.List;
 
 import com.google.gson.reflect.TypeToken;
 import com.ibm.watson.developer_cloud.service.model.DynamicModel;
-import com.ibm.watson.developer_cloud.util.GsonSerializationHelper;
 
 /**
  * An output object that includes the response to the user, the dialog nodes that were triggered, and messages from the
  * log.
  */
 public class OutputData extends DynamicModel {
-  private Type logMessagesType = new TypeToken<List<LogMessage>>() {
+  private static final Type LOG_MESSAGES_TYPE = new TypeToken<List<LogMessage>>() {
   }.getType();
-  private Type textType = new TypeToken<List<String>>() {
+  private static final Type TEXT_TYPE = new TypeToken<List<String>>() {
   }.getType();
-  private Type genericType = new TypeToken<List<DialogRuntimeResponseGeneric>>() {
+  private static final Type GENERIC_TYPE = new TypeToken<List<DialogRuntimeResponseGeneric>>() {
   }.getType();
-  private Type nodesVisitedType = new TypeToken<List<String>>() {
+  private static final Type NODES_VISITED_TYPE = new TypeToken<List<String>>() {
   }.getType();
-  private Type nodesVisitedDetailsType = new TypeToken<List<DialogNodeVisitedDetails>>() {
+  private static final Type NODES_VISITED_DETAILS_TYPE = new TypeToken<List<DialogNodeVisitedDetails>>() {
   }.getType();
 
   /**
@@ -41,7 +40,7 @@ public class OutputData extends DynamicModel {
    * @return the logMessages
    */
   public List<LogMessage> getLogMessages() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("log_messages"), logMessagesType);
+    return getProperty("log_messages", LOG_MESSAGES_TYPE);
   }
 
   /**
@@ -50,7 +49,7 @@ public class OutputData extends DynamicModel {
    * @return the text
    */
   public List<String> getText() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("text"), textType);
+    return getProperty("text", TEXT_TYPE);
   }
 
   /**
@@ -59,7 +58,7 @@ public class OutputData extends DynamicModel {
    * @return the generic
    */
   public List<DialogRuntimeResponseGeneric> getGeneric() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("generic"), genericType);
+    return getProperty("generic", GENERIC_TYPE);
   }
 
   /**
@@ -68,7 +67,7 @@ public class OutputData extends DynamicModel {
    * @return the nodesVisited
    */
   public List<String> getNodesVisited() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("nodes_visited"), nodesVisitedType);
+    return getProperty("nodes_visited", NODES_VISITED_TYPE);
   }
 
   /**
@@ -77,8 +76,7 @@ public class OutputData extends DynamicModel {
    * @return the nodesVisitedDetails
    */
   public List<DialogNodeVisitedDetails> getNodesVisitedDetails() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("nodes_visited_details"),
-        nodesVisitedDetailsType);
+    return getProperty("nodes_visited_details", NODES_VISITED_DETAILS_TYPE);
   }
 
   /**
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Retries of an asynchronous call. Attached as a tag to the request of the call, it tells the clients of
+ * {@link HttpClientSingleton} to leave the retries of the request to the caller, which schedules them on a timer
+ * instead of holding a thread of the dispatcher while it waits.
+ *
+ * @see RetryPolicy
+ */
+public final class AsyncRetry {
+  private int retries;
+
+  /**
+   * Gets the delay before the request of a response is sent again, according to the {@link RetryPolicy} of the
+   * request or the default policy, and counts the retry.
+   *
+   * @param request the request of the call
+   * @param response the response
+   * @return the delay in milliseconds, or -1 if the request shouldn't be sent again
+   */
+  public synchronized long nextDelayMillis(Request request, Response response) {
+    long delay = HttpClientSingleton.getInstance().getRetryInterceptor().getAsyncDelayMillis(request, response,
+        retries + 1);
+    if (delay >= 0) {
+      retries++;
+    }
+    return delay;
+  }
+}
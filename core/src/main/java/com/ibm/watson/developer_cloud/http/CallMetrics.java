@@ -0,0 +1,31 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+/**
+ * Receives the {@link CallTimings} of every service call, to export them to a metrics system.
+ *
+ * Implementations are called on the thread completing the call, so they must be thread safe and shouldn't block.
+ *
+ * @see HttpConfigOptions.Builder#callMetrics(CallMetrics)
+ * @see HistogramCallMetrics
+ */
+public interface CallMetrics {
+
+  /**
+   * Records the timings of a completed call.
+   *
+   * @param timings the call timings
+   */
+  void record(CallTimings timings);
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Breakdown of the time spent in a service call, recorded from the events of the HTTP client.
+ *
+ * When a call is retried or reuses a pooled connection, the durations are summed over all attempts, and the phases
+ * that didn't happen, such as the DNS lookup and the connection, are zero.
+ *
+ * @see Response#getTimings()
+ * @see CallMetrics
+ */
+public class CallTimings {
+
+  /**
+   * The phases of a call.
+   */
+  public enum Phase {
+    /** DNS lookup. */
+    DNS,
+    /** TCP connection, including the TLS handshake. */
+    CONNECT,
+    /** TLS handshake. */
+    TLS,
+    /** Writing the request headers and body. */
+    REQUEST,
+    /** Waiting for the response headers once the request has been written, until they are read. */
+    TIME_TO_FIRST_BYTE,
+    /** Reading the response body. */
+    RESPONSE_BODY,
+    /** Converting the response to the result, excluding the time spent reading the body. */
+    CONVERSION,
+    /** The whole call. */
+    TOTAL
+  }
+
+  private static final Phase[] PHASES = Phase.values();
+
+  private final String serviceName;
+  private final String operationId;
+  private final long[] nanos = new long[PHASES.length];
+  private final long[] starts = new long[PHASES.length];
+  private int statusCode;
+  private boolean finished;
+
+  /**
+   * Instantiates new call timings.
+   *
+   * @param serviceName the name of the service
+   * @param operationId the operation identifier, or null if unknown
+   */
+  public CallTimings(String serviceName, String operationId) {
+    this.serviceName = serviceName;
+    this.operationId = operationId;
+  }
+
+  /**
+   * Gets the name of the service, such as <code>assistant</code>.
+   *
+   * @return the service name
+   */
+  public String getServiceName() {
+    return serviceName;
+  }
+
+  /**
+   * Gets the operation identifier, the name of the service method such as <code>message</code>.
+   *
+   * @return the operation identifier, or null if unknown
+   */
+  public String getOperationId() {
+    return operationId;
+  }
+
+  /**
+   * Gets the qualified name of the operation, such as <code>assistant.message</code>.
+   *
+   * @return the operation name
+   */
+  public String getOperation() {
+    return (operationId != null) ? serviceName + "." + operationId : serviceName;
+  }
+
+  /**
+   * Gets the HTTP status code of the last response.
+   *
+   * @return the status code, or 0 if no response was received
+   */
+  public synchronized int getStatusCode() {
+    return statusCode;
+  }
+
+  /**
+   * Gets the time spent in a phase of the call.
+   *
+   * @param phase the phase
+   * @param timeUnit the unit of the result
+   * @return the duration
+   */
+  public synchronized long getDuration(Phase phase, TimeUnit timeUnit) {
+    return timeUnit.convert(nanos[phase.ordinal()], TimeUnit.NANOSECONDS);
+  }
+
+  synchronized void start(Phase phase, long nowNanos) {
+    starts[phase.ordinal()] = nowNanos;
+  }
+
+  synchronized void end(Phase phase, long nowNanos) {
+    long start = starts[phase.ordinal()];
+    if (start != 0) {
+      nanos[phase.ordinal()] += nowNanos - start;
+      starts[phase.ordinal()] = 0;
+    }
+  }
+
+  synchronized void setStatusCode(int statusCode) {
+    this.statusCode = statusCode;
+  }
+
+  /**
+   * Ends the call once its response has been converted.
+   *
+   * @param conversionNanos the time spent converting the response, including reading its body, in nanoseconds
+   * @return false if the call had already ended
+   */
+  public synchronized boolean finish(long conversionNanos) {
+    if (finished) {
+      return false;
+    }
+    finished = true;
+    nanos[Phase.CONVERSION.ordinal()] = Math.max(0, conversionNanos - nanos[Phase.RESPONSE_BODY.ordinal()]);
+    end(Phase.TOTAL, System.nanoTime());
+    return true;
+  }
+
+  /*
+   * (non-Javadoc)
+   *
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public synchronized String toString() {
+    StringBuilder builder = new StringBuilder(getOperation()).append(" [status=").append(statusCode);
+    for (Phase phase : PHASES) {
+      builder.append(", ").append(phase.name().toLowerCase(Locale.ENGLISH)).append('=')
+          .append(TimeUnit.NANOSECONDS.toMicros(nanos[phase.ordinal()]) / 1000.0).append("ms");
+    }
+    return builder.append(']').toString();
+  }
+}
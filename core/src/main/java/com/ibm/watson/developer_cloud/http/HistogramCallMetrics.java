@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.watson.developer_cloud.http.CallTimings.Phase;
+
+/**
+ * {@link CallMetrics} keeping a {@link LatencyHistogram} of every phase of the calls, per operation.
+ */
+public class HistogramCallMetrics implements CallMetrics {
+
+  private final ConcurrentMap<String, LatencyHistogram[]> histograms = new ConcurrentHashMap<>();
+
+  /*
+   * (non-Javadoc)
+   *
+   * @see com.ibm.watson.developer_cloud.http.CallMetrics#record(com.ibm.watson.developer_cloud.http.CallTimings)
+   */
+  @Override
+  public void record(CallTimings timings) {
+    LatencyHistogram[] operationHistograms = getHistograms(timings.getOperation());
+    for (Phase phase : Phase.values()) {
+      operationHistograms[phase.ordinal()].record(timings.getDuration(phase, TimeUnit.NANOSECONDS),
+          TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Gets the names of the operations with recorded calls, such as <code>assistant.message</code>.
+   *
+   * @return the operation names
+   */
+  public Set<String> getOperations() {
+    return Collections.unmodifiableSet(histograms.keySet());
+  }
+
+  /**
+   * Gets the histogram of a phase of the calls of an operation.
+   *
+   * @param operation the operation name, as returned by {@link CallTimings#getOperation()}
+   * @param phase the phase
+   * @return the histogram, empty if no call was recorded
+   */
+  public LatencyHistogram getHistogram(String operation, Phase phase) {
+    LatencyHistogram[] operationHistograms = histograms.get(operation);
+    return (operationHistograms != null) ? operationHistograms[phase.ordinal()] : new LatencyHistogram();
+  }
+
+  private LatencyHistogram[] getHistograms(String operation) {
+    LatencyHistogram[] operationHistograms = histograms.get(operation);
+    if (operationHistograms == null) {
+      operationHistograms = new LatencyHistogram[Phase.values().length];
+      for (int i = 0; i < operationHistograms.length; i++) {
+        operationHistograms[i] = new LatencyHistogram();
+      }
+      LatencyHistogram[] existing = histograms.putIfAbsent(operation, operationHistograms);
+      if (existing != null) {
+        operationHistograms = existing;
+      }
+    }
+    return operationHistograms;
+  }
+}
@@ -15,7 +15,9 @@ package com.ibm.watson.developer_cloud.http;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.service.security.DelegatingSSLSocketFactory;
 import com.ibm.watson.developer_cloud.util.HttpLogging;
+import okhttp3.ConnectionPool;
 import okhttp3.ConnectionSpec;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.OkHttpClient.Builder;
 import okhttp3.TlsVersion;
@@ -47,12 +49,31 @@ import java.util.logging.Logger;
  * a single OkHttpClient instance and reuse it for all of your HTTP calls. This is because each client holds its own
  * connection pool and thread pools. Reusing connections and threads reduces latency and saves memory. Conversely,
  * creating a client for each request wastes resources on idle pools.
+ *
+ * All clients returned by {@link #createHttpClient()} share the same {@link ConnectionPool} and {@link Dispatcher}.
+ * The limits of the pool are set by the first {@link HttpConfigOptions} that set them, and default to the
+ * <code>ibm.watson.http.maxIdleConnections</code> and <code>ibm.watson.http.keepAliveDuration</code> (in
+ * milliseconds) system properties; the pool is then kept, so later limits are ignored. The limits of the dispatcher
+ * can be tuned at any time. The clients also retry requests according to the {@link RetryPolicy} set in the options,
+ * record the {@link CallTimings} of the service calls and serve cached responses from the {@link ResponseCache} set
+ * in the options.
  */
 public class HttpClientSingleton {
-  private static HttpClientSingleton instance = null;
 
   private static final Logger LOG = Logger.getLogger(WatsonService.class.getName());
 
+  private static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+  private static final long DEFAULT_KEEP_ALIVE_DURATION_MILLIS = TimeUnit.MINUTES.toMillis(5);
+  private static final String MAX_IDLE_CONNECTIONS_PROPERTY = "ibm.watson.http.maxIdleConnections";
+  private static final String KEEP_ALIVE_DURATION_PROPERTY = "ibm.watson.http.keepAliveDuration";
+
+  /**
+   * Holds the single instance, created on first use without locking the following calls.
+   */
+  private static final class InstanceHolder {
+    private static final HttpClientSingleton INSTANCE = new HttpClientSingleton();
+  }
+
   /**
    * TrustManager for disabling SSL verification, which essentially lets everything through.
    */
@@ -81,21 +102,52 @@ public class HttpClientSingleton {
    * @return single instance of HttpClientSingleton
    */
   public static HttpClientSingleton getInstance() {
-    if (instance == null) {
-      instance = new HttpClientSingleton();
-    }
-    return instance;
+    return InstanceHolder.INSTANCE;
   }
 
-  private OkHttpClient okHttpClient;
+  private volatile OkHttpClient okHttpClient;
+  private volatile int clientVersion;
+  private volatile ConnectionPool connectionPool;
+  private boolean connectionPoolConfigured;
+  private final Dispatcher dispatcher;
+  private final RetryInterceptor retryInterceptor;
+  private final ResponseCacheInterceptor responseCacheInterceptor;
+  private final TimingEventListener.Factory timingListenerFactory;
 
   /**
    * Instantiates a new HTTP client singleton.
    */
   protected HttpClientSingleton() {
+    this.connectionPool = createConnectionPool(null, null);
+    this.dispatcher = new Dispatcher();
+    this.retryInterceptor = new RetryInterceptor();
+    this.responseCacheInterceptor = new ResponseCacheInterceptor();
+    this.timingListenerFactory = new TimingEventListener.Factory();
     this.okHttpClient = configureHttpClient();
   }
 
+  /**
+   * Creates the connection pool shared by all clients. The limits not given are read from the system properties.
+   *
+   * @param maxIdleConnections the maximum number of idle connections, or null
+   * @param keepAliveDurationMillis how long an idle connection is kept, in milliseconds, or null
+   * @return the connection pool
+   */
+  private static ConnectionPool createConnectionPool(Integer maxIdleConnections, Long keepAliveDurationMillis) {
+    if (maxIdleConnections == null) {
+      maxIdleConnections = Integer.getInteger(MAX_IDLE_CONNECTIONS_PROPERTY, DEFAULT_MAX_IDLE_CONNECTIONS);
+    }
+    if (keepAliveDurationMillis == null) {
+      keepAliveDurationMillis = Long.getLong(KEEP_ALIVE_DURATION_PROPERTY, DEFAULT_KEEP_ALIVE_DURATION_MILLIS);
+    }
+    if ((maxIdleConnections < 0) || (keepAliveDurationMillis <= 0)) {
+      LOG.warning("Invalid connection pool limits, using the defaults.");
+      maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+      keepAliveDurationMillis = DEFAULT_KEEP_ALIVE_DURATION_MILLIS;
+    }
+    return new ConnectionPool(maxIdleConnections, keepAliveDurationMillis, TimeUnit.MILLISECONDS);
+  }
+
   /**
    * Configures the HTTP client.
    *
@@ -106,6 +158,13 @@ public class HttpClientSingleton {
 
     addCookieJar(builder);
 
+    builder.connectionPool(connectionPool);
+    builder.dispatcher(dispatcher);
+    builder.addInterceptor(responseCacheInterceptor);
+    builder.addInterceptor(retryInterceptor);
+    builder.addNetworkInterceptor(responseCacheInterceptor.networkInterceptor());
+    builder.eventListenerFactory(timingListenerFactory);
+
     builder.connectTimeout(60, TimeUnit.SECONDS);
     builder.writeTimeout(60, TimeUnit.SECONDS);
     builder.readTimeout(90, TimeUnit.SECONDS);
@@ -168,6 +227,32 @@ public class HttpClientSingleton {
     okHttpClient = builder.build();
   }
 
+  /**
+   * Replaces the connection pool of the {@link OkHttpClient} the first time its limits are set. The services move to
+   * the new pool with the new client version. It isn't replaced again, so the connections stay shared.
+   *
+   * @param options the options setting the limits of the pool
+   */
+  private void configureConnectionPool(HttpConfigOptions options) {
+    if (connectionPoolConfigured) {
+      LOG.warning("The limits of the connection pool are already set, the new limits are ignored.");
+      return;
+    }
+    connectionPoolConfigured = true;
+    connectionPool = createConnectionPool(options.getMaxIdleConnections(), options.getKeepAliveDurationMillis());
+    okHttpClient = okHttpClient.newBuilder().connectionPool(connectionPool).build();
+  }
+
+  /**
+   * Sets the response cache, and its disk tier as the cache of the {@link OkHttpClient}.
+   *
+   * @param responseCache the response cache
+   */
+  private void setResponseCache(ResponseCache responseCache) {
+    responseCacheInterceptor.setCache(responseCache);
+    okHttpClient = okHttpClient.newBuilder().cache(responseCache.getDiskCache()).build();
+  }
+
   /**
    * Specifically enable all TLS protocols. See: https://github.com/watson-developer-cloud/java-sdk/issues/610
    *
@@ -222,15 +307,38 @@ public class HttpClientSingleton {
     return builder.build();
   }
 
+  /**
+   * Creates a client from the given one for WebSocket connections, without the interceptor retrying the requests: the
+   * upgrade request of a WebSocket can't be retried.
+   *
+   * @param client the client of the service
+   * @return the client for WebSocket connections
+   */
+  public OkHttpClient createWebSocketClient(OkHttpClient client) {
+    Builder builder = client.newBuilder();
+    builder.interceptors().remove(retryInterceptor);
+    return builder.build();
+  }
+
+  /**
+   * Gets the interceptor retrying the requests.
+   *
+   * @return the retry interceptor
+   */
+  RetryInterceptor getRetryInterceptor() {
+    return retryInterceptor;
+  }
+
   /**
    * Configures the current {@link OkHttpClient} instance based on the passed-in options.
    *
    * @param options the {@link HttpConfigOptions} object for modifying the client
    */
-  public void configureClient(HttpConfigOptions options) {
+  public synchronized void configureClient(HttpConfigOptions options) {
     if (options == null) {
       return;
     }
+    OkHttpClient previousClient = okHttpClient;
 
     if (options.shouldDisableSslVerification()) {
       disableSslVerification();
@@ -238,5 +346,119 @@ public class HttpClientSingleton {
     if (options.getProxy() != null) {
       setProxy(options.getProxy());
     }
+    if ((options.getMaxIdleConnections() != null) || (options.getKeepAliveDurationMillis() != null)) {
+      configureConnectionPool(options);
+    }
+    if (options.getMaxRequests() != null) {
+      dispatcher.setMaxRequests(options.getMaxRequests());
+    }
+    if (options.getMaxRequestsPerHost() != null) {
+      dispatcher.setMaxRequestsPerHost(options.getMaxRequestsPerHost());
+    }
+    if (options.getRetryPolicy() != null) {
+      retryInterceptor.setDefaultPolicy(options.getRetryPolicy());
+    }
+    if (options.getCallMetrics() != null) {
+      timingListenerFactory.setCallMetrics(options.getCallMetrics());
+    }
+    if (options.getResponseCache() != null) {
+      setResponseCache(options.getResponseCache());
+    }
+    if (okHttpClient != previousClient) {
+      clientVersion++;
+    }
+  }
+
+  /**
+   * Gets the version of the client returned by {@link #createHttpClient()}, increased each time the options change
+   * it. Services compare it with the version of their client to pick up the new settings, such as a proxy or the disk
+   * tier of the {@link ResponseCache}.
+   *
+   * @return the client version
+   */
+  public int getClientVersion() {
+    return clientVersion;
+  }
+
+  /**
+   * Gets the total number of connections in the shared connection pool.
+   *
+   * @return the number of open connections
+   */
+  public int getConnectionCount() {
+    return connectionPool.connectionCount();
+  }
+
+  /**
+   * Gets the number of idle connections in the shared connection pool.
+   *
+   * @return the number of idle connections
+   */
+  public int getIdleConnectionCount() {
+    return connectionPool.idleConnectionCount();
+  }
+
+  /**
+   * Gets the number of connections in the shared connection pool currently carrying a request.
+   *
+   * @return the number of active connections
+   */
+  public int getActiveConnectionCount() {
+    return Math.max(0, connectionPool.connectionCount() - connectionPool.idleConnectionCount());
+  }
+
+  /**
+   * Gets the number of calls currently being executed by the shared dispatcher.
+   *
+   * @return the number of running calls
+   */
+  public int getRunningCallsCount() {
+    return dispatcher.runningCallsCount();
+  }
+
+  /**
+   * Gets the number of asynchronous calls waiting in the shared dispatcher queue.
+   *
+   * @return the number of queued calls
+   */
+  public int getQueuedCallsCount() {
+    return dispatcher.queuedCallsCount();
+  }
+
+  /**
+   * Gets the number of requests sent again because of a temporary error.
+   *
+   * @return the number of retries
+   */
+  public long getRetryCount() {
+    return retryInterceptor.getRetryCount();
+  }
+
+  /**
+   * Gets the number of responses with a temporary error returned without retrying the request, because its body
+   * couldn't be sent again, its retries were exhausted or the service asked to wait longer than the maximum delay.
+   *
+   * @return the number of give-ups
+   */
+  public long getRetryGiveUpCount() {
+    return retryInterceptor.getGiveUpCount();
+  }
+
+  /**
+   * Gets the metrics receiving the timings of the service calls.
+   *
+   * @return the call metrics, or null if none is set
+   */
+  public CallMetrics getCallMetrics() {
+    return timingListenerFactory.getCallMetrics();
+  }
+
+  /**
+   * Gets the response cache.
+   *
+   * @return the response cache, or null if responses aren't cached
+   */
+  public ResponseCache getResponseCache() {
+    return responseCacheInterceptor.getCache();
   }
 }
@@ -1,6 +1,7 @@
 package com.ibm.watson.developer_cloud.http;
 
 import java.net.Proxy;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Options class for configuring the HTTP client.
@@ -8,6 +9,13 @@ import java.net.Proxy;
 public class HttpConfigOptions {
   private boolean disableSslVerification;
   private Proxy proxy;
+  private Integer maxIdleConnections;
+  private Long keepAliveDurationMillis;
+  private Integer maxRequests;
+  private Integer maxRequestsPerHost;
+  private RetryPolicy retryPolicy;
+  private CallMetrics callMetrics;
+  private ResponseCache responseCache;
 
   public boolean shouldDisableSslVerification() {
     return this.disableSslVerification;
@@ -17,9 +25,44 @@ public class HttpConfigOptions {
     return this.proxy;
   }
 
+  public Integer getMaxIdleConnections() {
+    return this.maxIdleConnections;
+  }
+
+  public Long getKeepAliveDurationMillis() {
+    return this.keepAliveDurationMillis;
+  }
+
+  public Integer getMaxRequests() {
+    return this.maxRequests;
+  }
+
+  public Integer getMaxRequestsPerHost() {
+    return this.maxRequestsPerHost;
+  }
+
+  public RetryPolicy getRetryPolicy() {
+    return this.retryPolicy;
+  }
+
+  public CallMetrics getCallMetrics() {
+    return this.callMetrics;
+  }
+
+  public ResponseCache getResponseCache() {
+    return this.responseCache;
+  }
+
   public static class Builder {
     private boolean disableSslVerification;
     private Proxy proxy;
+    private Integer maxIdleConnections;
+    private Long keepAliveDurationMillis;
+    private Integer maxRequests;
+    private Integer maxRequestsPerHost;
+    private RetryPolicy retryPolicy;
+    private CallMetrics callMetrics;
+    private ResponseCache responseCache;
 
     public HttpConfigOptions build() {
       return new HttpConfigOptions(this);
@@ -47,10 +90,100 @@ public class HttpConfigOptions {
       this.proxy = proxy;
       return this;
     }
+
+    /**
+     * Sets the maximum number of idle connections kept in the connection pool shared by all services. The limits of
+     * the pool are set once, by the first options setting them.
+     *
+     * @param maxIdleConnections the maximum number of idle connections
+     * @return the builder
+     */
+    public Builder maxIdleConnections(int maxIdleConnections) {
+      this.maxIdleConnections = maxIdleConnections;
+      return this;
+    }
+
+    /**
+     * Sets how long an idle connection is kept alive in the shared connection pool before being evicted.
+     *
+     * @param keepAliveDuration the keep-alive duration
+     * @param timeUnit the unit of the keep-alive duration
+     * @return the builder
+     */
+    public Builder keepAliveDuration(long keepAliveDuration, TimeUnit timeUnit) {
+      this.keepAliveDurationMillis = timeUnit.toMillis(keepAliveDuration);
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of asynchronous requests executed concurrently by the shared dispatcher. Requests
+     * above this limit are queued.
+     *
+     * @param maxRequests the maximum number of concurrent requests
+     * @return the builder
+     */
+    public Builder maxRequests(int maxRequests) {
+      this.maxRequests = maxRequests;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of asynchronous requests executed concurrently against a single host by the shared
+     * dispatcher.
+     *
+     * @param maxRequestsPerHost the maximum number of concurrent requests per host
+     * @return the builder
+     */
+    public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+      this.maxRequestsPerHost = maxRequestsPerHost;
+      return this;
+    }
+
+    /**
+     * Sets the policy for retrying requests rejected with a temporary error, for all services. A policy set on a
+     * {@link ServiceCall} takes precedence. Requests aren't retried by default.
+     *
+     * @param retryPolicy the retry policy
+     * @return the builder
+     */
+    public Builder retryPolicy(RetryPolicy retryPolicy) {
+      this.retryPolicy = retryPolicy;
+      return this;
+    }
+
+    /**
+     * Sets the metrics receiving the {@link CallTimings} of the calls of all services, such as a
+     * {@link HistogramCallMetrics}.
+     *
+     * @param callMetrics the call metrics
+     * @return the builder
+     */
+    public Builder callMetrics(CallMetrics callMetrics) {
+      this.callMetrics = callMetrics;
+      return this;
+    }
+
+    /**
+     * Sets the cache of the responses of read-mostly operations, for all services. Responses aren't cached by default.
+     *
+     * @param responseCache the response cache
+     * @return the builder
+     */
+    public Builder responseCache(ResponseCache responseCache) {
+      this.responseCache = responseCache;
+      return this;
+    }
   }
 
   private HttpConfigOptions(Builder builder) {
     this.disableSslVerification = builder.disableSslVerification;
     this.proxy = builder.proxy;
+    this.maxIdleConnections = builder.maxIdleConnections;
+    this.keepAliveDurationMillis = builder.keepAliveDurationMillis;
+    this.maxRequests = builder.maxRequests;
+    this.maxRequestsPerHost = builder.maxRequestsPerHost;
+    this.retryPolicy = builder.retryPolicy;
+    this.callMetrics = builder.callMetrics;
+    this.responseCache = builder.responseCache;
   }
 }
@@ -12,25 +12,36 @@
  */
 package com.ibm.watson.developer_cloud.http;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
 import okhttp3.internal.Util;
+import okio.Buffer;
 import okio.BufferedSink;
 import okio.Okio;
 import okio.Source;
 
 /**
- * RequestBody that takes an {@link InputStream}.
+ * {@link RequestBody} that streams the content of an {@link InputStream}.
  *
+ * The stream can only be read once. When spooling is enabled, the content is also copied to a temporary file while it
+ * is sent, so the body can be written again, e.g. to retry the request.
  */
 public class InputStreamRequestBody extends RequestBody {
 
+  private static final long SEGMENT_SIZE = 8192;
+
   private InputStream inputStream;
   private MediaType mediaType;
 
+  private boolean spooling;
+  private boolean written;
+  private boolean exhausted;
+  private File spoolFile;
+
   /**
    * Creates the @link {@link RequestBody} from an @link {@link InputStream}.
    *
@@ -63,13 +74,88 @@ public class InputStreamRequestBody extends RequestBody {
    * @see com.squareup.okhttp.RequestBody#writeTo(okio.BufferedSink)
    */
   @Override
-  public void writeTo(BufferedSink sink) throws IOException {
-    Source source = null;
+  public synchronized void writeTo(BufferedSink sink) throws IOException {
+    written = true;
+    if (!spooling) {
+      Source source = null;
+      try {
+        source = Okio.source(inputStream);
+        sink.writeAll(source);
+      } finally {
+        Util.closeQuietly(source);
+      }
+      return;
+    }
+
+    // replay what has been read from the stream so far, then continue reading it
+    if (spoolFile.length() > 0) {
+      Source spool = Okio.source(spoolFile);
+      try {
+        sink.writeAll(spool);
+      } finally {
+        Util.closeQuietly(spool);
+      }
+    }
+    if (exhausted) {
+      return;
+    }
+
+    Source source = Okio.source(inputStream);
+    BufferedSink spool = Okio.buffer(Okio.appendingSink(spoolFile));
     try {
-      source = Okio.source(inputStream);
-      sink.writeAll(source);
-    } finally {
+      Buffer buffer = new Buffer();
+      while (source.read(buffer, SEGMENT_SIZE) != -1) {
+        // the bytes are kept in the spool before being sent
+        buffer.copyTo(spool.buffer(), 0, buffer.size());
+        spool.emit();
+        sink.write(buffer, buffer.size());
+      }
+      // the spool must be complete before the body is replayed from it
+      spool.close();
+      exhausted = true;
       Util.closeQuietly(source);
+    } finally {
+      Util.closeQuietly(spool);
+    }
+  }
+
+  /**
+   * Checks whether the body can be written again.
+   *
+   * @return true if the stream hasn't been read yet or is spooled
+   */
+  public synchronized boolean isReplayable() {
+    return spooling || !written;
+  }
+
+  /**
+   * Enables the copy of the stream to a temporary file, so the body can be written more than once. This has no effect
+   * once the stream has been read.
+   *
+   * @return true if the body is spooled
+   * @throws IOException if the temporary file cannot be created
+   */
+  public synchronized boolean enableSpooling() throws IOException {
+    if (!spooling && !written) {
+      spoolFile = File.createTempFile("watson-", ".spool");
+      spooling = true;
+    }
+    return spooling;
+  }
+
+  /**
+   * Deletes the temporary file holding the content of the stream, if any. The body cannot be written again after this.
+   */
+  public synchronized void deleteSpool() {
+    if (spoolFile != null) {
+      if (!spoolFile.delete()) {
+        spoolFile.deleteOnExit();
+      }
+      spoolFile = null;
+      spooling = false;
+      if (!exhausted) {
+        Util.closeQuietly(inputStream);
+      }
     }
   }
 }
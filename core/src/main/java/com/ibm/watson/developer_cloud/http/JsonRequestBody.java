@@ -0,0 +1,220 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import com.ibm.watson.developer_cloud.util.GsonSingleton;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ByteString;
+
+/**
+ * {@link RequestBody} that serializes its content as JSON with the compact {@link Gson} instance when the request is
+ * sent. No intermediate JSON tree or String is created.
+ *
+ * The content is serialized once into a buffer, so that the body has a known length and is sent with a
+ * <code>Content-Length</code> header. The body can be written any number of times.
+ */
+public final class JsonRequestBody extends RequestBody {
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  private final MediaType mediaType;
+  private final Object content;
+  private final Map<String, Object> properties;
+  private volatile ByteString bytes;
+
+  /**
+   * Creates a {@link RequestBody} holding the JSON representation of an object.
+   *
+   * @param mediaType the media type, UTF-8 is added as charset if none is specified
+   * @param content the object to serialize
+   * @return the request body
+   */
+  public static JsonRequestBody create(MediaType mediaType, Object content) {
+    return new JsonRequestBody(mediaType, content, null);
+  }
+
+  private JsonRequestBody(MediaType mediaType, Object content, Map<String, Object> properties) {
+    if (mediaType == null) {
+      mediaType = HttpMediaType.JSON;
+    } else if (mediaType.charset() == null) {
+      mediaType = MediaType.parse(mediaType + "; charset=utf-8");
+    }
+    this.mediaType = mediaType;
+    this.content = content;
+    this.properties = properties;
+  }
+
+  /*
+   * (non-Javadoc)
+   *
+   * @see okhttp3.RequestBody#contentType()
+   */
+  @Override
+  public MediaType contentType() {
+    return mediaType;
+  }
+
+  /*
+   * (non-Javadoc)
+   *
+   * @see okhttp3.RequestBody#contentLength()
+   */
+  @Override
+  public long contentLength() throws IOException {
+    return getBytes().size();
+  }
+
+  /*
+   * (non-Javadoc)
+   *
+   * @see okhttp3.RequestBody#writeTo(okio.BufferedSink)
+   */
+  @Override
+  public void writeTo(BufferedSink sink) throws IOException {
+    sink.write(getBytes());
+  }
+
+  /**
+   * Gets the serialized content, serializing it on first use.
+   *
+   * @return the JSON bytes
+   * @throws IOException if the content cannot be serialized
+   */
+  private ByteString getBytes() throws IOException {
+    ByteString result = bytes;
+    if (result == null) {
+      Buffer buffer = new Buffer();
+      write(buffer);
+      result = buffer.readByteString();
+      bytes = result;
+    }
+    return result;
+  }
+
+  /**
+   * Serializes the content into a buffer.
+   *
+   * @param buffer the buffer
+   * @throws IOException if the content cannot be serialized
+   */
+  private void write(Buffer buffer) throws IOException {
+    Gson gson = GsonSingleton.getGsonWithoutPrettyPrinting();
+    Charset charset = mediaType.charset(UTF_8);
+    // UTF-8 is encoded by the buffer itself, without the 8 KB encoding buffer of an OutputStreamWriter
+    Writer out = UTF_8.equals(charset) ? new Utf8BufferWriter(buffer)
+        : new OutputStreamWriter(buffer.outputStream(), charset);
+    JsonWriter writer = gson.newJsonWriter(out);
+    if (properties != null) {
+      writer.beginObject();
+      for (Map.Entry<String, Object> property : properties.entrySet()) {
+        writer.name(property.getKey());
+        writeValue(gson, writer, property.getValue());
+      }
+      writer.endObject();
+    } else {
+      writeValue(gson, writer, content);
+    }
+    writer.flush();
+  }
+
+  /**
+   * Writes a value using its runtime type, as {@link Gson#toJsonTree(Object)} does.
+   *
+   * @param gson the gson instance
+   * @param writer the writer
+   * @param value the value
+   * @throws IOException if the value cannot be written
+   */
+  private static void writeValue(Gson gson, JsonWriter writer, Object value) throws IOException {
+    if (value == null) {
+      boolean serializeNulls = writer.getSerializeNulls();
+      writer.setSerializeNulls(true);
+      writer.nullValue();
+      writer.setSerializeNulls(serializeNulls);
+    } else {
+      gson.toJson(value, value.getClass(), writer);
+    }
+  }
+
+  /**
+   * {@link Writer} encoding the characters as UTF-8 into a {@link Buffer}.
+   */
+  private static final class Utf8BufferWriter extends Writer {
+    private final Buffer buffer;
+
+    Utf8BufferWriter(Buffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public void write(int c) {
+      buffer.writeUtf8CodePoint(c);
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+      buffer.writeUtf8(str, off, off + len);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+      buffer.writeUtf8(new String(cbuf, off, len));
+    }
+
+    @Override
+    public void flush() { }
+
+    @Override
+    public void close() { }
+  }
+
+  /**
+   * Builder for a JSON object body, whose properties are serialized when the request is sent.
+   */
+  public static class Builder {
+    private final Map<String, Object> properties = new LinkedHashMap<String, Object>();
+
+    /**
+     * Adds a property to the JSON object. The value can be a model, a collection, a map or a primitive.
+     *
+     * @param name the property name
+     * @param value the property value
+     * @return the builder
+     */
+    public Builder add(String name, Object value) {
+      properties.put(name, value);
+      return this;
+    }
+
+    /**
+     * Builds the request body.
+     *
+     * @return the request body
+     */
+    public JsonRequestBody build() {
+      return new JsonRequestBody(null, null, new LinkedHashMap<String, Object>(properties));
+    }
+  }
+}
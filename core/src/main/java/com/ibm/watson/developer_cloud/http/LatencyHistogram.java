@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of durations with a bounded relative error, in the manner of an HDR histogram.
+ *
+ * Durations are counted in log-linear buckets: every power of two is split in {@value #SUB_BUCKETS} buckets of equal
+ * width, so a percentile is reported within about 3% of the recorded value, whatever its magnitude. Recording only
+ * increments atomic counters, so the histogram can be shared by concurrent calls.
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong totalNanos = new AtomicLong();
+  private final AtomicLong maxNanos = new AtomicLong();
+
+  /**
+   * Records a duration.
+   *
+   * @param duration the duration
+   * @param timeUnit the unit of the duration
+   */
+  public void record(long duration, TimeUnit timeUnit) {
+    long nanos = Math.max(0, timeUnit.toNanos(duration));
+    counts.incrementAndGet(bucketIndex(nanos));
+    count.incrementAndGet();
+    totalNanos.addAndGet(nanos);
+    long max = maxNanos.get();
+    while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+      max = maxNanos.get();
+    }
+  }
+
+  /**
+   * Gets the number of recorded durations.
+   *
+   * @return the count
+   */
+  public long getCount() {
+    return count.get();
+  }
+
+  /**
+   * Gets the longest recorded duration.
+   *
+   * @param timeUnit the unit of the result
+   * @return the maximum
+   */
+  public long getMax(TimeUnit timeUnit) {
+    return timeUnit.convert(maxNanos.get(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Gets the mean of the recorded durations.
+   *
+   * @param timeUnit the unit of the result
+   * @return the mean, or 0 if nothing was recorded
+   */
+  public long getMean(TimeUnit timeUnit) {
+    long n = count.get();
+    return (n > 0) ? timeUnit.convert(totalNanos.get() / n, TimeUnit.NANOSECONDS) : 0;
+  }
+
+  /**
+   * Gets the duration below which the given percentage of the recorded durations fall.
+   *
+   * @param percentile the percentile, between 0 and 100
+   * @param timeUnit the unit of the result
+   * @return the duration at the percentile, or 0 if nothing was recorded
+   */
+  public long getValueAtPercentile(double percentile, TimeUnit timeUnit) {
+    long total = 0;
+    long[] snapshot = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = counts.get(i);
+      total += snapshot[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+
+    long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += snapshot[i];
+      if (seen >= rank) {
+        long value = Math.min(bucketUpperBound(i), maxNanos.get());
+        return timeUnit.convert(value, TimeUnit.NANOSECONDS);
+      }
+    }
+    return getMax(timeUnit);
+  }
+
+  /**
+   * Gets the bucket of a value: values below twice {@link #SUB_BUCKETS} have their own bucket, larger values share a
+   * bucket with the values having the same highest {@link #SUB_BUCKET_BITS} + 1 bits.
+   */
+  static int bucketIndex(long value) {
+    int shift = Math.max(0, Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+    return shift * SUB_BUCKETS + (int) (value >>> shift);
+  }
+
+  static long bucketUpperBound(int index) {
+    int shift = Math.max(0, index / SUB_BUCKETS - 1);
+    long subBucket = index - shift * SUB_BUCKETS;
+    return ((subBucket + 1) << shift) - 1;
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+/**
+ * Thrown when a request isn't sent because its {@link RateLimiter} would make it wait longer than the maximum wait.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final long waitMillis;
+
+  /**
+   * Instantiates a new rate limit exceeded exception.
+   *
+   * @param waitMillis the time to wait for the next permit, in milliseconds
+   */
+  public RateLimitExceededException(long waitMillis) {
+    super("Rate limit exceeded, the next request can be sent in " + waitMillis + " ms");
+    this.waitMillis = waitMillis;
+  }
+
+  /**
+   * Gets the time to wait for the next permit, in milliseconds.
+   *
+   * @return the wait
+   */
+  public long getWaitMillis() {
+    return waitMillis;
+  }
+}
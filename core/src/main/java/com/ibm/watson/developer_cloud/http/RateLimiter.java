@@ -0,0 +1,174 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.watson.developer_cloud.util.Validator;
+
+/**
+ * Token bucket limiting the rate of the requests sent for an operation, to stay within the quota of the service
+ * instead of having requests rejected with HTTP 429 (Too Many Requests).
+ *
+ * The bucket holds up to {@link #getBurst()} permits and is refilled with {@link #getPermits()} permits per period.
+ * Every request takes a permit when it is sent. When none is available, the request waits for the next permit: a
+ * synchronous call blocks, while an asynchronous call is sent later without blocking the caller. If the wait would be
+ * longer than {@link #getMaxWaitMillis()}, the call fails with a {@link RateLimitExceededException} instead; use a
+ * maximum wait of 0 to fail fast.
+ *
+ * @see com.ibm.watson.developer_cloud.service.WatsonService#setRateLimiter(String, RateLimiter)
+ */
+public class RateLimiter {
+
+  private final int permits;
+  private final long periodNanos;
+  private final int burst;
+  private final long maxWaitMillis;
+
+  private final double nanosPerPermit;
+  // negative when permits have been reserved ahead of time by waiting requests
+  private double available;
+  private long lastRefillNanos;
+
+  /**
+   * Gets the number of permits added per period.
+   *
+   * @return the number of permits
+   */
+  public int getPermits() {
+    return permits;
+  }
+
+  /**
+   * Gets the period, in milliseconds.
+   *
+   * @return the period
+   */
+  public long getPeriodMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(periodNanos);
+  }
+
+  /**
+   * Gets the maximum number of permits available at once.
+   *
+   * @return the burst size
+   */
+  public int getBurst() {
+    return burst;
+  }
+
+  /**
+   * Gets the maximum time a request waits for a permit, in milliseconds.
+   *
+   * @return the maximum wait
+   */
+  public long getMaxWaitMillis() {
+    return maxWaitMillis;
+  }
+
+  /**
+   * Reserves a permit for a request.
+   *
+   * @return the time to wait before sending the request, in milliseconds
+   * @throws RateLimitExceededException if the wait would be longer than the maximum wait; no permit is reserved
+   */
+  public long reserve() {
+    return reserve(System.nanoTime());
+  }
+
+  synchronized long reserve(long nowNanos) {
+    if (nowNanos > lastRefillNanos) {
+      available = Math.min(burst, available + (nowNanos - lastRefillNanos) / nanosPerPermit);
+      lastRefillNanos = nowNanos;
+    }
+    long waitNanos = (available >= 1) ? 0 : (long) Math.ceil((1 - available) * nanosPerPermit);
+    long waitMillis = (waitNanos + TimeUnit.MILLISECONDS.toNanos(1) - 1) / TimeUnit.MILLISECONDS.toNanos(1);
+    if (waitMillis > maxWaitMillis) {
+      throw new RateLimitExceededException(waitMillis);
+    }
+    available -= 1;
+    return waitMillis;
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private int permits;
+    private long periodNanos;
+    private Integer burst;
+    private long maxWaitMillis = Long.MAX_VALUE;
+
+    /**
+     * Builds the rate limiter.
+     *
+     * @return the rate limiter
+     */
+    public RateLimiter build() {
+      Validator.isTrue(permits > 0, "the rate must be set");
+      return new RateLimiter(this);
+    }
+
+    /**
+     * Sets the rate, such as 30 requests per 30 minutes.
+     *
+     * @param permits the number of requests allowed per period
+     * @param period the period
+     * @param timeUnit the unit of the period
+     * @return the builder
+     */
+    public Builder rate(int permits, long period, TimeUnit timeUnit) {
+      Validator.isTrue(permits > 0, "permits must be greater than 0");
+      Validator.isTrue(period > 0, "period must be greater than 0");
+      this.permits = permits;
+      this.periodNanos = timeUnit.toNanos(period);
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of requests sent at once, after a pause. Defaults to the number of permits per period.
+     *
+     * @param burst the burst size
+     * @return the builder
+     */
+    public Builder burst(int burst) {
+      Validator.isTrue(burst > 0, "burst must be greater than 0");
+      this.burst = burst;
+      return this;
+    }
+
+    /**
+     * Sets the maximum time a request waits for a permit before failing. Defaults to waiting as long as needed; 0
+     * fails fast.
+     *
+     * @param maxWait the maximum wait
+     * @param timeUnit the unit of the wait
+     * @return the builder
+     */
+    public Builder maxWait(long maxWait, TimeUnit timeUnit) {
+      Validator.isTrue(maxWait >= 0, "maxWait cannot be negative");
+      this.maxWaitMillis = timeUnit.toMillis(maxWait);
+      return this;
+    }
+  }
+
+  private RateLimiter(Builder builder) {
+    this.permits = builder.permits;
+    this.periodNanos = builder.periodNanos;
+    this.burst = (builder.burst != null) ? builder.burst : builder.permits;
+    this.maxWaitMillis = builder.maxWaitMillis;
+    this.nanosPerPermit = (double) periodNanos / permits;
+    this.available = burst;
+    this.lastRefillNanos = System.nanoTime();
+  }
+}
@@ -18,7 +18,6 @@ import java.util.List;
 
 import com.google.gson.JsonObject;
 import com.ibm.watson.developer_cloud.service.WatsonService;
-import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.StringHelper;
 import com.ibm.watson.developer_cloud.util.Validator;
 
@@ -37,6 +36,11 @@ public class RequestBuilder {
     DELETE, GET, POST, PUT, PATCH, HEAD
   }
 
+  private static final String[] NO_PATH_PARAMETERS = new String[0];
+
+  /** Characters that {@link HttpUrl#uri()} escapes in the path and the query, but {@link HttpUrl} doesn't. */
+  private static final String URI_ESCAPED_CHARACTERS = "[]\\^`{|}";
+
   /**
    * The DELETE method requests that the origin server delete the resource identified by the Request-URI.
    *
@@ -112,11 +116,7 @@ public class RequestBuilder {
    * @return the HttpUrl object
    */
   public static HttpUrl constructHttpUrl(String endPoint, String[] pathSegments) {
-    HttpUrl.Builder httpUrlBuilder = HttpUrl.parse(endPoint).newBuilder();
-    for (String segment : pathSegments) {
-      httpUrlBuilder.addPathSegments(segment);
-    }
-    return httpUrlBuilder.build();
+    return UrlTemplate.get(endPoint, pathSegments).expand(NO_PATH_PARAMETERS);
   }
 
   /**
@@ -128,14 +128,7 @@ public class RequestBuilder {
    * @return the HttpUrl object
    */
   public static HttpUrl constructHttpUrl(String endPoint, String[] pathSegments, String[] pathParameters) {
-    HttpUrl.Builder httpUrlBuilder = HttpUrl.parse(endPoint).newBuilder();
-    for (int i = 0; i < pathSegments.length; i++) {
-      httpUrlBuilder.addPathSegments(pathSegments[i]);
-      if (i < pathParameters.length) {
-        httpUrlBuilder.addPathSegment(pathParameters[i]);
-      }
-    }
-    return httpUrlBuilder.build();
+    return UrlTemplate.get(endPoint, pathSegments).expand(pathParameters);
   }
 
   private RequestBody body;
@@ -253,16 +246,33 @@ public class RequestBuilder {
   }
 
   /**
-   * Return the request url including query parameters.
+   * Return the request url including query parameters. The URL is escaped like a {@link java.net.URI}.
    *
-   * @return the string
+   * @return the URL
    */
-  private String toUrl() {
-    final HttpUrl.Builder builder = httpUrl.newBuilder();
-    for (final NameValue param : queryParams) {
-      builder.addQueryParameter(param.getName(), param.getValue());
+  private HttpUrl toUrl() {
+    HttpUrl url = httpUrl;
+    if (!queryParams.isEmpty()) {
+      final HttpUrl.Builder builder = httpUrl.newBuilder();
+      for (final NameValue param : queryParams) {
+        builder.addQueryParameter(param.getName(), param.getValue());
+      }
+      url = builder.build();
+    }
+    return needsUriEscaping(url) ? HttpUrl.get(url.uri()) : url;
+  }
+
+  private static boolean needsUriEscaping(HttpUrl url) {
+    return containsAny(url.encodedPath()) || (url.encodedQuery() != null && containsAny(url.encodedQuery()));
+  }
+
+  private static boolean containsAny(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (URI_ESCAPED_CHARACTERS.indexOf(value.charAt(i)) >= 0) {
+        return true;
+      }
     }
-    return builder.build().uri().toString();
+    return false;
   }
 
   /**
@@ -335,11 +345,9 @@ public class RequestBuilder {
     InputStream nonJsonContent) {
     if (contentType != null) {
       if (WatsonService.isJsonMimeType(contentType)) {
-        this.bodyContent(
-          GsonSingleton.getGson().toJsonTree(jsonContent).getAsJsonObject().toString(), contentType);
+        this.body(JsonRequestBody.create(MediaType.parse(contentType), jsonContent));
       } else if (WatsonService.isJsonPatchMimeType(contentType)) {
-        this.bodyContent(
-          GsonSingleton.getGson().toJsonTree(jsonPatchContent).getAsJsonObject().toString(), contentType);
+        this.body(JsonRequestBody.create(MediaType.parse(contentType), jsonPatchContent));
       } else {
         this.bodyContent(nonJsonContent, contentType);
       }
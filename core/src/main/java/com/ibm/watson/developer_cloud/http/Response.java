@@ -21,10 +21,16 @@ public class Response<T> {
 
   private T result;
   private Headers headers;
+  private CallTimings timings;
 
   public Response(T result, okhttp3.Response httpResponse) {
+    this(result, httpResponse, null);
+  }
+
+  public Response(T result, okhttp3.Response httpResponse, CallTimings timings) {
     this.result = result;
     this.headers = new Headers(httpResponse.headers());
+    this.timings = timings;
   }
 
   public T getResult() {
@@ -34,4 +40,13 @@ public class Response<T> {
   public Headers getHeaders() {
     return this.headers;
   }
+
+  /**
+   * Gets the breakdown of the time spent in the call.
+   *
+   * @return the call timings, or null if they weren't recorded
+   */
+  public CallTimings getTimings() {
+    return this.timings;
+  }
 }
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ibm.watson.developer_cloud.util.Validator;
+
+import okhttp3.Cache;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+
+/**
+ * Cache of the responses of read-mostly operations, such as <code>text_to_speech.listVoices</code> or
+ * <code>discovery.getCollection</code>.
+ *
+ * Only the GET requests of the operations given a time to live are cached, keyed by their URL and credentials. A
+ * response is served from memory until its time to live expires; it is then revalidated with a conditional request
+ * when the service returned an <code>ETag</code> or <code>Last-Modified</code> header. The memory tier is bounded by
+ * the total size of the cached bodies and evicts the least recently used responses. An optional disk tier keeps the
+ * responses evicted from memory or cached by previous runs.
+ *
+ * @see HttpConfigOptions.Builder#responseCache(ResponseCache)
+ */
+public class ResponseCache {
+
+  private static final long DEFAULT_MAX_SIZE = 4 * 1024 * 1024;
+
+  private final long maxSize;
+  private final Map<String, Long> ttlMillis;
+  private final Cache diskCache;
+
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long size;
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong revalidationCount = new AtomicLong();
+
+  /**
+   * A cached response.
+   */
+  static final class Entry {
+    final Protocol protocol;
+    final int code;
+    final String message;
+    final Headers headers;
+    final MediaType contentType;
+    final byte[] body;
+    volatile long expiresAtMillis;
+
+    Entry(okhttp3.Response response, MediaType contentType, byte[] body, long expiresAtMillis) {
+      this.protocol = response.protocol();
+      this.code = response.code();
+      this.message = response.message();
+      this.headers = response.headers();
+      this.contentType = contentType;
+      this.body = body;
+      this.expiresAtMillis = expiresAtMillis;
+    }
+
+    boolean isFresh(long nowMillis) {
+      return nowMillis < expiresAtMillis;
+    }
+  }
+
+  /**
+   * Gets the maximum total size of the bodies cached in memory, in bytes.
+   *
+   * @return the maximum size
+   */
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Gets the time to live of the responses of an operation.
+   *
+   * @param operation the operation name, such as <code>text_to_speech.listVoices</code>
+   * @return the time to live in milliseconds, or null if the operation isn't cached
+   */
+  public Long getTtlMillis(String operation) {
+    return (operation != null) ? ttlMillis.get(operation) : null;
+  }
+
+  /**
+   * Gets the disk tier.
+   *
+   * @return the disk cache, or null if responses are only cached in memory
+   */
+  public Cache getDiskCache() {
+    return diskCache;
+  }
+
+  /**
+   * Gets the number of responses served from memory without contacting the service.
+   *
+   * @return the number of hits
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * Gets the number of responses of cached operations that weren't in memory or had expired.
+   *
+   * @return the number of misses
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * Gets the number of expired responses that the service confirmed were still valid.
+   *
+   * @return the number of revalidations
+   */
+  public long getRevalidationCount() {
+    return revalidationCount.get();
+  }
+
+  /**
+   * Gets the number of responses served from the disk tier.
+   *
+   * @return the number of disk hits, 0 without a disk tier
+   */
+  public long getDiskHitCount() {
+    return (diskCache != null) ? diskCache.hitCount() : 0;
+  }
+
+  /**
+   * Gets the total size of the bodies cached in memory, in bytes.
+   *
+   * @return the size
+   */
+  public synchronized long getSize() {
+    return size;
+  }
+
+  /**
+   * Removes all the responses cached in memory.
+   */
+  public synchronized void evictAll() {
+    entries.clear();
+    size = 0;
+  }
+
+  synchronized Entry get(String key) {
+    return entries.get(key);
+  }
+
+  synchronized void put(String key, Entry entry) {
+    if (entry.body.length > maxSize) {
+      return;
+    }
+    Entry previous = entries.put(key, entry);
+    if (previous != null) {
+      size -= previous.body.length;
+    }
+    size += entry.body.length;
+    Iterator<Entry> iterator = entries.values().iterator();
+    while (size > maxSize && iterator.hasNext()) {
+      size -= iterator.next().body.length;
+      iterator.remove();
+    }
+  }
+
+  void recordHit() {
+    hitCount.incrementAndGet();
+  }
+
+  void recordMiss() {
+    missCount.incrementAndGet();
+  }
+
+  void recordRevalidation() {
+    revalidationCount.incrementAndGet();
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private long maxSize = DEFAULT_MAX_SIZE;
+    private Map<String, Long> ttlMillis = new HashMap<>();
+    private File directory;
+    private long maxDiskSize;
+
+    /**
+     * Builds the response cache.
+     *
+     * @return the response cache
+     */
+    public ResponseCache build() {
+      return new ResponseCache(this);
+    }
+
+    /**
+     * Sets the maximum total size of the bodies cached in memory. Defaults to 4 MB.
+     *
+     * @param maxSize the maximum size, in bytes
+     * @return the builder
+     */
+    public Builder maxSize(long maxSize) {
+      Validator.isTrue(maxSize > 0, "maxSize must be greater than 0");
+      this.maxSize = maxSize;
+      return this;
+    }
+
+    /**
+     * Caches the responses of an operation for the given time.
+     *
+     * @param operation the operation name: the service name and the name of the service method, such as
+     *          <code>text_to_speech.listVoices</code>
+     * @param ttl the time to live
+     * @param timeUnit the unit of the time to live
+     * @return the builder
+     */
+    public Builder ttl(String operation, long ttl, TimeUnit timeUnit) {
+      Validator.notNull(operation, "operation cannot be null");
+      Validator.isTrue(ttl > 0, "ttl must be greater than 0");
+      this.ttlMillis.put(operation, timeUnit.toMillis(ttl));
+      return this;
+    }
+
+    /**
+     * Adds a disk tier in the given directory.
+     *
+     * @param directory the cache directory, used only by this cache
+     * @param maxDiskSize the maximum size of the directory, in bytes
+     * @return the builder
+     */
+    public Builder directory(File directory, long maxDiskSize) {
+      Validator.notNull(directory, "directory cannot be null");
+      Validator.isTrue(maxDiskSize > 0, "maxDiskSize must be greater than 0");
+      this.directory = directory;
+      this.maxDiskSize = maxDiskSize;
+      return this;
+    }
+  }
+
+  private ResponseCache(Builder builder) {
+    this.maxSize = builder.maxSize;
+    this.ttlMillis = Collections.unmodifiableMap(new HashMap<>(builder.ttlMillis));
+    this.diskCache = (builder.directory != null) ? new Cache(builder.directory, builder.maxDiskSize) : null;
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+
+/**
+ * Interceptor serving the responses of cached operations from the memory tier of the {@link ResponseCache}, and
+ * revalidating them once expired.
+ */
+final class ResponseCacheInterceptor implements Interceptor {
+  private static final String GET = "GET";
+  private static final String ETAG = "ETag";
+  private static final String LAST_MODIFIED = "Last-Modified";
+  private static final String IF_NONE_MATCH = "If-None-Match";
+  private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+  private static final String CACHE_CONTROL = "Cache-Control";
+  private static final String VARY = "Vary";
+  private static final String PRAGMA = "Pragma";
+  private static final String VARY_CREDENTIALS = HttpHeaders.AUTHORIZATION + ", " + HttpHeaders.ACCEPT;
+
+  private volatile ResponseCache cache;
+
+  /**
+   * Sets the cache.
+   *
+   * @param cache the response cache, or null to disable caching
+   */
+  void setCache(ResponseCache cache) {
+    this.cache = cache;
+  }
+
+  /**
+   * Gets the cache.
+   *
+   * @return the response cache, or null if caching is disabled
+   */
+  ResponseCache getCache() {
+    return cache;
+  }
+
+  /**
+   * Gets the network interceptor making the responses of cached operations cacheable by the disk tier for their time
+   * to live, whatever their cache headers.
+   *
+   * @return the network interceptor
+   */
+  Interceptor networkInterceptor() {
+    return new Interceptor() {
+      @Override
+      public Response intercept(Chain chain) throws IOException {
+        Response response = chain.proceed(chain.request());
+        ResponseCache cache = ResponseCacheInterceptor.this.cache;
+        Long ttlMillis = (cache != null && cache.getDiskCache() != null) ? getTtlMillis(cache, chain.request()) : null;
+        if (ttlMillis == null || response.code() != HttpStatus.OK) {
+          return response;
+        }
+        String vary = response.header(VARY);
+        return response.newBuilder()
+            .header(CACHE_CONTROL, "private, max-age=" + TimeUnit.MILLISECONDS.toSeconds(ttlMillis))
+            .header(VARY, (vary != null) ? vary + ", " + VARY_CREDENTIALS : VARY_CREDENTIALS)
+            .removeHeader(PRAGMA)
+            .build();
+      }
+    };
+  }
+
+  /*
+   * (non-Javadoc)
+   *
+   * @see okhttp3.Interceptor#intercept(okhttp3.Interceptor.Chain)
+   */
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    Request request = chain.request();
+    ResponseCache cache = this.cache;
+    Long ttlMillis = (cache != null) ? getTtlMillis(cache, request) : null;
+    if (ttlMillis == null) {
+      return chain.proceed(request);
+    }
+
+    String key = getKey(request);
+    ResponseCache.Entry entry = cache.get(key);
+    if (entry != null && entry.isFresh(System.currentTimeMillis())) {
+      cache.recordHit();
+      return toResponse(request, entry);
+    }
+    cache.recordMiss();
+
+    Request networkRequest = request;
+    if (entry != null) {
+      Request.Builder builder = request.newBuilder();
+      String etag = entry.headers.get(ETAG);
+      String lastModified = entry.headers.get(LAST_MODIFIED);
+      if (etag != null) {
+        builder.header(IF_NONE_MATCH, etag);
+      }
+      if (lastModified != null) {
+        builder.header(IF_MODIFIED_SINCE, lastModified);
+      }
+      networkRequest = builder.build();
+    }
+
+    Response response = chain.proceed(networkRequest);
+    if (entry != null && response.code() == HttpStatus.NOT_MODIFIED) {
+      response.close();
+      entry.expiresAtMillis = System.currentTimeMillis() + ttlMillis;
+      cache.recordRevalidation();
+      return toResponse(request, entry);
+    }
+    if (response.code() == HttpStatus.OK) {
+      store(cache, key, response, ttlMillis);
+    }
+    return response;
+  }
+
+  private static Long getTtlMillis(ResponseCache cache, Request request) {
+    if (!GET.equals(request.method())) {
+      return null;
+    }
+    CallTimings timings = request.tag(CallTimings.class);
+    return (timings != null) ? cache.getTtlMillis(timings.getOperation()) : null;
+  }
+
+  /**
+   * Gets the key of a request. Responses depend on the credentials and the accepted media type as well as the URL.
+   */
+  private static String getKey(Request request) {
+    return request.url() + "\n" + request.header(HttpHeaders.AUTHORIZATION) + "\n"
+        + request.header(HttpHeaders.ACCEPT);
+  }
+
+  /**
+   * Copies the body of a response to the cache, if it isn't larger than the cache. The body stays buffered in the
+   * response, so it can still be read by the caller.
+   */
+  private static void store(ResponseCache cache, String key, Response response, long ttlMillis) throws IOException {
+    ResponseBody body = response.body();
+    if (body == null || body.contentLength() > cache.getMaxSize()) {
+      return;
+    }
+    BufferedSource source = body.source();
+    if (!source.request(cache.getMaxSize() + 1)) {
+      byte[] bytes = source.buffer().clone().readByteArray();
+      cache.put(key, new ResponseCache.Entry(response, body.contentType(), bytes,
+          System.currentTimeMillis() + ttlMillis));
+    }
+  }
+
+  private static Response toResponse(Request request, ResponseCache.Entry entry) {
+    long now = System.currentTimeMillis();
+    return new Response.Builder()
+        .request(request)
+        .protocol(entry.protocol)
+        .code(entry.code)
+        .message(entry.message)
+        .headers(entry.headers)
+        .body(ResponseBody.create(entry.contentType, entry.body))
+        .sentRequestAtMillis(now)
+        .receivedResponseAtMillis(now)
+        .build();
+  }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import okhttp3.Interceptor;
+import okhttp3.MultipartBody;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+/**
+ * Interceptor retrying the requests rejected with a temporary error, according to the {@link RetryPolicy} attached to
+ * the request or to the default policy of the client.
+ *
+ * Requests tagged with an {@link AsyncRetry} are sent once: their retries are scheduled by the asynchronous call, see
+ * {@link #getAsyncDelayMillis(Request, Response, int)}.
+ */
+final class RetryInterceptor implements Interceptor {
+  private static final Logger LOG = Logger.getLogger(RetryInterceptor.class.getName());
+  private static final String RETRY_AFTER = "Retry-After";
+  private static final ThreadLocal<SimpleDateFormat> HTTP_DATE_FORMAT = new ThreadLocal<SimpleDateFormat>() {
+    @Override
+    protected SimpleDateFormat initialValue() {
+      // RFC 1123, the preferred format of HTTP dates
+      SimpleDateFormat format = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+      format.setLenient(false);
+      format.setTimeZone(TimeZone.getTimeZone("GMT"));
+      return format;
+    }
+  };
+
+  private volatile RetryPolicy defaultPolicy = RetryPolicy.NONE;
+  private final AtomicLong retryCount = new AtomicLong();
+  private final AtomicLong giveUpCount = new AtomicLong();
+
+  /**
+   * Sets the policy of the requests without a policy of their own.
+   *
+   * @param defaultPolicy the default policy
+   */
+  void setDefaultPolicy(RetryPolicy defaultPolicy) {
+    this.defaultPolicy = (defaultPolicy != null) ? defaultPolicy : RetryPolicy.NONE;
+  }
+
+  /**
+   * Gets the number of requests sent again.
+   *
+   * @return the number of retries
+   */
+  long getRetryCount() {
+    return retryCount.get();
+  }
+
+  /**
+   * Gets the number of responses with a retryable status returned without retrying, because the request couldn't be
+   * sent again, the retries were exhausted or the service asked to wait longer than the maximum delay.
+   *
+   * @return the number of give-ups
+   */
+  long getGiveUpCount() {
+    return giveUpCount.get();
+  }
+
+  /*
+   * (non-Javadoc)
+   *
+   * @see okhttp3.Interceptor#intercept(okhttp3.Interceptor.Chain)
+   */
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    Request request = chain.request();
+    RetryPolicy policy = getPolicy(request);
+    if (policy.getMaxRetries() == 0 || request.tag(AsyncRetry.class) != null) {
+      return chain.proceed(request);
+    }
+
+    List<InputStreamRequestBody> streams = new ArrayList<InputStreamRequestBody>();
+    boolean replayable = collectStreams(request.body(), streams);
+    try {
+      for (InputStreamRequestBody stream : streams) {
+        replayable = replayable && policy.shouldSpoolStreams() && enableSpooling(stream);
+      }
+
+      Response response = chain.proceed(request);
+      int retry = 0;
+      while (policy.isRetryable(response.code())) {
+        long delay = (replayable && retry < policy.getMaxRetries())
+            ? policy.getDelayMillis(retry + 1, getRetryAfterMillis(response))
+            : -1;
+        if (delay < 0) {
+          giveUpCount.incrementAndGet();
+          break;
+        }
+
+        response.close();
+        try {
+          Thread.sleep(delay);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while waiting to retry " + request.url());
+        }
+        if (chain.call().isCanceled()) {
+          throw new IOException("Canceled");
+        }
+
+        retry++;
+        retryCount.incrementAndGet();
+        LOG.log(Level.FINE, "Retry " + retry + " of " + request.method() + " " + request.url());
+        response = chain.proceed(request);
+      }
+      return response;
+    } finally {
+      for (InputStreamRequestBody stream : streams) {
+        stream.deleteSpool();
+      }
+    }
+  }
+
+  /**
+   * Gets the delay before an asynchronous call sends its request again. Requests with a streamed body aren't retried,
+   * since their content isn't spooled across calls.
+   *
+   * @param request the request of the call
+   * @param response the response
+   * @param retry the number of the retry, starting at 1
+   * @return the delay in milliseconds, or -1 if the request shouldn't be sent again
+   */
+  long getAsyncDelayMillis(Request request, Response response, int retry) {
+    RetryPolicy policy = getPolicy(request);
+    if (!policy.isRetryable(response.code())) {
+      return -1;
+    }
+    List<InputStreamRequestBody> streams = new ArrayList<InputStreamRequestBody>();
+    collectStreams(request.body(), streams);
+    long delay = (streams.isEmpty() && retry <= policy.getMaxRetries())
+        ? policy.getDelayMillis(retry, getRetryAfterMillis(response))
+        : -1;
+    if (delay < 0) {
+      giveUpCount.incrementAndGet();
+    } else {
+      retryCount.incrementAndGet();
+      LOG.log(Level.FINE, "Retry " + retry + " of " + request.method() + " " + request.url() + " in " + delay + " ms");
+    }
+    return delay;
+  }
+
+  private RetryPolicy getPolicy(Request request) {
+    RetryPolicy policy = request.tag(RetryPolicy.class);
+    return (policy != null) ? policy : defaultPolicy;
+  }
+
+  /**
+   * Collects the streamed parts of a request body.
+   *
+   * @param body the request body
+   * @param streams the list where the streamed bodies are added
+   * @return false if the body contains a stream that has already been read
+   */
+  private static boolean collectStreams(RequestBody body, List<InputStreamRequestBody> streams) {
+    if (body instanceof InputStreamRequestBody) {
+      streams.add((InputStreamRequestBody) body);
+      return ((InputStreamRequestBody) body).isReplayable();
+    }
+    boolean replayable = true;
+    if (body instanceof MultipartBody) {
+      for (MultipartBody.Part part : ((MultipartBody) body).parts()) {
+        replayable = collectStreams(part.body(), streams) && replayable;
+      }
+    }
+    return replayable;
+  }
+
+  private static boolean enableSpooling(InputStreamRequestBody stream) {
+    try {
+      return stream.enableSpooling();
+    } catch (IOException e) {
+      LOG.log(Level.WARNING, "The request body cannot be spooled, the request won't be retried", e);
+      return false;
+    }
+  }
+
+  /**
+   * Gets the delay requested by the <code>Retry-After</code> header, in seconds or as an HTTP date.
+   *
+   * @param response the response
+   * @return the delay in milliseconds, or -1 if there is none
+   */
+  private static long getRetryAfterMillis(Response response) {
+    String retryAfter = response.header(RETRY_AFTER);
+    if (retryAfter == null) {
+      return -1;
+    }
+    try {
+      return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(retryAfter.trim())));
+    } catch (NumberFormatException e) {
+      Date date = HTTP_DATE_FORMAT.get().parse(retryAfter.trim(), new ParsePosition(0));
+      return (date != null) ? Math.max(0, date.getTime() - System.currentTimeMillis()) : -1;
+    }
+  }
+}
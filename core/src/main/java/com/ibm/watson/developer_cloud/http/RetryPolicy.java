@@ -0,0 +1,221 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.watson.developer_cloud.util.Validator;
+
+/**
+ * Policy for retrying requests rejected with a temporary error, by default HTTP 429 (Too Many Requests) and 503
+ * (Service Unavailable).
+ *
+ * A request is sent again after an exponential backoff with jitter, or after the delay given by the
+ * <code>Retry-After</code> header of the response when it is longer. Only requests whose body can be sent again are
+ * retried: when spooling is enabled, the content of {@link InputStreamRequestBody}s is copied to a temporary file while
+ * it is sent, so it can be read again.
+ *
+ * Synchronous calls wait for their retries on the calling thread. The retries of asynchronous calls are scheduled on a
+ * timer, so they don't hold a thread of the dispatcher while they wait; their streamed bodies aren't retried.
+ *
+ * @see HttpConfigOptions.Builder#retryPolicy(RetryPolicy)
+ * @see ServiceCall#retryPolicy(RetryPolicy)
+ */
+public class RetryPolicy {
+
+  /** Policy that never retries requests. */
+  public static final RetryPolicy NONE = new Builder().maxRetries(0).build();
+
+  private static final int DEFAULT_MAX_RETRIES = 3;
+  private static final long DEFAULT_INITIAL_DELAY_MILLIS = 500;
+  private static final long DEFAULT_MAX_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+  private final int maxRetries;
+  private final long initialDelayMillis;
+  private final long maxDelayMillis;
+  private final Set<Integer> statusCodes;
+  private final boolean spoolStreams;
+
+  /**
+   * Gets the maximum number of times a request is sent again.
+   *
+   * @return the maximum number of retries
+   */
+  public int getMaxRetries() {
+    return maxRetries;
+  }
+
+  /**
+   * Gets the delay before the first retry, in milliseconds.
+   *
+   * @return the initial delay
+   */
+  public long getInitialDelayMillis() {
+    return initialDelayMillis;
+  }
+
+  /**
+   * Gets the maximum delay between two attempts, in milliseconds. A request whose <code>Retry-After</code> is longer
+   * isn't retried.
+   *
+   * @return the maximum delay
+   */
+  public long getMaxDelayMillis() {
+    return maxDelayMillis;
+  }
+
+  /**
+   * Gets the HTTP status codes of the responses to retry.
+   *
+   * @return the status codes
+   */
+  public Set<Integer> getStatusCodes() {
+    return statusCodes;
+  }
+
+  /**
+   * Checks whether streamed request bodies are spooled to a temporary file so they can be sent again.
+   *
+   * @return true if streams are spooled
+   */
+  public boolean shouldSpoolStreams() {
+    return spoolStreams;
+  }
+
+  /**
+   * Checks whether a response with the given status code should be retried.
+   *
+   * @param statusCode the HTTP status code
+   * @return true if the status code is retried
+   */
+  public boolean isRetryable(int statusCode) {
+    return maxRetries > 0 && statusCodes.contains(statusCode);
+  }
+
+  /**
+   * Gets the delay before a retry: the exponential backoff for the attempt, with a random jitter of up to half of it,
+   * or the delay requested by the service if it is longer.
+   *
+   * @param retry the number of the retry, starting at 1
+   * @param retryAfterMillis the delay requested in the <code>Retry-After</code> header, or -1 if there is none
+   * @return the delay in milliseconds, or -1 if the requested delay is longer than the maximum delay
+   */
+  public long getDelayMillis(int retry, long retryAfterMillis) {
+    if (retryAfterMillis > maxDelayMillis) {
+      return -1;
+    }
+    long backoff = initialDelayMillis;
+    for (int i = 1; i < retry && backoff < maxDelayMillis; i++) {
+      backoff *= 2;
+    }
+    backoff = Math.min(backoff, maxDelayMillis);
+    long delay = backoff - ((backoff > 1) ? ThreadLocalRandom.current().nextLong(backoff / 2) : 0);
+    return Math.max(delay, retryAfterMillis);
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private int maxRetries = DEFAULT_MAX_RETRIES;
+    private long initialDelayMillis = DEFAULT_INITIAL_DELAY_MILLIS;
+    private long maxDelayMillis = DEFAULT_MAX_DELAY_MILLIS;
+    private Set<Integer> statusCodes = new HashSet<Integer>(Arrays.asList(HttpStatus.TOO_MANY_REQUESTS,
+        HttpStatus.SERVICE_UNAVAILABLE));
+    private boolean spoolStreams;
+
+    /**
+     * Builds the retry policy.
+     *
+     * @return the retry policy
+     */
+    public RetryPolicy build() {
+      return new RetryPolicy(this);
+    }
+
+    /**
+     * Sets the maximum number of times a request is sent again. Defaults to 3.
+     *
+     * @param maxRetries the maximum number of retries
+     * @return the builder
+     */
+    public Builder maxRetries(int maxRetries) {
+      Validator.isTrue(maxRetries >= 0, "maxRetries cannot be negative");
+      this.maxRetries = maxRetries;
+      return this;
+    }
+
+    /**
+     * Sets the delay before the first retry, doubled for every following retry. Defaults to 500 milliseconds.
+     *
+     * @param initialDelay the initial delay
+     * @param timeUnit the unit of the delay
+     * @return the builder
+     */
+    public Builder initialDelay(long initialDelay, TimeUnit timeUnit) {
+      Validator.isTrue(initialDelay >= 0, "initialDelay cannot be negative");
+      this.initialDelayMillis = timeUnit.toMillis(initialDelay);
+      return this;
+    }
+
+    /**
+     * Sets the maximum delay between two attempts. Defaults to 30 seconds.
+     *
+     * @param maxDelay the maximum delay
+     * @param timeUnit the unit of the delay
+     * @return the builder
+     */
+    public Builder maxDelay(long maxDelay, TimeUnit timeUnit) {
+      Validator.isTrue(maxDelay >= 0, "maxDelay cannot be negative");
+      this.maxDelayMillis = timeUnit.toMillis(maxDelay);
+      return this;
+    }
+
+    /**
+     * Sets the HTTP status codes of the responses to retry. Defaults to 429 and 503.
+     *
+     * @param statusCodes the status codes
+     * @return the builder
+     */
+    public Builder statusCodes(Integer... statusCodes) {
+      this.statusCodes = new HashSet<Integer>(Arrays.asList(statusCodes));
+      return this;
+    }
+
+    /**
+     * Sets whether streamed request bodies, such as audio or documents, are spooled to a temporary file so they can be
+     * sent again by synchronous calls. When disabled, requests with a streamed body aren't retried. Defaults to false,
+     * since every streamed upload would be copied to disk.
+     *
+     * @param spoolStreams whether to spool streams
+     * @return the builder
+     */
+    public Builder spoolStreams(boolean spoolStreams) {
+      this.spoolStreams = spoolStreams;
+      return this;
+    }
+  }
+
+  private RetryPolicy(Builder builder) {
+    this.maxRetries = builder.maxRetries;
+    this.initialDelayMillis = builder.initialDelayMillis;
+    this.maxDelayMillis = builder.maxDelayMillis;
+    this.statusCodes = Collections.unmodifiableSet(new HashSet<Integer>(builder.statusCodes));
+    this.spoolStreams = builder.spoolStreams;
+  }
+}
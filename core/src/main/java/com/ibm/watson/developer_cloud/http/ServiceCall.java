@@ -30,6 +30,15 @@ public interface ServiceCall<T> {
    */
   ServiceCall<T> addHeader(String name, String value);
 
+  /**
+   * Sets the policy for retrying the request if it is rejected with a temporary error, instead of the policy set in
+   * {@link HttpConfigOptions}.
+   *
+   * @param retryPolicy the retry policy, {@link RetryPolicy#NONE} to never retry
+   * @return the ServiceCall with the retry policy
+   */
+  ServiceCall<T> retryPolicy(RetryPolicy retryPolicy);
+
   /**
    * Synchronous request.
    *
@@ -0,0 +1,407 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.ibm.watson.developer_cloud.service.exception.ServiceUnavailableException;
+import com.ibm.watson.developer_cloud.service.exception.TooManyRequestsException;
+import com.ibm.watson.developer_cloud.util.Validator;
+
+import jersey.repackaged.jsr166e.CompletableFuture;
+import jersey.repackaged.jsr166e.CompletableFuture.BiFun;
+import jersey.repackaged.jsr166e.CompletionException;
+
+/**
+ * Executes many {@link ServiceCall}s, such as the documents of a bulk scoring job, keeping a bounded number of them in
+ * flight. The calls are taken lazily from an {@link Iterable} as earlier calls complete, and each result is passed to
+ * a {@link Listener} as soon as it is available, or in the order of the calls when the batch is ordered.
+ *
+ * The number of calls in flight adapts between the minimum and maximum concurrency: it grows by one after a full window
+ * of successful calls, shrinks by one when the latency of the calls rises above
+ * {@link Builder#latencyTolerance(double)} times the lowest latency observed, and is halved when calls are throttled
+ * with HTTP 429 or 503, or by a {@link RateLimiter}. The concurrency is kept across the runs of the same batch, so a
+ * batch can be reused for the chunks of a job.
+ *
+ * <pre>
+ * ServiceCallBatch batch = new ServiceCallBatch.Builder().maxConcurrency(32).build();
+ * batch.run(calls, new ServiceCallBatch.Listener&lt;ToneAnalysis&gt;() { ... }).get();
+ * </pre>
+ */
+public class ServiceCallBatch {
+  private static final Logger LOG = Logger.getLogger(ServiceCallBatch.class.getName());
+
+  private static final int DEFAULT_MAX_CONCURRENCY = 16;
+  private static final int DEFAULT_INITIAL_CONCURRENCY = 4;
+  private static final double DEFAULT_LATENCY_TOLERANCE = 2;
+  // weight of the latest call in the average latency
+  private static final double LATENCY_SMOOTHING = 0.2;
+
+  /**
+   * Listener of the results of the calls of a batch. Unless the batch is ordered, it can be called concurrently.
+   *
+   * @param <T> the type of the results
+   */
+  public interface Listener<T> {
+
+    /**
+     * Called with the response of a call.
+     *
+     * @param index the index of the call, starting at 0
+     * @param response the response
+     */
+    void onResponse(int index, Response<T> response);
+
+    /**
+     * Called if a call fails.
+     *
+     * @param index the index of the call, starting at 0
+     * @param e the exception thrown by the call
+     */
+    void onFailure(int index, Exception e);
+  }
+
+  private final int minConcurrency;
+  private final int maxConcurrency;
+  private final boolean ordered;
+  private final double latencyTolerance;
+
+  private int concurrency;
+  private int successes;
+  private long lastDecreaseNanos;
+  private double minLatencyNanos = Double.MAX_VALUE;
+  private double avgLatencyNanos;
+
+  /**
+   * Gets the minimum number of calls in flight.
+   *
+   * @return the minimum concurrency
+   */
+  public int getMinConcurrency() {
+    return minConcurrency;
+  }
+
+  /**
+   * Gets the maximum number of calls in flight.
+   *
+   * @return the maximum concurrency
+   */
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  /**
+   * Checks whether the results are passed to the listener in the order of the calls.
+   *
+   * @return true if the results are ordered
+   */
+  public boolean isOrdered() {
+    return ordered;
+  }
+
+  /**
+   * Gets the number of calls currently allowed in flight.
+   *
+   * @return the concurrency
+   */
+  public synchronized int getConcurrency() {
+    return concurrency;
+  }
+
+  /**
+   * Executes calls, passing their results to a listener. The calls are sent with {@link ServiceCall#rxWithDetails()};
+   * a failed call doesn't stop the others. Cancelling the returned future stops sending the remaining calls.
+   *
+   * @param <T> the type of the results
+   * @param calls the calls, read lazily
+   * @param listener the listener of the results
+   * @return a future completed when all the calls have completed and their results have been passed to the listener,
+   *         or completed exceptionally if the listener or the iterator of the calls throws an exception
+   */
+  public <T> CompletableFuture<Void> run(Iterable<? extends ServiceCall<T>> calls, Listener<T> listener) {
+    Validator.notNull(calls, "calls cannot be null");
+    Validator.notNull(listener, "listener cannot be null");
+    Run<T> run = new Run<T>(calls.iterator(), listener);
+    run.pump();
+    return run.future;
+  }
+
+  private synchronized void onComplete(long startNanos, long latencyNanos, Throwable failure) {
+    if (isThrottled(failure)) {
+      // calls sent before the last decrease were throttled at the previous concurrency
+      if (startNanos - lastDecreaseNanos >= 0) {
+        decrease(Math.max(minConcurrency, concurrency / 2));
+      }
+      return;
+    }
+    if (failure != null) {
+      return;
+    }
+    minLatencyNanos = Math.min(minLatencyNanos, latencyNanos);
+    avgLatencyNanos = (avgLatencyNanos == 0) ? latencyNanos
+        : (1 - LATENCY_SMOOTHING) * avgLatencyNanos + LATENCY_SMOOTHING * latencyNanos;
+    if (avgLatencyNanos > latencyTolerance * minLatencyNanos) {
+      if (startNanos - lastDecreaseNanos >= 0) {
+        decrease(Math.max(minConcurrency, concurrency - 1));
+      }
+    } else if (++successes >= concurrency && concurrency < maxConcurrency) {
+      concurrency++;
+      successes = 0;
+    }
+  }
+
+  private void decrease(int newConcurrency) {
+    concurrency = newConcurrency;
+    successes = 0;
+    lastDecreaseNanos = System.nanoTime();
+    // let the average settle at the new concurrency
+    avgLatencyNanos = 0;
+  }
+
+  private static boolean isThrottled(Throwable failure) {
+    return failure instanceof TooManyRequestsException || failure instanceof ServiceUnavailableException
+        || failure instanceof RateLimitExceededException;
+  }
+
+  private static Exception toException(Throwable e) {
+    Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+    return (cause instanceof Exception) ? (Exception) cause : new RuntimeException(cause);
+  }
+
+  /**
+   * The calls of one invocation of {@link ServiceCallBatch#run(Iterable, Listener)}.
+   */
+  private final class Run<T> {
+    private final Iterator<? extends ServiceCall<T>> calls;
+    private final Listener<T> listener;
+    private final CompletableFuture<Void> future = new CompletableFuture<Void>();
+
+    // calls sent whose results haven't been passed to the listener, so results held back in order count too
+    private int inFlight;
+    private int nextIndex;
+    private boolean exhausted;
+    // set while a thread sends calls, so calls completing synchronously don't recurse
+    private boolean pumping;
+    private boolean pumpAgain;
+
+    // results completed ahead of the next one to deliver, when ordered
+    private final Map<Integer, Object> pending = new HashMap<Integer, Object>();
+    private int nextToDeliver;
+
+    Run(Iterator<? extends ServiceCall<T>> calls, Listener<T> listener) {
+      this.calls = calls;
+      this.listener = listener;
+    }
+
+    void pump() {
+      synchronized (this) {
+        if (pumping) {
+          pumpAgain = true;
+          return;
+        }
+        pumping = true;
+      }
+      while (true) {
+        ServiceCall<T> call = null;
+        int index;
+        synchronized (this) {
+          try {
+            if (!future.isDone() && inFlight < getConcurrency() && calls.hasNext()) {
+              call = calls.next();
+            } else if (!future.isDone() && !calls.hasNext()) {
+              exhausted = true;
+            }
+          } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+          }
+          if (call == null) {
+            if (pumpAgain) {
+              pumpAgain = false;
+              continue;
+            }
+            pumping = false;
+            if (exhausted && inFlight == 0) {
+              future.complete(null);
+            }
+            return;
+          }
+          index = nextIndex++;
+          inFlight++;
+        }
+        send(call, index);
+      }
+    }
+
+    private void send(ServiceCall<T> call, final int index) {
+      final long startNanos = System.nanoTime();
+      CompletableFuture<Response<T>> response;
+      try {
+        response = call.rxWithDetails();
+      } catch (RuntimeException e) {
+        response = new CompletableFuture<Response<T>>();
+        response.completeExceptionally(e);
+      }
+      response.handle(new BiFun<Response<T>, Throwable, Void>() {
+        @Override
+        public Void apply(Response<T> result, Throwable e) {
+          Exception failure = (e != null) ? toException(e) : null;
+          onComplete(startNanos, System.nanoTime() - startNanos, failure);
+          int delivered = complete(index, (failure != null) ? failure : result);
+          synchronized (Run.this) {
+            inFlight -= delivered;
+          }
+          pump();
+          return null;
+        }
+      });
+    }
+
+    /**
+     * Passes the outcome of a call to the listener, or holds it until the earlier calls complete when ordered.
+     *
+     * @return the number of results passed to the listener
+     */
+    private int complete(int index, Object outcome) {
+      if (!ordered) {
+        deliver(index, outcome);
+        return 1;
+      }
+      int delivered = 0;
+      synchronized (pending) {
+        pending.put(index, outcome);
+        Object next;
+        while ((next = pending.remove(nextToDeliver)) != null) {
+          deliver(nextToDeliver++, next);
+          delivered++;
+        }
+      }
+      return delivered;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void deliver(int index, Object outcome) {
+      if (future.isDone()) {
+        return;
+      }
+      try {
+        if (outcome instanceof Exception) {
+          listener.onFailure(index, (Exception) outcome);
+        } else {
+          listener.onResponse(index, (Response<T>) outcome);
+        }
+      } catch (RuntimeException e) {
+        LOG.log(Level.WARNING, "The listener of a batch failed, the remaining calls are not sent", e);
+        future.completeExceptionally(e);
+      }
+    }
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private int minConcurrency = 1;
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+    private Integer initialConcurrency;
+    private boolean ordered;
+    private double latencyTolerance = DEFAULT_LATENCY_TOLERANCE;
+
+    /**
+     * Builds the batch.
+     *
+     * @return the batch
+     */
+    public ServiceCallBatch build() {
+      Validator.isTrue(minConcurrency <= maxConcurrency, "minConcurrency cannot be greater than maxConcurrency");
+      return new ServiceCallBatch(this);
+    }
+
+    /**
+     * Sets the minimum number of calls in flight, kept even when the calls are throttled. Defaults to 1.
+     *
+     * @param minConcurrency the minimum concurrency
+     * @return the builder
+     */
+    public Builder minConcurrency(int minConcurrency) {
+      Validator.isTrue(minConcurrency > 0, "minConcurrency must be greater than 0");
+      this.minConcurrency = minConcurrency;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of calls in flight. Defaults to 16; it should not exceed the maximum number of requests
+     * per host of the dispatcher, set with {@link HttpConfigOptions.Builder}.
+     *
+     * @param maxConcurrency the maximum concurrency
+     * @return the builder
+     */
+    public Builder maxConcurrency(int maxConcurrency) {
+      Validator.isTrue(maxConcurrency > 0, "maxConcurrency must be greater than 0");
+      this.maxConcurrency = maxConcurrency;
+      return this;
+    }
+
+    /**
+     * Sets the number of calls in flight when the batch starts. Defaults to 4, within the minimum and maximum
+     * concurrency.
+     *
+     * @param initialConcurrency the initial concurrency
+     * @return the builder
+     */
+    public Builder initialConcurrency(int initialConcurrency) {
+      Validator.isTrue(initialConcurrency > 0, "initialConcurrency must be greater than 0");
+      this.initialConcurrency = initialConcurrency;
+      return this;
+    }
+
+    /**
+     * Sets whether the results are passed to the listener in the order of the calls, one at a time. A slow call then
+     * holds back the results of the following ones, and as the results held back count against the concurrency, no
+     * more calls are sent until it completes. Defaults to false.
+     *
+     * @param ordered true to pass the results in order
+     * @return the builder
+     */
+    public Builder ordered(boolean ordered) {
+      this.ordered = ordered;
+      return this;
+    }
+
+    /**
+     * Sets how many times the lowest latency observed the average latency can reach before the concurrency is reduced.
+     * Defaults to 2.
+     *
+     * @param latencyTolerance the latency tolerance, greater than 1
+     * @return the builder
+     */
+    public Builder latencyTolerance(double latencyTolerance) {
+      Validator.isTrue(latencyTolerance > 1, "latencyTolerance must be greater than 1");
+      this.latencyTolerance = latencyTolerance;
+      return this;
+    }
+  }
+
+  private ServiceCallBatch(Builder builder) {
+    this.minConcurrency = builder.minConcurrency;
+    this.maxConcurrency = builder.maxConcurrency;
+    this.ordered = builder.ordered;
+    this.latencyTolerance = builder.latencyTolerance;
+    int initial = (builder.initialConcurrency != null) ? builder.initialConcurrency : DEFAULT_INITIAL_CONCURRENCY;
+    this.concurrency = Math.min(maxConcurrency, Math.max(minConcurrency, initial));
+    this.lastDecreaseNanos = System.nanoTime();
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+import com.ibm.watson.developer_cloud.http.CallTimings.Phase;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+
+/**
+ * Event listener recording the {@link CallTimings} attached to the request of a call.
+ */
+final class TimingEventListener extends EventListener {
+
+  /**
+   * Factory creating a listener for the calls whose request has {@link CallTimings}, and recording the failed calls
+   * in the {@link CallMetrics}.
+   */
+  static final class Factory implements EventListener.Factory {
+    private volatile CallMetrics callMetrics;
+
+    CallMetrics getCallMetrics() {
+      return callMetrics;
+    }
+
+    void setCallMetrics(CallMetrics callMetrics) {
+      this.callMetrics = callMetrics;
+    }
+
+    @Override
+    public EventListener create(Call call) {
+      CallTimings timings = call.request().tag(CallTimings.class);
+      return (timings != null) ? new TimingEventListener(this, timings) : EventListener.NONE;
+    }
+  }
+
+  private final Factory factory;
+  private final CallTimings timings;
+
+  private TimingEventListener(Factory factory, CallTimings timings) {
+    this.factory = factory;
+    this.timings = timings;
+  }
+
+  @Override
+  public void callStart(Call call) {
+    timings.start(Phase.TOTAL, System.nanoTime());
+  }
+
+  @Override
+  public void dnsStart(Call call, String domainName) {
+    timings.start(Phase.DNS, System.nanoTime());
+  }
+
+  @Override
+  public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+    timings.end(Phase.DNS, System.nanoTime());
+  }
+
+  @Override
+  public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+    timings.start(Phase.CONNECT, System.nanoTime());
+  }
+
+  @Override
+  public void secureConnectStart(Call call) {
+    timings.start(Phase.TLS, System.nanoTime());
+  }
+
+  @Override
+  public void secureConnectEnd(Call call, Handshake handshake) {
+    timings.end(Phase.TLS, System.nanoTime());
+  }
+
+  @Override
+  public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+    timings.end(Phase.CONNECT, System.nanoTime());
+  }
+
+  @Override
+  public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol,
+      IOException ioe) {
+    long now = System.nanoTime();
+    timings.end(Phase.TLS, now);
+    timings.end(Phase.CONNECT, now);
+  }
+
+  @Override
+  public void requestHeadersStart(Call call) {
+    timings.start(Phase.REQUEST, System.nanoTime());
+  }
+
+  @Override
+  public void requestHeadersEnd(Call call, okhttp3.Request request) {
+    long now = System.nanoTime();
+    timings.end(Phase.REQUEST, now);
+    timings.start(Phase.TIME_TO_FIRST_BYTE, now);
+  }
+
+  @Override
+  public void requestBodyStart(Call call) {
+    timings.start(Phase.REQUEST, System.nanoTime());
+  }
+
+  @Override
+  public void requestBodyEnd(Call call, long byteCount) {
+    long now = System.nanoTime();
+    timings.end(Phase.REQUEST, now);
+    timings.start(Phase.TIME_TO_FIRST_BYTE, now);
+  }
+
+  @Override
+  public void responseHeadersEnd(Call call, okhttp3.Response response) {
+    // responseHeadersStart is fired before waiting for the response, so the first byte arrives with the headers
+    timings.end(Phase.TIME_TO_FIRST_BYTE, System.nanoTime());
+    timings.setStatusCode(response.code());
+  }
+
+  @Override
+  public void responseBodyStart(Call call) {
+    timings.start(Phase.RESPONSE_BODY, System.nanoTime());
+  }
+
+  @Override
+  public void responseBodyEnd(Call call, long byteCount) {
+    timings.end(Phase.RESPONSE_BODY, System.nanoTime());
+  }
+
+  @Override
+  public void callFailed(Call call, IOException ioe) {
+    CallMetrics callMetrics = factory.getCallMetrics();
+    if (timings.finish(0) && callMetrics != null) {
+      callMetrics.record(timings);
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import okhttp3.HttpUrl;
+
+/**
+ * URL of an operation on an end point, with its static path segments parsed and encoded once. Only the path
+ * parameters are encoded when the URL of a call is built.
+ */
+final class UrlTemplate {
+  private static final int MAX_TEMPLATES = 1024;
+  private static final ConcurrentMap<String, UrlTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+  /** The end point followed by the first path segment. */
+  private final HttpUrl prefix;
+
+  /** The encoded path segments following each path parameter. */
+  private final String[] encodedSegments;
+
+  private UrlTemplate(String endPoint, String[] pathSegments) {
+    HttpUrl.Builder builder = HttpUrl.parse(endPoint).newBuilder();
+    if (pathSegments.length > 0) {
+      builder.addPathSegments(pathSegments[0]);
+    }
+    prefix = builder.build();
+    encodedSegments = new String[pathSegments.length];
+    for (int i = 1; i < pathSegments.length; i++) {
+      String encodedPath = prefix.newBuilder().encodedPath("/").addPathSegments(pathSegments[i]).build().encodedPath();
+      encodedSegments[i] = encodedPath.substring(1);
+    }
+  }
+
+  /**
+   * Gets the template of an operation, creating it on first use.
+   *
+   * @param endPoint the API end point
+   * @param pathSegments the path segments of the operation
+   * @return the template
+   */
+  static UrlTemplate get(String endPoint, String[] pathSegments) {
+    StringBuilder key = new StringBuilder(endPoint);
+    for (String segment : pathSegments) {
+      key.append('\n').append(segment);
+    }
+    String templateKey = key.toString();
+    UrlTemplate template = TEMPLATES.get(templateKey);
+    if (template == null) {
+      template = new UrlTemplate(endPoint, pathSegments);
+      if (TEMPLATES.size() >= MAX_TEMPLATES) {
+        // the end points changed many times, start over rather than growing without bound
+        TEMPLATES.clear();
+      }
+      TEMPLATES.put(templateKey, template);
+    }
+    return template;
+  }
+
+  /**
+   * Builds the URL of a call, each path parameter following the path segment with the same index.
+   *
+   * @param pathParameters the path parameters
+   * @return the URL
+   */
+  HttpUrl expand(String[] pathParameters) {
+    if (encodedSegments.length <= 1 && pathParameters.length == 0) {
+      return prefix;
+    }
+    HttpUrl.Builder builder = prefix.newBuilder();
+    for (int i = 0; i < encodedSegments.length; i++) {
+      if (i < pathParameters.length) {
+        builder.addPathSegment(pathParameters[i]);
+      }
+      if (i + 1 < encodedSegments.length) {
+        builder.addEncodedPathSegments(encodedSegments[i + 1]);
+      }
+    }
+    return builder.build();
+  }
+}
@@ -12,14 +12,20 @@
  */
 package com.ibm.watson.developer_cloud.service;
 
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.ibm.watson.developer_cloud.http.AsyncRetry;
+import com.ibm.watson.developer_cloud.http.CallMetrics;
+import com.ibm.watson.developer_cloud.http.CallTimings;
 import com.ibm.watson.developer_cloud.http.HttpClientSingleton;
 import com.ibm.watson.developer_cloud.http.HttpConfigOptions;
 import com.ibm.watson.developer_cloud.http.HttpHeaders;
 import com.ibm.watson.developer_cloud.http.HttpMediaType;
 import com.ibm.watson.developer_cloud.http.HttpStatus;
+import com.ibm.watson.developer_cloud.http.RateLimiter;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
 import com.ibm.watson.developer_cloud.http.ResponseConverter;
+import com.ibm.watson.developer_cloud.http.RetryPolicy;
 import com.ibm.watson.developer_cloud.http.ServiceCall;
 import com.ibm.watson.developer_cloud.http.ServiceCallback;
 import com.ibm.watson.developer_cloud.http.ServiceCallbackWithDetails;
@@ -36,11 +42,14 @@ import com.ibm.watson.developer_cloud.service.exception.UnauthorizedException;
 import com.ibm.watson.developer_cloud.service.exception.UnsupportedException;
 import com.ibm.watson.developer_cloud.service.security.IamOptions;
 import com.ibm.watson.developer_cloud.service.security.IamTokenManager;
+import com.ibm.watson.developer_cloud.service.security.IamTokenRegistry;
 import com.ibm.watson.developer_cloud.util.CredentialUtils;
 import com.ibm.watson.developer_cloud.util.RequestUtils;
+import com.ibm.watson.developer_cloud.util.ResolvedCredentials;
 import com.ibm.watson.developer_cloud.util.ResponseConverterUtils;
 import com.ibm.watson.developer_cloud.util.ResponseUtils;
 import jersey.repackaged.jsr166e.CompletableFuture;
+import jersey.repackaged.jsr166e.CompletionException;
 import okhttp3.Call;
 import okhttp3.Callback;
 import okhttp3.Credentials;
@@ -52,7 +61,16 @@ import okhttp3.Request.Builder;
 import okhttp3.Response;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
@@ -73,6 +91,8 @@ public abstract class WatsonService {
   private static final String BEARER = "Bearer ";
   private static final String APIKEY_AS_USERNAME = "apikey";
   private static final String ICP_PREFIX = "icp-";
+  private static final String GET = "GET";
+  private static final long MAX_ERROR_BODY_BYTES = 64 * 1024;
   private static final Logger LOG = Logger.getLogger(WatsonService.class.getName());
   private static final String AUTH_HEADER_DEPRECATION_MESSAGE = "Authenticating with the X-Watson-Authorization-Token"
       + "header is deprecated. The token continues to work with Cloud Foundry services, but is not supported for "
@@ -85,12 +105,19 @@ public abstract class WatsonService {
   private String defaultEndPoint;
   private final String name;
   private IamTokenManager tokenManager;
+  private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+  private static ScheduledExecutorService rateLimitExecutor;
+  private volatile boolean requestCoalescing;
+  private final ConcurrentMap<String, CompletableFuture<?>> inFlightCalls = new ConcurrentHashMap<>();
 
-  private OkHttpClient client;
+  private volatile OkHttpClient client;
+  private volatile int clientVersion;
 
   /** The default headers. */
   protected Headers defaultHeaders = null;
 
+  private volatile ResolvedHeaders resolvedDefaultHeaders;
+
   /** The skip authentication. */
   protected boolean skipAuthentication = false;
 
@@ -117,22 +144,25 @@ public abstract class WatsonService {
    */
   public WatsonService(final String name) {
     this.name = name;
-    String iamApiKey = CredentialUtils.getIAMKey(name);
-    String iamUrl = CredentialUtils.getIAMUrl(name);
-    if (iamApiKey != null) {
-      IamOptions iamOptions = new IamOptions.Builder()
-          .apiKey(iamApiKey)
-          .url(iamUrl)
-          .build();
-      tokenManager = new IamTokenManager(iamOptions);
-    }
-    apiKey = CredentialUtils.getAPIKey(name);
-    String url = CredentialUtils.getAPIUrl(name);
-    if ((url != null) && !url.isEmpty()) {
-      // The VCAP_SERVICES will typically contain a url. If present use it.
-      setEndPoint(url);
+    // all the credentials are resolved at once, and cached by the default provider
+    ResolvedCredentials credentials = CredentialUtils.getCredentialProvider().getCredentials(name);
+    if (credentials != null) {
+      if (credentials.getIamApiKey() != null) {
+        IamOptions iamOptions = new IamOptions.Builder()
+            .apiKey(credentials.getIamApiKey())
+            .url(credentials.getIamUrl())
+            .build();
+        tokenManager = IamTokenRegistry.getTokenManager(iamOptions);
+      }
+      apiKey = credentials.getApiKey();
+      String url = credentials.getUrl();
+      if ((url != null) && !url.isEmpty()) {
+        // The VCAP_SERVICES will typically contain a url. If present use it.
+        setEndPoint(url);
+      }
     }
 
+    clientVersion = HttpClientSingleton.getInstance().getClientVersion();
     client = configureHttpClient();
   }
 
@@ -167,7 +197,8 @@ public abstract class WatsonService {
   }
 
   /**
-   * Configures the inner HTML client based on the passed-in options.
+   * Configures the inner HTML client based on the passed-in options. The settings are shared by every service, so they
+   * only need to be configured once: the other services pick them up on their next call.
    *
    * @param options the {@link HttpConfigOptions} object for modifying the client
    */
@@ -176,21 +207,36 @@ public abstract class WatsonService {
   }
 
   /**
-   * Execute the HTTP request. Okhttp3 compliant.
+   * Gets the {@link OkHttpClient} used by this service to perform the http calls. The client is configured again when
+   * the options of the {@link HttpClientSingleton} have changed since it was created.
    *
+   * @return the {@link OkHttpClient}
+   */
+  protected OkHttpClient getClient() {
+    int version = HttpClientSingleton.getInstance().getClientVersion();
+    if (version != clientVersion) {
+      synchronized (this) {
+        version = HttpClientSingleton.getInstance().getClientVersion();
+        if (version != clientVersion) {
+          client = configureHttpClient();
+          clientVersion = version;
+        }
+      }
+    }
+    return client;
+  }
+
+  /**
+   * Tags the request with the {@link CallTimings} of the operation. The default headers and the authentication are
+   * added when the call is sent.
+   *
+   * @param operationId the operation identifier, or null if unknown
    * @param request the HTTP request
    *
-   * @return the HTTP response
+   * @return the tagged request
    */
-  private Call createCall(final Request request) {
-    final Request.Builder builder = request.newBuilder();
-
-    setDefaultHeaders(builder);
-
-    setAuthentication(builder);
-
-    final Request newRequest = builder.build();
-    return client.newCall(newRequest);
+  private Request createRequest(final String operationId, final Request request) {
+    return request.newBuilder().tag(CallTimings.class, new CallTimings(name, operationId)).build();
   }
 
   /**
@@ -199,17 +245,52 @@ public abstract class WatsonService {
    * @param builder the new default headers
    */
   protected void setDefaultHeaders(final Request.Builder builder) {
-    String userAgent = RequestUtils.getUserAgent();
+    Headers headers = getResolvedDefaultHeaders();
+    for (int i = 0; i < headers.size(); i++) {
+      builder.header(headers.name(i), headers.value(i));
+    }
+  }
 
-    if (defaultHeaders != null) {
-      for (String key : defaultHeaders.names()) {
-        builder.header(key, defaultHeaders.get(key));
-      }
-      if (defaultHeaders.get(HttpHeaders.USER_AGENT) != null) {
-        userAgent += " " + defaultHeaders.get(HttpHeaders.USER_AGENT);
+  /**
+   * Gets the default headers with the User-Agent of the SDK, building them again only when the default headers are
+   * replaced.
+   *
+   * @return the headers to add to every request
+   */
+  private Headers getResolvedDefaultHeaders() {
+    ResolvedHeaders resolved = resolvedDefaultHeaders;
+    Headers source = defaultHeaders;
+    if (resolved == null || resolved.source != source) {
+      String userAgent = RequestUtils.getUserAgent();
+      Headers.Builder builder = new Headers.Builder();
+      if (source != null) {
+        for (String key : source.names()) {
+          if (!HttpHeaders.USER_AGENT.equalsIgnoreCase(key)) {
+            builder.set(key, source.get(key));
+          }
+        }
+        if (source.get(HttpHeaders.USER_AGENT) != null) {
+          userAgent += " " + source.get(HttpHeaders.USER_AGENT);
+        }
       }
+      builder.set(HttpHeaders.USER_AGENT, userAgent);
+      resolved = new ResolvedHeaders(source, builder.build());
+      resolvedDefaultHeaders = resolved;
+    }
+    return resolved.headers;
+  }
+
+  /**
+   * Default headers resolved from the headers set by the user.
+   */
+  private static final class ResolvedHeaders {
+    private final Headers source;
+    private final Headers headers;
+
+    ResolvedHeaders(Headers source, Headers headers) {
+      this.source = source;
+      this.headers = headers;
     }
-    builder.header(HttpHeaders.USER_AGENT, userAgent);
   }
 
   /**
@@ -221,8 +302,90 @@ public abstract class WatsonService {
    * @return the service call
    */
   protected final <T> ServiceCall<T> createServiceCall(final Request request, final ResponseConverter<T> converter) {
-    final Call call = createCall(request);
-    return new WatsonServiceCall<>(call, converter);
+    return new WatsonServiceCall<>(null, createRequest(null, request), converter, null);
+  }
+
+  /**
+   * Creates the service call of an operation, limited by the {@link RateLimiter} set for the operation. The
+   * {@link CallTimings} of the call are recorded under the operation identifier.
+   *
+   * @param <T> the generic type
+   * @param operationId the operation identifier, such as the name of the method
+   * @param request the request
+   * @param converter the converter
+   * @return the service call
+   */
+  protected final <T> ServiceCall<T> createServiceCall(final String operationId, final Request request,
+      final ResponseConverter<T> converter) {
+    return new WatsonServiceCall<>(operationId, createRequest(operationId, request), converter,
+        rateLimiters.get(operationId));
+  }
+
+  /**
+   * Sets the rate limiter of an operation, to keep the requests of this service within the quota of the operation.
+   * The operation identifier is the name of the service method, such as <code>createWorkspace</code>.
+   *
+   * @param operationId the operation identifier
+   * @param rateLimiter the rate limiter, or null to remove the limit
+   */
+  public void setRateLimiter(final String operationId, final RateLimiter rateLimiter) {
+    if (rateLimiter == null) {
+      rateLimiters.remove(operationId);
+    } else {
+      rateLimiters.put(operationId, rateLimiter);
+    }
+  }
+
+  /**
+   * Gets the rate limiter of an operation.
+   *
+   * @param operationId the operation identifier
+   * @return the rate limiter, or null if the operation isn't limited
+   */
+  public RateLimiter getRateLimiter(final String operationId) {
+    return rateLimiters.get(operationId);
+  }
+
+  /**
+   * Enables or disables the coalescing of identical requests. When enabled, the GET requests of an operation sent
+   * while an identical request (same URL, credentials and headers) is in flight share its response instead of being
+   * sent again: the waiters of <code>execute</code>, <code>enqueue</code> and <code>rx</code> all get the same result
+   * object, or the same exception. Operations returning an {@link InputStream} are never shared. Disabled by default.
+   *
+   * @param requestCoalescing true to coalesce identical requests
+   */
+  public void setRequestCoalescing(final boolean requestCoalescing) {
+    this.requestCoalescing = requestCoalescing;
+  }
+
+  /**
+   * Checks whether identical requests are coalesced.
+   *
+   * @return true if identical requests are coalesced
+   * @see #setRequestCoalescing(boolean)
+   */
+  public boolean isRequestCoalescing() {
+    return requestCoalescing;
+  }
+
+  /**
+   * Gets the executor shared by all services to send the asynchronous calls delayed by a rate limiter or a retry,
+   * creating it on first use.
+   *
+   * @return the executor
+   */
+  private static synchronized ScheduledExecutorService getRateLimitExecutor() {
+    if (rateLimitExecutor == null) {
+      rateLimitExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+          Thread thread = new Thread(runnable, "WatsonRateLimiter");
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+    }
+    return rateLimitExecutor;
   }
 
   /**
@@ -305,16 +468,39 @@ public abstract class WatsonService {
    * @return the error message from the JSON object
    */
   private String getErrorMessage(Response response) {
-    String error = ResponseUtils.getString(response);
+    String error = ResponseUtils.getString(response, MAX_ERROR_BODY_BYTES);
     try {
+      // fields in order of precedence
+      final String[] fields = { MESSAGE_ERROR, MESSAGE_ERROR_2, MESSAGE_ERROR_3 };
+      final String[] values = new String[fields.length];
+      final boolean[] found = new boolean[fields.length];
+
+      final JsonReader reader = new JsonReader(new StringReader(error));
+      reader.beginObject();
+      while (reader.hasNext()) {
+        final String name = reader.nextName();
+        int index = -1;
+        for (int i = 0; i < fields.length; i++) {
+          if (fields[i].equals(name)) {
+            index = i;
+          }
+        }
+        final JsonToken token = reader.peek();
+        if (index >= 0 && !found[index]) {
+          found[index] = true;
+          if (token == JsonToken.STRING || token == JsonToken.NUMBER || token == JsonToken.BOOLEAN) {
+            values[index] = reader.nextString();
+            continue;
+          }
+        }
+        reader.skipValue();
+      }
 
-      final JsonObject jsonObject = ResponseUtils.getJsonObject(error);
-      if (jsonObject.has(MESSAGE_ERROR)) {
-        error = jsonObject.get(MESSAGE_ERROR).getAsString();
-      } else if (jsonObject.has(MESSAGE_ERROR_2)) {
-        error = jsonObject.get(MESSAGE_ERROR_2).getAsString();
-      } else if (jsonObject.has(MESSAGE_ERROR_3)) {
-        error = jsonObject.get(MESSAGE_ERROR_3).getAsString();
+      for (int i = 0; i < fields.length; i++) {
+        if (found[i]) {
+          // a non-primitive message falls back to the String version of the response
+          return (values[i] != null) ? values[i] : error;
+        }
       }
     } catch (final Exception e) {
       // Ignore any kind of exception parsing the json and use fallback String version of response
@@ -422,10 +608,12 @@ public abstract class WatsonService {
    * token yourself. You must set a new access token before this one expires. Failing to do so will result in
    * authentication errors after this token expires.
    *
+   * Services configured with the same API key and IAM URL share a single token, see {@link IamTokenRegistry}.
+   *
    * @param iamOptions object containing values to be used for authenticating with IAM
    */
   public void setIamCredentials(IamOptions iamOptions) {
-    this.tokenManager = new IamTokenManager(iamOptions);
+    this.tokenManager = IamTokenRegistry.getTokenManager(iamOptions);
   }
 
   /*
@@ -509,27 +697,131 @@ public abstract class WatsonService {
    * @param <T> the generic type
    */
   class WatsonServiceCall<T> implements ServiceCall<T> {
-    private Call call;
+    private final String operationId;
+    private final Request request;
+    private final Headers.Builder headers = new Headers.Builder();
+    private RetryPolicy retryPolicy;
     private ResponseConverter<T> converter;
+    private RateLimiter rateLimiter;
+    private Call call;
+    private boolean detached;
 
-    WatsonServiceCall(Call call, ResponseConverter<T> converter) {
-      this.call = call;
+    WatsonServiceCall(String operationId, Request request, ResponseConverter<T> converter, RateLimiter rateLimiter) {
+      this.operationId = operationId;
+      this.request = request;
       this.converter = converter;
+      this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Creates the HTTP call when it is sent, so that it carries the current default headers and token of the service.
+     * The headers added to this call take precedence.
+     *
+     * @param asyncRetry the retries of an asynchronous call, or null for a synchronous call
+     * @return the HTTP call
+     */
+    private Call newCall(AsyncRetry asyncRetry) {
+      Request.Builder builder = request.newBuilder();
+      setDefaultHeaders(builder);
+      setAuthentication(builder);
+      Headers addedHeaders = headers.build();
+      for (int i = 0; i < addedHeaders.size(); i++) {
+        builder.header(addedHeaders.name(i), addedHeaders.value(i));
+      }
+      if (retryPolicy != null) {
+        builder.tag(RetryPolicy.class, retryPolicy);
+      }
+      if (asyncRetry != null) {
+        builder.tag(AsyncRetry.class, asyncRetry);
+      }
+      call = getClient().newCall(builder.build());
+      return call;
+    }
+
+    /**
+     * Converts the response, then ends its {@link CallTimings} and records them in the {@link CallMetrics}.
+     *
+     * @param response the HTTP response
+     * @return the converted result
+     */
+    private T convert(Response response) {
+      final long start = System.nanoTime();
+      try {
+        return processServiceCall(converter, response);
+      } finally {
+        CallTimings timings = response.request().tag(CallTimings.class);
+        if (timings != null && timings.finish(System.nanoTime() - start)) {
+          CallMetrics callMetrics = HttpClientSingleton.getInstance().getCallMetrics();
+          if (callMetrics != null) {
+            callMetrics.record(timings);
+          }
+        }
+      }
+    }
+
+    /**
+     * Waits for a permit of the rate limiter, if any.
+     */
+    private void awaitPermit() {
+      long delay = (rateLimiter != null) ? rateLimiter.reserve() : 0;
+      if (delay > 0) {
+        try {
+          Thread.sleep(delay);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new RuntimeException(e);
+        }
+      }
+    }
+
+    /**
+     * Enqueues the call without blocking the caller. When the token of the service has to be requested from IAM, the
+     * call is created on a thread of the dispatcher.
+     *
+     * @param future the future completed with the exception if the call can't be created
+     * @param callback the callback
+     * @param asyncRetry the retries of the call
+     */
+    private void dispatch(final CompletableFuture<?> future, final Callback callback, final AsyncRetry asyncRetry) {
+      if (tokenManager == null || tokenManager.hasValidToken()) {
+        newCall(asyncRetry).enqueue(callback);
+        return;
+      }
+      detached = true;
+      getClient().dispatcher().executorService().execute(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            newCall(asyncRetry).enqueue(callback);
+          } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+          }
+        }
+      });
     }
 
     @Override
     public ServiceCall<T> addHeader(String name, String value) {
-      Request.Builder builder = call.request().newBuilder();
-      builder.header(name, value);
-      call = client.newCall(builder.build());
+      headers.set(name, value);
+      return this;
+    }
+
+    @Override
+    public ServiceCall<T> retryPolicy(RetryPolicy retryPolicy) {
+      this.retryPolicy = retryPolicy;
       return this;
     }
 
     @Override
     public T execute() {
+      String key = getCoalescingKey();
+      if (key != null) {
+        return executeCoalesced(key).getResult();
+      }
+      awaitPermit();
       try {
-        Response response = call.execute();
-        return processServiceCall(converter, response);
+        Response response = newCall(null).execute();
+        return convert(response);
       } catch (IOException e) {
         throw new RuntimeException(e);
       }
@@ -537,10 +829,22 @@ public abstract class WatsonService {
 
     @Override
     public com.ibm.watson.developer_cloud.http.Response<T> executeWithDetails() throws RuntimeException {
+      String key = getCoalescingKey();
+      return (key != null) ? executeCoalesced(key) : send();
+    }
+
+    /**
+     * Sends the call and waits for its converted response.
+     *
+     * @return the response with its details
+     */
+    private com.ibm.watson.developer_cloud.http.Response<T> send() {
+      awaitPermit();
       try {
-        Response httpResponse = call.execute();
-        T responseModel = processServiceCall(converter, httpResponse);
-        return new com.ibm.watson.developer_cloud.http.Response<>(responseModel, httpResponse);
+        Response httpResponse = newCall(null).execute();
+        T responseModel = convert(httpResponse);
+        return new com.ibm.watson.developer_cloud.http.Response<>(responseModel, httpResponse,
+            httpResponse.request().tag(CallTimings.class));
       } catch (IOException e) {
         throw new RuntimeException(e);
       }
@@ -548,39 +852,40 @@ public abstract class WatsonService {
 
     @Override
     public void enqueue(final ServiceCallback<? super T> callback) {
-      call.enqueue(new Callback() {
+      rxWithDetails().handle(new CompletableFuture.BiFun<com.ibm.watson.developer_cloud.http.Response<T>, Throwable,
+          Void>() {
         @Override
-        public void onFailure(Call call, IOException e) {
-          callback.onFailure(e);
-        }
-
-        @Override
-        public void onResponse(Call call, Response response) {
+        public Void apply(com.ibm.watson.developer_cloud.http.Response<T> response, Throwable e) {
+          if (e != null) {
+            callback.onFailure(toException(e));
+            return null;
+          }
           try {
-            callback.onResponse(processServiceCall(converter, response));
-          } catch (Exception e) {
-            callback.onFailure(e);
+            callback.onResponse(response.getResult());
+          } catch (Exception ex) {
+            callback.onFailure(ex);
           }
+          return null;
         }
       });
     }
 
     @Override
     public void enqueueWithDetails(final ServiceCallbackWithDetails<T> callback) {
-      call.enqueue(new Callback() {
+      rxWithDetails().handle(new CompletableFuture.BiFun<com.ibm.watson.developer_cloud.http.Response<T>, Throwable,
+          Void>() {
         @Override
-        public void onFailure(Call call, IOException e) {
-          callback.onFailure(e);
-        }
-
-        @Override
-        public void onResponse(Call call, Response response) {
+        public Void apply(com.ibm.watson.developer_cloud.http.Response<T> response, Throwable e) {
+          if (e != null) {
+            callback.onFailure(toException(e));
+            return null;
+          }
           try {
-            T responseModel = processServiceCall(converter, response);
-            callback.onResponse(new com.ibm.watson.developer_cloud.http.Response<>(responseModel, response));
-          } catch (Exception e) {
-            callback.onFailure(e);
+            callback.onResponse(response);
+          } catch (Exception ex) {
+            callback.onFailure(ex);
           }
+          return null;
         }
       });
     }
@@ -588,32 +893,38 @@ public abstract class WatsonService {
     @Override
     public CompletableFuture<T> rx() {
       final CompletableFuture<T> completableFuture = new CompletableFuture<T>();
-
-      call.enqueue(new Callback() {
-        @Override
-        public void onFailure(Call call, IOException e) {
-          completableFuture.completeExceptionally(e);
-        }
-
+      rxWithDetails().handle(new CompletableFuture.BiFun<com.ibm.watson.developer_cloud.http.Response<T>, Throwable,
+          Void>() {
         @Override
-        public void onResponse(Call call, Response response) {
-          try {
-            completableFuture.complete(processServiceCall(converter, response));
-          } catch (Exception e) {
-            completableFuture.completeExceptionally(e);
+        public Void apply(com.ibm.watson.developer_cloud.http.Response<T> response, Throwable e) {
+          if (e != null) {
+            completableFuture.completeExceptionally(toException(e));
+          } else {
+            completableFuture.complete(response.getResult());
           }
+          return null;
         }
       });
-
       return completableFuture;
     }
 
     @Override
     public CompletableFuture<com.ibm.watson.developer_cloud.http.Response<T>> rxWithDetails() {
+      String key = getCoalescingKey();
+      return (key != null) ? rxCoalesced(key) : sendAsync();
+    }
+
+    /**
+     * Sends the call asynchronously, once the rate limiter gives a permit.
+     *
+     * @return the future of the converted response with its details
+     */
+    private CompletableFuture<com.ibm.watson.developer_cloud.http.Response<T>> sendAsync() {
       final CompletableFuture<com.ibm.watson.developer_cloud.http.Response<T>> completableFuture
           = new CompletableFuture<>();
+      final AsyncRetry asyncRetry = new AsyncRetry();
 
-      call.enqueue(new Callback() {
+      final Callback httpCallback = new Callback() {
         @Override
         public void onFailure(Call call, IOException e) {
           completableFuture.completeExceptionally(e);
@@ -621,24 +932,181 @@ public abstract class WatsonService {
 
         @Override
         public void onResponse(Call call, Response response) {
+          long retryDelay = asyncRetry.nextDelayMillis(call.request(), response);
+          if (retryDelay >= 0) {
+            // the retry waits on the timer, not on a thread of the dispatcher
+            response.close();
+            schedule(completableFuture, this, asyncRetry, retryDelay);
+            return;
+          }
           try {
-            T responseModel = processServiceCall(converter, response);
-            completableFuture.complete(new com.ibm.watson.developer_cloud.http.Response<>(responseModel, response));
+            T responseModel = convert(response);
+            completableFuture.complete(new com.ibm.watson.developer_cloud.http.Response<>(responseModel, response,
+                response.request().tag(CallTimings.class)));
           } catch (Exception e) {
             completableFuture.completeExceptionally(e);
           }
         }
-      });
+      };
+      try {
+        long delay = (rateLimiter != null) ? rateLimiter.reserve() : 0;
+        if (delay > 0) {
+          detached = true;
+          schedule(completableFuture, httpCallback, asyncRetry, delay);
+        } else {
+          dispatch(completableFuture, httpCallback, asyncRetry);
+        }
+      } catch (RuntimeException e) {
+        // no permit within the maximum wait of the rate limiter, or no credentials
+        completableFuture.completeExceptionally(e);
+      }
 
       return completableFuture;
     }
 
+    /**
+     * Dispatches the call after a delay.
+     *
+     * @param future the future completed with the exception if the call can't be created
+     * @param callback the callback
+     * @param asyncRetry the retries of the call
+     * @param delay the delay in milliseconds
+     */
+    private void schedule(final CompletableFuture<?> future, final Callback callback, final AsyncRetry asyncRetry,
+        long delay) {
+      getRateLimitExecutor().schedule(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            dispatch(future, callback, asyncRetry);
+          } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+          }
+        }
+      }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets the key of the identical calls sharing a response: the operation, the URL and the headers. The credentials
+     * are those of the service, which owns the calls in flight.
+     *
+     * @return the key, or null if the call isn't coalesced
+     */
+    private String getCoalescingKey() {
+      if (!requestCoalescing || operationId == null || !GET.equals(request.method())) {
+        return null;
+      }
+      return operationId + " " + request.url() + "\n" + request.headers() + headers.build();
+    }
+
+    /**
+     * Registers a flight for the key, unless an identical call is already in flight.
+     *
+     * @param key the coalescing key
+     * @param flight the future of the response of this call
+     * @return the future of the response of the identical call in flight, or null if this call leads the flight
+     */
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<com.ibm.watson.developer_cloud.http.Response<T>> joinFlight(String key,
+        CompletableFuture<com.ibm.watson.developer_cloud.http.Response<T>> flight) {
+      CompletableFuture<com.ibm.watson.developer_cloud.http.Response<T>> leader
+          = (CompletableFuture<com.ibm.watson.developer_cloud.http.Response<T>>) inFlightCalls.putIfAbsent(key, flight);
+      if (leader != null) {
+        detached = true;
+      }
+      return leader;
+    }
+
+    /**
+     * Sends the call, or waits for the identical call in flight.
+     *
+     * @param key the coalescing key
+     * @return the response with its details
+     */
+    private com.ibm.watson.developer_cloud.http.Response<T> executeCoalesced(String key) {
+      CompletableFuture<com.ibm.watson.developer_cloud.http.Response<T>> flight = new CompletableFuture<>();
+      CompletableFuture<com.ibm.watson.developer_cloud.http.Response<T>> leader = joinFlight(key, flight);
+      if (leader == null) {
+        com.ibm.watson.developer_cloud.http.Response<T> response;
+        try {
+          response = send();
+        } catch (RuntimeException e) {
+          inFlightCalls.remove(key, flight);
+          flight.completeExceptionally(e);
+          throw e;
+        }
+        inFlightCalls.remove(key, flight);
+        flight.complete(response);
+        return response;
+      }
+      try {
+        com.ibm.watson.developer_cloud.http.Response<T> response = leader.get();
+        return isShareable(response) ? response : send();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      } catch (ExecutionException e) {
+        Exception cause = toException(e.getCause());
+        throw (cause instanceof RuntimeException) ? (RuntimeException) cause : new RuntimeException(cause);
+      }
+    }
+
+    /**
+     * Sends the call asynchronously, or follows the identical call in flight.
+     *
+     * @param key the coalescing key
+     * @return the future of the response with its details
+     */
+    private CompletableFuture<com.ibm.watson.developer_cloud.http.Response<T>> rxCoalesced(final String key) {
+      final CompletableFuture<com.ibm.watson.developer_cloud.http.Response<T>> flight = new CompletableFuture<>();
+      CompletableFuture<com.ibm.watson.developer_cloud.http.Response<T>> leader = joinFlight(key, flight);
+      if (leader == null) {
+        sendAsync().handle(new CompletableFuture.BiFun<com.ibm.watson.developer_cloud.http.Response<T>, Throwable,
+            Void>() {
+          @Override
+          public Void apply(com.ibm.watson.developer_cloud.http.Response<T> response, Throwable e) {
+            inFlightCalls.remove(key, flight);
+            if (e != null) {
+              flight.completeExceptionally(toException(e));
+            } else {
+              flight.complete(response);
+            }
+            return null;
+          }
+        });
+        return flight;
+      }
+      return leader.thenCompose(new CompletableFuture.Fun<com.ibm.watson.developer_cloud.http.Response<T>,
+          CompletableFuture<com.ibm.watson.developer_cloud.http.Response<T>>>() {
+        @Override
+        public CompletableFuture<com.ibm.watson.developer_cloud.http.Response<T>> apply(
+            com.ibm.watson.developer_cloud.http.Response<T> response) {
+          return isShareable(response) ? CompletableFuture.completedFuture(response) : sendAsync();
+        }
+      });
+    }
+
+    /**
+     * Checks whether a response can be shared by identical calls. Streams can only be read once.
+     */
+    private boolean isShareable(com.ibm.watson.developer_cloud.http.Response<T> response) {
+      return !(response.getResult() instanceof InputStream);
+    }
+
+    /**
+     * Unwraps the exception of a completed future.
+     */
+    private Exception toException(Throwable e) {
+      Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+      return (cause instanceof Exception) ? (Exception) cause : new RuntimeException(cause);
+    }
+
     @Override
     protected void finalize() throws Throwable {
       super.finalize();
 
-      if (!call.isExecuted()) {
-        final Request r = call.request();
+      if (call == null && !detached) {
+        final Request r = request;
         LOG.warning(r.method() + " request to " + r.url() + " has not been sent. Did you forget to call execute()?");
       }
     }
@@ -1,8 +1,13 @@
 package com.ibm.watson.developer_cloud.service.model;
 
+import com.google.gson.Gson;
+import com.ibm.watson.developer_cloud.util.GsonSerializationHelper;
 import com.ibm.watson.developer_cloud.util.GsonSingleton;
 
+import java.lang.reflect.Type;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Abstract model class for objects which may have dynamic properties attached to them,
@@ -10,6 +15,112 @@ import java.util.HashMap;
  */
 public abstract class DynamicModel extends HashMap<String, Object> implements ObjectModel {
 
+  // types of the properties already converted through getProperty, by property name. Getters may be called from
+  // several threads on a shared response, so the memo is a concurrent map published through a volatile field.
+  private transient volatile Map<String, TypedProperty> typedProperties;
+
+  /**
+   * Gets a property converted to the given type. The typed value replaces the raw value in this map, so the following
+   * calls return it without converting it again, and changes made to it are reflected in this map, its JSON and its
+   * equality.
+   *
+   * Concurrent reads are safe; like any {@link HashMap}, the model must not be changed while other threads read it.
+   *
+   * @param key the property name
+   * @param type the type of the property
+   * @param <T> the generic type
+   * @return the typed value, or null if the property is not set
+   */
+  @SuppressWarnings("unchecked")
+  protected <T> T getProperty(String key, Type type) {
+    Object value = get(key);
+    if (value == null || isTyped(key, value, type)) {
+      return (T) value;
+    }
+    synchronized (this) {
+      value = get(key);
+      if (value == null || isTyped(key, value, type)) {
+        return (T) value;
+      }
+      Object typed = GsonSerializationHelper.serializeDynamicModelProperty(value, type);
+      Map<String, TypedProperty> properties = typedProperties;
+      if (properties == null) {
+        properties = new ConcurrentHashMap<String, TypedProperty>();
+        typedProperties = properties;
+      }
+      properties.put(key, new TypedProperty(typed, type));
+      // replacing the value of an existing key isn't a structural change, so it's safe for concurrent readers
+      super.put(key, typed);
+      return (T) typed;
+    }
+  }
+
+  private boolean isTyped(String key, Object value, Type type) {
+    if (value.getClass() == type) {
+      return true;
+    }
+    Map<String, TypedProperty> properties = typedProperties;
+    TypedProperty property = (properties != null) ? properties.get(key) : null;
+    return (property != null) && (property.value == value) && property.type.equals(type);
+  }
+
+  /*
+   * (non-Javadoc)
+   * @see java.util.HashMap#put(java.lang.Object, java.lang.Object)
+   */
+  @Override
+  public Object put(String key, Object value) {
+    Map<String, TypedProperty> properties = typedProperties;
+    if (properties != null && key != null) {
+      properties.remove(key);
+    }
+    return super.put(key, value);
+  }
+
+  /*
+   * (non-Javadoc)
+   * @see java.util.HashMap#putAll(java.util.Map)
+   */
+  @Override
+  public void putAll(Map<? extends String, ?> m) {
+    typedProperties = null;
+    super.putAll(m);
+  }
+
+  /*
+   * (non-Javadoc)
+   * @see java.util.HashMap#remove(java.lang.Object)
+   */
+  @Override
+  public Object remove(Object key) {
+    Map<String, TypedProperty> properties = typedProperties;
+    if (properties != null && key != null) {
+      properties.remove(key);
+    }
+    return super.remove(key);
+  }
+
+  /*
+   * (non-Javadoc)
+   * @see java.util.HashMap#clear()
+   */
+  @Override
+  public void clear() {
+    typedProperties = null;
+    super.clear();
+  }
+
+  /*
+   * (non-Javadoc)
+   * @see java.util.HashMap#clone()
+   */
+  @Override
+  public Object clone() {
+    DynamicModel clone = (DynamicModel) super.clone();
+    clone.typedProperties = null;
+    return clone;
+  }
+
   /*
    * (non-Javadoc)
    * @see java.lang.Object#equals(java.lang.Object)
@@ -23,9 +134,7 @@ public abstract class DynamicModel extends HashMap<String, Object> implements Ob
       return false;
     }
 
-    final DynamicModel other = (DynamicModel) o;
-
-    return toString().equals(other.toString());
+    return GenericModel.mapEquals(getRawValues(), ((DynamicModel) o).getRawValues());
   }
 
   /*
@@ -34,7 +143,29 @@ public abstract class DynamicModel extends HashMap<String, Object> implements Ob
    */
   @Override
   public int hashCode() {
-    return toString().hashCode();
+    return GenericModel.mapHashCode(getRawValues());
+  }
+
+  /**
+   * Gets the properties with the values replaced by {@link #getProperty(String, Type)} converted back to their JSON
+   * form, so that the equality of models doesn't depend on the getters called on them.
+   *
+   * @return the properties
+   */
+  private Map<String, Object> getRawValues() {
+    Map<String, TypedProperty> properties = typedProperties;
+    if (properties == null || properties.isEmpty()) {
+      return this;
+    }
+    Gson gson = GsonSingleton.getGsonWithoutPrettyPrinting();
+    Map<String, Object> values = new HashMap<String, Object>(this);
+    for (Map.Entry<String, TypedProperty> entry : properties.entrySet()) {
+      Object value = values.get(entry.getKey());
+      if (value != null && value == entry.getValue().value) {
+        values.put(entry.getKey(), gson.fromJson(gson.toJsonTree(value), Object.class));
+      }
+    }
+    return values;
   }
 
   /*
@@ -45,4 +176,17 @@ public abstract class DynamicModel extends HashMap<String, Object> implements Ob
   public String toString() {
     return GsonSingleton.getGson().toJson(this);
   }
+
+  /**
+   * Typed value of a property, with the type it was converted to.
+   */
+  private static final class TypedProperty {
+    private final Object value;
+    private final Type type;
+
+    TypedProperty(Object value, Type type) {
+      this.value = value;
+      this.type = type;
+    }
+  }
 }
@@ -12,13 +12,36 @@
  */
 package com.ibm.watson.developer_cloud.service.model;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
 import com.ibm.watson.developer_cloud.util.GsonSingleton;
 
 /**
  * Abstract model class to provide a default toString() method in model classes.
+ *
+ * Equality and hash code are computed over the fields serialized to JSON, without serializing the model. The hash code
+ * of models created with a builder, which have no setters and only fields of immutable types (primitives, strings and
+ * enums), is computed once. Models holding lists, maps, dates or other models compute it on every call, since those
+ * values can change after the model is built.
  */
 public abstract class GenericModel implements ObjectModel {
 
+  private static final ClassValue<ModelFields> MODEL_FIELDS = new ClassValue<ModelFields>() {
+    @Override
+    protected ModelFields computeValue(Class<?> type) {
+      return new ModelFields(type);
+    }
+  };
+
+  private transient int hashCode;
+
   /*
    * (non-Javadoc)
    *
@@ -35,7 +58,12 @@ public abstract class GenericModel implements ObjectModel {
 
     final GenericModel other = (GenericModel) o;
 
-    return toString().equals(other.toString());
+    for (Field field : MODEL_FIELDS.get(getClass()).fields) {
+      if (!valueEquals(getValue(field, this), getValue(field, other))) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /*
@@ -45,7 +73,16 @@ public abstract class GenericModel implements ObjectModel {
    */
   @Override
   public int hashCode() {
-    return toString().hashCode();
+    ModelFields modelFields = MODEL_FIELDS.get(getClass());
+    int result = hashCode;
+    if (result == 0 || !modelFields.immutable) {
+      result = 1;
+      for (Field field : modelFields.fields) {
+        result = 31 * result + valueHashCode(getValue(field, this));
+      }
+      hashCode = result;
+    }
+    return result;
   }
 
   /*
@@ -57,4 +94,151 @@ public abstract class GenericModel implements ObjectModel {
   public String toString() {
     return GsonSingleton.getGson().toJson(this);
   }
+
+  private static Object getValue(Field field, Object model) {
+    try {
+      return field.get(model);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Compares two values the way their JSON representations would compare: map entries with a null value are ignored,
+   * as they are not serialized.
+   *
+   * @param a the first value
+   * @param b the second value
+   * @return true if the values are equal
+   */
+  static boolean valueEquals(Object a, Object b) {
+    if (a == b) {
+      return true;
+    }
+    if (a == null || b == null) {
+      return false;
+    }
+    if (a instanceof DynamicModel && b instanceof DynamicModel) {
+      return a.equals(b);
+    }
+    if (a instanceof Map && b instanceof Map) {
+      return mapEquals((Map<?, ?>) a, (Map<?, ?>) b);
+    }
+    if (a instanceof List && b instanceof List) {
+      List<?> listA = (List<?>) a;
+      List<?> listB = (List<?>) b;
+      if (listA.size() != listB.size()) {
+        return false;
+      }
+      Iterator<?> itB = listB.iterator();
+      for (Object element : listA) {
+        if (!valueEquals(element, itB.next())) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (a.getClass().isArray()) {
+      return Arrays.deepEquals(new Object[] { a }, new Object[] { b });
+    }
+    return a.equals(b);
+  }
+
+  static boolean mapEquals(Map<?, ?> a, Map<?, ?> b) {
+    int count = 0;
+    for (Map.Entry<?, ?> entry : a.entrySet()) {
+      if (entry.getValue() != null) {
+        if (!valueEquals(entry.getValue(), b.get(entry.getKey()))) {
+          return false;
+        }
+        count++;
+      }
+    }
+    for (Object value : b.values()) {
+      if (value != null) {
+        count--;
+      }
+    }
+    return count == 0;
+  }
+
+  /**
+   * Computes the hash code of a value, consistent with {@link #valueEquals(Object, Object)}.
+   *
+   * @param value the value
+   * @return the hash code
+   */
+  static int valueHashCode(Object value) {
+    if (value == null) {
+      return 0;
+    }
+    if (value instanceof DynamicModel) {
+      return value.hashCode();
+    }
+    if (value instanceof Map) {
+      return mapHashCode((Map<?, ?>) value);
+    }
+    if (value instanceof List) {
+      int result = 1;
+      for (Object element : (List<?>) value) {
+        result = 31 * result + valueHashCode(element);
+      }
+      return result;
+    }
+    if (value.getClass().isArray()) {
+      return Arrays.deepHashCode(new Object[] { value });
+    }
+    return value.hashCode();
+  }
+
+  static int mapHashCode(Map<?, ?> map) {
+    int result = 0;
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      if (entry.getValue() != null) {
+        result += valueHashCode(entry.getKey()) ^ valueHashCode(entry.getValue());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Fields of a model class serialized to JSON, i.e. the non-static and non-transient fields of the class and its
+   * superclasses.
+   */
+  private static final class ModelFields {
+    private static final List<Class<?>> IMMUTABLE_TYPES = Arrays.<Class<?>>asList(String.class, Boolean.class,
+        Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class);
+
+    private final Field[] fields;
+    private final boolean immutable;
+
+    ModelFields(Class<?> type) {
+      List<Field> fieldList = new ArrayList<Field>();
+      boolean hasBuilder = false;
+      boolean hasSetter = false;
+      boolean immutableFields = true;
+      for (Class<?> c = type; c != GenericModel.class; c = c.getSuperclass()) {
+        for (Field field : c.getDeclaredFields()) {
+          int modifiers = field.getModifiers();
+          if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+            field.setAccessible(true);
+            fieldList.add(field);
+            immutableFields &= isImmutable(field.getType());
+          }
+        }
+        for (Method method : c.getDeclaredMethods()) {
+          hasSetter |= method.getName().startsWith("set") && !Modifier.isStatic(method.getModifiers());
+        }
+        for (Class<?> nested : c.getDeclaredClasses()) {
+          hasBuilder |= nested.getSimpleName().equals("Builder");
+        }
+      }
+      this.fields = fieldList.toArray(new Field[fieldList.size()]);
+      this.immutable = hasBuilder && !hasSetter && immutableFields;
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+      return type.isPrimitive() || type.isEnum() || IMMUTABLE_TYPES.contains(type);
+    }
+  }
 }
@@ -19,6 +19,7 @@ public class IamOptions {
   private String apiKey;
   private String accessToken;
   private String url;
+  private boolean backgroundRefresh;
 
   public String getApiKey() {
     return apiKey;
@@ -32,10 +33,15 @@ public class IamOptions {
     return url;
   }
 
+  public boolean shouldRefreshInBackground() {
+    return backgroundRefresh;
+  }
+
   public static class Builder {
     private String apiKey;
     private String accessToken;
     private String url;
+    private boolean backgroundRefresh;
 
     public IamOptions build() {
       return new IamOptions(this);
@@ -55,11 +61,24 @@ public class IamOptions {
       this.url = url;
       return this;
     }
+
+    /**
+     * Sets whether the managed access token should be renewed by a background task before it reaches the refresh
+     * point, so that requests never wait on the IAM API.
+     *
+     * @param backgroundRefresh whether to refresh the token in the background
+     * @return the builder
+     */
+    public Builder backgroundRefresh(boolean backgroundRefresh) {
+      this.backgroundRefresh = backgroundRefresh;
+      return this;
+    }
   }
 
   private IamOptions(Builder builder) {
     this.apiKey = builder.apiKey;
     this.accessToken = builder.accessToken;
     this.url = builder.url;
+    this.backgroundRefresh = builder.backgroundRefresh;
   }
 }
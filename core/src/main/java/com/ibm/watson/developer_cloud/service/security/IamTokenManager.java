@@ -23,18 +23,42 @@ import okhttp3.FormBody;
 import okhttp3.Request;
 
 import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Retrieves, stores, and refreshes IAM tokens.
+ *
+ * This class is thread-safe. At most one request to the IAM API is in flight per manager; threads that need a token
+ * while it is being fetched wait for that request and share its result, including its failure.
  */
 public class IamTokenManager {
+  private static final Logger LOG = Logger.getLogger(IamTokenManager.class.getName());
+
   private String userManagedAccessToken;
   private String apiKey;
   private String url;
-  private IamToken tokenData;
+  private volatile IamToken tokenData;
+  private volatile boolean backgroundRefresh;
+
+  private final ReentrantLock refreshLock = new ReentrantLock();
+  private final AtomicLong refreshCount = new AtomicLong();
+  private final AtomicLong waitCount = new AtomicLong();
+  private final AtomicLong failureCount = new AtomicLong();
+  // guarded by refreshLock
+  private RuntimeException lastFailure;
+  private ScheduledFuture<?> backgroundRefreshFuture;
 
   private static final String DEFAULT_AUTHORIZATION = "Basic Yng6Yng=";
-  private static final String DEFAULT_IAM_URL = "https://iam.bluemix.net/identity/token";
+  static final String DEFAULT_IAM_URL = "https://iam.bluemix.net/identity/token";
   private static final String GRANT_TYPE = "grant_type";
   private static final String REQUEST_GRANT_TYPE = "urn:ibm:params:oauth:grant-type:apikey";
   private static final String REFRESH_GRANT_TYPE = "refresh_token";
@@ -43,10 +67,17 @@ public class IamTokenManager {
   private static final String CLOUD_IAM = "cloud_iam";
   private static final String REFRESH_TOKEN = "refresh_token";
 
+  private static final double FRACTION_OF_TIME_TO_LIVE = 0.8;
+  private static final double BACKGROUND_FRACTION_OF_TIME_TO_LIVE = 0.7;
+  private static final long BACKGROUND_RETRY_DELAY_SECONDS = 30;
+
+  private static ScheduledExecutorService refreshExecutor;
+
   public IamTokenManager(IamOptions options) {
     this.apiKey = options.getApiKey();
     this.url = (options.getUrl() != null) ? options.getUrl() : DEFAULT_IAM_URL;
     this.userManagedAccessToken = options.getAccessToken();
+    this.backgroundRefresh = options.shouldRefreshInBackground() && (userManagedAccessToken == null);
     tokenData = new IamToken();
   }
 
@@ -61,22 +92,116 @@ public class IamTokenManager {
    * @return the valid access token
    */
   public String getToken() {
-    String token;
-
     if (userManagedAccessToken != null) {
       // use user-managed access token
-      token = userManagedAccessToken;
-    } else if (tokenData.getAccessToken() == null || isRefreshTokenExpired()) {
-      // request new token
-      token = requestToken();
-    } else if (isAccessTokenExpired()) {
-      // refresh current token
-      token = refreshToken();
-    } else {
+      return userManagedAccessToken;
+    }
+
+    IamToken currentToken = tokenData;
+    if (currentToken.getAccessToken() != null && !isRefreshTokenExpired(currentToken)
+        && !isAccessTokenExpired(currentToken)) {
       // use valid managed token
-      token = tokenData.getAccessToken();
+      return currentToken.getAccessToken();
+    }
+
+    long failuresBeforeWait = -1;
+    if (!refreshLock.tryLock()) {
+      // another thread is already talking to IAM, wait for its result
+      waitCount.incrementAndGet();
+      failuresBeforeWait = failureCount.get();
+      refreshLock.lock();
+    }
+    try {
+      if (failuresBeforeWait >= 0 && failureCount.get() != failuresBeforeWait && lastFailure != null) {
+        // the request this thread waited for failed, share its failure instead of calling IAM again
+        throw lastFailure;
+      }
+      // the token may have been renewed while this thread was waiting for the lock
+      currentToken = tokenData;
+      if (currentToken.getAccessToken() == null || isRefreshTokenExpired(currentToken)) {
+        // request new token
+        return updateToken(false);
+      } else if (isAccessTokenExpired(currentToken)) {
+        // refresh current token
+        return updateToken(true);
+      }
+      return currentToken.getAccessToken();
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+
+  /**
+   * Checks whether {@link #getToken()} can return a token without calling the IAM API.
+   *
+   * @return true if a user-managed token or a valid managed token is available
+   */
+  public boolean hasValidToken() {
+    if (userManagedAccessToken != null) {
+      return true;
     }
+    IamToken currentToken = tokenData;
+    return currentToken.getAccessToken() != null && !isRefreshTokenExpired(currentToken)
+        && !isAccessTokenExpired(currentToken);
+  }
+
+  /**
+   * Turns on background refresh for this manager. Takes effect the next time the token is requested or refreshed.
+   */
+  void enableBackgroundRefresh() {
+    if (userManagedAccessToken == null) {
+      backgroundRefresh = true;
+    }
+  }
+
+  /**
+   * Gets the number of times a token has been successfully requested or refreshed from the IAM API.
+   *
+   * @return the number of successful token refreshes
+   */
+  public long getRefreshCount() {
+    return refreshCount.get();
+  }
+
+  /**
+   * Gets the number of times a thread had to wait for a token request started by another thread.
+   *
+   * @return the number of waits on an in-flight refresh
+   */
+  public long getWaitCount() {
+    return waitCount.get();
+  }
+
+  /**
+   * Gets the number of failed token requests or refreshes.
+   *
+   * @return the number of failed refreshes
+   */
+  public long getFailureCount() {
+    return failureCount.get();
+  }
 
+  /**
+   * Requests or refreshes the token and, if enabled, schedules the next background refresh. Must be called while
+   * holding the refresh lock.
+   *
+   * @param refresh whether to use the refresh token instead of the API key
+   * @return the new access token
+   */
+  private String updateToken(boolean refresh) {
+    String token;
+    try {
+      token = refresh ? refreshToken() : requestToken();
+    } catch (RuntimeException e) {
+      lastFailure = e;
+      failureCount.incrementAndGet();
+      throw e;
+    }
+    lastFailure = null;
+    refreshCount.incrementAndGet();
+    if (backgroundRefresh) {
+      scheduleBackgroundRefresh(tokenData);
+    }
     return token;
   }
 
@@ -131,14 +256,15 @@ public class IamTokenManager {
    *
    * The buffer will be a fraction of the total TTL. Using 80%.
    *
+   * @param tokenData the token to check
    * @return whether the current managed access token is expired or not
    */
-  private boolean isAccessTokenExpired() {
+  private static boolean isAccessTokenExpired(IamToken tokenData) {
     if (tokenData.getExpiresIn() == null || tokenData.getExpiration() == null) {
       return true;
     }
 
-    Double fractionOfTimeToLive = 0.8;
+    Double fractionOfTimeToLive = FRACTION_OF_TIME_TO_LIVE;
     Long timeToLive = tokenData.getExpiresIn();
     Long expirationTime = tokenData.getExpiration();
     Double refreshTime = expirationTime - (timeToLive * (1.0 - fractionOfTimeToLive));
@@ -153,9 +279,10 @@ public class IamTokenManager {
    * if it has been at least 7 days and 1 hour since the last token was
    * retrieved.
    *
+   * @param tokenData the token to check
    * @returns whether the current managed refresh token is expired or not
    */
-  private boolean isRefreshTokenExpired() {
+  private static boolean isRefreshTokenExpired(IamToken tokenData) {
     if (tokenData.getExpiration() == null) {
       return true;
     }
@@ -166,6 +293,105 @@ public class IamTokenManager {
     return newTokenTime < currentTime;
   }
 
+  /**
+   * Schedules a refresh of the given token once it has used 70% of its time to live, which is before the 80% mark at
+   * which {@link #getToken()} would refresh it inline.
+   *
+   * @param token the token that was just retrieved
+   */
+  private void scheduleBackgroundRefresh(IamToken token) {
+    long delaySeconds = BACKGROUND_RETRY_DELAY_SECONDS;
+    if (token.getExpiresIn() != null && token.getExpiration() != null) {
+      long timeToLive = token.getExpiresIn();
+      long refreshTime = token.getExpiration() - (long) (timeToLive * (1.0 - BACKGROUND_FRACTION_OF_TIME_TO_LIVE));
+      long currentTime = System.currentTimeMillis() / 1000;
+      delaySeconds = Math.max(0, Math.min(refreshTime - currentTime, timeToLive));
+    }
+    scheduleBackgroundRefresh(delaySeconds, token);
+  }
+
+  /**
+   * Schedules a background refresh of the given token after the given delay, replacing the one already scheduled. Must
+   * be called while holding the refresh lock. The task only keeps a weak reference to this manager, so managers that
+   * are no longer used stop being refreshed.
+   *
+   * @param delaySeconds the delay in seconds
+   * @param token the token to refresh
+   */
+  private void scheduleBackgroundRefresh(long delaySeconds, IamToken token) {
+    if (backgroundRefreshFuture != null) {
+      backgroundRefreshFuture.cancel(false);
+    }
+    backgroundRefreshFuture = getRefreshExecutor().schedule(new BackgroundRefreshTask(this, token), delaySeconds,
+        TimeUnit.SECONDS);
+  }
+
+  /**
+   * Refreshes the token from the background task, unless it has been replaced since the task was scheduled.
+   *
+   * @param scheduledToken the token when the task was scheduled
+   */
+  private void refreshInBackground(IamToken scheduledToken) {
+    if (!refreshLock.tryLock()) {
+      // a request thread is refreshing, which will also schedule the next background refresh
+      return;
+    }
+    try {
+      IamToken currentToken = tokenData;
+      if (currentToken != scheduledToken) {
+        // a request thread already renewed the token and scheduled its own refresh
+        return;
+      }
+      updateToken(currentToken.getAccessToken() != null && !isRefreshTokenExpired(currentToken));
+    } catch (RuntimeException e) {
+      LOG.log(Level.WARNING, "Background refresh of the IAM token failed, retrying in "
+          + BACKGROUND_RETRY_DELAY_SECONDS + " seconds", e);
+      scheduleBackgroundRefresh(BACKGROUND_RETRY_DELAY_SECONDS, tokenData);
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+
+  /**
+   * Gets the executor shared by all managers for background refreshes, creating it on first use.
+   *
+   * @return the executor
+   */
+  private static synchronized ScheduledExecutorService getRefreshExecutor() {
+    if (refreshExecutor == null) {
+      refreshExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+          Thread thread = new Thread(runnable, "IamTokenRefresher");
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+    }
+    return refreshExecutor;
+  }
+
+  /**
+   * Background task refreshing the token of a manager, as long as the manager is still referenced.
+   */
+  private static final class BackgroundRefreshTask implements Runnable {
+    private final WeakReference<IamTokenManager> managerReference;
+    private final IamToken token;
+
+    BackgroundRefreshTask(IamTokenManager manager, IamToken token) {
+      this.managerReference = new WeakReference<>(manager);
+      this.token = token;
+    }
+
+    @Override
+    public void run() {
+      IamTokenManager manager = managerReference.get();
+      if (manager != null) {
+        manager.refreshInBackground(token);
+      }
+    }
+  }
+
   /**
    * Executes call to IAM API and returns IamToken object representing the response.
    *
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service.security;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Process-wide registry of {@link IamTokenManager}s. Services created with the same API key and IAM URL share one
+ * manager, and therefore one token lifecycle, instead of each fetching and refreshing their own token.
+ *
+ * Managers are only weakly held, so a manager is released once no service uses it anymore.
+ */
+public final class IamTokenRegistry {
+  private static final Map<Key, ManagerReference> MANAGERS = new HashMap<>();
+  private static final ReferenceQueue<IamTokenManager> QUEUE = new ReferenceQueue<>();
+
+  private IamTokenRegistry() {
+  }
+
+  /**
+   * Gets the token manager for the given options. If the options contain an API key, the manager is shared with every
+   * other caller using the same API key and IAM URL. Options with a user-managed access token always get a new
+   * manager, since the caller is responsible for that token.
+   *
+   * @param options the IAM options
+   * @return the token manager
+   */
+  public static IamTokenManager getTokenManager(IamOptions options) {
+    if (options.getApiKey() == null || options.getAccessToken() != null) {
+      return new IamTokenManager(options);
+    }
+
+    Key key = new Key(options.getApiKey(), (options.getUrl() != null) ? options.getUrl()
+        : IamTokenManager.DEFAULT_IAM_URL);
+    synchronized (MANAGERS) {
+      expungeStaleEntries();
+      ManagerReference reference = MANAGERS.get(key);
+      IamTokenManager manager = (reference != null) ? reference.get() : null;
+      if (manager == null) {
+        manager = new IamTokenManager(options);
+        MANAGERS.put(key, new ManagerReference(key, manager, QUEUE));
+      } else if (options.shouldRefreshInBackground()) {
+        manager.enableBackgroundRefresh();
+      }
+      return manager;
+    }
+  }
+
+  /**
+   * Removes all managers from the registry. Services keep using the managers they already hold.
+   */
+  public static void clear() {
+    synchronized (MANAGERS) {
+      MANAGERS.clear();
+    }
+  }
+
+  /**
+   * Gets the number of managers currently held by the registry.
+   *
+   * @return the number of shared managers
+   */
+  public static int size() {
+    synchronized (MANAGERS) {
+      expungeStaleEntries();
+      return MANAGERS.size();
+    }
+  }
+
+  /**
+   * Removes the entries whose manager has been garbage collected. Must be called while holding the registry lock.
+   */
+  private static void expungeStaleEntries() {
+    Reference<? extends IamTokenManager> stale;
+    while ((stale = QUEUE.poll()) != null) {
+      ManagerReference reference = (ManagerReference) stale;
+      if (MANAGERS.get(reference.key) == reference) {
+        MANAGERS.remove(reference.key);
+      }
+    }
+  }
+
+  /**
+   * Weak reference to a manager that remembers its registry key.
+   */
+  private static final class ManagerReference extends WeakReference<IamTokenManager> {
+    private final Key key;
+
+    ManagerReference(Key key, IamTokenManager manager, ReferenceQueue<IamTokenManager> queue) {
+      super(manager, queue);
+      this.key = key;
+    }
+  }
+
+  /**
+   * Registry key made of the API key and the IAM URL.
+   */
+  private static final class Key {
+    private final String apiKey;
+    private final String url;
+
+    Key(String apiKey, String url) {
+      this.apiKey = apiKey;
+      this.url = url;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return apiKey.equals(other.apiKey) && url.equals(other.url);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * apiKey.hashCode() + url.hashCode();
+    }
+  }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+/**
+ * Source of the credentials of the services, such as the <code>VCAP_SERVICES</code> environment variable or JNDI.
+ *
+ * @see CredentialUtils#setCredentialProvider(CredentialProvider)
+ */
+public interface CredentialProvider {
+
+  /**
+   * Resolves all the credentials of a service at once.
+   *
+   * @param serviceName the service name, such as <code>speech_to_text</code>
+   * @return the credentials, or null if this provider has none for the service
+   */
+  ResolvedCredentials getCredentials(String serviceName);
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link CredentialProvider} asking a list of providers in order, and caching the credentials of each service until
+ * {@link #invalidate()} is called. Services without credentials are cached too.
+ */
+public class CredentialProviderChain implements CredentialProvider {
+  private static final ResolvedCredentials NONE = new ResolvedCredentials.Builder().build();
+
+  private final List<CredentialProvider> providers;
+  private final ConcurrentMap<String, ResolvedCredentials> cache = new ConcurrentHashMap<>();
+
+  /**
+   * Instantiates a new credential provider chain.
+   *
+   * @param providers the providers, in order of precedence
+   */
+  public CredentialProviderChain(CredentialProvider... providers) {
+    Validator.notEmpty(providers, "providers cannot be empty");
+    this.providers = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(providers)));
+  }
+
+  /**
+   * Gets the providers.
+   *
+   * @return the providers, in order of precedence
+   */
+  public List<CredentialProvider> getProviders() {
+    return providers;
+  }
+
+  /**
+   * Forgets the cached credentials, so that they are resolved again by the next services created.
+   */
+  public void invalidate() {
+    cache.clear();
+  }
+
+  /*
+   * (non-Javadoc)
+   *
+   * @see com.ibm.watson.developer_cloud.util.CredentialProvider#getCredentials(java.lang.String)
+   */
+  @Override
+  public ResolvedCredentials getCredentials(String serviceName) {
+    if (serviceName == null) {
+      return null;
+    }
+    ResolvedCredentials credentials = cache.get(serviceName);
+    if (credentials == null) {
+      credentials = NONE;
+      for (CredentialProvider provider : providers) {
+        ResolvedCredentials resolved = provider.getCredentials(serviceName);
+        if (resolved != null) {
+          credentials = resolved;
+          break;
+        }
+      }
+      cache.put(serviceName, credentials);
+    }
+    return (credentials != NONE) ? credentials : null;
+  }
+}
@@ -14,7 +14,6 @@ package com.ibm.watson.developer_cloud.util;
 
 import java.util.Hashtable;
 import java.util.Map.Entry;
-import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javax.naming.Context;
@@ -23,8 +22,6 @@ import javax.naming.InitialContext;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import com.google.gson.JsonSyntaxException;
 
 import okhttp3.Credentials;
 
@@ -98,6 +95,19 @@ public final class CredentialUtils {
   /** The context. */
   private static Context context;
 
+  /** Whether JNDI is available, checked on first use. */
+  private static volatile Boolean jndiAvailable;
+
+  /** The provider reading the VCAP_SERVICES. */
+  private static final VcapCredentialProvider VCAP_PROVIDER = new VcapCredentialProvider();
+
+  /** The default credential provider. */
+  private static final CredentialProviderChain DEFAULT_PROVIDER = new CredentialProviderChain(VCAP_PROVIDER,
+      new JndiCredentialProvider());
+
+  /** The credential provider. */
+  private static volatile CredentialProvider credentialProvider = DEFAULT_PROVIDER;
+
   /** The Constant USERNAME. */
   private static final String USERNAME = "username";
 
@@ -150,7 +160,10 @@ public final class CredentialUtils {
    * @return The encoded desired value
    */
   private static String getJDNIValue(String lookupName) {
-    if (!isClassAvailable("javax.naming.Context") || !isClassAvailable("javax.naming.InitialContext")) {
+    if (jndiAvailable == null) {
+      jndiAvailable = isClassAvailable("javax.naming.Context") && isClassAvailable("javax.naming.InitialContext");
+    }
+    if (!jndiAvailable) {
       log.info("JNDI string lookups is not available.");
       return null;
     }
@@ -181,20 +194,109 @@ public final class CredentialUtils {
    * @return the VCAP_SERVICES as a {@link JsonObject}.
    */
   private static JsonObject getVCAPServices() {
-    final String envServices = services != null ? services : System.getenv(VCAP_SERVICES);
-    if (envServices == null) {
+    return VCAP_PROVIDER.getServices();
+  }
+
+  /**
+   * Gets the <b>VCAP_SERVICES</b> environment variable, or the value set by {@link #setServices(String)}.
+   *
+   * @return the VCAP_SERVICES JSON, or null if it isn't set
+   */
+  static String getVCAPServicesJson() {
+    return services != null ? services : System.getenv(VCAP_SERVICES);
+  }
+
+  /**
+   * Resolves all the credentials of a service from the VCAP_SERVICES, like {@link #getIAMKey(String)},
+   * {@link #getIAMUrl(String)}, {@link #getAPIKey(String)} and {@link #getAPIUrl(String)}.
+   *
+   * @param vcapServices JSON object representing the VCAP_SERVICES
+   * @param serviceName the service name
+   * @return the credentials, or null if the service cannot be found
+   */
+  static ResolvedCredentials getCredentials(JsonObject vcapServices, String serviceName) {
+    final JsonObject credentials = getCredentialsObject(vcapServices, serviceName, null);
+    if (credentials == null) {
       return null;
     }
+    ResolvedCredentials.Builder builder = new ResolvedCredentials.Builder();
+    if (credentials.get(APIKEY) != null && credentials.get(IAM_API_KEY_NAME) != null) {
+      builder.iamApiKey(credentials.get(APIKEY).getAsString());
+    }
+    if (credentials.get(IAM_URL) != null) {
+      builder.iamUrl(credentials.get(IAM_URL).getAsString());
+    }
+    if (serviceName.equalsIgnoreCase(ALCHEMY_API)) {
+      if (credentials.has(APIKEY)) {
+        builder.apiKey(credentials.get(APIKEY).getAsString());
+      }
+    } else if (serviceName.equalsIgnoreCase(VISUAL_RECOGNITION)) {
+      if (credentials.has(API_KEY)) {
+        builder.apiKey(credentials.get(API_KEY).getAsString());
+      }
+    } else {
+      String username = credentials.has(USERNAME) ? credentials.get(USERNAME).getAsString() : null;
+      String password = credentials.has(PASSWORD) ? credentials.get(PASSWORD).getAsString() : null;
+      if ((username != null) || (password != null)) {
+        builder.usernameAndPassword(username, password);
+      }
+    }
+    if (credentials.has(URL)) {
+      builder.url(credentials.get(URL).getAsString());
+    }
+    return builder.build();
+  }
 
-    JsonObject vcapServices = null;
+  /**
+   * Gets the API key of a service through JNDI.
+   *
+   * @param serviceName the service name
+   * @return the API key, or null if it cannot be found
+   */
+  static String getJndiApiKey(String serviceName) {
+    return getJDNIValue(serviceName, LOOKUP_NAME_EXTENSION_API_KEY);
+  }
 
-    try {
-      final JsonParser parser = new JsonParser();
-      vcapServices = (JsonObject) parser.parse(envServices);
-    } catch (final JsonSyntaxException e) {
-      log.log(Level.INFO, "Error parsing VCAP_SERVICES", e);
+  /**
+   * Gets the URL of a service through JNDI.
+   *
+   * @param serviceName the service name
+   * @return the URL, or null if it cannot be found
+   */
+  static String getJndiUrl(String serviceName) {
+    return getJDNIValue(serviceName, LOOKUP_NAME_EXTENSION_URL);
+  }
+
+  /**
+   * Gets the provider of the credentials read by the services when they are created. By default, the credentials are
+   * read from the VCAP_SERVICES, or through JNDI, and cached until {@link #invalidateCredentials()} is called.
+   *
+   * @return the credential provider
+   */
+  public static CredentialProvider getCredentialProvider() {
+    return credentialProvider;
+  }
+
+  /**
+   * Sets the provider of the credentials read by the services when they are created.
+   *
+   * @param provider the credential provider, such as a {@link CredentialProviderChain}, or null to restore the
+   *          default provider
+   */
+  public static void setCredentialProvider(CredentialProvider provider) {
+    credentialProvider = (provider != null) ? provider : DEFAULT_PROVIDER;
+  }
+
+  /**
+   * Forgets the credentials cached by the default provider, or by the {@link CredentialProviderChain} set as provider,
+   * so that they are resolved again by the next services created.
+   */
+  public static void invalidateCredentials() {
+    DEFAULT_PROVIDER.invalidate();
+    CredentialProvider provider = credentialProvider;
+    if (provider instanceof CredentialProviderChain) {
+      ((CredentialProviderChain) provider).invalidate();
     }
-    return vcapServices;
   }
 
   /**
@@ -397,6 +499,7 @@ public final class CredentialUtils {
    */
   public static void setServices(String services) {
     CredentialUtils.services = services;
+    invalidateCredentials();
   }
 
   /**
@@ -410,6 +513,7 @@ public final class CredentialUtils {
     } catch (Exception e) {
       log.fine("Error setting up JDNI context: " + e.getMessage());
     }
+    invalidateCredentials();
   }
 
   /**
@@ -15,13 +15,12 @@ package com.ibm.watson.developer_cloud.util;
 import java.lang.reflect.Type;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
-import java.util.Arrays;
+import java.util.Calendar;
 import java.util.Date;
-import java.util.List;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
@@ -30,6 +29,10 @@ import com.google.gson.JsonParseException;
 
 /**
  * Date deserializer for different date format across all the Watson APIs.
+ *
+ * This class is thread-safe and doesn't lock. The shape of the string is checked once and the date is built directly
+ * for the formats returned by the services; any other string goes through the list of {@link SimpleDateFormat}s,
+ * which are kept per thread.
  */
 public class DateDeserializer implements JsonDeserializer<Date> {
   private static final String DATE_FROM_ALCHEMY = "yyyyMMdd'T'HHmmss";
@@ -42,23 +45,47 @@ public class DateDeserializer implements JsonDeserializer<Date> {
   private static final String DATE_822 = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
   private static final String DATE_822_WITHOUT_MS = "yyyy-MM-dd'T'HH:mm:ssZ";
 
-  // SimpleDateFormat is NOT thread safe - they require private visibility and synchronized access
-  private final SimpleDateFormat alchemyDateFormatter = new SimpleDateFormat(DATE_FROM_ALCHEMY);
-  private final SimpleDateFormat dialogDateFormatter = new SimpleDateFormat(DATE_FROM_DIALOG);
-  private final SimpleDateFormat utcDateFormatter = new SimpleDateFormat(DATE_UTC);
-  private final SimpleDateFormat utcWithoutSecondsDateFormatter = new SimpleDateFormat(DATE_WITHOUT_SECONDS);
-  private final SimpleDateFormat utcWithSecondsDateFormatter = new SimpleDateFormat(DATE_WITH_SECONDS);
-  private final SimpleDateFormat rfc822DateFormatter = new SimpleDateFormat(DATE_822);
-  private final SimpleDateFormat rfc822WithoutMsDateFormatter = new SimpleDateFormat(DATE_822_WITHOUT_MS);
+  private static final long MS_CHECK = 100000000000L;
+  private static final int MAX_EPOCH_DIGITS = 18;
+  private static final int MAX_FRACTION_DIGITS = 9;
 
-  private final List<SimpleDateFormat> dateFormatters =
-      Arrays.asList(utcDateFormatter, utcWithoutSecondsDateFormatter, dialogDateFormatter,
-              alchemyDateFormatter, utcWithSecondsDateFormatter);
+  private static final Logger LOG = Logger.getLogger(DateDeserializer.class.getName());
 
-  private final List<SimpleDateFormat> rfc822Formatters =
-      Arrays.asList(rfc822DateFormatter, rfc822WithoutMsDateFormatter);
+  // SimpleDateFormat and Calendar are NOT thread safe - each thread gets its own instances
+  private static final ThreadLocal<Calendar> LOCAL_CALENDAR = new ThreadLocal<Calendar>() {
+    @Override
+    protected Calendar initialValue() {
+      return new GregorianCalendar();
+    }
+  };
 
-  private static final Logger LOG = Logger.getLogger(DateDeserializer.class.getName());
+  private static final ThreadLocal<Calendar> UTC_CALENDAR = new ThreadLocal<Calendar>() {
+    @Override
+    protected Calendar initialValue() {
+      return new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+    }
+  };
+
+  private static final ThreadLocal<SimpleDateFormat[]> DATE_FORMATTERS = new ThreadLocal<SimpleDateFormat[]>() {
+    @Override
+    protected SimpleDateFormat[] initialValue() {
+      return new SimpleDateFormat[] {
+        new SimpleDateFormat(DATE_UTC),
+        new SimpleDateFormat(DATE_WITHOUT_SECONDS),
+        new SimpleDateFormat(DATE_FROM_DIALOG),
+        new SimpleDateFormat(DATE_FROM_ALCHEMY),
+        new SimpleDateFormat(DATE_WITH_SECONDS) };
+    }
+  };
+
+  private static final ThreadLocal<SimpleDateFormat[]> RFC822_FORMATTERS = new ThreadLocal<SimpleDateFormat[]>() {
+    @Override
+    protected SimpleDateFormat[] initialValue() {
+      return new SimpleDateFormat[] {
+        new SimpleDateFormat(DATE_822),
+        new SimpleDateFormat(DATE_822_WITHOUT_MS) };
+    }
+  };
 
   /*
    * (non-Javadoc)
@@ -67,19 +94,142 @@ public class DateDeserializer implements JsonDeserializer<Date> {
    * com.google.gson.JsonDeserializationContext)
    */
   @Override
-  public synchronized Date deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
+  public Date deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
       throws JsonParseException {
 
     if (json.isJsonNull() || json.getAsString().isEmpty()) {
       return null;
     }
 
-    String dateAsString = json.getAsJsonPrimitive().getAsString();
+    return parse(json.getAsJsonPrimitive().getAsString());
+  }
+
+  /**
+   * Parses a date in any of the formats returned by the services.
+   *
+   * @param dateAsString the date string, not empty
+   * @return the date, or null if the string isn't a date
+   */
+  static Date parse(String dateAsString) {
+    Date date = parseKnownFormat(dateAsString);
+    if (date == null) {
+      date = parseWithFormatters(dateAsString);
+    }
+    return date;
+  }
+
+  /**
+   * Parses the formats returned by the services without going through a {@link SimpleDateFormat}. The result is the
+   * same one the formatters would give for these strings.
+   *
+   * @param date the date string
+   * @return the date, or null if the string doesn't have one of the known shapes
+   */
+  private static Date parseKnownFormat(String date) {
+    int length = date.length();
+
+    // yyyy-MM-dd'T'HH:mm:ss with optional milliseconds and time zone
+    if (length >= 19 && date.charAt(4) == '-' && date.charAt(7) == '-' && date.charAt(10) == 'T'
+        && date.charAt(13) == ':' && date.charAt(16) == ':') {
+      int year = digits(date, 0, 4);
+      int month = digits(date, 5, 2);
+      int day = digits(date, 8, 2);
+      int hour = digits(date, 11, 2);
+      int minute = digits(date, 14, 2);
+      int second = digits(date, 17, 2);
+      if (year < 0 || month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0) {
+        return null;
+      }
+
+      int index = 19;
+      int millis = -1;
+      if (index < length && date.charAt(index) == '.') {
+        int end = index + 1;
+        while (end < length && date.charAt(end) >= '0' && date.charAt(end) <= '9') {
+          end++;
+        }
+        int count = end - index - 1;
+        if (count == 0 || count > MAX_FRACTION_DIGITS) {
+          return null;
+        }
+        // like SimpleDateFormat, the fraction is read as a number of milliseconds
+        millis = digits(date, index + 1, count);
+        index = end;
+      }
+
+      if (date.charAt(length - 1) == 'Z') {
+        if (index == length - 1) {
+          return toDate(UTC_CALENDAR.get(), year, month, day, hour, minute, second, Math.max(millis, 0));
+        }
+        // other text before the 'Z' is left to the RFC 822 formatters
+        return null;
+      }
+      if (millis >= 0 || index == length) {
+        // DATE_UTC ignores any text after the milliseconds
+        return toDate(LOCAL_CALENDAR.get(), year, month, day, hour, minute, second, Math.max(millis, 0));
+      }
+      if (index == length - 5 && (date.charAt(index) == '+' || date.charAt(index) == '-')) {
+        int offsetHours = digits(date, index + 1, 2);
+        int offsetMinutes = digits(date, index + 3, 2);
+        if (offsetHours < 0 || offsetHours > 23 || offsetMinutes < 0 || offsetMinutes > 59) {
+          return null;
+        }
+        long offset = (offsetHours * 60L + offsetMinutes) * 60000L;
+        Date utc = toDate(UTC_CALENDAR.get(), year, month, day, hour, minute, second, 0);
+        return new Date(date.charAt(index) == '+' ? utc.getTime() - offset : utc.getTime() + offset);
+      }
+      return null;
+    }
+
+    // yyyy-MM-dd HH:mm:ss
+    if (length == 19 && date.charAt(4) == '-' && date.charAt(7) == '-' && date.charAt(10) == ' '
+        && date.charAt(13) == ':' && date.charAt(16) == ':') {
+      int year = digits(date, 0, 4);
+      int month = digits(date, 5, 2);
+      int day = digits(date, 8, 2);
+      int hour = digits(date, 11, 2);
+      int minute = digits(date, 14, 2);
+      int second = digits(date, 17, 2);
+      if (year < 0 || month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0) {
+        return null;
+      }
+      return toDate(LOCAL_CALENDAR.get(), year, month, day, hour, minute, second, 0);
+    }
+
+    // yyyyMMdd'T'HHmmss
+    if (length == 15 && date.charAt(8) == 'T') {
+      int year = digits(date, 0, 4);
+      int month = digits(date, 4, 2);
+      int day = digits(date, 6, 2);
+      int hour = digits(date, 9, 2);
+      int minute = digits(date, 11, 2);
+      int second = digits(date, 13, 2);
+      if (year < 0 || month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0) {
+        return null;
+      }
+      return toDate(LOCAL_CALENDAR.get(), year, month, day, hour, minute, second, 0);
+    }
+
+    // seconds or milliseconds since epoch
+    if (length <= MAX_EPOCH_DIGITS && digits(date, 0, length) >= 0) {
+      return toEpochDate(Long.parseLong(date));
+    }
+
+    return null;
+  }
+
+  /**
+   * Parses the date with the list of {@link SimpleDateFormat}s, in the same order as the previous implementation.
+   *
+   * @param dateAsString the date string
+   * @return the date, or null if it can't be parsed
+   */
+  private static Date parseWithFormatters(String dateAsString) {
     ParseException e = null;
 
     if (dateAsString.endsWith("Z")) {
-      String dateWithTz = dateAsString.replaceAll("Z$", "+0000");
-      for (SimpleDateFormat format : rfc822Formatters) {
+      String dateWithTz = dateAsString.substring(0, dateAsString.length() - 1) + "+0000";
+      for (SimpleDateFormat format : RFC822_FORMATTERS.get()) {
         try {
           return format.parse(dateWithTz);
         } catch (ParseException e1) {
@@ -88,7 +238,7 @@ public class DateDeserializer implements JsonDeserializer<Date> {
       }
     }
 
-    for (SimpleDateFormat format : dateFormatters) {
+    for (SimpleDateFormat format : DATE_FORMATTERS.get()) {
       try {
         return format.parse(dateAsString);
       } catch (ParseException e1) {
@@ -96,22 +246,71 @@ public class DateDeserializer implements JsonDeserializer<Date> {
       }
     }
 
-    Pattern isJustNumber = Pattern.compile("^\\d+$");
-    Matcher foundMatch = isJustNumber.matcher(dateAsString);
-    if (foundMatch.find()) {
-      Long timeAsLong = Long.parseLong(dateAsString);
-      Long msCheck = 100000000000L;
-
-      // are we ms or seconds maybe?
-      if (timeAsLong < msCheck) {
-        // assuming in seconds
-        timeAsLong = timeAsLong * 1000;
-      }
-      return new Date(timeAsLong);
+    if (digits(dateAsString, 0, dateAsString.length()) >= 0) {
+      return toEpochDate(Long.parseLong(dateAsString));
     }
 
     LOG.log(Level.SEVERE, "Error parsing: " + dateAsString, e);
     return null;
   }
 
+  /**
+   * Gets the value of a run of ASCII digits.
+   *
+   * @param value the string
+   * @param start the index of the first digit
+   * @param count the number of digits
+   * @return the value, or -1 if the run is empty, too long for an int or contains anything but digits
+   */
+  private static int digits(String value, int start, int count) {
+    if (count == 0 || start + count > value.length()) {
+      return -1;
+    }
+    int result = 0;
+    for (int i = start; i < start + count; i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      // the value only matters for runs short enough to fit in an int
+      result = (count <= MAX_FRACTION_DIGITS) ? result * 10 + (c - '0') : 0;
+    }
+    return result;
+  }
+
+  /**
+   * Builds a date from its fields. Out-of-range values roll over, as with a lenient {@link SimpleDateFormat}.
+   *
+   * @param calendar the calendar for the time zone of the fields
+   * @param year the year
+   * @param month the month, starting at 1
+   * @param day the day of the month
+   * @param hour the hour of the day
+   * @param minute the minute
+   * @param second the second
+   * @param millis the milliseconds
+   * @return the date
+   */
+  private static Date toDate(Calendar calendar, int year, int month, int day, int hour, int minute, int second,
+      int millis) {
+    calendar.clear();
+    calendar.set(year, month - 1, day, hour, minute, second);
+    calendar.set(Calendar.MILLISECOND, millis);
+    return calendar.getTime();
+  }
+
+  /**
+   * Builds a date from a number of seconds or milliseconds since epoch.
+   *
+   * @param time the time since epoch
+   * @return the date
+   */
+  private static Date toEpochDate(long time) {
+    // are we ms or seconds maybe?
+    if (time < MS_CHECK) {
+      // assuming in seconds
+      time = time * 1000;
+    }
+    return new Date(time);
+  }
 }
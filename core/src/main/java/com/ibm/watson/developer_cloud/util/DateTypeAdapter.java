@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * This TypeAdapter reads and writes dates like {@link DateDeserializer} and {@link DateSerializer}, streaming the
+ * values instead of building a {@link com.google.gson.JsonElement} for each date, and without locking.
+ */
+public class DateTypeAdapter extends TypeAdapter<Date> {
+
+  // SimpleDateFormat is NOT thread safe - each thread gets its own instance
+  private static final ThreadLocal<SimpleDateFormat> UTC_FORMAT = new ThreadLocal<SimpleDateFormat>() {
+    @Override
+    protected SimpleDateFormat initialValue() {
+      return new SimpleDateFormat(DateDeserializer.DATE_UTC);
+    }
+  };
+
+  /*
+   * (non-Javadoc)
+   *
+   * @see com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter, java.lang.Object)
+   */
+  @Override
+  public void write(JsonWriter out, Date value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+    } else {
+      out.value(UTC_FORMAT.get().format(value));
+    }
+  }
+
+  /*
+   * (non-Javadoc)
+   *
+   * @see com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)
+   */
+  @Override
+  public Date read(JsonReader in) throws IOException {
+    JsonToken token = in.peek();
+    if (token == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    String dateAsString;
+    if (token == JsonToken.BOOLEAN) {
+      dateAsString = String.valueOf(in.nextBoolean());
+    } else if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+      dateAsString = in.nextString();
+    } else {
+      throw new JsonParseException("Expected a date but was " + token + " at " + in.getPath());
+    }
+    return dateAsString.isEmpty() ? null : DateDeserializer.parse(dateAsString);
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link CredentialProvider} reading a file in the format of the <code>VCAP_SERVICES</code> environment variable. The
+ * file is read again only when it is modified.
+ */
+public class FileCredentialProvider extends VcapCredentialProvider {
+  private static final Logger LOG = Logger.getLogger(FileCredentialProvider.class.getName());
+
+  private final File file;
+  private long lastModified;
+  private String json;
+
+  /**
+   * Instantiates a new file credential provider.
+   *
+   * @param file the credentials file
+   */
+  public FileCredentialProvider(File file) {
+    Validator.notNull(file, "file cannot be null");
+    this.file = file;
+  }
+
+  /*
+   * (non-Javadoc)
+   *
+   * @see com.ibm.watson.developer_cloud.util.VcapCredentialProvider#getServicesJson()
+   */
+  @Override
+  protected synchronized String getServicesJson() {
+    long modified = file.lastModified();
+    if (modified == 0) {
+      json = null;
+    } else if (json == null || modified != lastModified) {
+      try {
+        json = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        lastModified = modified;
+      } catch (IOException e) {
+        LOG.log(Level.WARNING, "Error reading the credentials file " + file, e);
+        json = null;
+      }
+    }
+    return json;
+  }
+}
@@ -23,8 +23,19 @@ import com.google.gson.GsonBuilder;
  */
 public final class GsonSingleton {
 
-  private static Gson gson;
-  private static Gson gsonWithoutPrinting;
+  /**
+   * Holds the Gson instance, created on first use without locking the following calls.
+   */
+  private static final class GsonHolder {
+    private static final Gson GSON = createGson(true);
+  }
+
+  /**
+   * Holds the Gson instance without pretty printing, created on first use without locking the following calls.
+   */
+  private static final class GsonWithoutPrintingHolder {
+    private static final Gson GSON = createGson(false);
+  }
 
   private GsonSingleton() {
     // This is a utility class - no instantiation allowed.
@@ -49,9 +60,8 @@ public final class GsonSingleton {
   }
 
   private static void registerTypeAdapters(GsonBuilder builder) {
-    // Date serializer and deserializer
-    builder.registerTypeAdapter(Date.class, new DateDeserializer());
-    builder.registerTypeAdapter(Date.class, new DateSerializer());
+    // Date serializer and deserializer, streaming the values
+    builder.registerTypeAdapter(Date.class, new DateTypeAdapter());
   }
 
   /**
@@ -59,11 +69,8 @@ public final class GsonSingleton {
    *
    * @return the Gson
    */
-  public static synchronized Gson getGson() {
-    if (gson == null) {
-      gson = createGson(true);
-    }
-    return gson;
+  public static Gson getGson() {
+    return GsonHolder.GSON;
   }
 
   /**
@@ -71,10 +78,7 @@ public final class GsonSingleton {
    *
    * @return the Gson
    */
-  public static synchronized Gson getGsonWithoutPrettyPrinting() {
-    if (gsonWithoutPrinting == null) {
-      gsonWithoutPrinting = createGson(false);
-    }
-    return gsonWithoutPrinting;
+  public static Gson getGsonWithoutPrettyPrinting() {
+    return GsonWithoutPrintingHolder.GSON;
   }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link CredentialProvider} holding credentials set by the application, such as the credentials of each tenant.
+ */
+public class InMemoryCredentialProvider implements CredentialProvider {
+  private final ConcurrentMap<String, ResolvedCredentials> credentials = new ConcurrentHashMap<>();
+
+  /**
+   * Sets the credentials of a service. The services already resolved by a {@link CredentialProviderChain} keep their
+   * credentials until it is invalidated.
+   *
+   * @param serviceName the service name
+   * @param credentials the credentials, or null to remove them
+   * @return this provider
+   */
+  public InMemoryCredentialProvider put(String serviceName, ResolvedCredentials credentials) {
+    Validator.notNull(serviceName, "serviceName cannot be null");
+    if (credentials == null) {
+      this.credentials.remove(serviceName);
+    } else {
+      this.credentials.put(serviceName, credentials);
+    }
+    return this;
+  }
+
+  /*
+   * (non-Javadoc)
+   *
+   * @see com.ibm.watson.developer_cloud.util.CredentialProvider#getCredentials(java.lang.String)
+   */
+  @Override
+  public ResolvedCredentials getCredentials(String serviceName) {
+    return (serviceName != null) ? credentials.get(serviceName) : null;
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+/**
+ * {@link CredentialProvider} looking up the API key and the URL of the services through JNDI, under
+ * <code>watson-developer-cloud/&lt;service name&gt;/credentials</code> and <code>/url</code>.
+ */
+public class JndiCredentialProvider implements CredentialProvider {
+
+  /*
+   * (non-Javadoc)
+   *
+   * @see com.ibm.watson.developer_cloud.util.CredentialProvider#getCredentials(java.lang.String)
+   */
+  @Override
+  public ResolvedCredentials getCredentials(String serviceName) {
+    if ((serviceName == null) || serviceName.isEmpty()) {
+      return null;
+    }
+    String apiKey = CredentialUtils.getJndiApiKey(serviceName);
+    String url = CredentialUtils.getJndiUrl(serviceName);
+    if (apiKey == null && url == null) {
+      return null;
+    }
+    return new ResolvedCredentials.Builder().apiKey(apiKey).url(url).build();
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import okhttp3.Credentials;
+
+/**
+ * The credentials and URL of a service, as resolved by a {@link CredentialProvider}.
+ */
+public class ResolvedCredentials {
+  private final String iamApiKey;
+  private final String iamUrl;
+  private final String apiKey;
+  private final String url;
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private String iamApiKey;
+    private String iamUrl;
+    private String apiKey;
+    private String url;
+
+    /**
+     * Builds the credentials.
+     *
+     * @return the credentials
+     */
+    public ResolvedCredentials build() {
+      return new ResolvedCredentials(this);
+    }
+
+    /**
+     * Sets the IAM API key.
+     *
+     * @param iamApiKey the IAM API key
+     * @return the builder
+     */
+    public Builder iamApiKey(String iamApiKey) {
+      this.iamApiKey = iamApiKey;
+      return this;
+    }
+
+    /**
+     * Sets the URL of the IAM token service.
+     *
+     * @param iamUrl the IAM URL
+     * @return the builder
+     */
+    public Builder iamUrl(String iamUrl) {
+      this.iamUrl = iamUrl;
+      return this;
+    }
+
+    /**
+     * Sets the API key: the value of the basic <code>Authorization</code> header, or the key of the services
+     * authenticated with an API key.
+     *
+     * @param apiKey the API key
+     * @return the builder
+     */
+    public Builder apiKey(String apiKey) {
+      this.apiKey = apiKey;
+      return this;
+    }
+
+    /**
+     * Sets the API key from a username and password.
+     *
+     * @param username the username
+     * @param password the password
+     * @return the builder
+     */
+    public Builder usernameAndPassword(String username, String password) {
+      this.apiKey = Credentials.basic(username, password);
+      return this;
+    }
+
+    /**
+     * Sets the service URL.
+     *
+     * @param url the URL
+     * @return the builder
+     */
+    public Builder url(String url) {
+      this.url = url;
+      return this;
+    }
+  }
+
+  private ResolvedCredentials(Builder builder) {
+    this.iamApiKey = builder.iamApiKey;
+    this.iamUrl = builder.iamUrl;
+    this.apiKey = builder.apiKey;
+    this.url = builder.url;
+  }
+
+  /**
+   * Gets the IAM API key.
+   *
+   * @return the IAM API key, or null
+   */
+  public String getIamApiKey() {
+    return iamApiKey;
+  }
+
+  /**
+   * Gets the URL of the IAM token service.
+   *
+   * @return the IAM URL, or null for the default URL
+   */
+  public String getIamUrl() {
+    return iamUrl;
+  }
+
+  /**
+   * Gets the API key.
+   *
+   * @return the API key, or null
+   */
+  public String getApiKey() {
+    return apiKey;
+  }
+
+  /**
+   * Gets the service URL.
+   *
+   * @return the URL, or null for the default URL of the service
+   */
+  public String getUrl() {
+    return url;
+  }
+}
@@ -15,7 +15,6 @@ package com.ibm.watson.developer_cloud.util;
 import java.io.InputStream;
 import java.lang.reflect.Type;
 
-import com.google.gson.JsonObject;
 import com.ibm.watson.developer_cloud.http.ResponseConverter;
 
 import com.ibm.watson.developer_cloud.service.model.ObjectModel;
@@ -44,8 +43,7 @@ public final class ResponseConverterUtils {
     return new ResponseConverter<T>() {
       @Override
       public T convert(Response response) {
-        JsonObject json = ResponseUtils.getJsonObject(response);
-        return GsonSingleton.getGsonWithoutPrettyPrinting().fromJson(json.get(property), type);
+        return ResponseUtils.getObjectProperty(response, type, property);
       }
     };
   }
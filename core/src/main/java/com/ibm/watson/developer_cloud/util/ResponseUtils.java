@@ -14,6 +14,7 @@ package com.ibm.watson.developer_cloud.util;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Type;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -24,6 +25,8 @@ import com.google.gson.stream.JsonReader;
 
 import com.ibm.watson.developer_cloud.service.model.ObjectModel;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
 
 /**
  * Utility class to manage service responses.
@@ -96,6 +99,58 @@ public final class ResponseUtils {
     }
   }
 
+  /**
+   * Parses a single property of the JSON object in the {@link Response} into the given type. The body is read as a
+   * stream: properties before the wanted one are skipped without being materialized, and reading stops after it.
+   *
+   * @param <T> the generic type to use when parsing the property
+   * @param response the HTTP response
+   * @param type the type of the property
+   * @param property the name of the top-level property to parse
+   * @return the parsed property, or null if the response doesn't contain it
+   */
+  public static <T> T getObjectProperty(Response response, Type type, String property) {
+    try {
+      JsonReader reader = new JsonReader(response.body().charStream());
+      reader.beginObject();
+      while (reader.hasNext()) {
+        if (property.equals(reader.nextName())) {
+          // the rest of the body isn't needed
+          return GsonSingleton.getGsonWithoutPrettyPrinting().fromJson(reader, type);
+        }
+        reader.skipValue();
+      }
+      return null;
+    } catch (final IOException e) {
+      LOG.log(Level.SEVERE, ERROR_MESSAGE, e);
+      throw new RuntimeException(ERROR_MESSAGE, e);
+    } finally {
+      response.body().close();
+    }
+  }
+
+  /**
+   * Returns a String representation of at most the first {@code maxBytes} bytes of the response. The body is closed
+   * afterwards, so larger bodies are never fully read into memory.
+   *
+   * @param response an HTTP response
+   * @param maxBytes the maximum number of bytes to read
+   * @return the beginning of the content body as String
+   */
+  public static String getString(Response response, long maxBytes) {
+    ResponseBody body = response.body();
+    try {
+      BufferedSource source = body.source();
+      source.request(maxBytes);
+      return source.readUtf8(Math.min(source.buffer().size(), maxBytes));
+    } catch (final IOException e) {
+      LOG.log(Level.SEVERE, ERROR_MESSAGE, e);
+      throw new RuntimeException(ERROR_MESSAGE, e);
+    } finally {
+      body.close();
+    }
+  }
+
   /**
    * Returns a String representation of the response.
    *
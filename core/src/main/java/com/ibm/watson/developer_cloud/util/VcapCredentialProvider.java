@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+
+/**
+ * {@link CredentialProvider} reading the <code>VCAP_SERVICES</code> environment variable. The JSON is parsed once, and
+ * again only when the variable changes.
+ */
+public class VcapCredentialProvider implements CredentialProvider {
+  private static final Logger LOG = Logger.getLogger(VcapCredentialProvider.class.getName());
+
+  private volatile String parsedJson;
+  private volatile JsonObject parsedServices;
+
+  /**
+   * Gets the JSON describing the services, in the format of <code>VCAP_SERVICES</code>.
+   *
+   * @return the JSON, or null if there is none
+   */
+  protected String getServicesJson() {
+    return CredentialUtils.getVCAPServicesJson();
+  }
+
+  /**
+   * Gets the parsed services.
+   *
+   * @return the services, or null if there are none or the JSON is invalid
+   */
+  JsonObject getServices() {
+    String json = getServicesJson();
+    if (json == null) {
+      return null;
+    }
+    synchronized (this) {
+      if (!json.equals(parsedJson)) {
+        JsonObject services = null;
+        try {
+          services = (JsonObject) new JsonParser().parse(json);
+        } catch (final JsonSyntaxException e) {
+          LOG.log(Level.INFO, "Error parsing VCAP_SERVICES", e);
+        }
+        parsedServices = services;
+        parsedJson = json;
+      }
+      return parsedServices;
+    }
+  }
+
+  /*
+   * (non-Javadoc)
+   *
+   * @see com.ibm.watson.developer_cloud.util.CredentialProvider#getCredentials(java.lang.String)
+   */
+  @Override
+  public ResolvedCredentials getCredentials(String serviceName) {
+    if ((serviceName == null) || serviceName.isEmpty()) {
+      return null;
+    }
+    JsonObject services = getServices();
+    return (services != null) ? CredentialUtils.getCredentials(services, serviceName) : null;
+  }
+}
@@ -2,10 +2,14 @@ package com.ibm.watson.developer_cloud.http;
 
 import org.junit.Test;
 
+import okhttp3.OkHttpClient;
+
 import java.net.InetSocketAddress;
 import java.net.Proxy;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  * Unit tests for the HttpConfigOptions object.
@@ -23,4 +27,44 @@ public class HttpConfigTest {
     assertEquals(true, configOptions.shouldDisableSslVerification());
     assertEquals(proxy, configOptions.getProxy());
   }
+
+  @Test
+  public void testConnectionPoolOptions() {
+    HttpConfigOptions configOptions = new HttpConfigOptions.Builder()
+        .maxIdleConnections(20)
+        .keepAliveDuration(2, TimeUnit.MINUTES)
+        .maxRequests(128)
+        .maxRequestsPerHost(32)
+        .build();
+
+    assertEquals(Integer.valueOf(20), configOptions.getMaxIdleConnections());
+    assertEquals(Long.valueOf(120000), configOptions.getKeepAliveDurationMillis());
+    assertEquals(Integer.valueOf(128), configOptions.getMaxRequests());
+    assertEquals(Integer.valueOf(32), configOptions.getMaxRequestsPerHost());
+  }
+
+  @Test
+  public void testClientsSharePoolAndDispatcher() {
+    HttpClientSingleton singleton = HttpClientSingleton.getInstance();
+    singleton.configureClient(new HttpConfigOptions.Builder()
+        .maxIdleConnections(10)
+        .maxRequests(100)
+        .maxRequestsPerHost(20)
+        .build());
+    OkHttpClient first = singleton.createHttpClient();
+
+    // the pool is kept once its limits are set
+    singleton.configureClient(new HttpConfigOptions.Builder()
+        .proxy(Proxy.NO_PROXY)
+        .maxIdleConnections(20)
+        .build());
+    OkHttpClient second = singleton.createHttpClient();
+
+    assertSame(first.connectionPool(), second.connectionPool());
+    assertSame(first.dispatcher(), second.dispatcher());
+    assertEquals(100, first.dispatcher().getMaxRequests());
+    assertEquals(20, first.dispatcher().getMaxRequestsPerHost());
+    assertEquals(0, singleton.getQueuedCallsCount());
+    assertSame(singleton, HttpClientSingleton.getInstance());
+  }
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import com.google.gson.JsonObject;
+import com.ibm.watson.developer_cloud.util.GsonSingleton;
+import okhttp3.RequestBody;
+import okio.Buffer;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures the time and the memory allocated to build and send the JSON body of a call, such as the body of
+ * <code>assistant.message</code>, with {@link JsonRequestBody} and with the previous JSON tree printed to a String.
+ *
+ * The allocated bytes are read from the <code>com.sun.management.ThreadMXBean</code> of the current thread, so the
+ * benchmark needs a HotSpot-based JVM.
+ *
+ * <pre>
+ * java -cp ... com.ibm.watson.developer_cloud.http.JsonRequestBodyBenchmark [iterations]
+ * </pre>
+ */
+public final class JsonRequestBodyBenchmark {
+
+  private JsonRequestBodyBenchmark() { }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args the number of iterations per round, 100000 by default
+   * @throws IOException if a body cannot be written
+   */
+  public static void main(String[] args) throws IOException {
+    int iterations = (args.length > 0) ? Integer.parseInt(args[0]) : 100000;
+    Map<String, Object> input = new HashMap<>();
+    input.put("text", "I would like to turn on the headlights and the windshield wipers, please");
+    Map<String, Object> context = createContext();
+
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+    for (int round = 0; round < 5; round++) {
+      long[] stream = measure(true, input, context, iterations, threads, threadId);
+      long[] tree = measure(false, input, context, iterations, threads, threadId);
+      System.out.printf("round %d: stream %6d ns %7d B/body, tree %6d ns %7d B/body%n", round, stream[0], stream[1],
+          tree[0], tree[1]);
+    }
+  }
+
+  private static Map<String, Object> createContext() {
+    Map<String, Object> system = new HashMap<>();
+    List<String> dialogStack = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      dialogStack.add("node_" + i + "_1502484041456");
+    }
+    system.put("dialog_stack", dialogStack);
+    system.put("dialog_turn_counter", 12);
+    system.put("dialog_request_counter", 12);
+    system.put("branch_exited", true);
+    Map<String, Object> context = new HashMap<>();
+    context.put("conversation_id", "1b7b67c0-90ed-45dc-8508-9488bc483d5b");
+    context.put("system", system);
+    context.put("appliances", Arrays.asList("headlights", "wipers", "radio", "air conditioning"));
+    return context;
+  }
+
+  private static long[] measure(boolean stream, Map<String, Object> input, Map<String, Object> context,
+      int iterations, com.sun.management.ThreadMXBean threads, long threadId) throws IOException {
+    long size = 0;
+    long allocated = threads.getThreadAllocatedBytes(threadId);
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      RequestBody body = stream ? buildStream(input, context) : buildTree(input, context);
+      Buffer sink = new Buffer();
+      body.writeTo(sink);
+      size += sink.size();
+      sink.clear();
+    }
+    long elapsed = System.nanoTime() - start;
+    allocated = threads.getThreadAllocatedBytes(threadId) - allocated;
+    if (size == 0) {
+      System.out.println();
+    }
+    return new long[] { elapsed / iterations, allocated / iterations };
+  }
+
+  private static RequestBody buildStream(Map<String, Object> input, Map<String, Object> context) throws IOException {
+    RequestBody body = new JsonRequestBody.Builder()
+        .add("input", input)
+        .add("alternate_intents", true)
+        .add("context", context)
+        .build();
+    // OkHttp asks for the length before writing the body
+    body.contentLength();
+    return body;
+  }
+
+  private static RequestBody buildTree(Map<String, Object> input, Map<String, Object> context) {
+    JsonObject contentJson = new JsonObject();
+    contentJson.add("input", GsonSingleton.getGson().toJsonTree(input));
+    contentJson.addProperty("alternate_intents", true);
+    contentJson.add("context", GsonSingleton.getGson().toJsonTree(context));
+    return RequestBody.create(HttpMediaType.JSON, contentJson.toString());
+  }
+}
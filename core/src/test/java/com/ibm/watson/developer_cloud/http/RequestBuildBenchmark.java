@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+
+/**
+ * Measures the cost of building the request of a call, such as <code>assistant.message</code>, with the cached URL
+ * templates and with the previous parsing of the end point and URL on every call.
+ *
+ * <pre>
+ * java -cp ... com.ibm.watson.developer_cloud.http.RequestBuildBenchmark [iterations]
+ * </pre>
+ */
+public final class RequestBuildBenchmark {
+  private static final String END_POINT = "https://gateway.watsonplatform.net/assistant/api";
+  private static final String WORKSPACE_ID = "9978a49e-ea89-4493-b33d-82298d3db20d";
+
+  private RequestBuildBenchmark() { }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args the number of iterations per round, 1000000 by default
+   */
+  public static void main(String[] args) {
+    int iterations = (args.length > 0) ? Integer.parseInt(args[0]) : 1000000;
+    for (int round = 0; round < 5; round++) {
+      System.out.printf("round %d: templates %6.0f ns/call, parsing %6.0f ns/call%n", round,
+          measure(true, iterations), measure(false, iterations));
+    }
+  }
+
+  private static double measure(boolean templates, int iterations) {
+    int hash = 0;
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      Request request = templates ? buildWithTemplate() : buildByParsing();
+      hash += request.url().pathSize();
+    }
+    long elapsed = System.nanoTime() - start;
+    if (hash == 0) {
+      System.out.println();
+    }
+    return (double) elapsed / iterations;
+  }
+
+  private static Request buildWithTemplate() {
+    String[] pathSegments = { "v1/workspaces", "message" };
+    String[] pathParameters = { WORKSPACE_ID };
+    return RequestBuilder.post(RequestBuilder.constructHttpUrl(END_POINT, pathSegments, pathParameters))
+        .query("version", "2018-07-10")
+        .build();
+  }
+
+  private static Request buildByParsing() {
+    String[] pathSegments = { "v1/workspaces", "message" };
+    String[] pathParameters = { WORKSPACE_ID };
+    HttpUrl.Builder urlBuilder = HttpUrl.parse(END_POINT).newBuilder();
+    for (int i = 0; i < pathSegments.length; i++) {
+      urlBuilder.addPathSegments(pathSegments[i]);
+      if (i < pathParameters.length) {
+        urlBuilder.addPathSegment(pathParameters[i]);
+      }
+    }
+    String url = urlBuilder.build().newBuilder().addQueryParameter("version", "2018-07-10").build().uri().toString();
+    return new Request.Builder()
+        .url(url)
+        .post(RequestBody.create(null, new byte[0]))
+        .header(HttpHeaders.ACCEPT, HttpMediaType.APPLICATION_JSON)
+        .build();
+  }
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import jersey.repackaged.jsr166e.CompletableFuture;
+import okhttp3.Protocol;
+import okhttp3.Request;
+
+/**
+ * Unit tests for the {@link ServiceCallBatch}.
+ */
+public class ServiceCallBatchTest {
+
+  private static final okhttp3.Response HTTP_RESPONSE = new okhttp3.Response.Builder()
+      .request(new Request.Builder().url("http://localhost/").build())
+      .protocol(Protocol.HTTP_1_1)
+      .code(200)
+      .message("OK")
+      .build();
+
+  /**
+   * A call completed by the test.
+   */
+  private static class TestCall implements ServiceCall<String> {
+    private final CompletableFuture<Response<String>> future = new CompletableFuture<Response<String>>();
+    private final List<TestCall> sent;
+
+    TestCall(List<TestCall> sent) {
+      this.sent = sent;
+    }
+
+    void complete() {
+      future.complete(new Response<String>("result", HTTP_RESPONSE));
+    }
+
+    @Override
+    public ServiceCall<String> addHeader(String name, String value) {
+      return this;
+    }
+
+    @Override
+    public ServiceCall<String> retryPolicy(RetryPolicy retryPolicy) {
+      return this;
+    }
+
+    @Override
+    public String execute() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Response<String> executeWithDetails() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void enqueue(ServiceCallback<? super String> callback) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void enqueueWithDetails(ServiceCallbackWithDetails<String> callback) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public CompletableFuture<String> rx() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public CompletableFuture<Response<String>> rxWithDetails() {
+      sent.add(this);
+      return future;
+    }
+  }
+
+  /**
+   * Test that an ordered batch counts the results held back behind a slow call against its concurrency, so it keeps
+   * at most that many calls sent and not yet passed to the listener.
+   */
+  @Test
+  public void testOrderedBatchBoundsResultsHeldBack() {
+    final List<TestCall> sent = Collections.synchronizedList(new ArrayList<TestCall>());
+    List<TestCall> calls = new ArrayList<TestCall>();
+    for (int i = 0; i < 10; i++) {
+      calls.add(new TestCall(sent));
+    }
+    final List<Integer> indexes = Collections.synchronizedList(new ArrayList<Integer>());
+    int maxInFlight = 0;
+    ServiceCallBatch batch = new ServiceCallBatch.Builder().minConcurrency(3).maxConcurrency(3).ordered(true).build();
+    CompletableFuture<Void> done = batch.run(calls, new ServiceCallBatch.Listener<String>() {
+      @Override
+      public void onResponse(int index, Response<String> response) {
+        indexes.add(index);
+      }
+
+      @Override
+      public void onFailure(int index, Exception e) {
+        indexes.add(index);
+      }
+    });
+    assertEquals(3, sent.size());
+
+    // the first call hangs: the results of the next ones are held back and no more calls are sent
+    sent.get(1).complete();
+    sent.get(2).complete();
+    assertEquals(3, sent.size());
+    assertTrue(indexes.isEmpty());
+
+    sent.get(0).complete();
+    assertEquals(6, sent.size());
+    assertEquals(3, indexes.size());
+
+    for (int i = 3; i < 10; i++) {
+      maxInFlight = Math.max(maxInFlight, sent.size() - indexes.size());
+      assertFalse(done.isDone());
+      sent.get(i).complete();
+    }
+    assertTrue(done.isDone());
+    assertEquals(10, indexes.size());
+    for (int i = 0; i < 10; i++) {
+      assertEquals(i, (int) indexes.get(i));
+    }
+    assertTrue(maxInFlight <= 3);
+  }
+}
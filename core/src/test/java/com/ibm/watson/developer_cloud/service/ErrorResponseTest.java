@@ -13,8 +13,12 @@
 package com.ibm.watson.developer_cloud.service;
 
 import com.ibm.watson.developer_cloud.WatsonServiceUnitTest;
+import com.ibm.watson.developer_cloud.http.HttpClientSingleton;
 import com.ibm.watson.developer_cloud.http.HttpMediaType;
+import com.ibm.watson.developer_cloud.http.RateLimitExceededException;
+import com.ibm.watson.developer_cloud.http.RateLimiter;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
+import com.ibm.watson.developer_cloud.http.RetryPolicy;
 import com.ibm.watson.developer_cloud.http.ServiceCall;
 import com.ibm.watson.developer_cloud.service.exception.BadRequestException;
 import com.ibm.watson.developer_cloud.service.exception.ConflictException;
@@ -28,13 +32,22 @@ import com.ibm.watson.developer_cloud.service.exception.UnauthorizedException;
 import com.ibm.watson.developer_cloud.service.exception.UnsupportedException;
 import com.ibm.watson.developer_cloud.service.model.GenericModel;
 import com.ibm.watson.developer_cloud.util.ResponseConverterUtils;
+import jersey.repackaged.jsr166e.CompletableFuture;
 import okhttp3.HttpUrl;
 import okhttp3.mockwebserver.MockResponse;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class ErrorResponseTest extends WatsonServiceUnitTest {
 
@@ -50,6 +63,22 @@ public class ErrorResponseTest extends WatsonServiceUnitTest {
       RequestBuilder builder = RequestBuilder.get(HttpUrl.parse(getEndPoint() + "/v1/test"));
       return createServiceCall(builder.build(), ResponseConverterUtils.getObject(GenericModel.class));
     }
+
+    public ServiceCall<String> testStringMethod() {
+      RequestBuilder builder = RequestBuilder.get(HttpUrl.parse(getEndPoint() + "/v1/test"));
+      return createServiceCall(builder.build(), ResponseConverterUtils.getString());
+    }
+
+    public ServiceCall<String> testLimitedMethod() {
+      RequestBuilder builder = RequestBuilder.get(HttpUrl.parse(getEndPoint() + "/v1/test"));
+      return createServiceCall("testLimitedMethod", builder.build(), ResponseConverterUtils.getString());
+    }
+
+    public ServiceCall<String> testStreamMethod(InputStream stream) {
+      RequestBuilder builder = RequestBuilder.post(HttpUrl.parse(getEndPoint() + "/v1/test"));
+      builder.bodyContent(stream, HttpMediaType.APPLICATION_OCTET_STREAM);
+      return createServiceCall(builder.build(), ResponseConverterUtils.getString());
+    }
   }
 
   private TestService service;
@@ -287,4 +316,192 @@ public class ErrorResponseTest extends WatsonServiceUnitTest {
       assertEquals(message, ex.getMessage());
     }
   }
+
+  /**
+   * Test that the error message is taken from the field with the highest precedence, wherever it appears.
+   */
+  @Test
+  public void testErrorMessagePrecedence() {
+
+    String message = "The request failed because the moon is full.";
+    server.enqueue(new MockResponse()
+        .setResponseCode(400)
+        .addHeader(CONTENT_TYPE, HttpMediaType.APPLICATION_JSON)
+        .setBody("{\"message\": \"ignored\", \"details\": {\"error\": \"nested\"}, \"error\": \"" + message
+            + "\", \"code\": 400}"));
+
+    try {
+      service.testMethod().execute();
+    } catch (Exception e) {
+      assertTrue(e instanceof BadRequestException);
+      assertEquals(message, e.getMessage());
+    }
+  }
+
+  /**
+   * Test that a request rejected with HTTP 429 is sent again after the delay asked by the service.
+   */
+  @Test
+  public void testTooManyRequestsRetried() {
+    long retries = HttpClientSingleton.getInstance().getRetryCount();
+    server.enqueue(new MockResponse()
+        .setResponseCode(429)
+        .addHeader("Retry-After", "0")
+        .setBody("{\"error\": \"Too many requests\"}"));
+    server.enqueue(new MockResponse().setBody("ok"));
+
+    RetryPolicy policy = new RetryPolicy.Builder().initialDelay(1, TimeUnit.MILLISECONDS).build();
+    assertEquals("ok", service.testStringMethod().retryPolicy(policy).execute());
+
+    assertEquals(2, server.getRequestCount());
+    assertEquals(retries + 1, HttpClientSingleton.getInstance().getRetryCount());
+  }
+
+  /**
+   * Test that a request isn't retried when the service asks, with an HTTP date, to wait longer than the maximum delay.
+   */
+  @Test
+  public void testTooManyRequestsRetryAfterDate() {
+    long giveUps = HttpClientSingleton.getInstance().getRetryGiveUpCount();
+    server.enqueue(new MockResponse()
+        .setResponseCode(429)
+        .addHeader("Retry-After", "Fri, 31 Dec 2100 23:59:59 GMT")
+        .setBody("{\"error\": \"Too many requests\"}"));
+
+    RetryPolicy policy = new RetryPolicy.Builder().initialDelay(1, TimeUnit.MILLISECONDS).build();
+    try {
+      service.testStringMethod().retryPolicy(policy).execute();
+      fail("the request should not be retried");
+    } catch (TooManyRequestsException e) {
+      assertEquals(1, server.getRequestCount());
+      assertEquals(giveUps + 1, HttpClientSingleton.getInstance().getRetryGiveUpCount());
+    }
+  }
+
+  /**
+   * Test that an asynchronous call is retried without blocking a thread of the dispatcher while it waits.
+   *
+   * @throws Exception the exception
+   */
+  @Test
+  public void testTooManyRequestsRetriedAsync() throws Exception {
+    long retries = HttpClientSingleton.getInstance().getRetryCount();
+    server.enqueue(new MockResponse()
+        .setResponseCode(429)
+        .addHeader("Retry-After", "1")
+        .setBody("{\"error\": \"Too many requests\"}"));
+    server.enqueue(new MockResponse().setBody("ok"));
+
+    RetryPolicy policy = new RetryPolicy.Builder().initialDelay(1, TimeUnit.MILLISECONDS).build();
+    CompletableFuture<String> result = service.testStringMethod().retryPolicy(policy).rx();
+    Thread.sleep(500);
+    // the retry is scheduled on a timer, no call is running while it waits
+    assertEquals(0, HttpClientSingleton.getInstance().getRunningCallsCount());
+    assertEquals("ok", result.get());
+
+    assertEquals(2, server.getRequestCount());
+    assertEquals(retries + 1, HttpClientSingleton.getInstance().getRetryCount());
+  }
+
+  /**
+   * Test that a streamed request body is sent again when the request is retried.
+   *
+   * @throws InterruptedException the interrupted exception
+   */
+  @Test
+  public void testStreamedBodyRetried() throws InterruptedException {
+    byte[] content = new byte[100000];
+    new Random().nextBytes(content);
+    server.enqueue(new MockResponse().setResponseCode(503).setBody("{\"error\": \"Service Unavailable\"}"));
+    server.enqueue(new MockResponse().setBody("ok"));
+
+    RetryPolicy policy = new RetryPolicy.Builder().initialDelay(1, TimeUnit.MILLISECONDS).spoolStreams(true).build();
+    service.testStreamMethod(new ByteArrayInputStream(content)).retryPolicy(policy).execute();
+
+    assertArrayEquals(content, server.takeRequest().getBody().readByteArray());
+    assertArrayEquals(content, server.takeRequest().getBody().readByteArray());
+  }
+
+  /**
+   * Test that the error is returned once the retries are exhausted.
+   */
+  @Test
+  public void testRetriesExhausted() {
+    long giveUps = HttpClientSingleton.getInstance().getRetryGiveUpCount();
+    for (int i = 0; i < 2; i++) {
+      server.enqueue(new MockResponse().setResponseCode(429).setBody("{\"error\": \"Too many requests\"}"));
+    }
+
+    RetryPolicy policy = new RetryPolicy.Builder().maxRetries(1).initialDelay(1, TimeUnit.MILLISECONDS).build();
+    try {
+      service.testMethod().retryPolicy(policy).execute();
+      fail("the request should have failed");
+    } catch (TooManyRequestsException e) {
+      assertEquals(2, server.getRequestCount());
+      assertEquals(giveUps + 1, HttpClientSingleton.getInstance().getRetryGiveUpCount());
+    }
+  }
+
+  /**
+   * Test the exponential backoff of the retry policy.
+   */
+  @Test
+  public void testRetryPolicyDelay() {
+    RetryPolicy policy = new RetryPolicy.Builder()
+        .initialDelay(100, TimeUnit.MILLISECONDS)
+        .maxDelay(1, TimeUnit.SECONDS)
+        .build();
+
+    long delay = policy.getDelayMillis(3, -1);
+    assertTrue(delay > 200 && delay <= 400);
+    assertTrue(policy.getDelayMillis(10, -1) <= 1000);
+    assertEquals(800, policy.getDelayMillis(1, 800));
+    assertEquals(-1, policy.getDelayMillis(1, 2000));
+    assertFalse(RetryPolicy.NONE.isRetryable(429));
+  }
+
+  /**
+   * Test that a rate limited operation fails fast without sending the request when its quota is used up.
+   */
+  @Test
+  public void testRateLimitFailsFast() {
+    server.enqueue(new MockResponse().setBody("ok"));
+    service.setRateLimiter("testLimitedMethod", new RateLimiter.Builder()
+        .rate(1, 1, TimeUnit.MINUTES)
+        .maxWait(0, TimeUnit.MILLISECONDS)
+        .build());
+
+    assertEquals("ok", service.testLimitedMethod().execute());
+    try {
+      service.testLimitedMethod().execute();
+      fail("the request should have been limited");
+    } catch (RateLimitExceededException e) {
+      assertTrue(e.getWaitMillis() > 0);
+      assertEquals(1, server.getRequestCount());
+    }
+    // other operations aren't limited
+    server.enqueue(new MockResponse().setBody("ok"));
+    assertEquals("ok", service.testStringMethod().execute());
+  }
+
+  /**
+   * Test that the asynchronous calls of a rate limited operation are sent once their quota is available.
+   *
+   * @throws Exception the exception
+   */
+  @Test
+  public void testRateLimitDelaysRx() throws Exception {
+    server.enqueue(new MockResponse().setBody("first"));
+    server.enqueue(new MockResponse().setBody("second"));
+    service.setRateLimiter("testLimitedMethod", new RateLimiter.Builder()
+        .rate(1, 300, TimeUnit.MILLISECONDS)
+        .build());
+
+    long start = System.nanoTime();
+    CompletableFuture<String> first = service.testLimitedMethod().rx();
+    CompletableFuture<String> second = service.testLimitedMethod().rx();
+    assertEquals("first", first.get());
+    assertEquals("second", second.get());
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 250);
+  }
 }
@@ -13,13 +13,32 @@
 package com.ibm.watson.developer_cloud.service;
 
 import com.ibm.watson.developer_cloud.WatsonServiceUnitTest;
+import com.ibm.watson.developer_cloud.http.HttpHeaders;
+import com.ibm.watson.developer_cloud.http.ServiceCall;
 import com.ibm.watson.developer_cloud.service.security.IamOptions;
 import com.ibm.watson.developer_cloud.service.security.IamToken;
 import com.ibm.watson.developer_cloud.service.security.IamTokenManager;
+import com.ibm.watson.developer_cloud.service.security.IamTokenRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class IamManagerTest extends WatsonServiceUnitTest {
 
@@ -94,4 +113,134 @@ public class IamManagerTest extends WatsonServiceUnitTest {
 
     assertEquals(validTokenData.getAccessToken(), newToken);
   }
+
+  /**
+   * Tests that concurrent callers without a valid token share a single request to the IAM API.
+   */
+  @Test
+  public void getTokenConcurrentlyMakesSingleRequest() throws Exception {
+    server.enqueue(jsonResponse(validTokenData).setBodyDelay(200, TimeUnit.MILLISECONDS));
+
+    IamOptions options = new IamOptions.Builder()
+        .apiKey(API_KEY)
+        .url(url)
+        .build();
+    final IamTokenManager manager = new IamTokenManager(options);
+
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<String>> tokens = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      tokens.add(executor.submit(new Callable<String>() {
+        @Override
+        public String call() {
+          return manager.getToken();
+        }
+      }));
+    }
+    for (Future<String> token : tokens) {
+      assertEquals(validTokenData.getAccessToken(), token.get());
+    }
+    executor.shutdown();
+
+    assertEquals(1, server.getRequestCount());
+    assertEquals(1, manager.getRefreshCount());
+    assertEquals(0, manager.getFailureCount());
+  }
+
+  /**
+   * Tests that callers waiting for a token request that fails share its failure instead of retrying one by one.
+   */
+  @Test
+  public void getTokenConcurrentlySharesFailure() throws Exception {
+    server.enqueue(new MockResponse().setBody("{").setBodyDelay(200, TimeUnit.MILLISECONDS));
+
+    IamOptions options = new IamOptions.Builder()
+        .apiKey(API_KEY)
+        .url(url)
+        .build();
+    final IamTokenManager manager = new IamTokenManager(options);
+
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<String>> tokens = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      tokens.add(executor.submit(new Callable<String>() {
+        @Override
+        public String call() {
+          return manager.getToken();
+        }
+      }));
+    }
+    for (Future<String> token : tokens) {
+      try {
+        token.get();
+        fail();
+      } catch (ExecutionException e) {
+        assertTrue(e.getCause() instanceof RuntimeException);
+      }
+    }
+    executor.shutdown();
+
+    assertEquals(1, server.getRequestCount());
+    assertEquals(1, manager.getFailureCount());
+  }
+
+  /**
+   * Tests that managers obtained from the registry with the same API key and URL share one token.
+   */
+  @Test
+  public void getSharedTokenManagerFromRegistry() {
+    server.enqueue(jsonResponse(validTokenData));
+
+    IamOptions options = new IamOptions.Builder()
+        .apiKey(API_KEY)
+        .url(url)
+        .build();
+    IamTokenManager first = IamTokenRegistry.getTokenManager(options);
+    IamTokenManager second = IamTokenRegistry.getTokenManager(new IamOptions.Builder()
+        .apiKey(API_KEY)
+        .url(url)
+        .build());
+
+    assertSame(first, second);
+    assertEquals(validTokenData.getAccessToken(), first.getToken());
+    assertEquals(validTokenData.getAccessToken(), second.getToken());
+    assertEquals(1, server.getRequestCount());
+
+    IamOptions userManagedOptions = new IamOptions.Builder()
+        .accessToken(ACCESS_TOKEN)
+        .url(url)
+        .build();
+    assertNotSame(IamTokenRegistry.getTokenManager(userManagedOptions),
+        IamTokenRegistry.getTokenManager(userManagedOptions));
+  }
+
+  /**
+   * Tests that a service call gets its token when it is sent rather than when it is created, and that an
+   * asynchronous call requests it without blocking the caller.
+   */
+  @Test
+  public void getTokenWhenCallIsSent() throws Exception {
+    WatsonService service = new WatsonService("test") { };
+    service.setEndPoint(url);
+    service.setUsernameAndPassword("username", "password");
+    ServiceCall<String> call = service.getToken().addHeader(HttpHeaders.USER_AGENT, "test-agent");
+
+    IamOptions options = new IamOptions.Builder()
+        .apiKey("deferred-" + API_KEY)
+        .url(url)
+        .build();
+    service.setIamCredentials(options);
+    assertFalse(IamTokenRegistry.getTokenManager(options).hasValidToken());
+    server.enqueue(jsonResponse(validTokenData));
+    server.enqueue(new MockResponse().setBody("token"));
+
+    assertEquals("token", call.rx().get());
+    assertTrue(IamTokenRegistry.getTokenManager(options).hasValidToken());
+    assertEquals("POST", server.takeRequest().getMethod());
+    RecordedRequest request = server.takeRequest();
+    assertEquals("Bearer " + validTokenData.getAccessToken(), request.getHeader(HttpHeaders.AUTHORIZATION));
+    assertEquals("test-agent", request.getHeader(HttpHeaders.USER_AGENT));
+  }
 }
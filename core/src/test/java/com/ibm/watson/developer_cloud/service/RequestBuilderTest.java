@@ -14,7 +14,9 @@ package com.ibm.watson.developer_cloud.service;
 
 import com.google.gson.JsonObject;
 import com.ibm.watson.developer_cloud.http.HttpMediaType;
+import com.ibm.watson.developer_cloud.http.JsonRequestBody;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
+import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.RequestUtils;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
@@ -26,6 +28,7 @@ import org.junit.Test;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -165,6 +168,7 @@ public class RequestBuilderTest {
   public void testWithBodyJsonJsonObject() throws IOException {
     final JsonObject json = new JsonObject();
     json.addProperty("status", "ok");
+    json.addProperty("text", "caf\u00e9 \ud83d\ude00");
     final Request request = RequestBuilder.post(HttpUrl.parse(urlWithQuery)).bodyJson(json).build();
 
     final RequestBody requestedBody = request.body();
@@ -175,6 +179,37 @@ public class RequestBuilderTest {
     assertEquals(HttpMediaType.JSON, requestedBody.contentType());
   }
 
+  /**
+   * Test that a {@link JsonRequestBody} writes the same compact JSON as a JsonObject, and can be written twice.
+   *
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  @Test
+  public void testWithJsonRequestBody() throws IOException {
+    final JsonObject json = new JsonObject();
+    json.addProperty("status", "ok");
+    json.addProperty("text", "caf\u00e9 \ud83d\ude00");
+    json.add("values", GsonSingleton.getGson().toJsonTree(Arrays.asList("a", "b")));
+    json.add("map", GsonSingleton.getGson().toJsonTree(Collections.singletonMap("key", 1)));
+
+    final Request request = RequestBuilder.post(HttpUrl.parse(urlWithQuery)).body(new JsonRequestBody.Builder()
+        .add("status", "ok")
+        .add("text", "caf\u00e9 \ud83d\ude00")
+        .add("values", Arrays.asList("a", "b"))
+        .add("map", Collections.singletonMap("key", 1))
+        .build()).build();
+
+    final RequestBody requestedBody = request.body();
+    for (int i = 0; i < 2; i++) {
+      final Buffer buffer = new Buffer();
+      requestedBody.writeTo(buffer);
+      assertEquals(json.toString(), buffer.readUtf8());
+    }
+    // the length is known, so the body isn't sent chunked
+    assertEquals(json.toString().getBytes("UTF-8").length, requestedBody.contentLength());
+    assertEquals(HttpMediaType.JSON, requestedBody.contentType());
+  }
+
   /**
    * Test with content string.
    *
@@ -246,6 +281,33 @@ public class RequestBuilderTest {
     assertEquals(url + "?%C3%A4%26%C3%B6=%C3%B6%3D%C3%BC", request.url().toString());
   }
 
+  /**
+   * Test that the characters escaped by {@link java.net.URI} are escaped in the query.
+   */
+  @Test
+  public void testUriCharacterQuery() {
+    final Request request = RequestBuilder.get(HttpUrl.parse(url)).query("filter", "entities:{IBM|Watson}").build();
+    assertEquals(url + "?filter=entities%3A%7BIBM%7CWatson%7D", request.url().toString());
+  }
+
+  /**
+   * Test that the URLs built from cached templates match the path segments and parameters.
+   */
+  @Test
+  public void testConstructHttpUrl() {
+    String endPoint = url + "api";
+    String[] pathSegments = { "v1/workspaces", "entities", "values" };
+    String[] pathParameters = { "a b", "c/d" };
+    String expected = endPoint + "/v1/workspaces/a%20b/entities/c%2Fd/values";
+    assertEquals(expected, RequestBuilder.constructHttpUrl(endPoint, pathSegments, pathParameters).toString());
+    assertEquals(expected, RequestBuilder.constructHttpUrl(endPoint, pathSegments, pathParameters).toString());
+    assertEquals(endPoint + "/v1/workspaces/e/entities/values",
+        RequestBuilder.constructHttpUrl(endPoint, pathSegments, new String[] { "e" }).toString());
+    assertEquals(endPoint + "/v1/workspaces", RequestBuilder.constructHttpUrl(endPoint + "/",
+        new String[] { "v1/workspaces" }).toString());
+    assertEquals(endPoint, RequestBuilder.constructHttpUrl(endPoint, new String[0]).toString());
+  }
+
   /**
    * Test user agent.
    */
@@ -12,25 +12,47 @@
  */
 package com.ibm.watson.developer_cloud.service;
 
+import com.google.gson.reflect.TypeToken;
 import com.ibm.watson.developer_cloud.WatsonServiceUnitTest;
+import com.ibm.watson.developer_cloud.http.CallTimings;
+import com.ibm.watson.developer_cloud.http.CallTimings.Phase;
+import com.ibm.watson.developer_cloud.http.HistogramCallMetrics;
+import com.ibm.watson.developer_cloud.http.HttpClientSingleton;
+import com.ibm.watson.developer_cloud.http.HttpConfigOptions;
+import com.ibm.watson.developer_cloud.http.LatencyHistogram;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
+import com.ibm.watson.developer_cloud.http.ResponseCache;
 import com.ibm.watson.developer_cloud.http.Response;
+import com.ibm.watson.developer_cloud.http.RetryPolicy;
 import com.ibm.watson.developer_cloud.http.ServiceCall;
+import com.ibm.watson.developer_cloud.http.ServiceCallBatch;
 import com.ibm.watson.developer_cloud.http.ServiceCallbackWithDetails;
+import com.ibm.watson.developer_cloud.service.exception.TooManyRequestsException;
 import com.ibm.watson.developer_cloud.service.model.GenericModel;
 import com.ibm.watson.developer_cloud.util.ResponseConverterUtils;
 import jersey.repackaged.jsr166e.CompletableFuture;
 import okhttp3.Headers;
 import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
 import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class ResponseTest extends WatsonServiceUnitTest {
 
@@ -49,6 +71,23 @@ public class ResponseTest extends WatsonServiceUnitTest {
       return createServiceCall(builder.build(), ResponseConverterUtils.getObject(TestModel.class));
     }
 
+    public ServiceCall<List<String>> testGenericMethod() {
+      RequestBuilder builder = RequestBuilder.get(HttpUrl.parse(getEndPoint() + "/v1/test"));
+      return createServiceCall(builder.build(), ResponseConverterUtils.<List<String>>getGenericObject(
+          new TypeToken<List<String>>() { }.getType(), "values"));
+    }
+
+    public ServiceCall<TestModel> testOperationMethod() {
+      RequestBuilder builder = RequestBuilder.get(HttpUrl.parse(getEndPoint() + "/v1/test"));
+      return createServiceCall("testOperationMethod", builder.build(),
+          ResponseConverterUtils.getObject(TestModel.class));
+    }
+
+    public ServiceCall<TestModel> testCachedMethod() {
+      RequestBuilder builder = RequestBuilder.get(HttpUrl.parse(getEndPoint() + "/v1/cached"));
+      return createServiceCall("testCachedMethod", builder.build(), ResponseConverterUtils.getObject(TestModel.class));
+    }
+
     public ServiceCall<Void> testHeadMethod() {
       RequestBuilder builder = RequestBuilder.head(HttpUrl.parse(getEndPoint() + "/v1/test"));
       return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
@@ -179,4 +218,214 @@ public class ResponseTest extends WatsonServiceUnitTest {
     // whitespace weirdness in okhttp's Headers class.
     assertEquals(expectedHeaders.toString(), actualHeaders.toString());
   }
+
+  /**
+   * Test that a single property is extracted from the response, skipping the other properties.
+   */
+  @Test
+  public void testGenericObject() {
+    server.enqueue(new MockResponse().setBody(
+        "{\"before\": {\"values\": [\"x\"]}, \"values\": [\"a\", \"b\"], \"after\": [1, 2, 3]}"));
+
+    List<String> values = service.testGenericMethod().execute();
+    assertEquals(2, values.size());
+    assertEquals("a", values.get(0));
+    assertEquals("b", values.get(1));
+  }
+
+  /**
+   * Test that the timings of a call are returned with its details.
+   *
+   * @throws InterruptedException the interrupted exception
+   * @throws ExecutionException the execution exception
+   */
+  @Test
+  public void testTimingsWithDetails() throws InterruptedException, ExecutionException {
+    server.enqueue(new MockResponse()
+        .setBody("{\"test_key\": \"test_value\"}")
+        .setHeadersDelay(100, TimeUnit.MILLISECONDS));
+
+    CallTimings timings = service.testOperationMethod().rxWithDetails().get().getTimings();
+    assertEquals("test.testOperationMethod", timings.getOperation());
+    assertEquals(200, timings.getStatusCode());
+    assertTrue(timings.getDuration(Phase.TIME_TO_FIRST_BYTE, TimeUnit.MILLISECONDS) >= 90);
+    assertTrue(timings.getDuration(Phase.TOTAL, TimeUnit.NANOSECONDS)
+        >= timings.getDuration(Phase.TIME_TO_FIRST_BYTE, TimeUnit.NANOSECONDS)
+        + timings.getDuration(Phase.CONVERSION, TimeUnit.NANOSECONDS));
+  }
+
+  /**
+   * Test that the timings of the calls are recorded in the call metrics.
+   */
+  @Test
+  public void testCallMetrics() {
+    HistogramCallMetrics metrics = new HistogramCallMetrics();
+    HttpClientSingleton.getInstance().configureClient(new HttpConfigOptions.Builder().callMetrics(metrics).build());
+    for (int i = 0; i < 3; i++) {
+      server.enqueue(new MockResponse().setBody("{\"test_key\": \"test_value\"}"));
+      service.testOperationMethod().execute();
+    }
+    server.enqueue(new MockResponse().setBody("{}"));
+    service.testMethod().execute();
+
+    assertEquals(3, metrics.getHistogram("test.testOperationMethod", Phase.TOTAL).getCount());
+    assertEquals(1, metrics.getHistogram("test", Phase.TOTAL).getCount());
+    assertEquals(0, metrics.getHistogram("test.unknown", Phase.TOTAL).getCount());
+  }
+
+  /**
+   * Test the percentiles of the latency histogram.
+   */
+  @Test
+  public void testLatencyHistogram() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i, TimeUnit.MILLISECONDS);
+    }
+
+    assertEquals(1000, histogram.getCount());
+    assertEquals(1000, histogram.getMax(TimeUnit.MILLISECONDS));
+    assertEquals(500, histogram.getMean(TimeUnit.MILLISECONDS));
+    long median = histogram.getValueAtPercentile(50, TimeUnit.MILLISECONDS);
+    assertTrue(median >= 500 && median <= 515);
+    long p99 = histogram.getValueAtPercentile(99, TimeUnit.MILLISECONDS);
+    assertTrue(p99 >= 990 && p99 <= 1000);
+  }
+
+  /**
+   * Test that the responses of a cached operation are served from memory, then revalidated once expired.
+   *
+   * @throws InterruptedException the interrupted exception
+   */
+  @Test
+  public void testResponseCache() throws InterruptedException {
+    ResponseCache cache = new ResponseCache.Builder()
+        .ttl("test.testCachedMethod", 200, TimeUnit.MILLISECONDS)
+        .build();
+    HttpClientSingleton.getInstance().configureClient(new HttpConfigOptions.Builder().responseCache(cache).build());
+    server.enqueue(new MockResponse().setBody("{\"test_key\": \"test_value\"}").addHeader("ETag", "\"v1\""));
+    server.enqueue(new MockResponse().setResponseCode(304));
+    server.enqueue(new MockResponse().setBody("{}"));
+
+    TestModel first = service.testCachedMethod().execute();
+    assertEquals(first, service.testCachedMethod().execute());
+    assertEquals(1, server.getRequestCount());
+    assertEquals(1, cache.getHitCount());
+
+    Thread.sleep(300);
+    assertEquals(first, service.testCachedMethod().execute());
+    server.takeRequest();
+    RecordedRequest revalidation = server.takeRequest();
+    assertEquals("\"v1\"", revalidation.getHeader("If-None-Match"));
+    assertEquals(1, cache.getRevalidationCount());
+
+    // operations without a time to live aren't cached
+    service.testMethod().execute();
+    assertEquals(3, server.getRequestCount());
+    assertEquals(2, cache.getMissCount());
+  }
+
+  /**
+   * Test that a service created before the response cache is set uses its disk tier.
+   *
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  @Test
+  public void testResponseCacheDiskTierOfExistingService() throws IOException {
+    File directory = Files.createTempDirectory("response-cache").toFile();
+    ResponseCache cache = new ResponseCache.Builder()
+        .directory(directory, 1024 * 1024)
+        .build();
+    OkHttpClient client = service.getClient();
+    HttpClientSingleton.getInstance().configureClient(new HttpConfigOptions.Builder().responseCache(cache).build());
+
+    assertSame(cache.getDiskCache(), service.getClient().cache());
+    assertSame(client.connectionPool(), service.getClient().connectionPool());
+
+    HttpClientSingleton.getInstance().configureClient(new HttpConfigOptions.Builder()
+        .responseCache(new ResponseCache.Builder().build())
+        .build());
+    assertNull(service.getClient().cache());
+    cache.getDiskCache().delete();
+  }
+
+  /**
+   * Test that identical requests in flight share one network call and one result when coalescing is enabled.
+   *
+   * @throws InterruptedException the interrupted exception
+   * @throws ExecutionException the execution exception
+   */
+  @Test
+  public void testRequestCoalescing() throws InterruptedException, ExecutionException {
+    service.setRequestCoalescing(true);
+    server.enqueue(new MockResponse().setBody("{\"test_key\": \"test_value\"}")
+        .setBodyDelay(300, TimeUnit.MILLISECONDS));
+    server.enqueue(new MockResponse().setBody("{}"));
+
+    CompletableFuture<TestModel> first = service.testOperationMethod().rx();
+    CompletableFuture<Response<TestModel>> second = service.testOperationMethod().rxWithDetails();
+    TestModel third = service.testOperationMethod().execute();
+
+    assertEquals(1, server.getRequestCount());
+    assertTrue(first.get() == third);
+    assertTrue(second.get().getResult() == third);
+
+    // requests sent once the flight has landed go to the service
+    assertEquals(new TestModel(), service.testOperationMethod().execute());
+    assertEquals(2, server.getRequestCount());
+  }
+
+  /**
+   * Test that a batch passes the results of its calls in order and halves its concurrency when throttled.
+   *
+   * @throws InterruptedException the interrupted exception
+   * @throws ExecutionException the execution exception
+   */
+  @Test
+  public void testServiceCallBatch() throws InterruptedException, ExecutionException {
+    for (int i = 0; i < 9; i++) {
+      server.enqueue(new MockResponse().setBody("{\"test_key\": \"test_value\"}"));
+    }
+    server.enqueue(new MockResponse().setResponseCode(429).setBody("{\"error\": \"Too many requests\"}"));
+
+    List<ServiceCall<TestModel>> calls = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      calls.add(service.testMethod().retryPolicy(RetryPolicy.NONE));
+    }
+    final List<Integer> indexes = Collections.synchronizedList(new ArrayList<Integer>());
+    final List<Exception> failures = Collections.synchronizedList(new ArrayList<Exception>());
+    ServiceCallBatch batch = new ServiceCallBatch.Builder().initialConcurrency(4).ordered(true).build();
+    batch.run(calls, new ServiceCallBatch.Listener<TestModel>() {
+      @Override
+      public void onResponse(int index, Response<TestModel> response) {
+        indexes.add(index);
+      }
+
+      @Override
+      public void onFailure(int index, Exception e) {
+        indexes.add(index);
+        failures.add(e);
+      }
+    }).get();
+
+    assertEquals(10, server.getRequestCount());
+    for (int i = 0; i < 10; i++) {
+      assertEquals(i, (int) indexes.get(i));
+    }
+    assertEquals(1, failures.size());
+    assertTrue(failures.get(0) instanceof TooManyRequestsException);
+
+    // a throttled call halves the concurrency
+    server.enqueue(new MockResponse().setResponseCode(429).setBody("{\"error\": \"Too many requests\"}"));
+    ServiceCallBatch throttled = new ServiceCallBatch.Builder().initialConcurrency(4).build();
+    throttled.run(Collections.singletonList(service.testMethod().retryPolicy(RetryPolicy.NONE)),
+        new ServiceCallBatch.Listener<TestModel>() {
+          @Override
+          public void onResponse(int index, Response<TestModel> response) { }
+
+          @Override
+          public void onFailure(int index, Exception e) { }
+        }).get();
+    assertEquals(2, throttled.getConcurrency());
+  }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.google.gson.reflect.TypeToken;
+import com.ibm.watson.developer_cloud.util.GsonSingleton;
+
+/**
+ * Test the equality of the {@link GenericModel} and {@link DynamicModel} classes.
+ */
+public class GenericModelTest {
+
+  private static class Model extends GenericModel {
+    private String name;
+    private List<String> tags;
+    private byte[] data;
+    private Model child;
+    private transient String ignored;
+
+    Model(String name, List<String> tags, byte[] data, Model child) {
+      this.name = name;
+      this.tags = tags;
+      this.data = data;
+      this.child = child;
+    }
+  }
+
+  private static class Tagged extends GenericModel {
+    private String name;
+    private List<String> tags;
+
+    Tagged(String name, List<String> tags) {
+      this.name = name;
+      this.tags = tags;
+    }
+
+    static class Builder {
+    }
+  }
+
+  private static class Properties extends DynamicModel {
+    private static final Type TAGS_TYPE = new TypeToken<List<String>>() { }.getType();
+
+    List<String> getTags() {
+      return getProperty("tags", TAGS_TYPE);
+    }
+  }
+
+  /**
+   * Test the equality and hash code of generic models.
+   */
+  @Test
+  public void testGenericModelEquality() {
+    Model a = new Model("a", Arrays.asList("x", "y"), new byte[] { 1, 2 }, new Model("child", null, null, null));
+    Model b = new Model("a", Arrays.asList("x", "y"), new byte[] { 1, 2 }, new Model("child", null, null, null));
+    b.ignored = "ignored";
+
+    assertEquals(a, b);
+    assertEquals(a.hashCode(), b.hashCode());
+    assertNotEquals(a, new Model("a", Arrays.asList("x"), new byte[] { 1, 2 }, null));
+    assertNotEquals(a, new Model("a", Arrays.asList("x", "y"), new byte[] { 1, 3 }, a.child));
+    assertFalse(a.equals(null));
+    assertEquals(a.toString(), GsonSingleton.getGson().toJson(a));
+  }
+
+  /**
+   * Test that the hash code of a model built with a builder follows changes of its mutable fields.
+   */
+  @Test
+  public void testGenericModelHashCodeWithMutableField() {
+    List<String> tags = new ArrayList<String>(Arrays.asList("x"));
+    Tagged a = new Tagged("a", tags);
+    int hashCode = a.hashCode();
+
+    tags.add("y");
+    Tagged b = new Tagged("a", Arrays.asList("x", "y"));
+    assertNotEquals(hashCode, a.hashCode());
+    assertEquals(b, a);
+    assertEquals(b.hashCode(), a.hashCode());
+  }
+
+  /**
+   * Test the equality of dynamic models, where null properties are ignored as in their JSON representation.
+   */
+  @Test
+  public void testDynamicModelEquality() {
+    Map<String, Object> nested = new HashMap<String, Object>();
+    nested.put("title", null);
+    nested.put("node", "node_1");
+
+    Properties a = new Properties();
+    a.put("nested", nested);
+    a.put("count", 1.0);
+    Properties b = GsonSingleton.getGson().fromJson(a.toString(), Properties.class);
+
+    assertEquals(a, b);
+    assertEquals(a.hashCode(), b.hashCode());
+    b.put("count", 2.0);
+    assertNotEquals(a, b);
+  }
+
+  /**
+   * Test that typed properties of a shared dynamic model can be read from several threads, and are stored in the model.
+   */
+  @Test
+  public void testDynamicModelConcurrentGetProperty() throws Exception {
+    final Properties properties = GsonSingleton.getGson().fromJson("{\"tags\": [\"x\", \"y\"]}", Properties.class);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    List<Future<List<String>>> results = new ArrayList<Future<List<String>>>();
+    for (int i = 0; i < 64; i++) {
+      results.add(executor.submit(new Callable<List<String>>() {
+        @Override
+        public List<String> call() {
+          return properties.getTags();
+        }
+      }));
+    }
+    for (Future<List<String>> result : results) {
+      assertSame(results.get(0).get(), result.get());
+    }
+    executor.shutdown();
+
+    // the typed value replaces the raw one, so changes made through the getter are in the map
+    List<String> tags = properties.getTags();
+    assertEquals(Arrays.asList("x", "y"), tags);
+    assertSame(tags, properties.get("tags"));
+    tags.add("w");
+    assertEquals(GsonSingleton.getGson().fromJson("{\"tags\": [\"x\", \"y\", \"w\"]}", Properties.class), properties);
+
+    // the typed value is converted again once the property is replaced
+    properties.put("tags", Arrays.asList("z"));
+    assertEquals(Arrays.asList("z"), properties.getTags());
+  }
+}
@@ -13,16 +13,21 @@
 package com.ibm.watson.developer_cloud.util;
 
 import com.ibm.watson.developer_cloud.WatsonServiceTest;
+import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.util.CredentialUtils.ServiceCredentials;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.io.File;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Hashtable;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -144,4 +149,57 @@ public class CredentialUtilsTest extends WatsonServiceTest {
   public void testGetAPIUrlFromJDNI() {
     assertEquals(CredentialUtils.getAPIUrlTest(SERVICE_NAME), PERSONALITY_INSIGHTS_URL);
   }
+
+  /**
+   * Test that the default provider resolves the same credentials as the individual getters, and caches them until
+   * they are invalidated.
+   */
+  @Test
+  public void testDefaultCredentialProvider() {
+    ResolvedCredentials credentials = CredentialUtils.getCredentialProvider().getCredentials(SERVICE_NAME);
+    assertEquals(CredentialUtils.getAPIKey(SERVICE_NAME), credentials.getApiKey());
+    assertEquals(CredentialUtils.getAPIUrl(SERVICE_NAME), credentials.getUrl());
+    assertNull(credentials.getIamApiKey());
+    assertSame(credentials, CredentialUtils.getCredentialProvider().getCredentials(SERVICE_NAME));
+
+    ResolvedCredentials iamCredentials = CredentialUtils.getCredentialProvider().getCredentials(IAM_SERVICE_NAME);
+    assertEquals(IAM_KEY_TEST_VALUE, iamCredentials.getIamApiKey());
+    assertEquals(CredentialUtils.getIAMUrl(IAM_SERVICE_NAME), iamCredentials.getIamUrl());
+
+    CredentialUtils.setServices("{}");
+    assertNull(CredentialUtils.getCredentialProvider().getCredentials(SERVICE_NAME));
+  }
+
+  /**
+   * Test a chain of in-memory and file credential providers used by the services.
+   *
+   * @throws Exception the exception
+   */
+  @Test
+  public void testCredentialProviderChain() throws Exception {
+    File file = File.createTempFile("vcap_services", ".json");
+    file.deleteOnExit();
+    Files.write(file.toPath(), getStringFromInputStream(Thread.currentThread().getContextClassLoader()
+        .getResourceAsStream(VCAP_SERVICES)).getBytes(StandardCharsets.UTF_8));
+    CredentialUtils.setServices("{}");
+
+    InMemoryCredentialProvider tenantCredentials = new InMemoryCredentialProvider();
+    CredentialProviderChain chain = new CredentialProviderChain(tenantCredentials, new FileCredentialProvider(file));
+    CredentialUtils.setCredentialProvider(chain);
+    try {
+      WatsonService service = new WatsonService(SERVICE_NAME) { };
+      assertEquals(PERSONALITY_INSIGHTS_URL, service.getEndPoint());
+
+      tenantCredentials.put(SERVICE_NAME, new ResolvedCredentials.Builder()
+          .usernameAndPassword(NOT_A_USERNAME, NOT_A_PASSWORD)
+          .url("https://tenant.example.com/api")
+          .build());
+      assertEquals(API_KEY_FREE, chain.getCredentials(SERVICE_NAME).getApiKey());
+      CredentialUtils.invalidateCredentials();
+      assertEquals(API_KEY_STANDARD, chain.getCredentials(SERVICE_NAME).getApiKey());
+      assertEquals("https://tenant.example.com/api", new WatsonService(SERVICE_NAME) { }.getEndPoint());
+    } finally {
+      CredentialUtils.setCredentialProvider(null);
+    }
+  }
 }
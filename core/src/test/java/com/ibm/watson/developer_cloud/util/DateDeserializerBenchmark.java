@@ -0,0 +1,155 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import java.io.File;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+
+/**
+ * Measures reading recorded responses from several threads sharing one {@link Gson}, with the {@link DateDeserializer}
+ * and with the previous implementation, which parsed every date through synchronized {@link SimpleDateFormat}s. Run it
+ * with the classes of the module of each fixture on the class path:
+ *
+ * <pre>
+ * java -cp ... com.ibm.watson.developer_cloud.util.DateDeserializerBenchmark 8 \
+ *   com.ibm.watson.developer_cloud.assistant.v1.model.LogCollection \
+ *   assistant/src/test/resources/assistant/list_logs.json \
+ *   com.ibm.watson.developer_cloud.speech_to_text.v1.model.RecognitionJobs \
+ *   speech-to-text/src/test/resources/speech_to_text/jobs.json
+ * </pre>
+ */
+public final class DateDeserializerBenchmark {
+  private static final int ITERATIONS = 20000;
+  private static final int ROUNDS = 5;
+
+  private DateDeserializerBenchmark() { }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args the number of threads, followed by pairs of model class name and fixture file
+   * @throws Exception if a class or a fixture can't be loaded
+   */
+  public static void main(String[] args) throws Exception {
+    int threads = Integer.parseInt(args[0]);
+    Gson previous = new GsonBuilder()
+        .registerTypeAdapter(Date.class, new SynchronizedDateDeserializer())
+        .create();
+    Gson current = new GsonBuilder()
+        .registerTypeAdapter(Date.class, new DateDeserializer())
+        .create();
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      for (int i = 1; i + 1 < args.length; i += 2) {
+        Class<?> type = Class.forName(args[i]);
+        String json = new String(Files.readAllBytes(new File(args[i + 1]).toPath()), StandardCharsets.UTF_8);
+        for (int round = 0; round < ROUNDS; round++) {
+          System.out.printf("%s, %d threads, round %d: current %8.0f ns/op, previous %8.0f ns/op%n",
+              type.getSimpleName(), threads, round, measure(executor, threads, current, type, json),
+              measure(executor, threads, previous, type, json));
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static double measure(ExecutorService executor, int threads, final Gson gson, final Class<?> type,
+      final String json) throws Exception {
+    Callable<Integer> task = new Callable<Integer>() {
+      @Override
+      public Integer call() {
+        int hash = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+          hash += (gson.fromJson(json, type) != null) ? 1 : 0;
+        }
+        return hash;
+      }
+    };
+    long start = System.nanoTime();
+    int hash = 0;
+    for (Future<Integer> result : executor.invokeAll(Collections.nCopies(threads, task))) {
+      hash += result.get();
+    }
+    long elapsed = System.nanoTime() - start;
+    if (hash == 0) {
+      System.out.println();
+    }
+    return (double) elapsed / (ITERATIONS * threads);
+  }
+
+  /**
+   * The previous implementation of the {@link DateDeserializer}, sharing its formatters between threads under a lock.
+   */
+  private static final class SynchronizedDateDeserializer implements JsonDeserializer<Date> {
+    private final List<SimpleDateFormat> dateFormatters = Arrays.asList(
+        new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS"),
+        new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ"),
+        new SimpleDateFormat("yyyy-MM-dd HH:mm:ss"),
+        new SimpleDateFormat("yyyyMMdd'T'HHmmss"),
+        new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss"));
+    private final List<SimpleDateFormat> rfc822Formatters = Arrays.asList(
+        new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ"),
+        new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ"));
+
+    @Override
+    public synchronized Date deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) {
+      if (json.isJsonNull() || json.getAsString().isEmpty()) {
+        return null;
+      }
+      String dateAsString = json.getAsJsonPrimitive().getAsString();
+      if (dateAsString.endsWith("Z")) {
+        String dateWithTz = dateAsString.replaceAll("Z$", "+0000");
+        for (SimpleDateFormat format : rfc822Formatters) {
+          try {
+            return format.parse(dateWithTz);
+          } catch (ParseException e) {
+            // try the next format
+          }
+        }
+      }
+      for (SimpleDateFormat format : dateFormatters) {
+        try {
+          return format.parse(dateAsString);
+        } catch (ParseException e) {
+          // try the next format
+        }
+      }
+      if (Pattern.compile("^\\d+$").matcher(dateAsString).find()) {
+        long time = Long.parseLong(dateAsString);
+        return new Date((time < 100000000000L) ? time * 1000 : time);
+      }
+      return null;
+    }
+  }
+}
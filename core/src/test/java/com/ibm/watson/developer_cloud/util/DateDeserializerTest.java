@@ -23,7 +23,13 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Test the Date deserializer.
@@ -122,4 +128,65 @@ public class DateDeserializerTest {
             fail(ex.getMessage());
         }
     }
+
+    /**
+     * Test the formats with an explicit offset and the dialog and alchemy formats.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testDeserializeOtherFormats() throws Exception {
+        DateDeserializer deserializer = new DateDeserializer();
+        JsonParser parser = new JsonParser();
+
+        String[][] cases = {
+            { "2016-06-20T04:25:16+0530", "yyyy-MM-dd'T'HH:mm:ssZ" },
+            { "2016-06-20T04:25:16-0800", "yyyy-MM-dd'T'HH:mm:ssZ" },
+            { "2016-06-20 04:25:16", "yyyy-MM-dd HH:mm:ss" },
+            { "20160620T042516", "yyyyMMdd'T'HHmmss" },
+            { "2016-06-20T04:25:16.218+0000", "yyyy-MM-dd'T'HH:mm:ss.SSS" }
+        };
+        for (String[] testCase : cases) {
+            Date dateVal = new SimpleDateFormat(testCase[1]).parse(testCase[0]);
+            JsonElement element = parser.parse("\"" + testCase[0] + "\"");
+            assertEquals(testCase[0], dateVal, deserializer.deserialize(element, null, null));
+        }
+    }
+
+    /**
+     * Test that a shared deserializer gives the right dates when used from several threads.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testDeserializeConcurrently() throws Exception {
+        final DateDeserializer deserializer = new DateDeserializer();
+        final String[] dates = { "2017-04-23T19:09:46.712Z", "2016-09-30T16:51:47.558", "2015-05-28T18:01:57Z" };
+        final Date[] expected = new Date[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            expected[i] = deserializer.deserialize(new JsonParser().parse("\"" + dates[i] + "\""), null, null);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+        for (int t = 0; t < 4; t++) {
+            results.add(executor.submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    for (int i = 0; i < 1000; i++) {
+                        int index = i % dates.length;
+                        JsonElement element = new JsonParser().parse("\"" + dates[index] + "\"");
+                        if (!expected[index].equals(deserializer.deserialize(element, null, null))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+            }));
+        }
+        for (Future<Boolean> result : results) {
+            assertEquals(true, result.get());
+        }
+        executor.shutdown();
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Date;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Measures reading and writing recorded responses with {@link GsonSingleton} and with the previous configuration,
+ * which converted dates through a {@link com.google.gson.JsonElement} tree and locked when serializing them. Run it
+ * with the classes of the module of each fixture on the class path:
+ *
+ * <pre>
+ * java -cp ... com.ibm.watson.developer_cloud.util.GsonBenchmark \
+ *   com.ibm.watson.developer_cloud.discovery.v1.model.QueryResponse \
+ *   discovery/src/test/resources/discovery/query1_resp.json
+ * </pre>
+ */
+public final class GsonBenchmark {
+  private static final int ITERATIONS = 20000;
+  private static final int ROUNDS = 5;
+
+  private GsonBenchmark() { }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args pairs of model class name and fixture file
+   * @throws Exception if a class or a fixture can't be loaded
+   */
+  public static void main(String[] args) throws Exception {
+    Gson previous = new GsonBuilder()
+        .registerTypeAdapter(Date.class, new DateDeserializer())
+        .registerTypeAdapter(Date.class, new DateSerializer())
+        .disableHtmlEscaping()
+        .create();
+    Gson current = GsonSingleton.getGsonWithoutPrettyPrinting();
+
+    for (int i = 0; i + 1 < args.length; i += 2) {
+      Class<?> type = Class.forName(args[i]);
+      String json = new String(Files.readAllBytes(new File(args[i + 1]).toPath()), StandardCharsets.UTF_8);
+      for (int round = 0; round < ROUNDS; round++) {
+        System.out.printf("%s round %d: current %8.0f ns/op, previous %8.0f ns/op%n", type.getSimpleName(), round,
+            measure(current, type, json), measure(previous, type, json));
+      }
+    }
+  }
+
+  private static double measure(Gson gson, Class<?> type, String json) {
+    int hash = 0;
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      Object model = gson.fromJson(json, type);
+      hash += gson.toJson(model).length();
+    }
+    long elapsed = System.nanoTime() - start;
+    if (hash == 0) {
+      System.out.println();
+    }
+    return (double) elapsed / ITERATIONS;
+  }
+}
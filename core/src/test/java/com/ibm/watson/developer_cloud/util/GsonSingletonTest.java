@@ -20,6 +20,7 @@ import java.util.List;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.google.gson.JsonPrimitive;
 import com.google.gson.reflect.TypeToken;
 
 /**
@@ -50,4 +51,26 @@ public class GsonSingletonTest {
         GsonSingleton.getGsonWithoutPrettyPrinting().toJson(dates));
   }
 
+  /**
+   * Test that the streaming date adapter reads and writes dates like the date serializer and deserializer.
+   */
+  @Test
+  public void testDateTypeAdapter() {
+    String[] dates = { "2014-06-04T15:38:07Z", "2015-08-31T00:49:27.77Z", "2015-09-01T16:05:30.058-0400",
+        "2016-03-12 20:31:58", "20160312T203158", "1465053487000", "not a date" };
+    DateDeserializer deserializer = new DateDeserializer();
+    DateSerializer serializer = new DateSerializer();
+    for (String date : dates) {
+      Date expected = deserializer.deserialize(new JsonPrimitive(date), Date.class, null);
+      Date actual = GsonSingleton.getGsonWithoutPrettyPrinting().fromJson("\"" + date + "\"", Date.class);
+      Assert.assertEquals(expected, actual);
+      if (expected != null) {
+        Assert.assertEquals(serializer.serialize(expected, Date.class, null).toString(),
+            GsonSingleton.getGsonWithoutPrettyPrinting().toJson(expected));
+      }
+    }
+    Assert.assertEquals(new Date(1465053487000L), GsonSingleton.getGson().fromJson("1465053487000", Date.class));
+    Assert.assertNull(GsonSingleton.getGson().fromJson("\"\"", Date.class));
+    Assert.assertNull(GsonSingleton.getGson().fromJson("null", Date.class));
+  }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import java.io.InputStream;
+import java.util.Scanner;
+
+import com.ibm.watson.developer_cloud.service.WatsonService;
+
+/**
+ * Measures the creation of a service reading its credentials from the VCAP_SERVICES, with the credentials cached by
+ * the default provider and with the VCAP_SERVICES parsed again for every service.
+ */
+public final class ServiceConstructionBenchmark {
+  private static final String SERVICE_NAME = "personality_insights";
+  private static final int ITERATIONS = 20000;
+  private static final int ROUNDS = 5;
+
+  private ServiceConstructionBenchmark() { }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args the arguments, unused
+   */
+  public static void main(String[] args) {
+    InputStream in = ServiceConstructionBenchmark.class.getClassLoader().getResourceAsStream("vcap_services.json");
+    String services = new Scanner(in, "UTF-8").useDelimiter("\\A").next();
+    // a different string with the same content makes the provider parse the VCAP_SERVICES again
+    String[] variants = { services, services + " " };
+
+    for (int round = 0; round < ROUNDS; round++) {
+      CredentialUtils.setServices(services);
+      long start = System.nanoTime();
+      for (int i = 0; i < ITERATIONS; i++) {
+        newService();
+      }
+      double cached = (double) (System.nanoTime() - start) / ITERATIONS;
+
+      start = System.nanoTime();
+      for (int i = 0; i < ITERATIONS; i++) {
+        CredentialUtils.setServices(variants[i % 2]);
+        newService();
+      }
+      double parsed = (double) (System.nanoTime() - start) / ITERATIONS;
+      System.out.printf("round %d: cached %8.0f ns/service, parsed %8.0f ns/service%n", round, cached, parsed);
+    }
+  }
+
+  private static WatsonService newService() {
+    return new WatsonService(SERVICE_NAME) { };
+  }
+}
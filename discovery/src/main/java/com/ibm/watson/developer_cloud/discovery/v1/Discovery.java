@@ -12,7 +12,6 @@
  */
 package com.ibm.watson.developer_cloud.discovery.v1;
 
-import com.google.gson.JsonObject;
 import com.ibm.watson.developer_cloud.discovery.v1.model.AddDocumentOptions;
 import com.ibm.watson.developer_cloud.discovery.v1.model.AddTrainingDataOptions;
 import com.ibm.watson.developer_cloud.discovery.v1.model.Collection;
@@ -92,11 +91,11 @@ import com.ibm.watson.developer_cloud.discovery.v1.model.UpdateCredentialsOption
 import com.ibm.watson.developer_cloud.discovery.v1.model.UpdateDocumentOptions;
 import com.ibm.watson.developer_cloud.discovery.v1.model.UpdateEnvironmentOptions;
 import com.ibm.watson.developer_cloud.discovery.v1.model.UpdateTrainingExampleOptions;
+import com.ibm.watson.developer_cloud.http.JsonRequestBody;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
 import com.ibm.watson.developer_cloud.http.ServiceCall;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.service.security.IamOptions;
-import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.RequestUtils;
 import com.ibm.watson.developer_cloud.util.ResponseConverterUtils;
 import com.ibm.watson.developer_cloud.util.Validator;
@@ -182,16 +181,16 @@ public class Discovery extends WatsonService {
     String[] pathSegments = { "v1/environments" };
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
-    contentJson.addProperty("name", createEnvironmentOptions.name());
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
+    contentJson.add("name", createEnvironmentOptions.name());
     if (createEnvironmentOptions.description() != null) {
-      contentJson.addProperty("description", createEnvironmentOptions.description());
+      contentJson.add("description", createEnvironmentOptions.description());
     }
     if (createEnvironmentOptions.size() != null) {
-      contentJson.addProperty("size", createEnvironmentOptions.size());
+      contentJson.add("size", createEnvironmentOptions.size());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Environment.class));
+    builder.body(contentJson.build());
+    return createServiceCall("createEnvironment", builder.build(), ResponseConverterUtils.getObject(Environment.class));
   }
 
   /**
@@ -207,7 +206,7 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteEnvironment", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -223,7 +222,7 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Environment.class));
+    return createServiceCall("getEnvironment", builder.build(), ResponseConverterUtils.getObject(Environment.class));
   }
 
   /**
@@ -243,7 +242,8 @@ public class Discovery extends WatsonService {
         builder.query("name", listEnvironmentsOptions.name());
       }
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(ListEnvironmentsResponse.class));
+    return createServiceCall("listEnvironments", builder.build(),
+        ResponseConverterUtils.getObject(ListEnvironmentsResponse.class));
   }
 
   /**
@@ -273,7 +273,8 @@ public class Discovery extends WatsonService {
         pathParameters));
     builder.query(VERSION, versionDate);
     builder.query("collection_ids", RequestUtils.join(listFieldsOptions.collectionIds(), ","));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(ListCollectionFieldsResponse.class));
+    return createServiceCall("listFields", builder.build(),
+        ResponseConverterUtils.getObject(ListCollectionFieldsResponse.class));
   }
 
   /**
@@ -292,18 +293,18 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.put(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (updateEnvironmentOptions.name() != null) {
-      contentJson.addProperty("name", updateEnvironmentOptions.name());
+      contentJson.add("name", updateEnvironmentOptions.name());
     }
     if (updateEnvironmentOptions.description() != null) {
-      contentJson.addProperty("description", updateEnvironmentOptions.description());
+      contentJson.add("description", updateEnvironmentOptions.description());
     }
     if (updateEnvironmentOptions.size() != null) {
-      contentJson.addProperty("size", updateEnvironmentOptions.size());
+      contentJson.add("size", updateEnvironmentOptions.size());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Environment.class));
+    builder.body(contentJson.build());
+    return createServiceCall("updateEnvironment", builder.build(), ResponseConverterUtils.getObject(Environment.class));
   }
 
   /**
@@ -329,28 +330,28 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (createConfigurationOptions.name() != null) {
-      contentJson.addProperty("name", createConfigurationOptions.name());
+      contentJson.add("name", createConfigurationOptions.name());
     }
     if (createConfigurationOptions.description() != null) {
-      contentJson.addProperty("description", createConfigurationOptions.description());
+      contentJson.add("description", createConfigurationOptions.description());
     }
     if (createConfigurationOptions.conversions() != null) {
-      contentJson.add("conversions", GsonSingleton.getGson().toJsonTree(createConfigurationOptions.conversions()));
+      contentJson.add("conversions", createConfigurationOptions.conversions());
     }
     if (createConfigurationOptions.enrichments() != null) {
-      contentJson.add("enrichments", GsonSingleton.getGson().toJsonTree(createConfigurationOptions.enrichments()));
+      contentJson.add("enrichments", createConfigurationOptions.enrichments());
     }
     if (createConfigurationOptions.normalizations() != null) {
-      contentJson.add("normalizations", GsonSingleton.getGson().toJsonTree(createConfigurationOptions
-          .normalizations()));
+      contentJson.add("normalizations", createConfigurationOptions.normalizations());
     }
     if (createConfigurationOptions.source() != null) {
-      contentJson.add("source", GsonSingleton.getGson().toJsonTree(createConfigurationOptions.source()));
+      contentJson.add("source", createConfigurationOptions.source());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Configuration.class));
+    builder.body(contentJson.build());
+    return createServiceCall("createConfiguration", builder.build(),
+        ResponseConverterUtils.getObject(Configuration.class));
   }
 
   /**
@@ -372,7 +373,7 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteConfiguration", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -388,7 +389,8 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Configuration.class));
+    return createServiceCall("getConfiguration", builder.build(),
+        ResponseConverterUtils.getObject(Configuration.class));
   }
 
   /**
@@ -410,7 +412,8 @@ public class Discovery extends WatsonService {
     if (listConfigurationsOptions.name() != null) {
       builder.query("name", listConfigurationsOptions.name());
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(ListConfigurationsResponse.class));
+    return createServiceCall("listConfigurations", builder.build(),
+        ResponseConverterUtils.getObject(ListConfigurationsResponse.class));
   }
 
   /**
@@ -435,28 +438,28 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.put(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (updateConfigurationOptions.name() != null) {
-      contentJson.addProperty("name", updateConfigurationOptions.name());
+      contentJson.add("name", updateConfigurationOptions.name());
     }
     if (updateConfigurationOptions.description() != null) {
-      contentJson.addProperty("description", updateConfigurationOptions.description());
+      contentJson.add("description", updateConfigurationOptions.description());
     }
     if (updateConfigurationOptions.conversions() != null) {
-      contentJson.add("conversions", GsonSingleton.getGson().toJsonTree(updateConfigurationOptions.conversions()));
+      contentJson.add("conversions", updateConfigurationOptions.conversions());
     }
     if (updateConfigurationOptions.enrichments() != null) {
-      contentJson.add("enrichments", GsonSingleton.getGson().toJsonTree(updateConfigurationOptions.enrichments()));
+      contentJson.add("enrichments", updateConfigurationOptions.enrichments());
     }
     if (updateConfigurationOptions.normalizations() != null) {
-      contentJson.add("normalizations", GsonSingleton.getGson().toJsonTree(updateConfigurationOptions
-          .normalizations()));
+      contentJson.add("normalizations", updateConfigurationOptions.normalizations());
     }
     if (updateConfigurationOptions.source() != null) {
-      contentJson.add("source", GsonSingleton.getGson().toJsonTree(updateConfigurationOptions.source()));
+      contentJson.add("source", updateConfigurationOptions.source());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Configuration.class));
+    builder.body(contentJson.build());
+    return createServiceCall("updateConfiguration", builder.build(),
+        ResponseConverterUtils.getObject(Configuration.class));
   }
 
   /**
@@ -500,7 +503,8 @@ public class Discovery extends WatsonService {
       multipartBuilder.addFormDataPart("metadata", testConfigurationInEnvironmentOptions.metadata());
     }
     builder.body(multipartBuilder.build());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(TestDocument.class));
+    return createServiceCall("testConfigurationInEnvironment", builder.build(),
+        ResponseConverterUtils.getObject(TestDocument.class));
   }
 
   /**
@@ -516,19 +520,19 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
-    contentJson.addProperty("name", createCollectionOptions.name());
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
+    contentJson.add("name", createCollectionOptions.name());
     if (createCollectionOptions.description() != null) {
-      contentJson.addProperty("description", createCollectionOptions.description());
+      contentJson.add("description", createCollectionOptions.description());
     }
     if (createCollectionOptions.configurationId() != null) {
-      contentJson.addProperty("configuration_id", createCollectionOptions.configurationId());
+      contentJson.add("configuration_id", createCollectionOptions.configurationId());
     }
     if (createCollectionOptions.language() != null) {
-      contentJson.addProperty("language", createCollectionOptions.language());
+      contentJson.add("language", createCollectionOptions.language());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Collection.class));
+    builder.body(contentJson.build());
+    return createServiceCall("createCollection", builder.build(), ResponseConverterUtils.getObject(Collection.class));
   }
 
   /**
@@ -544,7 +548,7 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteCollection", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -560,7 +564,7 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Collection.class));
+    return createServiceCall("getCollection", builder.build(), ResponseConverterUtils.getObject(Collection.class));
   }
 
   /**
@@ -580,7 +584,8 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(ListCollectionFieldsResponse.class));
+    return createServiceCall("listCollectionFields", builder.build(),
+        ResponseConverterUtils.getObject(ListCollectionFieldsResponse.class));
   }
 
   /**
@@ -601,7 +606,8 @@ public class Discovery extends WatsonService {
     if (listCollectionsOptions.name() != null) {
       builder.query("name", listCollectionsOptions.name());
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(ListCollectionsResponse.class));
+    return createServiceCall("listCollections", builder.build(),
+        ResponseConverterUtils.getObject(ListCollectionsResponse.class));
   }
 
   /**
@@ -617,18 +623,18 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.put(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (updateCollectionOptions.name() != null) {
-      contentJson.addProperty("name", updateCollectionOptions.name());
+      contentJson.add("name", updateCollectionOptions.name());
     }
     if (updateCollectionOptions.description() != null) {
-      contentJson.addProperty("description", updateCollectionOptions.description());
+      contentJson.add("description", updateCollectionOptions.description());
     }
     if (updateCollectionOptions.configurationId() != null) {
-      contentJson.addProperty("configuration_id", updateCollectionOptions.configurationId());
+      contentJson.add("configuration_id", updateCollectionOptions.configurationId());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Collection.class));
+    builder.body(contentJson.build());
+    return createServiceCall("updateCollection", builder.build(), ResponseConverterUtils.getObject(Collection.class));
   }
 
   /**
@@ -648,12 +654,12 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (createExpansionsOptions.expansions() != null) {
-      contentJson.add("expansions", GsonSingleton.getGson().toJsonTree(createExpansionsOptions.expansions()));
+      contentJson.add("expansions", createExpansionsOptions.expansions());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Expansions.class));
+    builder.body(contentJson.build());
+    return createServiceCall("createExpansions", builder.build(), ResponseConverterUtils.getObject(Expansions.class));
   }
 
   /**
@@ -672,7 +678,7 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteExpansions", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -691,7 +697,7 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Expansions.class));
+    return createServiceCall("listExpansions", builder.build(), ResponseConverterUtils.getObject(Expansions.class));
   }
 
   /**
@@ -740,7 +746,7 @@ public class Discovery extends WatsonService {
       multipartBuilder.addFormDataPart("metadata", addDocumentOptions.metadata());
     }
     builder.body(multipartBuilder.build());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(DocumentAccepted.class));
+    return createServiceCall("addDocument", builder.build(), ResponseConverterUtils.getObject(DocumentAccepted.class));
   }
 
   /**
@@ -760,7 +766,7 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteDocument", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -781,7 +787,8 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(DocumentStatus.class));
+    return createServiceCall("getDocumentStatus", builder.build(),
+        ResponseConverterUtils.getObject(DocumentStatus.class));
   }
 
   /**
@@ -813,7 +820,8 @@ public class Discovery extends WatsonService {
       multipartBuilder.addFormDataPart("metadata", updateDocumentOptions.metadata());
     }
     builder.body(multipartBuilder.build());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(DocumentAccepted.class));
+    return createServiceCall("updateDocument", builder.build(),
+        ResponseConverterUtils.getObject(DocumentAccepted.class));
   }
 
   /**
@@ -836,70 +844,70 @@ public class Discovery extends WatsonService {
     if (federatedQueryOptions.loggingOptOut() != null) {
       builder.header("X-Watson-Logging-Opt-Out", federatedQueryOptions.loggingOptOut());
     }
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (federatedQueryOptions.filter() != null) {
-      contentJson.addProperty("filter", federatedQueryOptions.filter());
+      contentJson.add("filter", federatedQueryOptions.filter());
     }
     if (federatedQueryOptions.query() != null) {
-      contentJson.addProperty("query", federatedQueryOptions.query());
+      contentJson.add("query", federatedQueryOptions.query());
     }
     if (federatedQueryOptions.naturalLanguageQuery() != null) {
-      contentJson.addProperty("natural_language_query", federatedQueryOptions.naturalLanguageQuery());
+      contentJson.add("natural_language_query", federatedQueryOptions.naturalLanguageQuery());
     }
     if (federatedQueryOptions.passages() != null) {
-      contentJson.addProperty("passages", federatedQueryOptions.passages());
+      contentJson.add("passages", federatedQueryOptions.passages());
     }
     if (federatedQueryOptions.aggregation() != null) {
-      contentJson.addProperty("aggregation", federatedQueryOptions.aggregation());
+      contentJson.add("aggregation", federatedQueryOptions.aggregation());
     }
     if (federatedQueryOptions.count() != null) {
-      contentJson.addProperty("count", federatedQueryOptions.count());
+      contentJson.add("count", federatedQueryOptions.count());
     }
     if (federatedQueryOptions.returnFields() != null) {
-      contentJson.addProperty("return", StringUtils.join(federatedQueryOptions.returnFields(), ","));
+      contentJson.add("return", StringUtils.join(federatedQueryOptions.returnFields(), ","));
     }
     if (federatedQueryOptions.offset() != null) {
-      contentJson.addProperty("offset", federatedQueryOptions.offset());
+      contentJson.add("offset", federatedQueryOptions.offset());
     }
     if (federatedQueryOptions.sort() != null) {
-      contentJson.addProperty("sort", StringUtils.join(federatedQueryOptions.sort(), ","));
+      contentJson.add("sort", StringUtils.join(federatedQueryOptions.sort(), ","));
     }
     if (federatedQueryOptions.highlight() != null) {
-      contentJson.addProperty("highlight", federatedQueryOptions.highlight());
+      contentJson.add("highlight", federatedQueryOptions.highlight());
     }
     if (federatedQueryOptions.passagesFields() != null) {
-      contentJson.addProperty("passages.fields", StringUtils.join(federatedQueryOptions.passagesFields(), ","));
+      contentJson.add("passages.fields", StringUtils.join(federatedQueryOptions.passagesFields(), ","));
     }
     if (federatedQueryOptions.passagesCount() != null) {
-      contentJson.addProperty("passages.count", federatedQueryOptions.passagesCount());
+      contentJson.add("passages.count", federatedQueryOptions.passagesCount());
     }
     if (federatedQueryOptions.passagesCharacters() != null) {
-      contentJson.addProperty("passages.characters", federatedQueryOptions.passagesCharacters());
+      contentJson.add("passages.characters", federatedQueryOptions.passagesCharacters());
     }
     if (federatedQueryOptions.deduplicate() != null) {
-      contentJson.addProperty("deduplicate", federatedQueryOptions.deduplicate());
+      contentJson.add("deduplicate", federatedQueryOptions.deduplicate());
     }
     if (federatedQueryOptions.deduplicateField() != null) {
-      contentJson.addProperty("deduplicate.field", federatedQueryOptions.deduplicateField());
+      contentJson.add("deduplicate.field", federatedQueryOptions.deduplicateField());
     }
     if (federatedQueryOptions.collectionIds() != null) {
-      contentJson.addProperty("collection_ids", StringUtils.join(federatedQueryOptions.collectionIds(), ","));
+      contentJson.add("collection_ids", StringUtils.join(federatedQueryOptions.collectionIds(), ","));
     }
     if (federatedQueryOptions.similar() != null) {
-      contentJson.addProperty("similar", federatedQueryOptions.similar());
+      contentJson.add("similar", federatedQueryOptions.similar());
     }
     if (federatedQueryOptions.similarDocumentIds() != null) {
-      contentJson.addProperty("similar.document_ids", StringUtils.join(federatedQueryOptions.similarDocumentIds(),
+      contentJson.add("similar.document_ids", StringUtils.join(federatedQueryOptions.similarDocumentIds(),
           ","));
     }
     if (federatedQueryOptions.similarFields() != null) {
-      contentJson.addProperty("similar.fields", StringUtils.join(federatedQueryOptions.similarFields(), ","));
+      contentJson.add("similar.fields", StringUtils.join(federatedQueryOptions.similarFields(), ","));
     }
     if (federatedQueryOptions.bias() != null) {
-      contentJson.addProperty("bias", federatedQueryOptions.bias());
+      contentJson.add("bias", federatedQueryOptions.bias());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(QueryResponse.class));
+    builder.body(contentJson.build());
+    return createServiceCall("federatedQuery", builder.build(), ResponseConverterUtils.getObject(QueryResponse.class));
   }
 
   /**
@@ -961,7 +969,8 @@ public class Discovery extends WatsonService {
     if (federatedQueryNoticesOptions.similarFields() != null) {
       builder.query("similar.fields", RequestUtils.join(federatedQueryNoticesOptions.similarFields(), ","));
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(QueryNoticesResponse.class));
+    return createServiceCall("federatedQueryNotices", builder.build(),
+        ResponseConverterUtils.getObject(QueryNoticesResponse.class));
   }
 
   /**
@@ -984,69 +993,69 @@ public class Discovery extends WatsonService {
     if (queryOptions.loggingOptOut() != null) {
       builder.header("X-Watson-Logging-Opt-Out", queryOptions.loggingOptOut());
     }
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (queryOptions.filter() != null) {
-      contentJson.addProperty("filter", queryOptions.filter());
+      contentJson.add("filter", queryOptions.filter());
     }
     if (queryOptions.query() != null) {
-      contentJson.addProperty("query", queryOptions.query());
+      contentJson.add("query", queryOptions.query());
     }
     if (queryOptions.naturalLanguageQuery() != null) {
-      contentJson.addProperty("natural_language_query", queryOptions.naturalLanguageQuery());
+      contentJson.add("natural_language_query", queryOptions.naturalLanguageQuery());
     }
     if (queryOptions.passages() != null) {
-      contentJson.addProperty("passages", queryOptions.passages());
+      contentJson.add("passages", queryOptions.passages());
     }
     if (queryOptions.aggregation() != null) {
-      contentJson.addProperty("aggregation", queryOptions.aggregation());
+      contentJson.add("aggregation", queryOptions.aggregation());
     }
     if (queryOptions.count() != null) {
-      contentJson.addProperty("count", queryOptions.count());
+      contentJson.add("count", queryOptions.count());
     }
     if (queryOptions.returnFields() != null) {
-      contentJson.addProperty("return", StringUtils.join(queryOptions.returnFields(), ","));
+      contentJson.add("return", StringUtils.join(queryOptions.returnFields(), ","));
     }
     if (queryOptions.offset() != null) {
-      contentJson.addProperty("offset", queryOptions.offset());
+      contentJson.add("offset", queryOptions.offset());
     }
     if (queryOptions.sort() != null) {
-      contentJson.addProperty("sort", StringUtils.join(queryOptions.sort(), ","));
+      contentJson.add("sort", StringUtils.join(queryOptions.sort(), ","));
     }
     if (queryOptions.highlight() != null) {
-      contentJson.addProperty("highlight", queryOptions.highlight());
+      contentJson.add("highlight", queryOptions.highlight());
     }
     if (queryOptions.passagesFields() != null) {
-      contentJson.addProperty("passages.fields", StringUtils.join(queryOptions.passagesFields(), ","));
+      contentJson.add("passages.fields", StringUtils.join(queryOptions.passagesFields(), ","));
     }
     if (queryOptions.passagesCount() != null) {
-      contentJson.addProperty("passages.count", queryOptions.passagesCount());
+      contentJson.add("passages.count", queryOptions.passagesCount());
     }
     if (queryOptions.passagesCharacters() != null) {
-      contentJson.addProperty("passages.characters", queryOptions.passagesCharacters());
+      contentJson.add("passages.characters", queryOptions.passagesCharacters());
     }
     if (queryOptions.deduplicate() != null) {
-      contentJson.addProperty("deduplicate", queryOptions.deduplicate());
+      contentJson.add("deduplicate", queryOptions.deduplicate());
     }
     if (queryOptions.deduplicateField() != null) {
-      contentJson.addProperty("deduplicate.field", queryOptions.deduplicateField());
+      contentJson.add("deduplicate.field", queryOptions.deduplicateField());
     }
     if (queryOptions.collectionIds() != null) {
-      contentJson.addProperty("collection_ids", StringUtils.join(queryOptions.collectionIds(), ","));
+      contentJson.add("collection_ids", StringUtils.join(queryOptions.collectionIds(), ","));
     }
     if (queryOptions.similar() != null) {
-      contentJson.addProperty("similar", queryOptions.similar());
+      contentJson.add("similar", queryOptions.similar());
     }
     if (queryOptions.similarDocumentIds() != null) {
-      contentJson.addProperty("similar.document_ids", StringUtils.join(queryOptions.similarDocumentIds(), ","));
+      contentJson.add("similar.document_ids", StringUtils.join(queryOptions.similarDocumentIds(), ","));
     }
     if (queryOptions.similarFields() != null) {
-      contentJson.addProperty("similar.fields", StringUtils.join(queryOptions.similarFields(), ","));
+      contentJson.add("similar.fields", StringUtils.join(queryOptions.similarFields(), ","));
     }
     if (queryOptions.bias() != null) {
-      contentJson.addProperty("bias", queryOptions.bias());
+      contentJson.add("bias", queryOptions.bias());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(QueryResponse.class));
+    builder.body(contentJson.build());
+    return createServiceCall("query", builder.build(), ResponseConverterUtils.getObject(QueryResponse.class));
   }
 
   /**
@@ -1065,24 +1074,25 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (queryEntitiesOptions.feature() != null) {
-      contentJson.addProperty("feature", queryEntitiesOptions.feature());
+      contentJson.add("feature", queryEntitiesOptions.feature());
     }
     if (queryEntitiesOptions.entity() != null) {
-      contentJson.add("entity", GsonSingleton.getGson().toJsonTree(queryEntitiesOptions.entity()));
+      contentJson.add("entity", queryEntitiesOptions.entity());
     }
     if (queryEntitiesOptions.context() != null) {
-      contentJson.add("context", GsonSingleton.getGson().toJsonTree(queryEntitiesOptions.context()));
+      contentJson.add("context", queryEntitiesOptions.context());
     }
     if (queryEntitiesOptions.count() != null) {
-      contentJson.addProperty("count", queryEntitiesOptions.count());
+      contentJson.add("count", queryEntitiesOptions.count());
     }
     if (queryEntitiesOptions.evidenceCount() != null) {
-      contentJson.addProperty("evidence_count", queryEntitiesOptions.evidenceCount());
+      contentJson.add("evidence_count", queryEntitiesOptions.evidenceCount());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(QueryEntitiesResponse.class));
+    builder.body(contentJson.build());
+    return createServiceCall("queryEntities", builder.build(),
+        ResponseConverterUtils.getObject(QueryEntitiesResponse.class));
   }
 
   /**
@@ -1154,7 +1164,8 @@ public class Discovery extends WatsonService {
     if (queryNoticesOptions.similarFields() != null) {
       builder.query("similar.fields", RequestUtils.join(queryNoticesOptions.similarFields(), ","));
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(QueryNoticesResponse.class));
+    return createServiceCall("queryNotices", builder.build(),
+        ResponseConverterUtils.getObject(QueryNoticesResponse.class));
   }
 
   /**
@@ -1173,27 +1184,28 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (queryRelationsOptions.entities() != null) {
-      contentJson.add("entities", GsonSingleton.getGson().toJsonTree(queryRelationsOptions.entities()));
+      contentJson.add("entities", queryRelationsOptions.entities());
     }
     if (queryRelationsOptions.context() != null) {
-      contentJson.add("context", GsonSingleton.getGson().toJsonTree(queryRelationsOptions.context()));
+      contentJson.add("context", queryRelationsOptions.context());
     }
     if (queryRelationsOptions.sort() != null) {
-      contentJson.addProperty("sort", queryRelationsOptions.sort());
+      contentJson.add("sort", queryRelationsOptions.sort());
     }
     if (queryRelationsOptions.filter() != null) {
-      contentJson.add("filter", GsonSingleton.getGson().toJsonTree(queryRelationsOptions.filter()));
+      contentJson.add("filter", queryRelationsOptions.filter());
     }
     if (queryRelationsOptions.count() != null) {
-      contentJson.addProperty("count", queryRelationsOptions.count());
+      contentJson.add("count", queryRelationsOptions.count());
     }
     if (queryRelationsOptions.evidenceCount() != null) {
-      contentJson.addProperty("evidence_count", queryRelationsOptions.evidenceCount());
+      contentJson.add("evidence_count", queryRelationsOptions.evidenceCount());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(QueryRelationsResponse.class));
+    builder.body(contentJson.build());
+    return createServiceCall("queryRelations", builder.build(),
+        ResponseConverterUtils.getObject(QueryRelationsResponse.class));
   }
 
   /**
@@ -1211,18 +1223,18 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (addTrainingDataOptions.naturalLanguageQuery() != null) {
-      contentJson.addProperty("natural_language_query", addTrainingDataOptions.naturalLanguageQuery());
+      contentJson.add("natural_language_query", addTrainingDataOptions.naturalLanguageQuery());
     }
     if (addTrainingDataOptions.filter() != null) {
-      contentJson.addProperty("filter", addTrainingDataOptions.filter());
+      contentJson.add("filter", addTrainingDataOptions.filter());
     }
     if (addTrainingDataOptions.examples() != null) {
-      contentJson.add("examples", GsonSingleton.getGson().toJsonTree(addTrainingDataOptions.examples()));
+      contentJson.add("examples", addTrainingDataOptions.examples());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(TrainingQuery.class));
+    builder.body(contentJson.build());
+    return createServiceCall("addTrainingData", builder.build(), ResponseConverterUtils.getObject(TrainingQuery.class));
   }
 
   /**
@@ -1241,18 +1253,19 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (createTrainingExampleOptions.documentId() != null) {
-      contentJson.addProperty("document_id", createTrainingExampleOptions.documentId());
+      contentJson.add("document_id", createTrainingExampleOptions.documentId());
     }
     if (createTrainingExampleOptions.crossReference() != null) {
-      contentJson.addProperty("cross_reference", createTrainingExampleOptions.crossReference());
+      contentJson.add("cross_reference", createTrainingExampleOptions.crossReference());
     }
     if (createTrainingExampleOptions.relevance() != null) {
-      contentJson.addProperty("relevance", createTrainingExampleOptions.relevance());
+      contentJson.add("relevance", createTrainingExampleOptions.relevance());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(TrainingExample.class));
+    builder.body(contentJson.build());
+    return createServiceCall("createTrainingExample", builder.build(),
+        ResponseConverterUtils.getObject(TrainingExample.class));
   }
 
   /**
@@ -1271,7 +1284,7 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteAllTrainingData", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -1290,7 +1303,7 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteTrainingData", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -1309,7 +1322,7 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteTrainingExample", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -1328,7 +1341,7 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(TrainingQuery.class));
+    return createServiceCall("getTrainingData", builder.build(), ResponseConverterUtils.getObject(TrainingQuery.class));
   }
 
   /**
@@ -1347,7 +1360,8 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(TrainingExample.class));
+    return createServiceCall("getTrainingExample", builder.build(),
+        ResponseConverterUtils.getObject(TrainingExample.class));
   }
 
   /**
@@ -1365,7 +1379,8 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(TrainingDataSet.class));
+    return createServiceCall("listTrainingData", builder.build(),
+        ResponseConverterUtils.getObject(TrainingDataSet.class));
   }
 
   /**
@@ -1385,7 +1400,8 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(TrainingExampleList.class));
+    return createServiceCall("listTrainingExamples", builder.build(),
+        ResponseConverterUtils.getObject(TrainingExampleList.class));
   }
 
   /**
@@ -1404,15 +1420,16 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.put(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (updateTrainingExampleOptions.crossReference() != null) {
-      contentJson.addProperty("cross_reference", updateTrainingExampleOptions.crossReference());
+      contentJson.add("cross_reference", updateTrainingExampleOptions.crossReference());
     }
     if (updateTrainingExampleOptions.relevance() != null) {
-      contentJson.addProperty("relevance", updateTrainingExampleOptions.relevance());
+      contentJson.add("relevance", updateTrainingExampleOptions.relevance());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(TrainingExample.class));
+    builder.body(contentJson.build());
+    return createServiceCall("updateTrainingExample", builder.build(),
+        ResponseConverterUtils.getObject(TrainingExample.class));
   }
 
   /**
@@ -1434,7 +1451,7 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments));
     builder.query(VERSION, versionDate);
     builder.query("customer_id", deleteUserDataOptions.customerId());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteUserData", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -1451,11 +1468,12 @@ public class Discovery extends WatsonService {
     String[] pathSegments = { "v1/events" };
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
-    contentJson.addProperty("type", createEventOptions.type());
-    contentJson.add("data", GsonSingleton.getGson().toJsonTree(createEventOptions.data()));
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(CreateEventResponse.class));
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
+    contentJson.add("type", createEventOptions.type());
+    contentJson.add("data", createEventOptions.data());
+    builder.body(contentJson.build());
+    return createServiceCall("createEvent", builder.build(),
+        ResponseConverterUtils.getObject(CreateEventResponse.class));
   }
 
   /**
@@ -1483,7 +1501,8 @@ public class Discovery extends WatsonService {
         builder.query("result_type", getMetricsEventRateOptions.resultType());
       }
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(MetricResponse.class));
+    return createServiceCall("getMetricsEventRate", builder.build(),
+        ResponseConverterUtils.getObject(MetricResponse.class));
   }
 
   /**
@@ -1522,7 +1541,8 @@ public class Discovery extends WatsonService {
         builder.query("result_type", getMetricsQueryOptions.resultType());
       }
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(MetricResponse.class));
+    return createServiceCall("getMetricsQuery", builder.build(),
+        ResponseConverterUtils.getObject(MetricResponse.class));
   }
 
   /**
@@ -1561,7 +1581,8 @@ public class Discovery extends WatsonService {
         builder.query("result_type", getMetricsQueryEventOptions.resultType());
       }
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(MetricResponse.class));
+    return createServiceCall("getMetricsQueryEvent", builder.build(),
+        ResponseConverterUtils.getObject(MetricResponse.class));
   }
 
   /**
@@ -1603,7 +1624,8 @@ public class Discovery extends WatsonService {
         builder.query("result_type", getMetricsQueryNoResultsOptions.resultType());
       }
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(MetricResponse.class));
+    return createServiceCall("getMetricsQueryNoResults", builder.build(),
+        ResponseConverterUtils.getObject(MetricResponse.class));
   }
 
   /**
@@ -1639,7 +1661,8 @@ public class Discovery extends WatsonService {
         builder.query("count", String.valueOf(getMetricsQueryTokenEventOptions.count()));
       }
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(MetricTokenResponse.class));
+    return createServiceCall("getMetricsQueryTokenEvent", builder.build(),
+        ResponseConverterUtils.getObject(MetricTokenResponse.class));
   }
 
   /**
@@ -1685,7 +1708,7 @@ public class Discovery extends WatsonService {
         builder.query("sort", RequestUtils.join(queryLogOptions.sort(), ","));
       }
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(LogQueryResponse.class));
+    return createServiceCall("queryLog", builder.build(), ResponseConverterUtils.getObject(LogQueryResponse.class));
   }
 
   /**
@@ -1718,16 +1741,15 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (createCredentialsOptions.sourceType() != null) {
-      contentJson.addProperty("source_type", createCredentialsOptions.sourceType());
+      contentJson.add("source_type", createCredentialsOptions.sourceType());
     }
     if (createCredentialsOptions.credentialDetails() != null) {
-      contentJson.add("credential_details", GsonSingleton.getGson().toJsonTree(createCredentialsOptions
-          .credentialDetails()));
+      contentJson.add("credential_details", createCredentialsOptions.credentialDetails());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Credentials.class));
+    builder.body(contentJson.build());
+    return createServiceCall("createCredentials", builder.build(), ResponseConverterUtils.getObject(Credentials.class));
   }
 
   /**
@@ -1745,7 +1767,7 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteCredentials", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -1766,7 +1788,7 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Credentials.class));
+    return createServiceCall("getCredentials", builder.build(), ResponseConverterUtils.getObject(Credentials.class));
   }
 
   /**
@@ -1786,7 +1808,8 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(CredentialsList.class));
+    return createServiceCall("listCredentials", builder.build(),
+        ResponseConverterUtils.getObject(CredentialsList.class));
   }
 
   /**
@@ -1806,16 +1829,15 @@ public class Discovery extends WatsonService {
     RequestBuilder builder = RequestBuilder.put(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (updateCredentialsOptions.sourceType() != null) {
-      contentJson.addProperty("source_type", updateCredentialsOptions.sourceType());
+      contentJson.add("source_type", updateCredentialsOptions.sourceType());
     }
     if (updateCredentialsOptions.credentialDetails() != null) {
-      contentJson.add("credential_details", GsonSingleton.getGson().toJsonTree(updateCredentialsOptions
-          .credentialDetails()));
+      contentJson.add("credential_details", updateCredentialsOptions.credentialDetails());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Credentials.class));
+    builder.body(contentJson.build());
+    return createServiceCall("updateCredentials", builder.build(), ResponseConverterUtils.getObject(Credentials.class));
   }
 
 }
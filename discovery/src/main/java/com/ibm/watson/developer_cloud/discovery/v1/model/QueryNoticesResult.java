@@ -18,7 +18,6 @@ import java.util.Map;
 
 import com.google.gson.reflect.TypeToken;
 import com.ibm.watson.developer_cloud.service.model.DynamicModel;
-import com.ibm.watson.developer_cloud.util.GsonSerializationHelper;
 
 /**
  * QueryNoticesResult.
@@ -38,25 +37,25 @@ public class QueryNoticesResult extends DynamicModel {
     String JSON = "json";
   }
 
-  private Type idType = new TypeToken<String>() {
+  private static final Type ID_TYPE = new TypeToken<String>() {
   }.getType();
-  private Type scoreType = new TypeToken<Double>() {
+  private static final Type SCORE_TYPE = new TypeToken<Double>() {
   }.getType();
-  private Type metadataType = new TypeToken<Map>() {
+  private static final Type METADATA_TYPE = new TypeToken<Map>() {
   }.getType();
-  private Type collectionIdType = new TypeToken<String>() {
+  private static final Type COLLECTION_ID_TYPE = new TypeToken<String>() {
   }.getType();
-  private Type resultMetadataType = new TypeToken<QueryResultResultMetadata>() {
+  private static final Type RESULT_METADATA_TYPE = new TypeToken<QueryResultResultMetadata>() {
   }.getType();
-  private Type codeType = new TypeToken<Long>() {
+  private static final Type CODE_TYPE = new TypeToken<Long>() {
   }.getType();
-  private Type filenameType = new TypeToken<String>() {
+  private static final Type FILENAME_TYPE = new TypeToken<String>() {
   }.getType();
-  private Type fileTypeType = new TypeToken<String>() {
+  private static final Type FILE_TYPE_TYPE = new TypeToken<String>() {
   }.getType();
-  private Type sha1Type = new TypeToken<String>() {
+  private static final Type SHA1_TYPE = new TypeToken<String>() {
   }.getType();
-  private Type noticesType = new TypeToken<List<Notice>>() {
+  private static final Type NOTICES_TYPE = new TypeToken<List<Notice>>() {
   }.getType();
 
   /**
@@ -65,7 +64,7 @@ public class QueryNoticesResult extends DynamicModel {
    * @return the id
    */
   public String getId() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("id"), idType);
+    return getProperty("id", ID_TYPE);
   }
 
   /**
@@ -74,7 +73,7 @@ public class QueryNoticesResult extends DynamicModel {
    * @return the score
    */
   public Double getScore() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("score"), scoreType);
+    return getProperty("score", SCORE_TYPE);
   }
 
   /**
@@ -83,7 +82,7 @@ public class QueryNoticesResult extends DynamicModel {
    * @return the metadata
    */
   public Map getMetadata() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("metadata"), metadataType);
+    return getProperty("metadata", METADATA_TYPE);
   }
 
   /**
@@ -92,7 +91,7 @@ public class QueryNoticesResult extends DynamicModel {
    * @return the collectionId
    */
   public String getCollectionId() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("collection_id"), collectionIdType);
+    return getProperty("collection_id", COLLECTION_ID_TYPE);
   }
 
   /**
@@ -101,7 +100,7 @@ public class QueryNoticesResult extends DynamicModel {
    * @return the resultMetadata
    */
   public QueryResultResultMetadata getResultMetadata() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("result_metadata"), resultMetadataType);
+    return getProperty("result_metadata", RESULT_METADATA_TYPE);
   }
 
   /**
@@ -110,7 +109,7 @@ public class QueryNoticesResult extends DynamicModel {
    * @return the code
    */
   public Long getCode() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("code"), codeType);
+    return getProperty("code", CODE_TYPE);
   }
 
   /**
@@ -119,7 +118,7 @@ public class QueryNoticesResult extends DynamicModel {
    * @return the filename
    */
   public String getFilename() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("filename"), filenameType);
+    return getProperty("filename", FILENAME_TYPE);
   }
 
   /**
@@ -128,7 +127,7 @@ public class QueryNoticesResult extends DynamicModel {
    * @return the fileType
    */
   public String getFileType() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("file_type"), fileTypeType);
+    return getProperty("file_type", FILE_TYPE_TYPE);
   }
 
   /**
@@ -137,7 +136,7 @@ public class QueryNoticesResult extends DynamicModel {
    * @return the sha1
    */
   public String getSha1() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("sha1"), sha1Type);
+    return getProperty("sha1", SHA1_TYPE);
   }
 
   /**
@@ -146,6 +145,6 @@ public class QueryNoticesResult extends DynamicModel {
    * @return the notices
    */
   public List<Notice> getNotices() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("notices"), noticesType);
+    return getProperty("notices", NOTICES_TYPE);
   }
 }
@@ -17,21 +17,20 @@ import java.util.Map;
 
 import com.google.gson.reflect.TypeToken;
 import com.ibm.watson.developer_cloud.service.model.DynamicModel;
-import com.ibm.watson.developer_cloud.util.GsonSerializationHelper;
 
 /**
  * QueryResult.
  */
 public class QueryResult extends DynamicModel {
-  private Type idType = new TypeToken<String>() {
+  private static final Type ID_TYPE = new TypeToken<String>() {
   }.getType();
-  private Type scoreType = new TypeToken<Double>() {
+  private static final Type SCORE_TYPE = new TypeToken<Double>() {
   }.getType();
-  private Type metadataType = new TypeToken<Map>() {
+  private static final Type METADATA_TYPE = new TypeToken<Map>() {
   }.getType();
-  private Type collectionIdType = new TypeToken<String>() {
+  private static final Type COLLECTION_ID_TYPE = new TypeToken<String>() {
   }.getType();
-  private Type resultMetadataType = new TypeToken<QueryResultResultMetadata>() {
+  private static final Type RESULT_METADATA_TYPE = new TypeToken<QueryResultResultMetadata>() {
   }.getType();
 
   /**
@@ -40,7 +39,7 @@ public class QueryResult extends DynamicModel {
    * @return the id
    */
   public String getId() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("id"), idType);
+    return getProperty("id", ID_TYPE);
   }
 
   /**
@@ -49,7 +48,7 @@ public class QueryResult extends DynamicModel {
    * @return the score
    */
   public Double getScore() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("score"), scoreType);
+    return getProperty("score", SCORE_TYPE);
   }
 
   /**
@@ -58,7 +57,7 @@ public class QueryResult extends DynamicModel {
    * @return the metadata
    */
   public Map getMetadata() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("metadata"), metadataType);
+    return getProperty("metadata", METADATA_TYPE);
   }
 
   /**
@@ -67,7 +66,7 @@ public class QueryResult extends DynamicModel {
    * @return the collectionId
    */
   public String getCollectionId() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("collection_id"), collectionIdType);
+    return getProperty("collection_id", COLLECTION_ID_TYPE);
   }
 
   /**
@@ -76,6 +75,6 @@ public class QueryResult extends DynamicModel {
    * @return the resultMetadata
    */
   public QueryResultResultMetadata getResultMetadata() {
-    return GsonSerializationHelper.serializeDynamicModelProperty(this.get("result_metadata"), resultMetadataType);
+    return getProperty("result_metadata", RESULT_METADATA_TYPE);
   }
 }
@@ -12,12 +12,18 @@
  */
 package com.ibm.watson.developer_cloud.discovery.v1.query;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
+import com.google.gson.Gson;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import com.ibm.watson.developer_cloud.discovery.v1.model.Calculation;
 import com.ibm.watson.developer_cloud.discovery.v1.model.Filter;
 import com.ibm.watson.developer_cloud.discovery.v1.model.Histogram;
@@ -26,179 +32,203 @@ import com.ibm.watson.developer_cloud.discovery.v1.model.QueryAggregation;
 import com.ibm.watson.developer_cloud.discovery.v1.model.Term;
 import com.ibm.watson.developer_cloud.discovery.v1.model.Timeslice;
 import com.ibm.watson.developer_cloud.discovery.v1.model.TopHits;
-import com.ibm.watson.developer_cloud.util.GsonSerializationHelper;
-import com.ibm.watson.developer_cloud.util.GsonSingleton;
 
 import java.io.IOException;
-import java.io.StringReader;
-import java.lang.reflect.Type;
-import java.util.ArrayList;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.util.HashMap;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Deserializer to transform JSON into a {@link QueryAggregation}.
+ * Type adapter factory to transform JSON into the appropriate {@link QueryAggregation} subclass.
+ *
+ * When the <code>type</code> property comes first, as the service returns it, it selects the subclass, whose fields
+ * are then read from the same reader by the Gson adapters of their types, so nested aggregations are streamed too. If
+ * the type comes later in the object, the object is read into a JSON tree once and converted by the adapter of the
+ * subclass.
  */
-public class AggregationDeserializer implements JsonDeserializer<QueryAggregation> {
+public class AggregationDeserializer implements TypeAdapterFactory {
 
   private static final String TYPE = "type";
+  private static final Map<String, Class<? extends QueryAggregation>> AGGREGATION_CLASSES;
+
+  static {
+    AGGREGATION_CLASSES = new HashMap<>();
+    AGGREGATION_CLASSES.put(AggregationType.HISTOGRAM.getName(), Histogram.class);
+    AGGREGATION_CLASSES.put(AggregationType.MAX.getName(), Calculation.class);
+    AGGREGATION_CLASSES.put(AggregationType.MIN.getName(), Calculation.class);
+    AGGREGATION_CLASSES.put(AggregationType.AVERAGE.getName(), Calculation.class);
+    AGGREGATION_CLASSES.put(AggregationType.SUM.getName(), Calculation.class);
+    AGGREGATION_CLASSES.put(AggregationType.UNIQUE_COUNT.getName(), Calculation.class);
+    AGGREGATION_CLASSES.put(AggregationType.TERM.getName(), Term.class);
+    AGGREGATION_CLASSES.put(AggregationType.FILTER.getName(), Filter.class);
+    AGGREGATION_CLASSES.put(AggregationType.NESTED.getName(), Nested.class);
+    AGGREGATION_CLASSES.put(AggregationType.TIMESLICE.getName(), Timeslice.class);
+    AGGREGATION_CLASSES.put(AggregationType.TOP_HITS.getName(), TopHits.class);
+  }
 
-  /**
-   * Deserializes JSON and converts it to the appropriate {@link QueryAggregation} subclass.
+  /*
+   * (non-Javadoc)
    *
-   * @param json the JSON data being deserialized
-   * @param typeOfT the type to deserialize to, which should be {@link QueryAggregation}
-   * @param context additional information about the deserialization state
-   * @return the appropriate {@link QueryAggregation} subclass
-   * @throws JsonParseException signals that there has been an issue parsing the JSON
+   * @see com.google.gson.TypeAdapterFactory#create(com.google.gson.Gson, com.google.gson.reflect.TypeToken)
    */
   @Override
-  public QueryAggregation deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
-      throws JsonParseException {
-    JsonReader in = new JsonReader(new StringReader(GsonSingleton.getGson().toJson(json)));
-    HashMap<String, Object> aggregationMap = null;
-
-    try {
-      aggregationMap = getAggregationMap(in);
-    } catch (IOException e) {
-      e.printStackTrace();
+  @SuppressWarnings("unchecked")
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+    if (!QueryAggregation.class.isAssignableFrom(type.getRawType())) {
+      return null;
     }
-
-    QueryAggregation aggregation;
-    String aggregationType = (String) aggregationMap.get(TYPE);
-
-    if (aggregationType.equals(AggregationType.HISTOGRAM.getName())) {
-      aggregation = GsonSerializationHelper.serializeDynamicModelProperty(aggregationMap, Histogram.class);
-    } else if (aggregationType.equals(AggregationType.MAX.getName())
-        || aggregationType.equals(AggregationType.MIN.getName())
-        || aggregationType.equals(AggregationType.AVERAGE.getName())
-        || aggregationType.equals(AggregationType.SUM.getName())
-        || aggregationType.equals(AggregationType.UNIQUE_COUNT.getName())) {
-      aggregation = GsonSerializationHelper.serializeDynamicModelProperty(aggregationMap, Calculation.class);
-    } else if (aggregationType.equals(AggregationType.TERM.getName())) {
-      aggregation = GsonSerializationHelper.serializeDynamicModelProperty(aggregationMap, Term.class);
-    } else if (aggregationType.equals(AggregationType.FILTER.getName())) {
-      aggregation = GsonSerializationHelper.serializeDynamicModelProperty(aggregationMap, Filter.class);
-    } else if (aggregationType.equals(AggregationType.NESTED.getName())) {
-      aggregation = GsonSerializationHelper.serializeDynamicModelProperty(aggregationMap, Nested.class);
-    } else if (aggregationType.equals(AggregationType.TIMESLICE.getName())) {
-      aggregation = GsonSerializationHelper.serializeDynamicModelProperty(aggregationMap, Timeslice.class);
-    } else if (aggregationType.equals(AggregationType.TOP_HITS.getName())) {
-      aggregation = GsonSerializationHelper.serializeDynamicModelProperty(aggregationMap, TopHits.class);
-    } else {
-      aggregation = GsonSerializationHelper.serializeDynamicModelProperty(aggregationMap, QueryAggregation.class);
-    }
-
-    return aggregation;
+    return (TypeAdapter<T>) new AggregationAdapter(gson, this);
   }
 
   /**
-   * Converts JSON into a Map representing a {@link QueryAggregation} object.
-   *
-   * @param in {@link JsonReader} object used for parsing
-   * @return Map representing the {@link QueryAggregation} object
-   * @throws IOException signals that there has been an IO exception
+   * Adapter delegating to the reflective adapter of the {@link QueryAggregation} subclass matching the type.
    */
-  private HashMap<String, Object> getAggregationMap(JsonReader in) throws IOException {
-    HashMap<String, Object> objMap = new HashMap<>();
-    while (in.peek() != JsonToken.END_DOCUMENT) {
-      parseNext(in, objMap);
+  private static final class AggregationAdapter extends TypeAdapter<QueryAggregation> {
+    private final Gson gson;
+    private final TypeAdapterFactory factory;
+    private final Map<Class<?>, TypeAdapter<? extends QueryAggregation>> adapters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, FieldsReader> readers = new ConcurrentHashMap<>();
+
+    AggregationAdapter(Gson gson, TypeAdapterFactory factory) {
+      this.gson = gson;
+      this.factory = factory;
     }
-    return objMap;
-  }
-
-  /**
-   * Checks the next {@link JsonToken} to decide the next appropriate parsing method.
-   *
-   * @param in {@link JsonReader} object used for parsing
-   * @param objMap Map used to build the structure for the resulting {@link QueryAggregation} object
-   * @throws IOException signals that there has been an IO exception
-   */
-  private void parseNext(JsonReader in, HashMap<String, Object> objMap) throws IOException {
-    JsonToken token = in.peek();
 
-    String lastName = "";
-    if (token == JsonToken.NAME) {
-      lastName = in.nextName();
-      token = in.peek();
+    private TypeAdapter<? extends QueryAggregation> getAdapter(Class<? extends QueryAggregation> c) {
+      TypeAdapter<? extends QueryAggregation> adapter = adapters.get(c);
+      if (adapter == null) {
+        adapter = gson.getDelegateAdapter(factory, TypeToken.get(c));
+        adapters.put(c, adapter);
+      }
+      return adapter;
     }
 
-    switch (token) {
-      case BEGIN_ARRAY:
-        parseArray(in, objMap, lastName);
-        break;
-      case BEGIN_OBJECT:
-        parseObject(in, objMap, lastName);
-        break;
-      case STRING:
-        objMap.put(lastName, in.nextString());
-        break;
-      case NUMBER:
-        objMap.put(lastName, in.nextDouble());
-        break;
-      case BOOLEAN:
-        objMap.put(lastName, in.nextBoolean());
-        break;
-      default:
-        throw new IOException("Unexpected JSON token encountered");
+    private static Class<? extends QueryAggregation> getAggregationClass(String aggregationType) {
+      Class<? extends QueryAggregation> c = (aggregationType != null) ? AGGREGATION_CLASSES.get(aggregationType) : null;
+      return (c != null) ? c : QueryAggregation.class;
     }
 
-    collapseMap(objMap);
-  }
+    private FieldsReader getReader(Class<? extends QueryAggregation> c) {
+      FieldsReader reader = readers.get(c);
+      if (reader == null) {
+        reader = new FieldsReader(gson, c);
+        readers.put(c, reader);
+      }
+      return reader;
+    }
 
-  /**
-   * Parses a JSON array and adds it to the main object map.
-   *
-   * @param in {@link JsonReader} object used for parsing
-   * @param objMap Map used to build the structure for the resulting {@link QueryAggregation} object
-   * @param name key value to go with the resulting value of this method pass
-   * @throws IOException signals that there has been an IO exception
-   */
-  private void parseArray(JsonReader in, HashMap<String, Object> objMap, String name) throws IOException {
-    List<HashMap<String, Object>> array = new ArrayList<>();
-    in.beginArray();
-
-    while (in.peek() != JsonToken.END_ARRAY) {
-      HashMap<String, Object> arrayItem = new HashMap<>();
-      parseNext(in, arrayItem);
-      array.add(arrayItem);
+    @Override
+    @SuppressWarnings("unchecked")
+    public void write(JsonWriter out, QueryAggregation value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      ((TypeAdapter<QueryAggregation>) getAdapter(value.getClass())).write(out, value);
     }
 
-    in.endArray();
-    objMap.put(name, array);
+    @Override
+    public QueryAggregation read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+
+      in.beginObject();
+      if (in.hasNext()) {
+        String name = in.nextName();
+        if (TYPE.equals(name) && (in.peek() == JsonToken.STRING)) {
+          String aggregationType = in.nextString();
+          return getReader(getAggregationClass(aggregationType)).read(in, aggregationType);
+        }
+
+        // the type isn't the first property: read the whole object before choosing the adapter
+        JsonObject object = new JsonObject();
+        TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+        object.add(name, elementAdapter.read(in));
+        while (in.hasNext()) {
+          object.add(in.nextName(), elementAdapter.read(in));
+        }
+        in.endObject();
+        JsonElement type = object.get(TYPE);
+        String aggregationType = (type instanceof JsonPrimitive) ? type.getAsString() : null;
+        return getAdapter(getAggregationClass(aggregationType)).fromJsonTree(object);
+      }
+      in.endObject();
+      return getAdapter(QueryAggregation.class).fromJsonTree(new JsonObject());
+    }
   }
 
   /**
-   * Parses a JSON object and adds it to the main object map.
-   *
-   * @param in {@link JsonReader} object used for parsing
-   * @param objMap Map used to build the structure for the resulting {@link QueryAggregation} object
-   * @param name key value to go with the resulting value of this method pass
-   * @throws IOException signals that there has been an IO exception
+   * Reads the properties following the type into the fields of a {@link QueryAggregation} subclass, like the
+   * reflective adapter of Gson. The value of each field is read by the Gson adapter of its type, such as the map
+   * adapter for the query results of a top hits aggregation.
    */
-  private void parseObject(JsonReader in, HashMap<String, Object> objMap, String name) throws IOException {
-    HashMap<String, Object> innerObject = new HashMap<>();
-    in.beginObject();
-
-    while (in.peek() != JsonToken.END_OBJECT) {
-      parseNext(in, innerObject);
+  private static final class FieldsReader {
+    private final Constructor<? extends QueryAggregation> constructor;
+    private final Field typeField;
+    private final Map<String, Field> fields = new HashMap<>();
+    private final Map<String, TypeAdapter<?>> fieldAdapters = new HashMap<>();
+
+    FieldsReader(Gson gson, Class<? extends QueryAggregation> c) {
+      try {
+        constructor = c.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        typeField = QueryAggregation.class.getDeclaredField(TYPE);
+        typeField.setAccessible(true);
+      } catch (NoSuchMethodException | NoSuchFieldException e) {
+        throw new JsonIOException("Unable to read " + c.getName(), e);
+      }
+      for (Class<?> declaring = c; QueryAggregation.class.isAssignableFrom(declaring);
+          declaring = declaring.getSuperclass()) {
+        for (Field field : declaring.getDeclaredFields()) {
+          if ((field.getModifiers() & (Modifier.STATIC | Modifier.TRANSIENT)) != 0) {
+            continue;
+          }
+          field.setAccessible(true);
+          TypeAdapter<?> adapter = gson.getAdapter(TypeToken.get(field.getGenericType()));
+          SerializedName serializedName = field.getAnnotation(SerializedName.class);
+          String name = (serializedName != null) ? serializedName.value() : field.getName();
+          fields.put(name, field);
+          fieldAdapters.put(name, adapter);
+          if (serializedName != null) {
+            for (String alternate : serializedName.alternate()) {
+              fields.put(alternate, field);
+              fieldAdapters.put(alternate, adapter);
+            }
+          }
+        }
+      }
     }
 
-    in.endObject();
-    objMap.put(name, innerObject);
-  }
-
-  /**
-   * Condenses the main object map to eliminate unnecessary nesting and allow for proper type conversion when the map
-   * is complete.
-   *
-   * @param objMap Map used to build the structure for the resulting {@link QueryAggregation} object
-   */
-  private void collapseMap(HashMap<String, Object> objMap) {
-    while (objMap.keySet().size() == 1 && objMap.keySet().contains("")) {
-      HashMap<String, Object> innerMap = (HashMap<String, Object>) objMap.get("");
-      objMap.clear();
-      objMap.putAll(innerMap);
+    /**
+     * Reads the rest of the object, after its type, and closes it.
+     */
+    QueryAggregation read(JsonReader in, String aggregationType) throws IOException {
+      try {
+        QueryAggregation aggregation = constructor.newInstance();
+        typeField.set(aggregation, aggregationType);
+        while (in.hasNext()) {
+          String name = in.nextName();
+          Field field = fields.get(name);
+          if (field == null) {
+            in.skipValue();
+            continue;
+          }
+          Object value = fieldAdapters.get(name).read(in);
+          if ((value != null) || !field.getType().isPrimitive()) {
+            field.set(aggregation, value);
+          }
+        }
+        in.endObject();
+        return aggregation;
+      } catch (InstantiationException | InvocationTargetException | IllegalAccessException e) {
+        throw new JsonIOException("Unable to read " + constructor.getDeclaringClass().getName(), e);
+      }
     }
   }
 }
@@ -20,6 +20,7 @@ import com.google.gson.JsonSyntaxException;
 import com.ibm.watson.developer_cloud.WatsonServiceUnitTest;
 import com.ibm.watson.developer_cloud.discovery.v1.model.AddDocumentOptions;
 import com.ibm.watson.developer_cloud.discovery.v1.model.AddTrainingDataOptions;
+import com.ibm.watson.developer_cloud.discovery.v1.model.Calculation;
 import com.ibm.watson.developer_cloud.discovery.v1.model.Collection;
 import com.ibm.watson.developer_cloud.discovery.v1.model.Configuration;
 import com.ibm.watson.developer_cloud.discovery.v1.model.CreateCollectionOptions;
@@ -51,6 +52,7 @@ import com.ibm.watson.developer_cloud.discovery.v1.model.Expansion;
 import com.ibm.watson.developer_cloud.discovery.v1.model.Expansions;
 import com.ibm.watson.developer_cloud.discovery.v1.model.FederatedQueryNoticesOptions;
 import com.ibm.watson.developer_cloud.discovery.v1.model.FederatedQueryOptions;
+import com.ibm.watson.developer_cloud.discovery.v1.model.Filter;
 import com.ibm.watson.developer_cloud.discovery.v1.model.GetCollectionOptions;
 import com.ibm.watson.developer_cloud.discovery.v1.model.GetConfigurationOptions;
 import com.ibm.watson.developer_cloud.discovery.v1.model.GetCredentialsOptions;
@@ -63,6 +65,7 @@ import com.ibm.watson.developer_cloud.discovery.v1.model.GetMetricsQueryOptions;
 import com.ibm.watson.developer_cloud.discovery.v1.model.GetMetricsQueryTokenEventOptions;
 import com.ibm.watson.developer_cloud.discovery.v1.model.GetTrainingDataOptions;
 import com.ibm.watson.developer_cloud.discovery.v1.model.GetTrainingExampleOptions;
+import com.ibm.watson.developer_cloud.discovery.v1.model.Histogram;
 import com.ibm.watson.developer_cloud.discovery.v1.model.ListCollectionFieldsOptions;
 import com.ibm.watson.developer_cloud.discovery.v1.model.ListCollectionFieldsResponse;
 import com.ibm.watson.developer_cloud.discovery.v1.model.ListCollectionsOptions;
@@ -78,11 +81,17 @@ import com.ibm.watson.developer_cloud.discovery.v1.model.ListTrainingExamplesOpt
 import com.ibm.watson.developer_cloud.discovery.v1.model.LogQueryResponse;
 import com.ibm.watson.developer_cloud.discovery.v1.model.MetricResponse;
 import com.ibm.watson.developer_cloud.discovery.v1.model.MetricTokenResponse;
+import com.ibm.watson.developer_cloud.discovery.v1.model.Nested;
+import com.ibm.watson.developer_cloud.discovery.v1.model.QueryAggregation;
 import com.ibm.watson.developer_cloud.discovery.v1.model.QueryLogOptions;
 import com.ibm.watson.developer_cloud.discovery.v1.model.QueryNoticesOptions;
 import com.ibm.watson.developer_cloud.discovery.v1.model.QueryNoticesResponse;
 import com.ibm.watson.developer_cloud.discovery.v1.model.QueryOptions;
 import com.ibm.watson.developer_cloud.discovery.v1.model.QueryResponse;
+import com.ibm.watson.developer_cloud.discovery.v1.model.QueryResult;
+import com.ibm.watson.developer_cloud.discovery.v1.model.Term;
+import com.ibm.watson.developer_cloud.discovery.v1.model.Timeslice;
+import com.ibm.watson.developer_cloud.discovery.v1.model.TopHits;
 import com.ibm.watson.developer_cloud.discovery.v1.model.TrainingDataSet;
 import com.ibm.watson.developer_cloud.discovery.v1.model.TrainingExample;
 import com.ibm.watson.developer_cloud.discovery.v1.model.TrainingExampleList;
@@ -745,6 +754,56 @@ public class DiscoveryServiceTest extends WatsonServiceUnitTest {
     assertEquals(GsonSingleton.getGson().toJsonTree(queryResp), GsonSingleton.getGson().toJsonTree(response));
   }
 
+  @Test
+  public void queryWithNestedAggregationsIsSuccessful() throws InterruptedException, FileNotFoundException {
+    QueryResponse mockResponse = loadFixture(RESOURCE + "query_aggregations_resp.json", QueryResponse.class);
+    server.enqueue(jsonResponse(mockResponse));
+    QueryOptions queryOptions = new QueryOptions.Builder(environmentId, collectionId).build();
+    QueryResponse response = discoveryService.query(queryOptions).execute();
+    server.takeRequest();
+
+    List<QueryAggregation> aggregations = response.getAggregations();
+    assertEquals(3, aggregations.size());
+    Term term = (Term) aggregations.get(0);
+    assertEquals("enriched_text.entities.type", term.getField());
+    assertEquals(Long.valueOf(2), term.getCount());
+    Timeslice timeslice = (Timeslice) term.getResults().get(0).getAggregations().get(0);
+    assertEquals("1d", timeslice.getInterval());
+    assertTrue(timeslice.isAnomaly());
+    Calculation average = (Calculation) timeslice.getResults().get(0).getAggregations().get(0);
+    assertEquals(AggregationType.AVERAGE.getName(), average.getType());
+    assertEquals(Double.valueOf(0.25), average.getValue());
+    assertEquals(Long.valueOf(100), ((Histogram) aggregations.get(1)).getInterval());
+    Nested nested = (Nested) aggregations.get(2);
+    assertEquals("enriched_text.entities", nested.getPath());
+    assertEquals("enriched_text.entities.type:Company", ((Filter) nested.getAggregations().get(0)).getMatch());
+    assertEquals(mockResponse, response);
+  }
+
+  @Test
+  public void queryWithTopHitsAggregationIsSuccessful() throws InterruptedException {
+    String body = "{\"matching_results\": 1, \"aggregations\": [{\"type\": \"top_hits\", \"size\": 1, "
+        + "\"hits\": {\"matching_results\": 1, \"hits\": [{\"id\": \"doc1\", \"score\": 0.5, "
+        + "\"metadata\": {\"author\": \"someone\"}, \"extracted\": {\"title\": \"Title\"}}]}}, "
+        + "{\"size\": 2, \"type\": \"top_hits\", "
+        + "\"hits\": {\"matching_results\": 2, \"hits\": [{\"id\": \"doc2\"}]}}]}";
+    server.enqueue(new MockResponse().addHeader("Content-Type", HttpMediaType.APPLICATION_JSON).setBody(body));
+    QueryOptions queryOptions = new QueryOptions.Builder(environmentId, collectionId).build();
+    QueryResponse response = discoveryService.query(queryOptions).execute();
+    server.takeRequest();
+
+    TopHits topHits = (TopHits) response.getAggregations().get(0);
+    assertEquals(Long.valueOf(1), topHits.getSize());
+    QueryResult hit = topHits.getHits().getHits().get(0);
+    assertEquals("doc1", hit.getId());
+    assertEquals("someone", hit.getMetadata().get("author"));
+    assertEquals("Title", ((Map) hit.get("extracted")).get("title"));
+    // the type isn't the first property
+    topHits = (TopHits) response.getAggregations().get(1);
+    assertEquals(Long.valueOf(2), topHits.getSize());
+    assertEquals("doc2", topHits.getHits().getHits().get(0).getId());
+  }
+
   // Training data tests
   @Test
   public void addTrainingDataIsSuccessful() throws InterruptedException {
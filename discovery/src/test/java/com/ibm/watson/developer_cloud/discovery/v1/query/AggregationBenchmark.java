@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.discovery.v1.query;
+
+import com.google.gson.Gson;
+import com.ibm.watson.developer_cloud.discovery.v1.model.QueryResponse;
+import com.ibm.watson.developer_cloud.util.GsonSingleton;
+
+/**
+ * Measures reading a query response with deeply nested term aggregations, streamed when the <code>type</code> of each
+ * aggregation comes first and read through a JSON tree at each level when it comes last:
+ *
+ * <pre>
+ * java -cp ... com.ibm.watson.developer_cloud.discovery.v1.query.AggregationBenchmark [depth] [buckets]
+ * </pre>
+ */
+public final class AggregationBenchmark {
+  private static final int ITERATIONS = 2000;
+  private static final int ROUNDS = 5;
+
+  private AggregationBenchmark() { }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args the depth of the aggregations and the number of buckets of each, 6 and 3 by default
+   */
+  public static void main(String[] args) {
+    int depth = (args.length > 0) ? Integer.parseInt(args[0]) : 6;
+    int buckets = (args.length > 1) ? Integer.parseInt(args[1]) : 3;
+    String typeFirst = response(depth, buckets, true);
+    String typeLast = response(depth, buckets, false);
+    Gson gson = GsonSingleton.getGsonWithoutPrettyPrinting();
+
+    System.out.printf("depth %d, %d buckets, %d bytes%n", depth, buckets, typeFirst.length());
+    for (int round = 0; round < ROUNDS; round++) {
+      System.out.printf("round %d: type first %10.0f ns/op, type last %10.0f ns/op%n", round,
+          measure(gson, typeFirst), measure(gson, typeLast));
+    }
+  }
+
+  private static String response(int depth, int buckets, boolean typeFirst) {
+    return "{\"matching_results\": 100, \"results\": [], \"aggregations\": ["
+        + aggregation(depth, buckets, typeFirst) + "]}";
+  }
+
+  private static String aggregation(int depth, int buckets, boolean typeFirst) {
+    StringBuilder sb = new StringBuilder("{");
+    if (typeFirst) {
+      sb.append("\"type\": \"term\", ");
+    }
+    sb.append("\"field\": \"enriched_text.entities.type\", \"count\": ").append(buckets).append(", \"results\": [");
+    for (int i = 0; i < buckets; i++) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      sb.append("{\"key\": \"key").append(i).append("\", \"matching_results\": ").append(i + 1);
+      if (depth > 1) {
+        sb.append(", \"aggregations\": [").append(aggregation(depth - 1, buckets, typeFirst)).append(']');
+      }
+      sb.append('}');
+    }
+    sb.append(']');
+    if (!typeFirst) {
+      sb.append(", \"type\": \"term\"");
+    }
+    return sb.append('}').toString();
+  }
+
+  private static double measure(Gson gson, String json) {
+    int hash = 0;
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      hash += gson.fromJson(json, QueryResponse.class).getAggregations().size();
+    }
+    long elapsed = System.nanoTime() - start;
+    if (hash == 0) {
+      System.out.println();
+    }
+    return (double) elapsed / ITERATIONS;
+  }
+}
@@ -12,7 +12,7 @@
  */
 package com.ibm.watson.developer_cloud.language_translator.v3;
 
-import com.google.gson.JsonObject;
+import com.ibm.watson.developer_cloud.http.JsonRequestBody;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
 import com.ibm.watson.developer_cloud.http.ServiceCall;
 import com.ibm.watson.developer_cloud.language_translator.v3.model.CreateModelOptions;
@@ -29,7 +29,6 @@ import com.ibm.watson.developer_cloud.language_translator.v3.model.TranslationMo
 import com.ibm.watson.developer_cloud.language_translator.v3.model.TranslationResult;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.service.security.IamOptions;
-import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.RequestUtils;
 import com.ibm.watson.developer_cloud.util.ResponseConverterUtils;
 import com.ibm.watson.developer_cloud.util.Validator;
@@ -111,19 +110,19 @@ public class LanguageTranslator extends WatsonService {
     String[] pathSegments = { "v3/translate" };
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
-    contentJson.add("text", GsonSingleton.getGson().toJsonTree(translateOptions.text()));
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
+    contentJson.add("text", translateOptions.text());
     if (translateOptions.modelId() != null) {
-      contentJson.addProperty("model_id", translateOptions.modelId());
+      contentJson.add("model_id", translateOptions.modelId());
     }
     if (translateOptions.source() != null) {
-      contentJson.addProperty("source", translateOptions.source());
+      contentJson.add("source", translateOptions.source());
     }
     if (translateOptions.target() != null) {
-      contentJson.addProperty("target", translateOptions.target());
+      contentJson.add("target", translateOptions.target());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(TranslationResult.class));
+    builder.body(contentJson.build());
+    return createServiceCall("translate", builder.build(), ResponseConverterUtils.getObject(TranslationResult.class));
   }
 
   /**
@@ -140,7 +139,7 @@ public class LanguageTranslator extends WatsonService {
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments));
     builder.query(VERSION, versionDate);
     builder.bodyContent(identifyOptions.text(), "text/plain");
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(IdentifiedLanguages.class));
+    return createServiceCall("identify", builder.build(), ResponseConverterUtils.getObject(IdentifiedLanguages.class));
   }
 
   /**
@@ -160,7 +159,8 @@ public class LanguageTranslator extends WatsonService {
     builder.query(VERSION, versionDate);
     if (listIdentifiableLanguagesOptions != null) {
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(IdentifiableLanguages.class));
+    return createServiceCall("listIdentifiableLanguages", builder.build(),
+        ResponseConverterUtils.getObject(IdentifiableLanguages.class));
   }
 
   /**
@@ -220,7 +220,7 @@ public class LanguageTranslator extends WatsonService {
           parallelCorpusBody);
     }
     builder.body(multipartBuilder.build());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(TranslationModel.class));
+    return createServiceCall("createModel", builder.build(), ResponseConverterUtils.getObject(TranslationModel.class));
   }
 
   /**
@@ -238,7 +238,7 @@ public class LanguageTranslator extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteModel", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -257,7 +257,7 @@ public class LanguageTranslator extends WatsonService {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(TranslationModel.class));
+    return createServiceCall("getModel", builder.build(), ResponseConverterUtils.getObject(TranslationModel.class));
   }
 
   /**
@@ -283,7 +283,7 @@ public class LanguageTranslator extends WatsonService {
         builder.query("default", String.valueOf(listModelsOptions.defaultModels()));
       }
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(TranslationModels.class));
+    return createServiceCall("listModels", builder.build(), ResponseConverterUtils.getObject(TranslationModels.class));
   }
 
   /**
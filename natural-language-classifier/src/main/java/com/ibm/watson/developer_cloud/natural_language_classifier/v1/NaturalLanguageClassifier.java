@@ -12,7 +12,7 @@
  */
 package com.ibm.watson.developer_cloud.natural_language_classifier.v1;
 
-import com.google.gson.JsonObject;
+import com.ibm.watson.developer_cloud.http.JsonRequestBody;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
 import com.ibm.watson.developer_cloud.http.ServiceCall;
 import com.ibm.watson.developer_cloud.natural_language_classifier.v1.model.Classification;
@@ -105,10 +105,10 @@ public class NaturalLanguageClassifier extends WatsonService {
     String[] pathParameters = { classifyOptions.classifierId() };
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    final JsonObject contentJson = new JsonObject();
-    contentJson.addProperty("text", classifyOptions.text());
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Classification.class));
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
+    contentJson.add("text", classifyOptions.text());
+    builder.body(contentJson.build());
+    return createServiceCall("classify", builder.build(), ResponseConverterUtils.getObject(Classification.class));
   }
 
   /**
@@ -128,10 +128,11 @@ public class NaturalLanguageClassifier extends WatsonService {
     String[] pathParameters = { classifyCollectionOptions.classifierId() };
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    final JsonObject contentJson = new JsonObject();
-    contentJson.add("collection", GsonSingleton.getGson().toJsonTree(classifyCollectionOptions.collection()));
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(ClassificationCollection.class));
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
+    contentJson.add("collection", classifyCollectionOptions.collection());
+    builder.body(contentJson.build());
+    return createServiceCall("classifyCollection", builder.build(),
+        ResponseConverterUtils.getObject(ClassificationCollection.class));
   }
 
   /**
@@ -155,7 +156,7 @@ public class NaturalLanguageClassifier extends WatsonService {
     RequestBody trainingDataBody = RequestUtils.inputStreamBody(createClassifierOptions.trainingData(), "text/csv");
     multipartBuilder.addFormDataPart("training_data", createClassifierOptions.trainingDataFilename(), trainingDataBody);
     builder.body(multipartBuilder.build());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Classifier.class));
+    return createServiceCall("createClassifier", builder.build(), ResponseConverterUtils.getObject(Classifier.class));
   }
 
   /**
@@ -170,7 +171,7 @@ public class NaturalLanguageClassifier extends WatsonService {
     String[] pathParameters = { deleteClassifierOptions.classifierId() };
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteClassifier", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -187,7 +188,7 @@ public class NaturalLanguageClassifier extends WatsonService {
     String[] pathParameters = { getClassifierOptions.classifierId() };
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Classifier.class));
+    return createServiceCall("getClassifier", builder.build(), ResponseConverterUtils.getObject(Classifier.class));
   }
 
   /**
@@ -203,7 +204,8 @@ public class NaturalLanguageClassifier extends WatsonService {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments));
     if (listClassifiersOptions != null) {
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(ClassifierList.class));
+    return createServiceCall("listClassifiers", builder.build(),
+        ResponseConverterUtils.getObject(ClassifierList.class));
   }
 
   /**
@@ -250,7 +252,7 @@ public class NaturalLanguageClassifier extends WatsonService {
     Map<String, String> metadataMap = new HashMap<>();
     metadataMap.put("name", name);
     metadataMap.put("language", language);
-    String metadataString = GsonSingleton.getGson().toJson(metadataMap);
+    String metadataString = GsonSingleton.getGsonWithoutPrettyPrinting().toJson(metadataMap);
 
     CreateClassifierOptions createClassifierOptions = new CreateClassifierOptions.Builder()
         .metadata(new ByteArrayInputStream(metadataString.getBytes()))
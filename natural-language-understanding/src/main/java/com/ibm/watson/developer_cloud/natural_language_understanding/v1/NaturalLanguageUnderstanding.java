@@ -12,7 +12,7 @@
  */
 package com.ibm.watson.developer_cloud.natural_language_understanding.v1;
 
-import com.google.gson.JsonObject;
+import com.ibm.watson.developer_cloud.http.JsonRequestBody;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
 import com.ibm.watson.developer_cloud.http.ServiceCall;
 import com.ibm.watson.developer_cloud.natural_language_understanding.v1.model.AnalysisResults;
@@ -22,7 +22,6 @@ import com.ibm.watson.developer_cloud.natural_language_understanding.v1.model.Li
 import com.ibm.watson.developer_cloud.natural_language_understanding.v1.model.ListModelsResults;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.service.security.IamOptions;
-import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.ResponseConverterUtils;
 import com.ibm.watson.developer_cloud.util.Validator;
 
@@ -143,37 +142,37 @@ public class NaturalLanguageUnderstanding extends WatsonService {
     String[] pathSegments = { "v1/analyze" };
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments));
     builder.query(VERSION, versionDate);
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (analyzeOptions.text() != null) {
-      contentJson.addProperty("text", analyzeOptions.text());
+      contentJson.add("text", analyzeOptions.text());
     }
     if (analyzeOptions.html() != null) {
-      contentJson.addProperty("html", analyzeOptions.html());
+      contentJson.add("html", analyzeOptions.html());
     }
     if (analyzeOptions.url() != null) {
-      contentJson.addProperty("url", analyzeOptions.url());
+      contentJson.add("url", analyzeOptions.url());
     }
-    contentJson.add("features", GsonSingleton.getGson().toJsonTree(analyzeOptions.features()));
+    contentJson.add("features", analyzeOptions.features());
     if (analyzeOptions.clean() != null) {
-      contentJson.addProperty("clean", analyzeOptions.clean());
+      contentJson.add("clean", analyzeOptions.clean());
     }
     if (analyzeOptions.xpath() != null) {
-      contentJson.addProperty("xpath", analyzeOptions.xpath());
+      contentJson.add("xpath", analyzeOptions.xpath());
     }
     if (analyzeOptions.fallbackToRaw() != null) {
-      contentJson.addProperty("fallback_to_raw", analyzeOptions.fallbackToRaw());
+      contentJson.add("fallback_to_raw", analyzeOptions.fallbackToRaw());
     }
     if (analyzeOptions.returnAnalyzedText() != null) {
-      contentJson.addProperty("return_analyzed_text", analyzeOptions.returnAnalyzedText());
+      contentJson.add("return_analyzed_text", analyzeOptions.returnAnalyzedText());
     }
     if (analyzeOptions.language() != null) {
-      contentJson.addProperty("language", analyzeOptions.language());
+      contentJson.add("language", analyzeOptions.language());
     }
     if (analyzeOptions.limitTextCharacters() != null) {
-      contentJson.addProperty("limit_text_characters", analyzeOptions.limitTextCharacters());
+      contentJson.add("limit_text_characters", analyzeOptions.limitTextCharacters());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(AnalysisResults.class));
+    builder.body(contentJson.build());
+    return createServiceCall("analyze", builder.build(), ResponseConverterUtils.getObject(AnalysisResults.class));
   }
 
   /**
@@ -191,7 +190,7 @@ public class NaturalLanguageUnderstanding extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteModel", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -209,7 +208,7 @@ public class NaturalLanguageUnderstanding extends WatsonService {
     builder.query(VERSION, versionDate);
     if (listModelsOptions != null) {
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(ListModelsResults.class));
+    return createServiceCall("listModels", builder.build(), ResponseConverterUtils.getObject(ListModelsResults.class));
   }
 
   /**
@@ -140,7 +140,7 @@ public class PersonalityInsights extends WatsonService {
       builder.query("consumption_preferences", String.valueOf(profileOptions.consumptionPreferences()));
     }
     builder.bodyContent(profileOptions.contentType(), profileOptions.content(), null, profileOptions.body());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Profile.class));
+    return createServiceCall("profile", builder.build(), ResponseConverterUtils.getObject(Profile.class));
   }
 
   /**
@@ -191,7 +191,7 @@ public class PersonalityInsights extends WatsonService {
     builder.query("csv_headers", includeHeaders);
 
     builder.bodyContent(profileOptions.contentType(), profileOptions.content(), null, profileOptions.body());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getInputStream());
+    return createServiceCall("profileAsCsv", builder.build(), ResponseConverterUtils.getInputStream());
   }
 
 }
@@ -12,7 +12,8 @@
  */
 package com.ibm.watson.developer_cloud.speech_to_text.v1;
 
-import com.google.gson.JsonObject;
+import com.ibm.watson.developer_cloud.http.HttpClientSingleton;
+import com.ibm.watson.developer_cloud.http.JsonRequestBody;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
 import com.ibm.watson.developer_cloud.http.ServiceCall;
 import com.ibm.watson.developer_cloud.service.WatsonService;
@@ -71,8 +72,9 @@ import com.ibm.watson.developer_cloud.speech_to_text.v1.model.UpgradeLanguageMod
 import com.ibm.watson.developer_cloud.speech_to_text.v1.model.Word;
 import com.ibm.watson.developer_cloud.speech_to_text.v1.model.Words;
 import com.ibm.watson.developer_cloud.speech_to_text.v1.websocket.RecognizeCallback;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.websocket.RecognizeSession;
 import com.ibm.watson.developer_cloud.speech_to_text.v1.websocket.SpeechToTextWebSocketListener;
-import com.ibm.watson.developer_cloud.util.GsonSingleton;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.websocket.WebSocketAudioOptions;
 import com.ibm.watson.developer_cloud.util.RequestUtils;
 import com.ibm.watson.developer_cloud.util.ResponseConverterUtils;
 import com.ibm.watson.developer_cloud.util.Validator;
@@ -136,6 +138,9 @@ public class SpeechToText extends WatsonService {
   private static final String SERVICE_NAME = "speech_to_text";
   private static final String URL = "https://stream.watsonplatform.net/speech-to-text/api";
 
+  private OkHttpClient webSocketClient;
+  private OkHttpClient webSocketClientSource;
+
   /**
    * Instantiates a new `SpeechToText`.
    *
@@ -189,7 +194,7 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { getModelOptions.modelId() };
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(SpeechModel.class));
+    return createServiceCall("getModel", builder.build(), ResponseConverterUtils.getObject(SpeechModel.class));
   }
 
   /**
@@ -208,7 +213,7 @@ public class SpeechToText extends WatsonService {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments));
     if (listModelsOptions != null) {
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(SpeechModels.class));
+    return createServiceCall("listModels", builder.build(), ResponseConverterUtils.getObject(SpeechModels.class));
   }
 
   /**
@@ -336,7 +341,8 @@ public class SpeechToText extends WatsonService {
       builder.query("speaker_labels", String.valueOf(recognizeOptions.speakerLabels()));
     }
     builder.bodyContent(recognizeOptions.contentType(), null, null, recognizeOptions.audio());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(SpeechRecognitionResults.class));
+    return createServiceCall("recognize", builder.build(),
+        ResponseConverterUtils.getObject(SpeechRecognitionResults.class));
   }
 
   /**
@@ -355,10 +361,68 @@ public class SpeechToText extends WatsonService {
    * @return the {@link WebSocket}
    */
   public WebSocket recognizeUsingWebSocket(RecognizeOptions recognizeOptions, RecognizeCallback callback) {
+    return recognizeUsingWebSocket(recognizeOptions, callback, null);
+  }
+
+  /**
+   * Sends audio and returns transcription results for recognition requests over a WebSocket connection, with options
+   * controlling how the audio is sent.
+   *
+   * @param recognizeOptions the recognize options
+   * @param callback the {@link RecognizeCallback} instance where results will be sent
+   * @param audioOptions the options to send the audio, or null to use the defaults
+   * @return the {@link WebSocket}
+   * @see #recognizeUsingWebSocket(RecognizeOptions, RecognizeCallback)
+   */
+  public WebSocket recognizeUsingWebSocket(RecognizeOptions recognizeOptions, RecognizeCallback callback,
+      WebSocketAudioOptions audioOptions) {
     Validator.notNull(recognizeOptions, "recognizeOptions cannot be null");
     Validator.notNull(recognizeOptions.audio(), "audio cannot be null");
     Validator.notNull(callback, "callback cannot be null");
 
+    return getWebSocketClient().newWebSocket(buildWebSocketRequest(recognizeOptions), new SpeechToTextWebSocketListener(
+        recognizeOptions, callback, audioOptions));
+  }
+
+  /**
+   * Opens a WebSocket connection recognizing successive utterances, each with its own options and callback, without
+   * the cost of opening a connection and authenticating for each of them. The session stays open until it is closed,
+   * or until the service closes it, for example after an inactivity timeout.
+   *
+   * @param sessionOptions the options of the connection: the model, customizations and base model version; the audio
+   *        and the other options are ignored
+   * @param audioOptions the options to send the audio, or null to use the defaults
+   * @return the {@link RecognizeSession}
+   * @see RecognizeSession#recognize(RecognizeOptions, RecognizeCallback)
+   */
+  public RecognizeSession openRecognizeSession(RecognizeOptions sessionOptions, WebSocketAudioOptions audioOptions) {
+    Validator.notNull(sessionOptions, "sessionOptions cannot be null");
+    RecognizeSession session = new RecognizeSession(audioOptions);
+    getWebSocketClient().newWebSocket(buildWebSocketRequest(sessionOptions), session);
+    return session;
+  }
+
+  /**
+   * Gets the client for WebSocket connections, derived from the client of the service without retries.
+   *
+   * @return the client
+   */
+  private synchronized OkHttpClient getWebSocketClient() {
+    OkHttpClient client = getClient();
+    if (webSocketClientSource != client) {
+      webSocketClient = HttpClientSingleton.getInstance().createWebSocketClient(client);
+      webSocketClientSource = client;
+    }
+    return webSocketClient;
+  }
+
+  /**
+   * Builds the request opening a WebSocket connection with the connection parameters of the options.
+   *
+   * @param recognizeOptions the recognize options
+   * @return the request
+   */
+  private Request buildWebSocketRequest(RecognizeOptions recognizeOptions) {
     HttpUrl.Builder urlBuilder = HttpUrl.parse(getEndPoint() + "/v1/recognize").newBuilder();
 
     if (recognizeOptions.model() != null) {
@@ -384,8 +448,7 @@ public class SpeechToText extends WatsonService {
     setAuthentication(builder);
     setDefaultHeaders(builder);
 
-    OkHttpClient client = configureHttpClient();
-    return client.newWebSocket(builder.build(), new SpeechToTextWebSocketListener(recognizeOptions, callback));
+    return builder.build();
   }
 
   /**
@@ -412,7 +475,7 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { checkJobOptions.id() };
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(RecognitionJob.class));
+    return createServiceCall("checkJob", builder.build(), ResponseConverterUtils.getObject(RecognitionJob.class));
   }
 
   /**
@@ -436,7 +499,7 @@ public class SpeechToText extends WatsonService {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments));
     if (checkJobsOptions != null) {
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(RecognitionJobs.class));
+    return createServiceCall("checkJobs", builder.build(), ResponseConverterUtils.getObject(RecognitionJobs.class));
   }
 
   /**
@@ -577,7 +640,7 @@ public class SpeechToText extends WatsonService {
       builder.query("speaker_labels", String.valueOf(createJobOptions.speakerLabels()));
     }
     builder.bodyContent(createJobOptions.contentType(), null, null, createJobOptions.audio());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(RecognitionJob.class));
+    return createServiceCall("createJob", builder.build(), ResponseConverterUtils.getObject(RecognitionJob.class));
   }
 
   /**
@@ -598,7 +661,7 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { deleteJobOptions.id() };
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteJob", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -643,7 +706,8 @@ public class SpeechToText extends WatsonService {
     if (registerCallbackOptions.userSecret() != null) {
       builder.query("user_secret", registerCallbackOptions.userSecret());
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(RegisterStatus.class));
+    return createServiceCall("registerCallback", builder.build(),
+        ResponseConverterUtils.getObject(RegisterStatus.class));
   }
 
   /**
@@ -663,7 +727,7 @@ public class SpeechToText extends WatsonService {
     String[] pathSegments = { "v1/unregister_callback" };
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments));
     builder.query("callback_url", unregisterCallbackOptions.callbackUrl());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("unregisterCallback", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -683,17 +747,18 @@ public class SpeechToText extends WatsonService {
     Validator.notNull(createLanguageModelOptions, "createLanguageModelOptions cannot be null");
     String[] pathSegments = { "v1/customizations" };
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments));
-    final JsonObject contentJson = new JsonObject();
-    contentJson.addProperty("name", createLanguageModelOptions.name());
-    contentJson.addProperty("base_model_name", createLanguageModelOptions.baseModelName());
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
+    contentJson.add("name", createLanguageModelOptions.name());
+    contentJson.add("base_model_name", createLanguageModelOptions.baseModelName());
     if (createLanguageModelOptions.dialect() != null) {
-      contentJson.addProperty("dialect", createLanguageModelOptions.dialect());
+      contentJson.add("dialect", createLanguageModelOptions.dialect());
     }
     if (createLanguageModelOptions.description() != null) {
-      contentJson.addProperty("description", createLanguageModelOptions.description());
+      contentJson.add("description", createLanguageModelOptions.description());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(LanguageModel.class));
+    builder.body(contentJson.build());
+    return createServiceCall("createLanguageModel", builder.build(),
+        ResponseConverterUtils.getObject(LanguageModel.class));
   }
 
   /**
@@ -715,7 +780,7 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { deleteLanguageModelOptions.customizationId() };
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteLanguageModel", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -736,7 +801,8 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { getLanguageModelOptions.customizationId() };
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(LanguageModel.class));
+    return createServiceCall("getLanguageModel", builder.build(),
+        ResponseConverterUtils.getObject(LanguageModel.class));
   }
 
   /**
@@ -761,7 +827,8 @@ public class SpeechToText extends WatsonService {
         builder.query("language", listLanguageModelsOptions.language());
       }
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(LanguageModels.class));
+    return createServiceCall("listLanguageModels", builder.build(),
+        ResponseConverterUtils.getObject(LanguageModels.class));
   }
 
   /**
@@ -801,7 +868,7 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { resetLanguageModelOptions.customizationId() };
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("resetLanguageModel", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -847,7 +914,7 @@ public class SpeechToText extends WatsonService {
     if (trainLanguageModelOptions.customizationWeight() != null) {
       builder.query("customization_weight", String.valueOf(trainLanguageModelOptions.customizationWeight()));
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("trainLanguageModel", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -877,7 +944,7 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { upgradeLanguageModelOptions.customizationId() };
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("upgradeLanguageModel", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -936,7 +1003,7 @@ public class SpeechToText extends WatsonService {
     RequestBody corpusFileBody = RequestUtils.inputStreamBody(addCorpusOptions.corpusFile(), "text/plain");
     multipartBuilder.addFormDataPart("corpus_file", addCorpusOptions.corpusFilename(), corpusFileBody);
     builder.body(multipartBuilder.build());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("addCorpus", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -960,7 +1027,7 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { deleteCorpusOptions.customizationId(), deleteCorpusOptions.corpusName() };
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteCorpus", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -982,7 +1049,7 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { getCorpusOptions.customizationId(), getCorpusOptions.corpusName() };
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Corpus.class));
+    return createServiceCall("getCorpus", builder.build(), ResponseConverterUtils.getObject(Corpus.class));
   }
 
   /**
@@ -1004,7 +1071,7 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { listCorporaOptions.customizationId() };
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Corpora.class));
+    return createServiceCall("listCorpora", builder.build(), ResponseConverterUtils.getObject(Corpora.class));
   }
 
   /**
@@ -1049,18 +1116,18 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { addWordOptions.customizationId(), addWordOptions.wordName() };
     RequestBuilder builder = RequestBuilder.put(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (addWordOptions.word() != null) {
-      contentJson.addProperty("word", addWordOptions.word());
+      contentJson.add("word", addWordOptions.word());
     }
     if (addWordOptions.soundsLike() != null) {
-      contentJson.add("sounds_like", GsonSingleton.getGson().toJsonTree(addWordOptions.soundsLike()));
+      contentJson.add("sounds_like", addWordOptions.soundsLike());
     }
     if (addWordOptions.displayAs() != null) {
-      contentJson.addProperty("display_as", addWordOptions.displayAs());
+      contentJson.add("display_as", addWordOptions.displayAs());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    builder.body(contentJson.build());
+    return createServiceCall("addWord", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -1120,10 +1187,10 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { addWordsOptions.customizationId() };
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    final JsonObject contentJson = new JsonObject();
-    contentJson.add("words", GsonSingleton.getGson().toJsonTree(addWordsOptions.words()));
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
+    contentJson.add("words", addWordsOptions.words());
+    builder.body(contentJson.build());
+    return createServiceCall("addWords", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -1147,7 +1214,7 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { deleteWordOptions.customizationId(), deleteWordOptions.wordName() };
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteWord", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -1168,7 +1235,7 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { getWordOptions.customizationId(), getWordOptions.wordName() };
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Word.class));
+    return createServiceCall("getWord", builder.build(), ResponseConverterUtils.getObject(Word.class));
   }
 
   /**
@@ -1198,7 +1265,7 @@ public class SpeechToText extends WatsonService {
     if (listWordsOptions.sort() != null) {
       builder.query("sort", listWordsOptions.sort());
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Words.class));
+    return createServiceCall("listWords", builder.build(), ResponseConverterUtils.getObject(Words.class));
   }
 
   /**
@@ -1218,14 +1285,15 @@ public class SpeechToText extends WatsonService {
     Validator.notNull(createAcousticModelOptions, "createAcousticModelOptions cannot be null");
     String[] pathSegments = { "v1/acoustic_customizations" };
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments));
-    final JsonObject contentJson = new JsonObject();
-    contentJson.addProperty("name", createAcousticModelOptions.name());
-    contentJson.addProperty("base_model_name", createAcousticModelOptions.baseModelName());
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
+    contentJson.add("name", createAcousticModelOptions.name());
+    contentJson.add("base_model_name", createAcousticModelOptions.baseModelName());
     if (createAcousticModelOptions.description() != null) {
-      contentJson.addProperty("description", createAcousticModelOptions.description());
+      contentJson.add("description", createAcousticModelOptions.description());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(AcousticModel.class));
+    builder.body(contentJson.build());
+    return createServiceCall("createAcousticModel", builder.build(),
+        ResponseConverterUtils.getObject(AcousticModel.class));
   }
 
   /**
@@ -1247,7 +1315,7 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { deleteAcousticModelOptions.customizationId() };
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteAcousticModel", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -1268,7 +1336,8 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { getAcousticModelOptions.customizationId() };
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(AcousticModel.class));
+    return createServiceCall("getAcousticModel", builder.build(),
+        ResponseConverterUtils.getObject(AcousticModel.class));
   }
 
   /**
@@ -1293,7 +1362,8 @@ public class SpeechToText extends WatsonService {
         builder.query("language", listAcousticModelsOptions.language());
       }
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(AcousticModels.class));
+    return createServiceCall("listAcousticModels", builder.build(),
+        ResponseConverterUtils.getObject(AcousticModels.class));
   }
 
   /**
@@ -1333,7 +1403,7 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { resetAcousticModelOptions.customizationId() };
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("resetAcousticModel", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -1383,7 +1453,7 @@ public class SpeechToText extends WatsonService {
     if (trainAcousticModelOptions.customLanguageModelId() != null) {
       builder.query("custom_language_model_id", trainAcousticModelOptions.customLanguageModelId());
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("trainAcousticModel", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -1422,7 +1492,7 @@ public class SpeechToText extends WatsonService {
     if (upgradeAcousticModelOptions.customLanguageModelId() != null) {
       builder.query("custom_language_model_id", upgradeAcousticModelOptions.customLanguageModelId());
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("upgradeAcousticModel", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -1524,7 +1594,7 @@ public class SpeechToText extends WatsonService {
       builder.query("allow_overwrite", String.valueOf(addAudioOptions.allowOverwrite()));
     }
     builder.bodyContent(addAudioOptions.contentType(), null, null, addAudioOptions.audioResource());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("addAudio", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -1548,7 +1618,7 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { deleteAudioOptions.customizationId(), deleteAudioOptions.audioName() };
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteAudio", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -1582,7 +1652,7 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { getAudioOptions.customizationId(), getAudioOptions.audioName() };
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(AudioListing.class));
+    return createServiceCall("getAudio", builder.build(), ResponseConverterUtils.getObject(AudioListing.class));
   }
 
   /**
@@ -1606,7 +1676,7 @@ public class SpeechToText extends WatsonService {
     String[] pathParameters = { listAudioOptions.customizationId() };
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(AudioResources.class));
+    return createServiceCall("listAudio", builder.build(), ResponseConverterUtils.getObject(AudioResources.class));
   }
 
   /**
@@ -1631,7 +1701,7 @@ public class SpeechToText extends WatsonService {
     String[] pathSegments = { "v1/user_data" };
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments));
     builder.query("customer_id", deleteUserDataOptions.customerId());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteUserData", builder.build(), ResponseConverterUtils.getVoid());
   }
 
 }
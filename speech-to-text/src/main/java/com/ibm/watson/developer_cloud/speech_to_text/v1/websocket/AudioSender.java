@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1.websocket;
+
+import okhttp3.WebSocket;
+import okio.ByteString;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Sends the audio of a recognition request over a {@link WebSocket}, followed by the stop message, as long as the
+ * request hasn't been interrupted.
+ */
+abstract class AudioSender implements Runnable {
+
+  private static final Logger LOG = Logger.getLogger(AudioSender.class.getName());
+  private static final String AUDIO_TO_WEB_SOCKET = "AudioToWebSocketThread";
+
+  // 8 MB, half of the maximum OkHttp WebSocket queue size
+  // (https://github.com/square/okhttp/blob/master/okhttp/src/main/java/okhttp3/internal/ws/RealWebSocket.java#L63)
+  private static final long QUEUE_SIZE_LIMIT = 16 * 1024 * 512;
+  // once the limit is reached, sending resumes when the queue is back under half of it
+  private static final long QUEUE_RESUME_SIZE = QUEUE_SIZE_LIMIT / 2;
+  private static final long MIN_QUEUE_WAIT_MILLIS = 1;
+  private static final long MAX_QUEUE_WAIT_MILLIS = 50;
+
+  private static Executor defaultExecutor;
+
+  private final WebSocket socket;
+  private final InputStream stream;
+  private final int frameSize;
+
+  /**
+   * Instantiates a new audio sender.
+   *
+   * @param socket the WebSocket
+   * @param stream the audio
+   * @param frameSize the size of the audio frames, in bytes
+   */
+  AudioSender(WebSocket socket, InputStream stream, int frameSize) {
+    this.socket = socket;
+    this.stream = stream;
+    this.frameSize = frameSize;
+  }
+
+  /**
+   * Gets the executor sending the audio when none is set in the {@link WebSocketAudioOptions}, creating it on first
+   * use.
+   *
+   * @return the executor
+   */
+  static synchronized Executor getDefaultExecutor() {
+    if (defaultExecutor == null) {
+      defaultExecutor = createDefaultExecutor();
+    }
+    return defaultExecutor;
+  }
+
+  private static Executor createDefaultExecutor() {
+    try {
+      // one virtual thread per recognition, on Java 21 and later
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // the threads are reused by the following recognitions, and discarded after a minute of inactivity. The pool is
+      // unbounded, as a bound would stall live streams behind others; a bounded executor can be set in the options
+      return Executors.newCachedThreadPool(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+          Thread thread = new Thread(runnable, AUDIO_TO_WEB_SOCKET);
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+    }
+  }
+
+  /**
+   * Checks whether the audio can still be sent.
+   *
+   * @return false if the socket has been closed or the request interrupted
+   */
+  abstract boolean isOpen();
+
+  /**
+   * Sends the audio on an executor. If the executor rejects the task, the stop message is sent right away so the
+   * service ends the recognition.
+   *
+   * @param executor the executor
+   * @throws RejectedExecutionException if the executor rejected the task
+   */
+  void start(Executor executor) {
+    try {
+      executor.execute(this);
+    } catch (RejectedExecutionException e) {
+      socket.send(SpeechToTextWebSocketListener.buildStopMessage());
+      throw e;
+    }
+  }
+
+  /*
+   * (non-Javadoc)
+   * @see java.lang.Runnable#run()
+   */
+  @Override
+  public void run() {
+    sendInputStream();
+    // Do not send the stop message if the socket has been closed already, for example because of the
+    // inactivity timeout.
+    // If the socket is still open after the sending finishes, for example because the user closed the
+    // microphone AudioInputStream, send a stop message.
+    if (isOpen() && !socket.send(SpeechToTextWebSocketListener.buildStopMessage())) {
+      LOG.log(Level.SEVERE, "Stop message discarded because WebSocket is unavailable");
+    }
+  }
+
+  /**
+   * Send input stream.
+   */
+  private void sendInputStream() {
+    // the buffer is reused for every frame: ByteString.of copies the bytes that are queued
+    byte[] buffer = new byte[frameSize];
+    int read;
+    try {
+      // This method uses a blocking while loop to receive all contents of the underlying input stream.
+      // AudioInputStreams, typically used for streaming microphone inputs return 0 only when the stream has been
+      // closed. Elsewise AudioInputStream.read() blocks until enough audio frames are read.
+      while (((read = stream.read(buffer)) > 0) && isOpen()) {
+        awaitQueueDrain();
+        socket.send(ByteString.of(buffer, 0, read));
+      }
+    } catch (IOException | InterruptedException e) {
+      LOG.log(Level.SEVERE, e.getMessage(), e);
+    } finally {
+      try {
+        stream.close();
+      } catch (IOException e) {
+        // do nothing - the InputStream may have already been closed externally.
+      }
+    }
+  }
+
+  /**
+   * Waits for OkHttp's WebSocket queue to drain when it is getting full. If the queue gets overwhelmed, it'll
+   * abruptly close the connection (see: https://github.com/square/okhttp/issues/3317).
+   *
+   * The WebSocket doesn't notify when its queue drains, so the queue is checked again after short waits that grow
+   * while the queue stays full. Sending resumes as soon as the queue is under half of the limit.
+   *
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  private void awaitQueueDrain() throws InterruptedException {
+    if (socket.queueSize() <= QUEUE_SIZE_LIMIT) {
+      return;
+    }
+    long waitMillis = MIN_QUEUE_WAIT_MILLIS;
+    while (isOpen() && socket.queueSize() > QUEUE_RESUME_SIZE) {
+      Thread.sleep(waitMillis);
+      waitMillis = Math.min(waitMillis * 2, MAX_QUEUE_WAIT_MILLIS);
+    }
+  }
+}
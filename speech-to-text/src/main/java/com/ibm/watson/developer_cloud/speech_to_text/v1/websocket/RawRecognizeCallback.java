@@ -0,0 +1,32 @@
+/*
+ * Copyright 2017 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1.websocket;
+
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechRecognitionResults;
+
+import okio.ByteString;
+
+/**
+ * A {@link RecognizeCallback} receiving the messages of the service unchanged, for example to forward them to another
+ * client. The results aren't bound to {@link SpeechRecognitionResults}, so
+ * {@link #onTranscription(SpeechRecognitionResults)} isn't called; the other methods are called as for any callback.
+ */
+public interface RawRecognizeCallback extends RecognizeCallback {
+
+  /**
+   * Called with each message received from the service, before the message is handled.
+   *
+   * @param message the message, encoded in UTF-8
+   */
+  void onMessage(ByteString message);
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2017 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1.websocket;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechRecognitionResults;
+import com.ibm.watson.developer_cloud.util.GsonSingleton;
+import okio.ByteString;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+/**
+ * A message received from the service during a WebSocket recognition: an error, results or a change of state.
+ *
+ * The message is read in a single streaming pass: the results are bound to {@link SpeechRecognitionResults} while the
+ * other top-level fields, which the binding skips, are recorded to classify the message.
+ */
+final class RecognizeMessage {
+
+  private static final Gson GSON = GsonSingleton.getGsonWithoutPrettyPrinting();
+  private static final TypeAdapter<SpeechRecognitionResults> RESULTS_ADAPTER =
+      GSON.getAdapter(SpeechRecognitionResults.class);
+
+  private static final String STATE = "state";
+  private static final String ERROR = "error";
+  private static final String RESULTS = "results";
+  private static final String SPEAKER_LABELS = "speaker_labels";
+  private static final String TIMEOUT_PREFIX = "No speech detected for";
+
+  private String error;
+  private boolean state;
+  private boolean transcription;
+  private SpeechRecognitionResults results;
+
+  private RecognizeMessage() { }
+
+  /**
+   * Reads a message, passing it first to the callback if it is a {@link RawRecognizeCallback}, in which case the
+   * results aren't bound.
+   *
+   * @param message the message
+   * @param callback the callback of the recognition
+   * @return the message
+   * @throws JsonSyntaxException if the message isn't a JSON object
+   */
+  static RecognizeMessage read(String message, RecognizeCallback callback) {
+    boolean raw = callback instanceof RawRecognizeCallback;
+    if (raw) {
+      ((RawRecognizeCallback) callback).onMessage(ByteString.encodeUtf8(message));
+    }
+    RecognizeMessage recognizeMessage = new RecognizeMessage();
+    MessageReader reader = new MessageReader(message, recognizeMessage);
+    try {
+      if (raw) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+          reader.nextName();
+          reader.skipValue();
+        }
+        reader.endObject();
+      } else {
+        recognizeMessage.results = RESULTS_ADAPTER.read(reader);
+      }
+    } catch (IOException | IllegalStateException e) {
+      throw new JsonSyntaxException(e);
+    }
+    return recognizeMessage;
+  }
+
+  /**
+   * Checks whether the message is a change of state of the service, such as listening for audio.
+   *
+   * @return true if the message only reports the state of the service
+   */
+  boolean isStateChange() {
+    return state && error == null && !transcription;
+  }
+
+  /**
+   * Notifies the callback of the error or the results of the message, if any.
+   *
+   * @param callback the callback
+   */
+  void notify(RecognizeCallback callback) {
+    if (error != null) {
+      // Only call onError() if a real error occurred. The STT service sends
+      // {"error" : "No speech detected for 5s"} for valid timeouts, configured by
+      // RecognizeUsingWebSocketOptions.Builder.inactivityTimeout()
+      if (!error.startsWith(TIMEOUT_PREFIX)) {
+        callback.onError(new RuntimeException(error));
+      } else {
+        // notify that the service timeouts because of inactivity
+        callback.onInactivityTimeout(new RuntimeException(error));
+      }
+    } else if (transcription && results != null) {
+      callback.onTranscription(results);
+    }
+  }
+
+  /**
+   * Reader recording the top-level fields of a message as they are read, and the error that the binding of the
+   * results would skip.
+   */
+  private static final class MessageReader extends JsonReader {
+    private final RecognizeMessage message;
+    private int depth;
+    private String name;
+
+    MessageReader(String json, RecognizeMessage message) {
+      super(new StringReader(json));
+      this.message = message;
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+      super.beginObject();
+      depth++;
+    }
+
+    @Override
+    public void endObject() throws IOException {
+      super.endObject();
+      depth--;
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+      super.beginArray();
+      depth++;
+    }
+
+    @Override
+    public void endArray() throws IOException {
+      super.endArray();
+      depth--;
+    }
+
+    @Override
+    public String nextName() throws IOException {
+      String nextName = super.nextName();
+      if (depth == 1) {
+        name = nextName;
+        if (STATE.equals(nextName)) {
+          message.state = true;
+        } else if (RESULTS.equals(nextName) || SPEAKER_LABELS.equals(nextName)) {
+          message.transcription = true;
+        }
+      }
+      return nextName;
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+      if (depth == 1 && ERROR.equals(name) && (peek() == JsonToken.STRING || peek() == JsonToken.NUMBER)) {
+        message.error = nextString();
+      } else {
+        super.skipValue();
+      }
+    }
+  }
+}
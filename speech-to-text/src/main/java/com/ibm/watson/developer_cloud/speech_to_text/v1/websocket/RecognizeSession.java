@@ -0,0 +1,330 @@
+/*
+ * Copyright 2017 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1.websocket;
+
+import com.ibm.watson.developer_cloud.speech_to_text.v1.SpeechToText;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.RecognizeOptions;
+import com.ibm.watson.developer_cloud.util.Validator;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A WebSocket connection to the {@link SpeechToText} service recognizing successive utterances, such as the turns of
+ * a call, without opening a new connection for each of them.
+ *
+ * Each utterance is recognized with its own {@link RecognizeOptions} and {@link RecognizeCallback}. The utterances are
+ * recognized one at a time, in the order they are submitted: the audio of an utterance is sent once the service has
+ * returned the final results of the previous one. The model and customizations are those of the connection, given
+ * when the session is opened; the ones of the options of each utterance are ignored.
+ *
+ * The callback of an utterance is notified with {@link RecognizeCallback#onConnected()} when its start message is
+ * sent, and with {@link RecognizeCallback#onDisconnected()} when its final results have been received or the
+ * connection is closed. An utterance still waiting when the connection is closed is notified with
+ * {@link RecognizeCallback#onError(Exception)}. If the start message or the audio of an utterance can't be sent, the
+ * connection is closed and the utterances still waiting fail. The callbacks are never notified while holding the lock
+ * of the session.
+ *
+ * @see SpeechToText#openRecognizeSession(RecognizeOptions, WebSocketAudioOptions)
+ */
+public class RecognizeSession extends WebSocketListener implements Closeable {
+
+  private static final int CLOSE_NORMAL = 1000;
+
+  /**
+   * An utterance submitted to the session.
+   */
+  private final class Utterance {
+    private final RecognizeOptions options;
+    private final RecognizeCallback callback;
+    private boolean listening;
+    private volatile boolean active;
+
+    Utterance(RecognizeOptions options, RecognizeCallback callback) {
+      this.options = options;
+      this.callback = callback;
+    }
+  }
+
+  private final WebSocketAudioOptions audioOptions;
+  private final Queue<Utterance> pending = new ArrayDeque<>();
+  private WebSocket socket;
+  private Utterance current;
+  private boolean open;
+  private boolean closing;
+  private boolean closed;
+  private final long createdNanos = System.nanoTime();
+  private volatile long lastActivityNanos = createdNanos;
+
+  /**
+   * Instantiates a new recognize session. The session is connected by
+   * {@link SpeechToText#openRecognizeSession(RecognizeOptions, WebSocketAudioOptions)}.
+   *
+   * @param audioOptions the options to send the audio, or null to use the defaults
+   */
+  public RecognizeSession(WebSocketAudioOptions audioOptions) {
+    this.audioOptions = (audioOptions != null) ? audioOptions : new WebSocketAudioOptions.Builder().build();
+  }
+
+  /**
+   * Submits an utterance to recognize. Its audio is sent once the utterances submitted before have been recognized.
+   *
+   * @param recognizeOptions the recognize options, with the audio of the utterance
+   * @param callback the {@link RecognizeCallback} instance where the results of the utterance will be sent
+   * @throws IllegalStateException if the session has been closed
+   */
+  public void recognize(RecognizeOptions recognizeOptions, RecognizeCallback callback) {
+    Validator.notNull(recognizeOptions, "recognizeOptions cannot be null");
+    Validator.notNull(recognizeOptions.audio(), "audio cannot be null");
+    Validator.notNull(callback, "callback cannot be null");
+    Utterance next;
+    synchronized (this) {
+      if (closing || closed) {
+        throw new IllegalStateException("The recognize session has been closed");
+      }
+      pending.add(new Utterance(recognizeOptions, callback));
+      next = takeNext();
+    }
+    start(next);
+  }
+
+  /**
+   * Gets the number of utterances submitted and not recognized yet, including the one being recognized.
+   *
+   * @return the number of utterances
+   */
+  public synchronized int getPendingCount() {
+    return pending.size() + ((current != null) ? 1 : 0);
+  }
+
+  /**
+   * Checks whether the session is connected and accepts utterances.
+   *
+   * @return true if the session is open
+   */
+  public synchronized boolean isOpen() {
+    return open && !closing && !closed;
+  }
+
+  /**
+   * Checks whether the session can still recognize utterances: it is connected or connecting, and hasn't been closed.
+   *
+   * @return true if the session is usable
+   */
+  synchronized boolean isUsable() {
+    return !closing && !closed;
+  }
+
+  /**
+   * Gets the time the session was created, as returned by {@link System#nanoTime()}.
+   *
+   * @return the creation time
+   */
+  long getCreatedNanos() {
+    return createdNanos;
+  }
+
+  /**
+   * Gets the last time the connection was opened or an utterance completed, as returned by {@link System#nanoTime()}.
+   *
+   * @return the time of the last activity
+   */
+  long getLastActivityNanos() {
+    return lastActivityNanos;
+  }
+
+  /**
+   * Closes the session once the utterances already submitted have been recognized.
+   */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (closing || closed) {
+        return;
+      }
+      closing = true;
+      if (current != null || !pending.isEmpty() || socket == null) {
+        return;
+      }
+    }
+    socket.close(CLOSE_NORMAL, "Recognize session closed");
+  }
+
+  /*
+   * (non-Javadoc)
+   * @see okhttp3.WebSocketListener#onOpen(okhttp3.WebSocket, okhttp3.Response)
+   */
+  @Override
+  public void onOpen(WebSocket webSocket, Response response) {
+    Utterance next;
+    boolean closeSocket;
+    synchronized (this) {
+      socket = webSocket;
+      open = true;
+      lastActivityNanos = System.nanoTime();
+      next = takeNext();
+      closeSocket = closing && current == null;
+    }
+    start(next);
+    if (closeSocket) {
+      // closed before the connection was opened
+      webSocket.close(CLOSE_NORMAL, "Recognize session closed");
+    }
+  }
+
+  /*
+   * (non-Javadoc)
+   * @see okhttp3.WebSocketListener#onMessage(okhttp3.WebSocket, java.lang.String)
+   */
+  @Override
+  public void onMessage(WebSocket webSocket, String message) {
+    Utterance utterance;
+    synchronized (this) {
+      utterance = current;
+    }
+    if (utterance == null) {
+      return;
+    }
+    RecognizeMessage recognizeMessage = RecognizeMessage.read(message, utterance.callback);
+    recognizeMessage.notify(utterance.callback);
+    if (recognizeMessage.isStateChange()) {
+      // the service listens after the start message, then again once the final results have been sent
+      if (!utterance.listening) {
+        utterance.listening = true;
+        utterance.callback.onListening();
+      } else {
+        complete(utterance);
+      }
+    }
+  }
+
+  /*
+   * (non-Javadoc)
+   * @see okhttp3.WebSocketListener#onClosing(okhttp3.WebSocket, int, java.lang.String)
+   */
+  @Override
+  public void onClosing(WebSocket webSocket, int code, String reason) {
+    disconnect(null);
+    webSocket.close(CLOSE_NORMAL, null);
+  }
+
+  /*
+   * (non-Javadoc)
+   * @see okhttp3.WebSocketListener#onFailure(okhttp3.WebSocket, java.lang.Throwable, okhttp3.Response)
+   */
+  @Override
+  public void onFailure(WebSocket webSocket, Throwable t, Response response) {
+    disconnect((t instanceof Exception) ? (Exception) t : new Exception(t));
+  }
+
+  private void complete(Utterance utterance) {
+    Utterance next;
+    boolean closeSocket;
+    synchronized (this) {
+      utterance.active = false;
+      current = null;
+      lastActivityNanos = System.nanoTime();
+      next = takeNext();
+      closeSocket = closing && current == null && pending.isEmpty();
+    }
+    utterance.callback.onTranscriptionComplete();
+    utterance.callback.onDisconnected();
+    start(next);
+    if (closeSocket) {
+      socket.close(CLOSE_NORMAL, "Recognize session closed");
+    }
+  }
+
+  private void disconnect(Exception failure) {
+    Utterance utterance;
+    List<Utterance> waiting;
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      utterance = current;
+      current = null;
+      waiting = new ArrayList<>(pending);
+      pending.clear();
+    }
+    if (utterance != null) {
+      utterance.active = false;
+      if (failure != null) {
+        utterance.callback.onError(failure);
+      }
+      utterance.callback.onDisconnected();
+    }
+    for (Utterance next : waiting) {
+      next.callback.onError((failure != null) ? failure : new IOException("The recognize session has been closed"));
+      next.callback.onDisconnected();
+    }
+  }
+
+  /**
+   * Takes the next utterance to recognize, if the connection is open and idle. Called while holding the lock of the
+   * session; the utterance is then started by {@link #start(Utterance)} once the lock is released.
+   *
+   * @return the next utterance, or null if none can be started
+   */
+  private Utterance takeNext() {
+    if (!open || closed || current != null || pending.isEmpty()) {
+      return null;
+    }
+    Utterance utterance = pending.poll();
+    current = utterance;
+    utterance.active = true;
+    return utterance;
+  }
+
+  /**
+   * Sends the start message and the audio of an utterance taken by {@link #takeNext()}. If they can't be sent, the
+   * connection is closed and the utterances fail, instead of waiting for results that will never come.
+   *
+   * @param utterance the utterance, or null
+   */
+  private void start(final Utterance utterance) {
+    if (utterance == null) {
+      return;
+    }
+    utterance.callback.onConnected();
+    if (!socket.send(SpeechToTextWebSocketListener.buildStartMessage(utterance.options))) {
+      abort(new IOException("WebSocket unavailable"));
+      return;
+    }
+    int frameSize = audioOptions.getFrameSize(utterance.options.contentType());
+    try {
+      new AudioSender(socket, utterance.options.audio(), frameSize) {
+        @Override
+        boolean isOpen() {
+          return utterance.active;
+        }
+      }.start(audioOptions.getExecutor());
+    } catch (RejectedExecutionException e) {
+      abort(e);
+    }
+  }
+
+  private void abort(Exception failure) {
+    disconnect(failure);
+    socket.cancel();
+  }
+}
@@ -0,0 +1,509 @@
+/*
+ * Copyright 2017 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1.websocket;
+
+import com.ibm.watson.developer_cloud.speech_to_text.v1.SpeechToText;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.RecognizeOptions;
+import com.ibm.watson.developer_cloud.util.Validator;
+
+import java.io.Closeable;
+import java.lang.ref.WeakReference;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pool of authenticated {@link RecognizeSession}s connected ahead of time, so an utterance can be recognized without
+ * waiting for DNS, TLS, the WebSocket handshake and an IAM token. The sessions are pooled by connection parameters:
+ * model, customizations, customization weight and base model version.
+ *
+ * Sessions are warmed up for the connection parameters given to {@link #warmUp(RecognizeOptions)} or
+ * {@link #acquire(RecognizeOptions)}, and a background task keeps at least {@link Builder#minIdle(int)} idle
+ * sessions for each of them. Idle sessions are closed after {@link Builder#idleTimeout(long, TimeUnit)}, before the
+ * service closes inactive connections, and once they are older than {@link Builder#maxLifetime(long, TimeUnit)}, so
+ * the replacements are authenticated with the current IAM access token.
+ *
+ * <pre>
+ * RecognizeSession session = pool.acquire(sessionOptions);
+ * session.recognize(utteranceOptions, callback);
+ * pool.release(session);
+ * </pre>
+ */
+public class RecognizeSessionPool implements Closeable {
+  private static final Logger LOG = Logger.getLogger(RecognizeSessionPool.class.getName());
+
+  private static final int DEFAULT_MIN_IDLE = 1;
+  private static final int DEFAULT_MAX_IDLE = 8;
+  // the service closes a connection that stays inactive for 30 seconds
+  private static final long DEFAULT_IDLE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(20);
+  // IAM access tokens expire after an hour
+  private static final long DEFAULT_MAX_LIFETIME_MILLIS = TimeUnit.MINUTES.toMillis(50);
+  private static final long MIN_MAINTENANCE_PERIOD_MILLIS = 100;
+
+  private static ScheduledExecutorService maintenanceExecutor;
+
+  private final SpeechToText service;
+  private final WebSocketAudioOptions audioOptions;
+  private final int minIdle;
+  private final int maxIdle;
+  private final long idleTimeoutNanos;
+  private final long maxLifetimeNanos;
+
+  // the options of each connection parameters warmed up, and their idle sessions, most recently used first
+  private final Map<String, RecognizeOptions> warmedUp = new HashMap<>();
+  private final Map<String, Deque<RecognizeSession>> idle = new HashMap<>();
+  // the number of sessions being opened for each connection parameters, outside the lock of the pool
+  private final Map<String, Integer> opening = new HashMap<>();
+  // the connection parameters of the sessions opened by the pool
+  private final Map<RecognizeSession, String> keys = new WeakHashMap<>();
+  private final ScheduledFuture<?> maintenance;
+  private boolean closed;
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong evictionCount = new AtomicLong();
+
+  /**
+   * Gets the number of sessions acquired from the idle sessions of the pool.
+   *
+   * @return the number of hits
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * Gets the number of sessions acquired while no idle session was available, which opened a new connection.
+   *
+   * @return the number of misses
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * Gets the number of idle sessions closed because they timed out, reached their maximum lifetime or exceeded the
+   * maximum number of idle sessions.
+   *
+   * @return the number of evictions
+   */
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  /**
+   * Gets the number of idle sessions, connected or connecting, for all connection parameters.
+   *
+   * @return the number of idle sessions
+   */
+  public synchronized int getIdleCount() {
+    int count = 0;
+    for (Deque<RecognizeSession> sessions : idle.values()) {
+      count += sessions.size();
+    }
+    return count;
+  }
+
+  /**
+   * Opens idle sessions for connection parameters ahead of their first use, and keeps them warm until the pool is
+   * closed.
+   *
+   * @param sessionOptions the options of the connection: the model, customizations and base model version
+   */
+  public void warmUp(RecognizeOptions sessionOptions) {
+    Validator.notNull(sessionOptions, "sessionOptions cannot be null");
+    synchronized (this) {
+      checkOpen();
+      warmedUp.put(getKey(sessionOptions), sessionOptions);
+    }
+    refill();
+  }
+
+  /**
+   * Acquires a session for connection parameters: an idle session of the pool if there is one, or a new session. The
+   * connection parameters are then kept warm.
+   *
+   * @param sessionOptions the options of the connection: the model, customizations and base model version
+   * @return the session
+   * @throws IllegalStateException if the pool has been closed
+   */
+  public RecognizeSession acquire(RecognizeOptions sessionOptions) {
+    Validator.notNull(sessionOptions, "sessionOptions cannot be null");
+    String key = getKey(sessionOptions);
+    RecognizeSession session = null;
+    synchronized (this) {
+      checkOpen();
+      warmedUp.put(key, sessionOptions);
+      Deque<RecognizeSession> sessions = idle.get(key);
+      if (sessions != null) {
+        for (Iterator<RecognizeSession> it = sessions.iterator(); it.hasNext() && session == null;) {
+          RecognizeSession candidate = it.next();
+          if (candidate.isUsable() && candidate.getPendingCount() == 0) {
+            it.remove();
+            session = candidate;
+          }
+        }
+      }
+    }
+    if (session != null) {
+      hitCount.incrementAndGet();
+    } else {
+      missCount.incrementAndGet();
+      session = service.openRecognizeSession(sessionOptions, audioOptions);
+      synchronized (this) {
+        track(key, session);
+      }
+    }
+    getMaintenanceExecutor().execute(new Runnable() {
+      @Override
+      public void run() {
+        refill();
+      }
+    });
+    return session;
+  }
+
+  /**
+   * Returns a session to the pool, to be reused once the utterances submitted to it have been recognized. A session
+   * that wasn't opened by the pool, has been closed or exceeds the maximum number of idle sessions is closed.
+   *
+   * @param session the session
+   */
+  public void release(RecognizeSession session) {
+    Validator.notNull(session, "session cannot be null");
+    synchronized (this) {
+      String key = keys.get(session);
+      Deque<RecognizeSession> sessions = (key != null) ? idle.get(key) : null;
+      if (!closed && sessions != null && session.isUsable() && sessions.size() < maxIdle) {
+        sessions.addFirst(session);
+        return;
+      }
+    }
+    session.close();
+  }
+
+  /**
+   * Closes the pool and its idle sessions. Acquired sessions are closed when they are released.
+   */
+  @Override
+  public void close() {
+    List<RecognizeSession> sessions = new ArrayList<>();
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      maintenance.cancel(false);
+      for (Deque<RecognizeSession> keySessions : idle.values()) {
+        sessions.addAll(keySessions);
+      }
+      idle.clear();
+      warmedUp.clear();
+    }
+    for (RecognizeSession session : sessions) {
+      session.close();
+    }
+  }
+
+  /**
+   * Closes the idle sessions that timed out or reached their maximum lifetime, then opens sessions until each of the
+   * connection parameters warmed up has the minimum number of idle sessions.
+   */
+  void maintain() {
+    List<RecognizeSession> evicted = new ArrayList<>();
+    long now = System.nanoTime();
+    synchronized (this) {
+      for (Deque<RecognizeSession> sessions : idle.values()) {
+        for (Iterator<RecognizeSession> it = sessions.iterator(); it.hasNext();) {
+          RecognizeSession session = it.next();
+          if (!session.isUsable()) {
+            it.remove();
+          } else if (session.getPendingCount() == 0 && (now - session.getLastActivityNanos() > idleTimeoutNanos
+              || now - session.getCreatedNanos() > maxLifetimeNanos)) {
+            it.remove();
+            evicted.add(session);
+          }
+        }
+      }
+    }
+    evictionCount.addAndGet(evicted.size());
+    for (RecognizeSession session : evicted) {
+      session.close();
+    }
+    refill();
+  }
+
+  /**
+   * Opens sessions until each of the connection parameters warmed up has the minimum number of idle sessions. The
+   * sessions are opened outside the lock of the pool, since opening one can wait for an IAM token.
+   */
+  private void refill() {
+    List<Map.Entry<String, RecognizeOptions>> toOpen = new ArrayList<>();
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      for (Map.Entry<String, RecognizeOptions> entry : warmedUp.entrySet()) {
+        Deque<RecognizeSession> sessions = idle.get(entry.getKey());
+        int pending = opening.containsKey(entry.getKey()) ? opening.get(entry.getKey()) : 0;
+        int usable = pending;
+        if (sessions != null) {
+          for (RecognizeSession session : sessions) {
+            if (session.isUsable()) {
+              usable++;
+            }
+          }
+        }
+        for (int i = usable; i < minIdle; i++) {
+          toOpen.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+          pending++;
+        }
+        if (pending > 0) {
+          opening.put(entry.getKey(), pending);
+        }
+      }
+    }
+    for (Map.Entry<String, RecognizeOptions> entry : toOpen) {
+      RecognizeSession session = null;
+      try {
+        session = service.openRecognizeSession(entry.getValue(), audioOptions);
+      } finally {
+        addIdle(entry.getKey(), session);
+      }
+    }
+  }
+
+  /**
+   * Adds a session opened by {@link #refill()} to the idle sessions, or closes it if the pool has been closed in the
+   * meantime.
+   *
+   * @param key the connection parameters
+   * @param session the session, or null if it couldn't be opened
+   */
+  private void addIdle(String key, RecognizeSession session) {
+    synchronized (this) {
+      Integer pending = opening.get(key);
+      if (pending != null && pending > 1) {
+        opening.put(key, pending - 1);
+      } else {
+        opening.remove(key);
+      }
+      if (session == null) {
+        return;
+      }
+      if (!closed) {
+        track(key, session);
+        idle.get(key).addLast(session);
+        return;
+      }
+    }
+    session.close();
+  }
+
+  /**
+   * Records the connection parameters of a session opened by the pool, while holding the lock of the pool.
+   */
+  private void track(String key, RecognizeSession session) {
+    keys.put(session, key);
+    if (!idle.containsKey(key)) {
+      idle.put(key, new ArrayDeque<RecognizeSession>());
+    }
+  }
+
+  private void checkOpen() {
+    if (closed) {
+      throw new IllegalStateException("The recognize session pool has been closed");
+    }
+  }
+
+  private static String getKey(RecognizeOptions options) {
+    return options.model() + '\n' + options.customizationId() + '\n' + options.acousticCustomizationId() + '\n'
+        + options.customizationWeight() + '\n' + options.baseModelVersion();
+  }
+
+  /**
+   * Gets the executor shared by all pools for their maintenance, creating it on first use.
+   *
+   * @return the executor
+   */
+  private static synchronized ScheduledExecutorService getMaintenanceExecutor() {
+    if (maintenanceExecutor == null) {
+      maintenanceExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+          Thread thread = new Thread(runnable, "RecognizeSessionPoolMaintenance");
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+    }
+    return maintenanceExecutor;
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private SpeechToText service;
+    private WebSocketAudioOptions audioOptions;
+    private int minIdle = DEFAULT_MIN_IDLE;
+    private int maxIdle = DEFAULT_MAX_IDLE;
+    private long idleTimeoutMillis = DEFAULT_IDLE_TIMEOUT_MILLIS;
+    private long maxLifetimeMillis = DEFAULT_MAX_LIFETIME_MILLIS;
+
+    /**
+     * Builds the pool.
+     *
+     * @return the pool
+     */
+    public RecognizeSessionPool build() {
+      Validator.notNull(service, "service cannot be null");
+      Validator.isTrue(minIdle <= maxIdle, "minIdle cannot be greater than maxIdle");
+      return new RecognizeSessionPool(this);
+    }
+
+    /**
+     * Sets the service opening the sessions.
+     *
+     * @param service the service
+     * @return the builder
+     */
+    public Builder service(SpeechToText service) {
+      this.service = service;
+      return this;
+    }
+
+    /**
+     * Sets the options to send the audio of the sessions. Defaults to the default {@link WebSocketAudioOptions}.
+     *
+     * @param audioOptions the audio options
+     * @return the builder
+     */
+    public Builder audioOptions(WebSocketAudioOptions audioOptions) {
+      this.audioOptions = audioOptions;
+      return this;
+    }
+
+    /**
+     * Sets the number of idle sessions kept ready for each connection parameters warmed up. Defaults to 1.
+     *
+     * @param minIdle the minimum number of idle sessions
+     * @return the builder
+     */
+    public Builder minIdle(int minIdle) {
+      Validator.isTrue(minIdle >= 0, "minIdle cannot be negative");
+      this.minIdle = minIdle;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of idle sessions kept for each connection parameters; sessions released beyond it are
+     * closed. Defaults to 8.
+     *
+     * @param maxIdle the maximum number of idle sessions
+     * @return the builder
+     */
+    public Builder maxIdle(int maxIdle) {
+      Validator.isTrue(maxIdle > 0, "maxIdle must be greater than 0");
+      this.maxIdle = maxIdle;
+      return this;
+    }
+
+    /**
+     * Sets how long a session stays idle before it is closed and replaced. Defaults to 20 seconds, under the 30
+     * seconds after which the service closes inactive connections.
+     *
+     * @param idleTimeout the idle timeout
+     * @param timeUnit the unit of the timeout
+     * @return the builder
+     */
+    public Builder idleTimeout(long idleTimeout, TimeUnit timeUnit) {
+      Validator.isTrue(idleTimeout > 0, "idleTimeout must be greater than 0");
+      this.idleTimeoutMillis = timeUnit.toMillis(idleTimeout);
+      return this;
+    }
+
+    /**
+     * Sets the age after which an idle session is closed and replaced by a session authenticated with a new token.
+     * Defaults to 50 minutes, under the lifetime of IAM access tokens.
+     *
+     * @param maxLifetime the maximum lifetime
+     * @param timeUnit the unit of the lifetime
+     * @return the builder
+     */
+    public Builder maxLifetime(long maxLifetime, TimeUnit timeUnit) {
+      Validator.isTrue(maxLifetime > 0, "maxLifetime must be greater than 0");
+      this.maxLifetimeMillis = timeUnit.toMillis(maxLifetime);
+      return this;
+    }
+  }
+
+  private RecognizeSessionPool(Builder builder) {
+    this.service = builder.service;
+    this.audioOptions = builder.audioOptions;
+    this.minIdle = builder.minIdle;
+    this.maxIdle = builder.maxIdle;
+    this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(builder.idleTimeoutMillis);
+    this.maxLifetimeNanos = TimeUnit.MILLISECONDS.toNanos(builder.maxLifetimeMillis);
+    long period = Math.max(MIN_MAINTENANCE_PERIOD_MILLIS,
+        Math.min(builder.idleTimeoutMillis, builder.maxLifetimeMillis) / 4);
+    MaintenanceTask task = new MaintenanceTask(this);
+    this.maintenance = getMaintenanceExecutor().scheduleWithFixedDelay(task, period, period, TimeUnit.MILLISECONDS);
+    task.future = maintenance;
+  }
+
+  /**
+   * Maintains a pool periodically. It holds the pool weakly, so that the shared executor doesn't keep a pool that
+   * wasn't closed, and cancels itself once the pool is garbage collected.
+   */
+  private static final class MaintenanceTask implements Runnable {
+    private final WeakReference<RecognizeSessionPool> poolReference;
+    private volatile ScheduledFuture<?> future;
+
+    MaintenanceTask(RecognizeSessionPool pool) {
+      this.poolReference = new WeakReference<>(pool);
+    }
+
+    @Override
+    public void run() {
+      RecognizeSessionPool pool = poolReference.get();
+      if (pool == null) {
+        ScheduledFuture<?> scheduled = future;
+        if (scheduled != null) {
+          scheduled.cancel(false);
+        }
+        return;
+      }
+      try {
+        pool.maintain();
+      } catch (RuntimeException e) {
+        // keep the task scheduled, the sessions are opened again on the next run
+        LOG.log(Level.WARNING, "Failed to maintain the recognize session pool", e);
+      }
+    }
+  }
+}
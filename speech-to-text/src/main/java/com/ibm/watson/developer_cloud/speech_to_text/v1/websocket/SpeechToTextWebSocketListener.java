@@ -19,18 +19,13 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.ibm.watson.developer_cloud.speech_to_text.v1.SpeechToText;
 import com.ibm.watson.developer_cloud.speech_to_text.v1.model.RecognizeOptions;
-import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechRecognitionResults;
-import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import okhttp3.Response;
 import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
-import okio.ByteString;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Arrays;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * The listener interface for receiving {@link WebSocket} events. <br>
@@ -41,36 +36,21 @@ import java.util.logging.Logger;
  */
 public final class SpeechToTextWebSocketListener extends WebSocketListener {
 
-  private static final String AUDIO_TO_WEB_SOCKET = "AudioToWebSocketThread";
-  private static final Gson GSON = GsonSingleton.getGsonWithoutPrettyPrinting();
-  private static final Logger LOG = Logger.getLogger(SpeechToTextWebSocketListener.class.getName());
-
-  private static final String STATE = "state";
   private static final String MODEL = "model";
   private static final String START = "start";
   private static final String STOP = "stop";
   private static final String ACTION = "action";
-  private static final int ONE_KB = 1024;
-  private static final String ERROR = "error";
-  private static final String RESULTS = "results";
-  private static final String SPEAKER_LABELS = "speaker_labels";
   private static final String CUSTOMIZATION_ID = "customization_id";
   private static final String ACOUSTIC_CUSTOMIZATION_ID = "acoustic_customization_id";
   private static final String CUSTOMIZATION_WEIGHT = "customization_weight";
   private static final String VERSION = "base_model_version";
-  private static final String TIMEOUT_PREFIX = "No speech detected for";
-
-  // 8 MB, half of the maximum OkHttp WebSocket queue size
-  // (https://github.com/square/okhttp/blob/master/okhttp/src/main/java/okhttp3/internal/ws/RealWebSocket.java#L63)
-  private static final long QUEUE_SIZE_LIMIT = 16 * 1024 * 512;
-  private static final long QUEUE_WAIT_MILLIS = 500;
 
   private final InputStream stream;
   private final RecognizeOptions options;
   private final RecognizeCallback callback;
+  private final WebSocketAudioOptions audioOptions;
   private WebSocket socket;
-  private boolean socketOpen = true;
-  private Thread audioThread = null;
+  private volatile boolean socketOpen = true;
   private boolean isListening = false;
   private static final int CLOSE_NORMAL = 1000;
 
@@ -81,9 +61,22 @@ public final class SpeechToTextWebSocketListener extends WebSocketListener {
    * @param callback the callback
    */
   public SpeechToTextWebSocketListener(final RecognizeOptions options, final RecognizeCallback callback) {
+    this(options, callback, null);
+  }
+
+  /**
+   * Instantiates a new speech to text web socket listener.
+   *
+   * @param options the recognize options
+   * @param callback the callback
+   * @param audioOptions the options to send the audio, or null to use the defaults
+   */
+  public SpeechToTextWebSocketListener(final RecognizeOptions options, final RecognizeCallback callback,
+      final WebSocketAudioOptions audioOptions) {
     this.stream = options.audio();
     this.options = options;
     this.callback = callback;
+    this.audioOptions = (audioOptions != null) ? audioOptions : new WebSocketAudioOptions.Builder().build();
   }
 
   /*
@@ -116,23 +109,9 @@ public final class SpeechToTextWebSocketListener extends WebSocketListener {
    */
   @Override
   public void onMessage(WebSocket webSocket, String message) {
-    JsonObject json = new JsonParser().parse(message).getAsJsonObject();
-    if (json.has(ERROR)) {
-      String error = json.get(ERROR).getAsString();
-
-      // Only call onError() if a real error occurred. The STT service sends
-      // {"error" : "No speech detected for 5s"} for valid timeouts, configured by
-      // RecognizeUsingWebSocketOptions.Builder.inactivityTimeout()
-      if (!error.startsWith(TIMEOUT_PREFIX)) {
-        callback.onError(new RuntimeException(error));
-      } else {
-        // notify that the service timeouts because of inactivity
-        callback.onInactivityTimeout(new RuntimeException(error));
-      }
-    } else if (json.has(RESULTS) || json.has(SPEAKER_LABELS)) {
-      callback.onTranscription(GSON.fromJson(message, SpeechRecognitionResults.class));
-
-    } else if (json.has(STATE)) {
+    RecognizeMessage recognizeMessage = RecognizeMessage.read(message, callback);
+    recognizeMessage.notify(callback);
+    if (recognizeMessage.isStateChange()) {
       // A listen state after everything has been sent over indicates everything has been processed
       if (!isListening) {
         isListening = true;
@@ -158,60 +137,17 @@ public final class SpeechToTextWebSocketListener extends WebSocketListener {
     if (!socket.send(buildStartMessage(options))) {
       callback.onError(new IOException("WebSocket unavailable"));
     } else {
-      // Send the InputStream on a different Thread. Elsewise, interim results cannot be
-      // received,
-      // because the Thread that called SpeechToText.recognizeUsingWebSocket is blocked.
-      audioThread = new Thread(AUDIO_TO_WEB_SOCKET) {
-        @Override
-        public void run() {
-          sendInputStream(stream);
-          // Do not send the stop message if the socket has been closed already, for example because of the
-          // inactivity timeout.
-          // If the socket is still open after the sending finishes, for example because the user closed the
-          // microphone AudioInputStream, send a stop message.
-          if (socketOpen && !socket.send(buildStopMessage())) {
-            LOG.log(Level.SEVERE, "Stop message discarded because WebSocket is unavailable");
-          }
-        }
-      };
-
-      audioThread.start();
-    }
-  }
-
-  /**
-   * Send input stream.
-   *
-   * @param inputStream the input stream
-   */
-  private void sendInputStream(InputStream inputStream) {
-    byte[] buffer = new byte[ONE_KB];
-    int read;
-    try {
-      // This method uses a blocking while loop to receive all contents of the underlying input stream.
-      // AudioInputStreams, typically used for streaming microphone inputs return 0 only when the stream has been
-      // closed. Elsewise AudioInputStream.read() blocks until enough audio frames are read.
-      while (((read = inputStream.read(buffer)) > 0) && socketOpen) {
-
-        // If OkHttp's WebSocket queue gets overwhelmed, it'll abruptly close the connection
-        // (see: https://github.com/square/okhttp/issues/3317). This will ensure we wait until the coast is clear.
-        while (socket.queueSize() > QUEUE_SIZE_LIMIT) {
-          Thread.sleep(QUEUE_WAIT_MILLIS);
-        }
-
-        if (read == ONE_KB) {
-          socket.send(ByteString.of(buffer));
-        } else {
-          socket.send(ByteString.of(Arrays.copyOfRange(buffer, 0, read)));
-        }
-      }
-    } catch (IOException | InterruptedException e) {
-      LOG.log(Level.SEVERE, e.getMessage(), e);
-    } finally {
+      // Send the InputStream on the executor. Elsewise, interim results cannot be received,
+      // because this thread reads the messages of the WebSocket.
       try {
-        inputStream.close();
-      } catch (IOException e) {
-        // do nothing - the InputStream may have already been closed externally.
+        new AudioSender(socket, stream, audioOptions.getFrameSize(options.contentType())) {
+          @Override
+          boolean isOpen() {
+            return socketOpen;
+          }
+        }.start(audioOptions.getExecutor());
+      } catch (RejectedExecutionException e) {
+        callback.onError(e);
       }
     }
   }
@@ -222,7 +158,7 @@ public final class SpeechToTextWebSocketListener extends WebSocketListener {
    * @param options the options
    * @return the request
    */
-  private String buildStartMessage(RecognizeOptions options) {
+  static String buildStartMessage(RecognizeOptions options) {
     Gson gson = new GsonBuilder()
         .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
         .create();
@@ -241,7 +177,7 @@ public final class SpeechToTextWebSocketListener extends WebSocketListener {
    *
    * @return the string
    */
-  private String buildStopMessage() {
+  static String buildStopMessage() {
     JsonObject stopMessage = new JsonObject();
     stopMessage.addProperty(ACTION, STOP);
     return stopMessage.toString();
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2017 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1.websocket;
+
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechRecognitionAlternative;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechRecognitionResult;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechRecognitionResults;
+import com.ibm.watson.developer_cloud.util.Validator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Assembles the transcript of a recognition from the {@link SpeechRecognitionResults} received with interim results,
+ * and notifies a listener of the changes only: the words appended to the current hypothesis, the revision of its last
+ * words, and the finalization of a segment.
+ *
+ * Each result of the service is a segment of the transcript, identified by its <code>result_index</code>. The
+ * assembler keeps the words of the current hypothesis and the transcripts of the last final segments, up to a maximum,
+ * so its memory stays bounded during long recognitions. Call {@link #onTranscription(SpeechRecognitionResults)} from
+ * {@link RecognizeCallback#onTranscription(SpeechRecognitionResults)}:
+ *
+ * <pre>
+ * final TranscriptAssembler assembler = new TranscriptAssembler(new TranscriptAssembler.Listener() {
+ *   public void onDelta(TranscriptDelta delta) { ... }
+ * });
+ * service.recognizeUsingWebSocket(options, new BaseRecognizeCallback() {
+ *   public void onTranscription(SpeechRecognitionResults speechResults) {
+ *     assembler.onTranscription(speechResults);
+ *   }
+ * });
+ * </pre>
+ */
+public class TranscriptAssembler {
+
+  /** The default maximum number of final segments kept. */
+  public static final int DEFAULT_MAX_FINAL_SEGMENTS = 1000;
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  private static final String[] NO_WORDS = new String[0];
+
+  /**
+   * Listener of the changes of the transcript.
+   */
+  public interface Listener {
+
+    /**
+     * Called when the transcript of a segment changes.
+     *
+     * @param delta the change
+     */
+    void onDelta(TranscriptDelta delta);
+  }
+
+  private final Listener listener;
+  private final int maxFinalSegments;
+
+  private final Deque<String> finalSegments = new ArrayDeque<>();
+  private long finalSegmentCount;
+  private long nextSegmentIndex;
+  private String[] hypothesis = NO_WORDS;
+
+  /**
+   * Instantiates a new transcript assembler keeping the last {@link #DEFAULT_MAX_FINAL_SEGMENTS} final segments.
+   *
+   * @param listener the listener of the changes
+   */
+  public TranscriptAssembler(Listener listener) {
+    this(listener, DEFAULT_MAX_FINAL_SEGMENTS);
+  }
+
+  /**
+   * Instantiates a new transcript assembler.
+   *
+   * @param listener the listener of the changes
+   * @param maxFinalSegments the maximum number of final segments kept, 0 to keep none
+   */
+  public TranscriptAssembler(Listener listener, int maxFinalSegments) {
+    Validator.notNull(listener, "listener cannot be null");
+    Validator.isTrue(maxFinalSegments >= 0, "maxFinalSegments cannot be negative");
+    this.listener = listener;
+    this.maxFinalSegments = maxFinalSegments;
+  }
+
+  /**
+   * Updates the transcript with results of the service, notifying the listener of each change.
+   *
+   * @param speechResults the results
+   */
+  public void onTranscription(SpeechRecognitionResults speechResults) {
+    if (speechResults.getResults() == null) {
+      return;
+    }
+    List<TranscriptDelta> deltas = new ArrayList<>();
+    synchronized (this) {
+      long index = (speechResults.getResultIndex() != null) ? speechResults.getResultIndex() : nextSegmentIndex;
+      for (SpeechRecognitionResult result : speechResults.getResults()) {
+        update(index++, result, deltas);
+      }
+    }
+    // the listener is notified outside of the lock
+    for (TranscriptDelta delta : deltas) {
+      listener.onDelta(delta);
+    }
+  }
+
+  private void update(long index, SpeechRecognitionResult result, List<TranscriptDelta> deltas) {
+    if (index < nextSegmentIndex) {
+      // the segment has already been finalized
+      return;
+    }
+    if (index > nextSegmentIndex) {
+      // the current hypothesis was abandoned for a later segment, retract it
+      if (hypothesis.length > 0) {
+        deltas.add(new TranscriptDelta(nextSegmentIndex, 0, Collections.<String>emptyList(), true));
+      }
+      nextSegmentIndex = index;
+      hypothesis = NO_WORDS;
+    }
+    String[] words = getWords(result);
+    boolean finalSegment = Boolean.TRUE.equals(result.isFinalResults());
+    int retained = 0;
+    while (retained < words.length && retained < hypothesis.length && words[retained].equals(hypothesis[retained])) {
+      retained++;
+    }
+    if (!finalSegment && retained == words.length && retained == hypothesis.length) {
+      return;
+    }
+    List<String> appended = Collections.unmodifiableList(Arrays.asList(words).subList(retained, words.length));
+    if (finalSegment) {
+      addFinalSegment(words);
+      nextSegmentIndex = index + 1;
+      hypothesis = NO_WORDS;
+    } else {
+      hypothesis = words;
+    }
+    deltas.add(new TranscriptDelta(index, retained, appended, finalSegment));
+  }
+
+  private void addFinalSegment(String[] words) {
+    finalSegmentCount++;
+    if (maxFinalSegments == 0) {
+      return;
+    }
+    if (finalSegments.size() == maxFinalSegments) {
+      finalSegments.removeFirst();
+    }
+    StringBuilder transcript = new StringBuilder();
+    for (String word : words) {
+      if (transcript.length() > 0) {
+        transcript.append(' ');
+      }
+      transcript.append(word);
+    }
+    finalSegments.addLast(transcript.toString());
+  }
+
+  private static String[] getWords(SpeechRecognitionResult result) {
+    List<SpeechRecognitionAlternative> alternatives = result.getAlternatives();
+    if (alternatives == null || alternatives.isEmpty() || alternatives.get(0).getTranscript() == null) {
+      return NO_WORDS;
+    }
+    String transcript = alternatives.get(0).getTranscript().trim();
+    return transcript.isEmpty() ? NO_WORDS : WHITESPACE.split(transcript);
+  }
+
+  /**
+   * Gets the total number of final segments, including the ones no longer kept.
+   *
+   * @return the number of final segments
+   */
+  public synchronized long getFinalSegmentCount() {
+    return finalSegmentCount;
+  }
+
+  /**
+   * Gets the transcripts of the last final segments kept, oldest first.
+   *
+   * @return the final segments
+   */
+  public synchronized List<String> getFinalSegments() {
+    return Collections.unmodifiableList(Arrays.asList(finalSegments.toArray(new String[finalSegments.size()])));
+  }
+
+  /**
+   * Gets the current hypothesis of the segment being recognized.
+   *
+   * @return the interim transcript, empty if there is none
+   */
+  public synchronized String getInterimTranscript() {
+    StringBuilder transcript = new StringBuilder();
+    for (String word : hypothesis) {
+      if (transcript.length() > 0) {
+        transcript.append(' ');
+      }
+      transcript.append(word);
+    }
+    return transcript.toString();
+  }
+
+  /**
+   * Gets the transcript of the final segments kept followed by the current hypothesis.
+   *
+   * @return the transcript
+   */
+  public synchronized String getTranscript() {
+    StringBuilder transcript = new StringBuilder();
+    for (String segment : finalSegments) {
+      append(transcript, segment);
+    }
+    append(transcript, getInterimTranscript());
+    return transcript.toString();
+  }
+
+  private static void append(StringBuilder transcript, String text) {
+    if (!text.isEmpty()) {
+      if (transcript.length() > 0) {
+        transcript.append(' ');
+      }
+      transcript.append(text);
+    }
+  }
+}
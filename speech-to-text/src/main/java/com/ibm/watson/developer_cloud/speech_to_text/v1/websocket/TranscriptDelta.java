@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1.websocket;
+
+import java.util.List;
+
+/**
+ * A change of the transcript of a segment, the words of one result of the service: words appended to the current
+ * hypothesis, a revision of its last words, or the segment being finalized.
+ *
+ * To apply a delta, keep the first {@link #getRetainedWordCount()} words of the segment and append
+ * {@link #getAppendedWords()}. When the service moves on to a later segment without finalizing the current hypothesis,
+ * the hypothesis is retracted by a final delta that retains no words and appends none.
+ *
+ * @see TranscriptAssembler
+ */
+public class TranscriptDelta {
+
+  private final long segmentIndex;
+  private final int retainedWordCount;
+  private final List<String> appendedWords;
+  private final boolean finalSegment;
+
+  /**
+   * Instantiates a new transcript delta.
+   *
+   * @param segmentIndex the index of the segment
+   * @param retainedWordCount the number of words of the previous hypothesis kept
+   * @param appendedWords the words following the retained words
+   * @param finalSegment true if the segment is final
+   */
+  TranscriptDelta(long segmentIndex, int retainedWordCount, List<String> appendedWords, boolean finalSegment) {
+    this.segmentIndex = segmentIndex;
+    this.retainedWordCount = retainedWordCount;
+    this.appendedWords = appendedWords;
+    this.finalSegment = finalSegment;
+  }
+
+  /**
+   * Gets the index of the segment, the <code>result_index</code> of its result.
+   *
+   * @return the segment index
+   */
+  public long getSegmentIndex() {
+    return segmentIndex;
+  }
+
+  /**
+   * Gets the number of words of the previous hypothesis of the segment that are kept. It is less than the number of
+   * words of the previous hypothesis when its last words have been revised.
+   *
+   * @return the number of retained words
+   */
+  public int getRetainedWordCount() {
+    return retainedWordCount;
+  }
+
+  /**
+   * Gets the words following the retained words.
+   *
+   * @return the appended words
+   */
+  public List<String> getAppendedWords() {
+    return appendedWords;
+  }
+
+  /**
+   * Checks whether the segment is final: its transcript won't change anymore.
+   *
+   * @return true if the segment is final
+   */
+  public boolean isFinal() {
+    return finalSegment;
+  }
+
+  /*
+   * (non-Javadoc)
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString() {
+    return "TranscriptDelta [segment " + segmentIndex + ", retained " + retainedWordCount + ", appended "
+        + appendedWords + (finalSegment ? ", final]" : "]");
+  }
+}
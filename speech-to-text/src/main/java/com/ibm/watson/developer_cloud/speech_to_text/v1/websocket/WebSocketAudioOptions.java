@@ -0,0 +1,194 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1.websocket;
+
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.watson.developer_cloud.util.Validator;
+
+/**
+ * Options for sending the audio of a WebSocket recognition: the size of the audio frames sent to the service, and the
+ * executor reading the audio and sending it.
+ *
+ * By default the audio is sent in frames of {@link #DEFAULT_FRAME_SIZE} bytes. Larger frames speed up the upload of
+ * audio files. For live audio, a frame duration can be set instead: the frame size is then computed from the rate of
+ * uncompressed audio (<code>audio/l16</code> and <code>audio/mulaw</code>), so a frame is sent as soon as that much
+ * audio is available.
+ *
+ * The audio of each recognition is sent by a task that blocks while it waits for the audio, so the executor must be
+ * able to run as many tasks at once as there are concurrent recognitions.
+ */
+public class WebSocketAudioOptions {
+
+  /** The default frame size, in bytes. */
+  public static final int DEFAULT_FRAME_SIZE = 1024;
+
+  private static final String L16 = "audio/l16";
+  private static final String MULAW = "audio/mulaw";
+  private static final String BASIC = "audio/basic";
+  private static final int BASIC_RATE = 8000;
+
+  private int frameSize;
+  private Long frameDurationMillis;
+  private Executor executor;
+
+  /**
+   * Gets the frame size, in bytes.
+   *
+   * @return the frame size
+   */
+  public int getFrameSize() {
+    return this.frameSize;
+  }
+
+  /**
+   * Gets the frame duration, in milliseconds.
+   *
+   * @return the frame duration, or null to use the frame size
+   */
+  public Long getFrameDurationMillis() {
+    return this.frameDurationMillis;
+  }
+
+  /**
+   * Gets the executor sending the audio. Defaults to an executor shared by all recognitions, running each of them on a
+   * virtual thread when the Java runtime supports them, and on a pooled daemon thread otherwise.
+   *
+   * @return the executor
+   */
+  public Executor getExecutor() {
+    return (executor != null) ? executor : AudioSender.getDefaultExecutor();
+  }
+
+  /**
+   * Gets the size of the frames for the given audio. This is the size of {@link #getFrameDurationMillis()} of audio
+   * when a frame duration is set and the content type declares an uncompressed format with its rate, and
+   * {@link #getFrameSize()} otherwise.
+   *
+   * @param contentType the content type of the audio
+   * @return the frame size, in bytes
+   */
+  public int getFrameSize(String contentType) {
+    if (frameDurationMillis == null || contentType == null) {
+      return frameSize;
+    }
+
+    String[] parts = contentType.toLowerCase(Locale.ENGLISH).split(";");
+    String mediaType = parts[0].trim();
+    int bytesPerSample;
+    int rate = 0;
+    int channels = 1;
+    if (mediaType.equals(L16)) {
+      bytesPerSample = 2;
+    } else if (mediaType.equals(MULAW)) {
+      bytesPerSample = 1;
+    } else if (mediaType.equals(BASIC)) {
+      bytesPerSample = 1;
+      rate = BASIC_RATE;
+    } else {
+      return frameSize;
+    }
+
+    try {
+      for (int i = 1; i < parts.length; i++) {
+        String[] parameter = parts[i].trim().split("=", 2);
+        if (parameter.length == 2 && parameter[0].trim().equals("rate")) {
+          rate = Integer.parseInt(parameter[1].trim());
+        } else if (parameter.length == 2 && parameter[0].trim().equals("channels")) {
+          channels = Integer.parseInt(parameter[1].trim());
+        }
+      }
+    } catch (NumberFormatException e) {
+      return frameSize;
+    }
+    if (rate <= 0 || channels <= 0) {
+      return frameSize;
+    }
+
+    long bytes = rate * bytesPerSample * channels * frameDurationMillis / 1000;
+    // keep whole samples in each frame
+    int sampleSize = bytesPerSample * channels;
+    bytes -= bytes % sampleSize;
+    return (int) Math.max(sampleSize, Math.min(bytes, Integer.MAX_VALUE - sampleSize));
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private int frameSize = DEFAULT_FRAME_SIZE;
+    private Long frameDurationMillis;
+    private Executor executor;
+
+    /**
+     * Builds the options.
+     *
+     * @return the web socket audio options
+     */
+    public WebSocketAudioOptions build() {
+      return new WebSocketAudioOptions(this);
+    }
+
+    /**
+     * Sets the size of the audio frames sent to the service.
+     *
+     * @param frameSize the frame size, in bytes
+     * @return the builder
+     */
+    public Builder frameSize(int frameSize) {
+      Validator.isTrue(frameSize > 0, "frameSize must be greater than 0");
+      this.frameSize = frameSize;
+      return this;
+    }
+
+    /**
+     * Sets the duration of audio sent in each frame, for low latency streaming of uncompressed audio. Other audio
+     * formats are sent in frames of the configured frame size.
+     *
+     * @param frameDuration the frame duration
+     * @param timeUnit the unit of the frame duration
+     * @return the builder
+     */
+    public Builder frameDuration(long frameDuration, TimeUnit timeUnit) {
+      Validator.isTrue(frameDuration > 0, "frameDuration must be greater than 0");
+      this.frameDurationMillis = timeUnit.toMillis(frameDuration);
+      return this;
+    }
+
+    /**
+     * Sets the executor reading the audio and sending it, such as an executor of the application running its tasks on
+     * virtual threads. Each recognition occupies a thread of the executor until its audio has been sent.
+     *
+     * By default the audio is sent on virtual threads on Java 21 and later. Below Java 21, the default is an unbounded
+     * pool of reused platform threads: it avoids creating a thread per recognition, but still takes one thread for
+     * each concurrent recognition, so it doesn't raise the thread ceiling. Set a bounded executor to limit the threads,
+     * for example to queue the uploads of files and buffers.
+     *
+     * @param executor the executor
+     * @return the builder
+     */
+    public Builder executor(Executor executor) {
+      Validator.notNull(executor, "executor cannot be null");
+      this.executor = executor;
+      return this;
+    }
+  }
+
+  private WebSocketAudioOptions(Builder builder) {
+    this.frameSize = builder.frameSize;
+    this.frameDurationMillis = builder.frameDurationMillis;
+    this.executor = builder.executor;
+  }
+}
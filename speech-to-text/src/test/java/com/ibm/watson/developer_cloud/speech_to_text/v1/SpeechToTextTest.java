@@ -71,9 +71,16 @@ import com.ibm.watson.developer_cloud.speech_to_text.v1.model.Word;
 import com.ibm.watson.developer_cloud.speech_to_text.v1.model.Words;
 import com.ibm.watson.developer_cloud.speech_to_text.v1.util.MediaTypeUtils;
 import com.ibm.watson.developer_cloud.speech_to_text.v1.websocket.RecognizeCallback;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.websocket.RawRecognizeCallback;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.websocket.RecognizeSession;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.websocket.RecognizeSessionPool;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.websocket.TranscriptAssembler;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.websocket.TranscriptDelta;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.websocket.WebSocketAudioOptions;
 import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.RequestUtils;
 import com.ibm.watson.developer_cloud.util.TestUtils;
+import okhttp3.Request;
 import okhttp3.WebSocket;
 import okhttp3.internal.ws.WebSocketRecorder;
 import okhttp3.mockwebserver.MockResponse;
@@ -85,6 +92,7 @@ import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -92,16 +100,21 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
+import java.lang.ref.WeakReference;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -1365,6 +1378,399 @@ public class SpeechToTextTest extends WatsonServiceUnitTest {
     callback.assertOnTranscriptionComplete();
   }
 
+  @Test
+  public void testRecognizeWebSocketFrameDuration() throws Exception {
+    TestRecognizeCallback callback = new TestRecognizeCallback();
+    WebSocketRecorder webSocketRecorder = new WebSocketRecorder("server");
+    byte[] audio = new byte[5000];
+    new Random().nextBytes(audio);
+
+    server.enqueue(new MockResponse().withWebSocketUpgrade(webSocketRecorder));
+
+    RecognizeOptions options = new RecognizeOptions.Builder()
+        .audio(new ByteArrayInputStream(audio))
+        .contentType(HttpMediaType.createAudioRaw(16000))
+        .build();
+    WebSocketAudioOptions audioOptions = new WebSocketAudioOptions.Builder()
+        .frameDuration(100, TimeUnit.MILLISECONDS)
+        .build();
+    service.recognizeUsingWebSocket(options, callback, audioOptions);
+
+    WebSocket serverSocket = webSocketRecorder.assertOpen();
+    webSocketRecorder.assertTextMessage("{\"content-type\":\"audio/l16; rate=16000\",\"action\":\"start\"}");
+    // 100 ms of 16 bit audio at 16 kHz
+    webSocketRecorder.assertBinaryMessage(ByteString.of(audio, 0, 3200));
+    webSocketRecorder.assertBinaryMessage(ByteString.of(audio, 3200, 1800));
+    webSocketRecorder.assertTextMessage("{\"action\":\"stop\"}");
+    webSocketRecorder.assertExhausted();
+
+    serverSocket.close(1000, null);
+    callback.assertConnected();
+    callback.assertDisconnected();
+    callback.assertNoErrors();
+  }
+
+  @Test
+  public void testRecognizeWebSocketMessages() throws Exception {
+    String[] messages = {
+        "{\"state\": \"listening\"}",
+        "{\"results\": [{\"final\": true, \"alternatives\": [{\"transcript\": \"hello\"}]}], \"result_index\": 0}",
+        "{\"error\": \"No speech detected for 30s.\"}",
+        "{\"error\": \"Unable to transcode data stream\"}" };
+    TestRecognizeCallback[] callbacks = { new TestRecognizeCallback(), new RawTestRecognizeCallback() };
+    for (TestRecognizeCallback callback : callbacks) {
+      WebSocketRecorder webSocketRecorder = new WebSocketRecorder("server");
+      server.enqueue(new MockResponse().withWebSocketUpgrade(webSocketRecorder));
+      PipedOutputStream outputStream = new PipedOutputStream();
+      RecognizeOptions options = new RecognizeOptions.Builder()
+          .audio(new PipedInputStream(outputStream))
+          .contentType(HttpMediaType.AUDIO_RAW)
+          .build();
+      service.recognizeUsingWebSocket(options, callback);
+
+      WebSocket serverSocket = webSocketRecorder.assertOpen();
+      for (String message : messages) {
+        serverSocket.send(message);
+      }
+      assertEquals("Unable to transcode data stream", callback.errors.poll(10, TimeUnit.SECONDS).getMessage());
+      assertEquals("No speech detected for 30s.", callback.inactivityTimeouts.poll().getMessage());
+      if (callback instanceof RawTestRecognizeCallback) {
+        // the raw messages are passed on without binding the results
+        BlockingQueue<ByteString> rawMessages = ((RawTestRecognizeCallback) callback).messages;
+        for (String message : messages) {
+          assertEquals(ByteString.encodeUtf8(message), rawMessages.poll());
+        }
+        assertTrue(callback.speechResults.isEmpty());
+      } else {
+        SpeechRecognitionResults results = callback.speechResults.poll();
+        assertEquals(0L, (long) results.getResultIndex());
+        assertEquals("hello", results.getResults().get(0).getAlternatives().get(0).getTranscript());
+      }
+
+      outputStream.close();
+      serverSocket.close(1000, null);
+      callback.assertDisconnected();
+    }
+  }
+
+  /**
+   * Test the transcript assembler with interim results.
+   */
+  @Test
+  public void testTranscriptAssembler() {
+    final List<TranscriptDelta> deltas = new ArrayList<>();
+    TranscriptAssembler assembler = new TranscriptAssembler(new TranscriptAssembler.Listener() {
+      @Override
+      public void onDelta(TranscriptDelta delta) {
+        deltas.add(delta);
+      }
+    }, 2);
+
+    String[][] results = {
+        { "0", "false", "the quick " },
+        { "0", "false", "the quick brown " },
+        { "0", "false", "the quick brown " },
+        { "0", "false", "the quick crown fox " },
+        { "0", "true", "the quick brown fox " },
+        { "0", "false", "ignored " },
+        { "1", "true", "jumps over " },
+        { "2", "true", "the lazy " },
+        { "3", "false", "dog " },
+        { "5", "false", "cat " }
+    };
+    for (String[] result : results) {
+      assembler.onTranscription(GSON.fromJson("{\"result_index\": " + result[0] + ", \"results\": [{\"final\": "
+          + result[1] + ", \"alternatives\": [{\"transcript\": \"" + result[2] + "\"}]}]}",
+          SpeechRecognitionResults.class));
+    }
+
+    assertEquals(9, deltas.size());
+    assertEquals(Arrays.asList("the", "quick"), deltas.get(0).getAppendedWords());
+    assertEquals(2, deltas.get(1).getRetainedWordCount());
+    assertEquals(Arrays.asList("brown"), deltas.get(1).getAppendedWords());
+    // the last word is revised
+    assertEquals(2, deltas.get(2).getRetainedWordCount());
+    assertEquals(Arrays.asList("crown", "fox"), deltas.get(2).getAppendedWords());
+    assertFalse(deltas.get(2).isFinal());
+    assertEquals(0, deltas.get(3).getSegmentIndex());
+    assertEquals(Arrays.asList("brown", "fox"), deltas.get(3).getAppendedWords());
+    assertTrue(deltas.get(3).isFinal());
+    assertEquals(3, deltas.get(6).getSegmentIndex());
+    // the hypothesis of segment 3 is retracted when segment 5 starts
+    assertEquals(3, deltas.get(7).getSegmentIndex());
+    assertEquals(0, deltas.get(7).getRetainedWordCount());
+    assertTrue(deltas.get(7).getAppendedWords().isEmpty());
+    assertTrue(deltas.get(7).isFinal());
+    assertEquals(5, deltas.get(8).getSegmentIndex());
+
+    // only the last two final segments are kept
+    assertEquals(3, assembler.getFinalSegmentCount());
+    assertEquals(Arrays.asList("jumps over", "the lazy"), assembler.getFinalSegments());
+    assertEquals("cat", assembler.getInterimTranscript());
+    assertEquals("jumps over the lazy cat", assembler.getTranscript());
+  }
+
+  @Test
+  public void testRecognizeWebSocketExecutor() throws Exception {
+    TestRecognizeCallback callback = new TestRecognizeCallback();
+    WebSocketRecorder webSocketRecorder = new WebSocketRecorder("server");
+    server.enqueue(new MockResponse().withWebSocketUpgrade(webSocketRecorder));
+
+    final AtomicInteger tasks = new AtomicInteger();
+    WebSocketAudioOptions audioOptions = new WebSocketAudioOptions.Builder()
+        .executor(new Executor() {
+          @Override
+          public void execute(Runnable command) {
+            tasks.incrementAndGet();
+            new Thread(command).start();
+          }
+        })
+        .build();
+    RecognizeOptions options = new RecognizeOptions.Builder()
+        .audio(new ByteArrayInputStream(ByteString.encodeUtf8("test").toByteArray()))
+        .contentType(HttpMediaType.AUDIO_RAW)
+        .build();
+    service.recognizeUsingWebSocket(options, callback, audioOptions);
+
+    WebSocket serverSocket = webSocketRecorder.assertOpen();
+    webSocketRecorder.assertTextMessage("{\"content-type\":\"audio/l16\",\"action\":\"start\"}");
+    webSocketRecorder.assertBinaryMessage(ByteString.encodeUtf8("test"));
+    webSocketRecorder.assertTextMessage("{\"action\":\"stop\"}");
+    assertEquals(1, tasks.get());
+
+    serverSocket.close(1000, null);
+    callback.assertConnected();
+    callback.assertDisconnected();
+    callback.assertNoErrors();
+  }
+
+  @Test
+  public void testRecognizeSessionReusesConnection() throws Exception {
+    WebSocketRecorder webSocketRecorder = new WebSocketRecorder("server");
+    server.enqueue(new MockResponse().withWebSocketUpgrade(webSocketRecorder));
+
+    RecognizeSession session = service.openRecognizeSession(new RecognizeOptions.Builder()
+        .model(RecognizeOptions.Model.EN_US_NARROWBANDMODEL)
+        .contentType(HttpMediaType.AUDIO_RAW)
+        .build(), null);
+    TestRecognizeCallback[] callbacks = { new TestRecognizeCallback(), new TestRecognizeCallback() };
+    String[] utterances = { "one", "two" };
+    for (int i = 0; i < utterances.length; i++) {
+      session.recognize(new RecognizeOptions.Builder()
+          .audio(new ByteArrayInputStream(utterances[i].getBytes("UTF-8")))
+          .contentType(HttpMediaType.AUDIO_RAW)
+          .build(), callbacks[i]);
+    }
+    assertEquals(2, session.getPendingCount());
+
+    WebSocket serverSocket = webSocketRecorder.assertOpen();
+    for (int i = 0; i < utterances.length; i++) {
+      webSocketRecorder.assertTextMessage("{\"content-type\":\"audio/l16\",\"action\":\"start\"}");
+      serverSocket.send("{\"state\": \"listening\"}");
+      webSocketRecorder.assertBinaryMessage(ByteString.encodeUtf8(utterances[i]));
+      webSocketRecorder.assertTextMessage("{\"action\":\"stop\"}");
+      serverSocket.send("{\"results\": [{\"final\": true, \"alternatives\": [{\"transcript\": \""
+          + utterances[i] + "\"}]}], \"result_index\": 0}");
+      serverSocket.send("{\"state\": \"listening\"}");
+
+      callbacks[i].assertConnected();
+      callbacks[i].assertDisconnected();
+      callbacks[i].assertNoErrors();
+      SpeechRecognitionResults results = callbacks[i].speechResults.poll(10, TimeUnit.SECONDS);
+      assertEquals(utterances[i], results.getResults().get(0).getAlternatives().get(0).getTranscript());
+    }
+
+    session.close();
+    webSocketRecorder.assertClosing(1000, "Recognize session closed");
+    serverSocket.close(1000, null);
+    assertEquals(1, server.getRequestCount());
+    assertEquals("/v1/recognize?model=en-US_NarrowbandModel", server.takeRequest().getPath());
+  }
+
+  @Test
+  public void testRecognizeSessionFailsPendingWhenStartNotSent() throws Exception {
+    final RecognizeSession session = new RecognizeSession(null);
+    final AtomicInteger lockedCallbackCount = new AtomicInteger();
+    final AtomicInteger cancelCount = new AtomicInteger();
+    TestRecognizeCallback first = new TestRecognizeCallback() {
+      @Override
+      public void onConnected() {
+        if (Thread.holdsLock(session)) {
+          lockedCallbackCount.incrementAndGet();
+        }
+        super.onConnected();
+      }
+
+      @Override
+      public void onError(Exception e) {
+        if (Thread.holdsLock(session)) {
+          lockedCallbackCount.incrementAndGet();
+        }
+        super.onError(e);
+      }
+    };
+    TestRecognizeCallback second = new TestRecognizeCallback();
+    WebSocket closedSocket = new WebSocket() {
+      @Override
+      public Request request() {
+        return null;
+      }
+
+      @Override
+      public long queueSize() {
+        return 0;
+      }
+
+      @Override
+      public boolean send(String text) {
+        return false;
+      }
+
+      @Override
+      public boolean send(ByteString bytes) {
+        return false;
+      }
+
+      @Override
+      public boolean close(int code, String reason) {
+        return false;
+      }
+
+      @Override
+      public void cancel() {
+        cancelCount.incrementAndGet();
+      }
+    };
+
+    RecognizeOptions options = new RecognizeOptions.Builder()
+        .audio(new ByteArrayInputStream(ByteString.encodeUtf8("test").toByteArray()))
+        .contentType(HttpMediaType.AUDIO_RAW)
+        .build();
+    session.recognize(options, first);
+    session.recognize(options, second);
+    session.onOpen(closedSocket, null);
+
+    first.assertConnected();
+    first.assertDisconnected();
+    assertEquals(1, first.errors.size());
+    second.assertDisconnected();
+    assertEquals(1, second.errors.size());
+    assertEquals(0, second.onConnectedCalls.size());
+    assertEquals(0, lockedCallbackCount.get());
+    assertEquals(0, session.getPendingCount());
+    assertFalse(session.isOpen());
+    assertEquals(1, cancelCount.get());
+  }
+
+  @Test
+  public void testRecognizeSessionPool() throws Exception {
+    WebSocketRecorder first = new WebSocketRecorder("first");
+    WebSocketRecorder second = new WebSocketRecorder("second");
+    server.enqueue(new MockResponse().withWebSocketUpgrade(first));
+    server.enqueue(new MockResponse().withWebSocketUpgrade(second));
+
+    RecognizeOptions sessionOptions = new RecognizeOptions.Builder()
+        .model(RecognizeOptions.Model.EN_US_NARROWBANDMODEL)
+        .contentType(HttpMediaType.AUDIO_RAW)
+        .build();
+    RecognizeSessionPool pool = new RecognizeSessionPool.Builder()
+        .service(service)
+        .minIdle(1)
+        .build();
+    pool.warmUp(sessionOptions);
+    WebSocket firstSocket = first.assertOpen();
+    assertEquals(1, pool.getIdleCount());
+
+    RecognizeSession session = pool.acquire(sessionOptions);
+    assertEquals(1, pool.getHitCount());
+    assertEquals(0, pool.getMissCount());
+
+    // another session is opened to replace the one acquired
+    WebSocket secondSocket = second.assertOpen();
+    assertEquals(1, pool.getIdleCount());
+    pool.release(session);
+    assertEquals(2, pool.getIdleCount());
+
+    pool.close();
+    assertEquals(0, pool.getIdleCount());
+    first.assertClosing(1000, "Recognize session closed");
+    second.assertClosing(1000, "Recognize session closed");
+    firstSocket.close(1000, null);
+    secondSocket.close(1000, null);
+    assertEquals(2, server.getRequestCount());
+  }
+
+  @Test
+  public void testRecognizeSessionPoolOpensOutsideLock() throws Exception {
+    WebSocketRecorder recorder = new WebSocketRecorder("server");
+    server.enqueue(new MockResponse().withWebSocketUpgrade(recorder));
+
+    final RecognizeSessionPool[] pool = new RecognizeSessionPool[1];
+    final AtomicInteger lockedOpenCount = new AtomicInteger();
+    SpeechToText lockCheckingService = new SpeechToText() {
+      @Override
+      public RecognizeSession openRecognizeSession(RecognizeOptions sessionOptions,
+          WebSocketAudioOptions audioOptions) {
+        if (Thread.holdsLock(pool[0])) {
+          lockedOpenCount.incrementAndGet();
+        }
+        return super.openRecognizeSession(sessionOptions, audioOptions);
+      }
+    };
+    lockCheckingService.setUsernameAndPassword("", "");
+    lockCheckingService.setEndPoint(getMockWebServerUrl());
+
+    RecognizeOptions sessionOptions = new RecognizeOptions.Builder()
+        .model(RecognizeOptions.Model.EN_US_NARROWBANDMODEL)
+        .contentType(HttpMediaType.AUDIO_RAW)
+        .build();
+    pool[0] = new RecognizeSessionPool.Builder()
+        .service(lockCheckingService)
+        .minIdle(1)
+        .build();
+    pool[0].warmUp(sessionOptions);
+    WebSocket socket = recorder.assertOpen();
+    assertEquals(1, pool[0].getIdleCount());
+    assertEquals(0, lockedOpenCount.get());
+
+    pool[0].close();
+    recorder.assertClosing(1000, "Recognize session closed");
+    socket.close(1000, null);
+    assertEquals(1, server.getRequestCount());
+  }
+
+  @Test
+  public void testUnclosedRecognizeSessionPoolCollected() throws Exception {
+    WeakReference<RecognizeSessionPool> pool = new WeakReference<>(new RecognizeSessionPool.Builder()
+        .service(service)
+        .idleTimeout(100, TimeUnit.MILLISECONDS)
+        .build());
+
+    // the maintenance task scheduled on the shared executor doesn't keep the pool
+    for (int i = 0; i < 50 && pool.get() != null; i++) {
+      System.gc();
+      Thread.sleep(100);
+    }
+    assertNull(pool.get());
+  }
+
+  @Test
+  public void testWebSocketAudioOptionsFrameSize() {
+    WebSocketAudioOptions defaults = new WebSocketAudioOptions.Builder().build();
+    assertEquals(WebSocketAudioOptions.DEFAULT_FRAME_SIZE, defaults.getFrameSize(HttpMediaType.AUDIO_WAV));
+
+    WebSocketAudioOptions audioOptions = new WebSocketAudioOptions.Builder()
+        .frameSize(8192)
+        .frameDuration(20, TimeUnit.MILLISECONDS)
+        .build();
+    assertEquals(640, audioOptions.getFrameSize("audio/l16; rate=16000"));
+    assertEquals(1280, audioOptions.getFrameSize("audio/L16;rate=16000;channels=2"));
+    assertEquals(160, audioOptions.getFrameSize("audio/basic"));
+    assertEquals(320, audioOptions.getFrameSize("audio/mulaw;rate=16000"));
+    assertEquals(8192, audioOptions.getFrameSize(HttpMediaType.AUDIO_FLAC));
+    assertEquals(8192, audioOptions.getFrameSize("audio/l16"));
+  }
+
   @Test
   public void testDeleteUserDataOptionsBuilder() {
     String customerId = "customerId";
@@ -1382,6 +1788,8 @@ public class SpeechToTextTest extends WatsonServiceUnitTest {
 
     private final BlockingQueue<Exception> errors = new LinkedBlockingQueue<>();
 
+    private final BlockingQueue<RuntimeException> inactivityTimeouts = new LinkedBlockingQueue<>();
+
     private final BlockingQueue<Object> onDisconnectedCalls = new LinkedBlockingQueue<>();
 
     private final BlockingQueue<Object> onConnectedCalls = new LinkedBlockingQueue<>();
@@ -1444,6 +1852,7 @@ public class SpeechToTextTest extends WatsonServiceUnitTest {
 
     @Override
     public void onInactivityTimeout(RuntimeException runtimeException) {
+      this.inactivityTimeouts.add(runtimeException);
     }
 
     @Override
@@ -1456,4 +1865,14 @@ public class SpeechToTextTest extends WatsonServiceUnitTest {
 
     }
   }
+
+  private static class RawTestRecognizeCallback extends TestRecognizeCallback implements RawRecognizeCallback {
+
+    private final BlockingQueue<ByteString> messages = new LinkedBlockingQueue<>();
+
+    @Override
+    public void onMessage(ByteString message) {
+      this.messages.add(message);
+    }
+  }
 }
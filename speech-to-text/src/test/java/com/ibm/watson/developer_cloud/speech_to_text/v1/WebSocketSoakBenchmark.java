@@ -0,0 +1,191 @@
+/*
+ * Copyright 2018 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1;
+
+import com.ibm.watson.developer_cloud.http.HttpClientSingleton;
+import com.ibm.watson.developer_cloud.http.HttpConfigOptions;
+import com.ibm.watson.developer_cloud.http.HttpMediaType;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.RecognizeOptions;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.websocket.BaseRecognizeCallback;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.websocket.WebSocketAudioOptions;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Soak test of concurrent WebSocket recognitions streaming live audio to a local stub of the service, comparing the
+ * threads used when the audio of each recognition is sent by a new thread and by the default executor of
+ * {@link WebSocketAudioOptions}.
+ *
+ * <pre>
+ * java -cp ... com.ibm.watson.developer_cloud.speech_to_text.v1.WebSocketSoakBenchmark [sessions] [seconds] [waves]
+ * </pre>
+ */
+public final class WebSocketSoakBenchmark {
+  private static final String LISTENING = "{\"state\": \"listening\"}";
+  private static final String RESULTS = "{\"results\": [{\"final\": true, \"alternatives\": "
+      + "[{\"transcript\": \"ok\"}]}], \"result_index\": 0}";
+  // 100 ms of 16 bit audio at 16 kHz
+  private static final int FRAME_SIZE = 3200;
+  private static final long FRAME_MILLIS = 100;
+
+  private WebSocketSoakBenchmark() { }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args the number of concurrent sessions (200 by default), the seconds of audio of each session (3 by
+   *        default) and the number of successive waves of sessions (3 by default)
+   * @throws Exception if the stub can't be started
+   */
+  public static void main(String[] args) throws Exception {
+    int sessions = (args.length > 0) ? Integer.parseInt(args[0]) : 200;
+    int seconds = (args.length > 1) ? Integer.parseInt(args[1]) : 3;
+    int waves = (args.length > 2) ? Integer.parseInt(args[2]) : 3;
+
+    MockWebServer server = new MockWebServer();
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        return new MockResponse().withWebSocketUpgrade(new ServiceStub());
+      }
+    });
+    server.start();
+    HttpClientSingleton.getInstance().configureClient(new HttpConfigOptions.Builder()
+        .maxRequests(sessions * 2)
+        .maxRequestsPerHost(sessions * 2)
+        .build());
+    SpeechToText service = new SpeechToText();
+    service.setUsernameAndPassword("", "");
+    service.setEndPoint(server.url("/").toString().replaceAll("/$", ""));
+
+    Executor threadPerSession = new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        new Thread(command).start();
+      }
+    };
+    WebSocketAudioOptions[] modes = {
+        new WebSocketAudioOptions.Builder().executor(threadPerSession).build(),
+        new WebSocketAudioOptions.Builder().build() };
+    String[] names = { "thread per session", "default executor" };
+
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    for (int mode = 0; mode < modes.length; mode++) {
+      threads.resetPeakThreadCount();
+      long startedThreads = threads.getTotalStartedThreadCount();
+      long start = System.nanoTime();
+      int errors = 0;
+      for (int wave = 0; wave < waves; wave++) {
+        errors += runWave(service, modes[mode], sessions, seconds);
+      }
+      System.out.printf("%-18s: %d x %d sessions in %5d ms, peak threads %5d, threads started %6d, errors %d%n",
+          names[mode], waves, sessions, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+          threads.getPeakThreadCount(), threads.getTotalStartedThreadCount() - startedThreads, errors);
+    }
+    server.shutdown();
+    System.exit(0);
+  }
+
+  private static int runWave(SpeechToText service, WebSocketAudioOptions audioOptions, int sessions, int seconds)
+      throws InterruptedException {
+    final CountDownLatch done = new CountDownLatch(sessions);
+    final AtomicInteger errors = new AtomicInteger();
+    for (int i = 0; i < sessions; i++) {
+      RecognizeOptions options = new RecognizeOptions.Builder()
+          .audio(new LiveAudio(seconds * 1000 / FRAME_MILLIS))
+          .contentType(HttpMediaType.createAudioRaw(16000))
+          .build();
+      service.recognizeUsingWebSocket(options, new BaseRecognizeCallback() {
+        @Override
+        public void onError(Exception e) {
+          errors.incrementAndGet();
+        }
+
+        @Override
+        public void onDisconnected() {
+          done.countDown();
+        }
+      }, audioOptions);
+    }
+    if (!done.await(seconds + 60, TimeUnit.SECONDS)) {
+      errors.addAndGet((int) done.getCount());
+    }
+    return errors.get();
+  }
+
+  /**
+   * Audio captured live, available one frame every {@link #FRAME_MILLIS}.
+   */
+  private static final class LiveAudio extends InputStream {
+    private long frames;
+    private long nextFrameNanos = System.nanoTime();
+
+    LiveAudio(long frames) {
+      this.frames = frames;
+    }
+
+    @Override
+    public int read() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+      if (frames-- <= 0) {
+        return -1;
+      }
+      long waitNanos = nextFrameNanos - System.nanoTime();
+      if (waitNanos > 0) {
+        try {
+          TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+          return -1;
+        }
+      }
+      nextFrameNanos += TimeUnit.MILLISECONDS.toNanos(FRAME_MILLIS);
+      return Math.min(length, FRAME_SIZE);
+    }
+  }
+
+  /**
+   * Stub of the service, acknowledging the start message and returning a result after the stop message.
+   */
+  private static final class ServiceStub extends WebSocketListener {
+    @Override
+    public void onMessage(WebSocket webSocket, String text) {
+      if (text.contains("\"start\"")) {
+        webSocket.send(LISTENING);
+      } else if (text.contains("\"stop\"")) {
+        webSocket.send(RESULTS);
+        webSocket.send(LISTENING);
+      }
+    }
+
+    @Override
+    public void onClosing(WebSocket webSocket, int code, String reason) {
+      webSocket.close(1000, null);
+    }
+  }
+}
@@ -12,7 +12,7 @@
  */
 package com.ibm.watson.developer_cloud.text_to_speech.v1;
 
-import com.google.gson.JsonObject;
+import com.ibm.watson.developer_cloud.http.JsonRequestBody;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
 import com.ibm.watson.developer_cloud.http.ServiceCall;
 import com.ibm.watson.developer_cloud.service.WatsonService;
@@ -39,7 +39,6 @@ import com.ibm.watson.developer_cloud.text_to_speech.v1.model.VoiceModel;
 import com.ibm.watson.developer_cloud.text_to_speech.v1.model.VoiceModels;
 import com.ibm.watson.developer_cloud.text_to_speech.v1.model.Voices;
 import com.ibm.watson.developer_cloud.text_to_speech.v1.model.Words;
-import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.ResponseConverterUtils;
 import com.ibm.watson.developer_cloud.util.Validator;
 import java.io.InputStream;
@@ -154,7 +153,7 @@ public class TextToSpeech extends WatsonService {
     if (getVoiceOptions.customizationId() != null) {
       builder.query("customization_id", getVoiceOptions.customizationId());
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Voice.class));
+    return createServiceCall("getVoice", builder.build(), ResponseConverterUtils.getObject(Voice.class));
   }
 
   /**
@@ -173,7 +172,7 @@ public class TextToSpeech extends WatsonService {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments));
     if (listVoicesOptions != null) {
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Voices.class));
+    return createServiceCall("listVoices", builder.build(), ResponseConverterUtils.getObject(Voices.class));
   }
 
   /**
@@ -221,10 +220,10 @@ public class TextToSpeech extends WatsonService {
     if (synthesizeOptions.customizationId() != null) {
       builder.query("customization_id", synthesizeOptions.customizationId());
     }
-    final JsonObject contentJson = new JsonObject();
-    contentJson.addProperty("text", synthesizeOptions.text());
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getInputStream());
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
+    contentJson.add("text", synthesizeOptions.text());
+    builder.body(contentJson.build());
+    return createServiceCall("synthesize", builder.build(), ResponseConverterUtils.getInputStream());
   }
 
   /**
@@ -256,7 +255,8 @@ public class TextToSpeech extends WatsonService {
     if (getPronunciationOptions.customizationId() != null) {
       builder.query("customization_id", getPronunciationOptions.customizationId());
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Pronunciation.class));
+    return createServiceCall("getPronunciation", builder.build(),
+        ResponseConverterUtils.getObject(Pronunciation.class));
   }
 
   /**
@@ -278,16 +278,16 @@ public class TextToSpeech extends WatsonService {
     Validator.notNull(createVoiceModelOptions, "createVoiceModelOptions cannot be null");
     String[] pathSegments = { "v1/customizations" };
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments));
-    final JsonObject contentJson = new JsonObject();
-    contentJson.addProperty("name", createVoiceModelOptions.name());
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
+    contentJson.add("name", createVoiceModelOptions.name());
     if (createVoiceModelOptions.language() != null) {
-      contentJson.addProperty("language", createVoiceModelOptions.language());
+      contentJson.add("language", createVoiceModelOptions.language());
     }
     if (createVoiceModelOptions.description() != null) {
-      contentJson.addProperty("description", createVoiceModelOptions.description());
+      contentJson.add("description", createVoiceModelOptions.description());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(VoiceModel.class));
+    builder.body(contentJson.build());
+    return createServiceCall("createVoiceModel", builder.build(), ResponseConverterUtils.getObject(VoiceModel.class));
   }
 
   /**
@@ -310,7 +310,7 @@ public class TextToSpeech extends WatsonService {
     String[] pathParameters = { deleteVoiceModelOptions.customizationId() };
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteVoiceModel", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -334,7 +334,7 @@ public class TextToSpeech extends WatsonService {
     String[] pathParameters = { getVoiceModelOptions.customizationId() };
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(VoiceModel.class));
+    return createServiceCall("getVoiceModel", builder.build(), ResponseConverterUtils.getObject(VoiceModel.class));
   }
 
   /**
@@ -361,7 +361,7 @@ public class TextToSpeech extends WatsonService {
         builder.query("language", listVoiceModelsOptions.language());
       }
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(VoiceModels.class));
+    return createServiceCall("listVoiceModels", builder.build(), ResponseConverterUtils.getObject(VoiceModels.class));
   }
 
   /**
@@ -406,18 +406,18 @@ public class TextToSpeech extends WatsonService {
     String[] pathParameters = { updateVoiceModelOptions.customizationId() };
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (updateVoiceModelOptions.name() != null) {
-      contentJson.addProperty("name", updateVoiceModelOptions.name());
+      contentJson.add("name", updateVoiceModelOptions.name());
     }
     if (updateVoiceModelOptions.description() != null) {
-      contentJson.addProperty("description", updateVoiceModelOptions.description());
+      contentJson.add("description", updateVoiceModelOptions.description());
     }
     if (updateVoiceModelOptions.words() != null) {
-      contentJson.add("words", GsonSingleton.getGson().toJsonTree(updateVoiceModelOptions.words()));
+      contentJson.add("words", updateVoiceModelOptions.words());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    builder.body(contentJson.build());
+    return createServiceCall("updateVoiceModel", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -445,15 +445,15 @@ public class TextToSpeech extends WatsonService {
     String[] pathParameters = { addWordOptions.customizationId(), addWordOptions.word() };
     RequestBuilder builder = RequestBuilder.put(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (addWordOptions.translation() != null) {
-      contentJson.addProperty("translation", addWordOptions.translation());
+      contentJson.add("translation", addWordOptions.translation());
     }
     if (addWordOptions.partOfSpeech() != null) {
-      contentJson.addProperty("part_of_speech", addWordOptions.partOfSpeech());
+      contentJson.add("part_of_speech", addWordOptions.partOfSpeech());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    builder.body(contentJson.build());
+    return createServiceCall("addWord", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -481,12 +481,12 @@ public class TextToSpeech extends WatsonService {
     String[] pathParameters = { addWordsOptions.customizationId() };
     RequestBuilder builder = RequestBuilder.post(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    final JsonObject contentJson = new JsonObject();
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
     if (addWordsOptions.words() != null) {
-      contentJson.add("words", GsonSingleton.getGson().toJsonTree(addWordsOptions.words()));
+      contentJson.add("words", addWordsOptions.words());
     }
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    builder.body(contentJson.build());
+    return createServiceCall("addWords", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -509,7 +509,7 @@ public class TextToSpeech extends WatsonService {
     String[] pathParameters = { deleteWordOptions.customizationId(), deleteWordOptions.word() };
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteWord", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -533,7 +533,7 @@ public class TextToSpeech extends WatsonService {
     String[] pathParameters = { getWordOptions.customizationId(), getWordOptions.word() };
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Translation.class));
+    return createServiceCall("getWord", builder.build(), ResponseConverterUtils.getObject(Translation.class));
   }
 
   /**
@@ -557,7 +557,7 @@ public class TextToSpeech extends WatsonService {
     String[] pathParameters = { listWordsOptions.customizationId() };
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Words.class));
+    return createServiceCall("listWords", builder.build(), ResponseConverterUtils.getObject(Words.class));
   }
 
   /**
@@ -582,7 +582,7 @@ public class TextToSpeech extends WatsonService {
     String[] pathSegments = { "v1/user_data" };
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments));
     builder.query("customer_id", deleteUserDataOptions.customerId());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteUserData", builder.build(), ResponseConverterUtils.getVoid());
   }
 
 }
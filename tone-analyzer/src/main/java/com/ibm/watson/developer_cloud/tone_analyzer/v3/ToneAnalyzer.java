@@ -12,7 +12,7 @@
  */
 package com.ibm.watson.developer_cloud.tone_analyzer.v3;
 
-import com.google.gson.JsonObject;
+import com.ibm.watson.developer_cloud.http.JsonRequestBody;
 import com.ibm.watson.developer_cloud.http.RequestBuilder;
 import com.ibm.watson.developer_cloud.http.ServiceCall;
 import com.ibm.watson.developer_cloud.service.WatsonService;
@@ -21,7 +21,6 @@ import com.ibm.watson.developer_cloud.tone_analyzer.v3.model.ToneAnalysis;
 import com.ibm.watson.developer_cloud.tone_analyzer.v3.model.ToneChatOptions;
 import com.ibm.watson.developer_cloud.tone_analyzer.v3.model.ToneOptions;
 import com.ibm.watson.developer_cloud.tone_analyzer.v3.model.UtteranceAnalyses;
-import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.RequestUtils;
 import com.ibm.watson.developer_cloud.util.ResponseConverterUtils;
 import com.ibm.watson.developer_cloud.util.Validator;
@@ -134,7 +133,7 @@ public class ToneAnalyzer extends WatsonService {
       builder.query("tones", RequestUtils.join(toneOptions.tones(), ","));
     }
     builder.bodyContent(toneOptions.contentType(), toneOptions.toneInput(), null, toneOptions.body());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(ToneAnalysis.class));
+    return createServiceCall("tone", builder.build(), ResponseConverterUtils.getObject(ToneAnalysis.class));
   }
 
   /**
@@ -167,10 +166,10 @@ public class ToneAnalyzer extends WatsonService {
     if (toneChatOptions.acceptLanguage() != null) {
       builder.header("Accept-Language", toneChatOptions.acceptLanguage());
     }
-    final JsonObject contentJson = new JsonObject();
-    contentJson.add("utterances", GsonSingleton.getGson().toJsonTree(toneChatOptions.utterances()));
-    builder.bodyJson(contentJson);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(UtteranceAnalyses.class));
+    final JsonRequestBody.Builder contentJson = new JsonRequestBody.Builder();
+    contentJson.add("utterances", toneChatOptions.utterances());
+    builder.body(contentJson.build());
+    return createServiceCall("toneChat", builder.build(), ResponseConverterUtils.getObject(UtteranceAnalyses.class));
   }
 
 }
@@ -178,7 +178,7 @@ public class VisualRecognition extends WatsonService {
       multipartBuilder.addFormDataPart("classifier_ids", RequestUtils.join(classifyOptions.classifierIds(), ","));
     }
     builder.body(multipartBuilder.build());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(ClassifiedImages.class));
+    return createServiceCall("classify", builder.build(), ResponseConverterUtils.getObject(ClassifiedImages.class));
   }
 
   /**
@@ -233,7 +233,7 @@ public class VisualRecognition extends WatsonService {
       multipartBuilder.addFormDataPart("url", detectFacesOptions.url());
     }
     builder.body(multipartBuilder.build());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(DetectedFaces.class));
+    return createServiceCall("detectFaces", builder.build(), ResponseConverterUtils.getObject(DetectedFaces.class));
   }
 
   /**
@@ -292,7 +292,7 @@ public class VisualRecognition extends WatsonService {
           negativeExamplesBody);
     }
     builder.body(multipartBuilder.build());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Classifier.class));
+    return createServiceCall("createClassifier", builder.build(), ResponseConverterUtils.getObject(Classifier.class));
   }
 
   /**
@@ -308,7 +308,7 @@ public class VisualRecognition extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteClassifier", builder.build(), ResponseConverterUtils.getVoid());
   }
 
   /**
@@ -326,7 +326,7 @@ public class VisualRecognition extends WatsonService {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Classifier.class));
+    return createServiceCall("getClassifier", builder.build(), ResponseConverterUtils.getObject(Classifier.class));
   }
 
   /**
@@ -344,7 +344,7 @@ public class VisualRecognition extends WatsonService {
         builder.query("verbose", String.valueOf(listClassifiersOptions.verbose()));
       }
     }
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Classifiers.class));
+    return createServiceCall("listClassifiers", builder.build(), ResponseConverterUtils.getObject(Classifiers.class));
   }
 
   /**
@@ -401,7 +401,7 @@ public class VisualRecognition extends WatsonService {
           negativeExamplesBody);
     }
     builder.body(multipartBuilder.build());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getObject(Classifier.class));
+    return createServiceCall("updateClassifier", builder.build(), ResponseConverterUtils.getObject(Classifier.class));
   }
 
   /**
@@ -420,7 +420,7 @@ public class VisualRecognition extends WatsonService {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments,
         pathParameters));
     builder.query(VERSION, versionDate);
-    return createServiceCall(builder.build(), ResponseConverterUtils.getInputStream());
+    return createServiceCall("getCoreMlModel", builder.build(), ResponseConverterUtils.getInputStream());
   }
 
   /**
@@ -442,7 +442,7 @@ public class VisualRecognition extends WatsonService {
     RequestBuilder builder = RequestBuilder.delete(RequestBuilder.constructHttpUrl(getEndPoint(), pathSegments));
     builder.query(VERSION, versionDate);
     builder.query("customer_id", deleteUserDataOptions.customerId());
-    return createServiceCall(builder.build(), ResponseConverterUtils.getVoid());
+    return createServiceCall("deleteUserData", builder.build(), ResponseConverterUtils.getVoid());
   }
 
 }